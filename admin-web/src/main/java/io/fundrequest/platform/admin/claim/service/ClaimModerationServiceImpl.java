@@ -13,6 +13,7 @@ import io.fundrequest.core.request.infrastructure.azrael.AzraelClient;
 import io.fundrequest.core.request.infrastructure.azrael.ClaimSignature;
 import io.fundrequest.core.request.infrastructure.azrael.ClaimTransaction;
 import io.fundrequest.core.request.infrastructure.azrael.SignClaimCommand;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.platform.admin.service.ModerationService;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -31,15 +32,18 @@ public class ClaimModerationServiceImpl implements ModerationService<RequestClai
     private final RequestClaimRepository requestClaimRepository;
     private final RequestRepository requestRepository;
     private final AzraelClient azraelClient;
+    private final RequestSummaryService requestSummaryService;
 
     public ClaimModerationServiceImpl(final Mappers mappers,
                                       final RequestClaimRepository requestClaimRepository,
                                       final RequestRepository requestRepository,
-                                      final AzraelClient azraelClient) {
+                                      final AzraelClient azraelClient,
+                                      final RequestSummaryService requestSummaryService) {
         this.mappers = mappers;
         this.requestClaimRepository = requestClaimRepository;
         this.requestRepository = requestRepository;
         this.azraelClient = azraelClient;
+        this.requestSummaryService = requestSummaryService;
     }
 
 
@@ -57,6 +61,7 @@ public class ClaimModerationServiceImpl implements ModerationService<RequestClai
             requestClaim.setTransactionSubmitTime(LocalDateTime.now());
             requestRepository.save(request);
             requestClaimRepository.save(requestClaim);
+            requestSummaryService.refresh(request.getId());
         } catch (final Exception ex) {
             throw new IllegalArgumentException("Unable to submit claim transaction: " + ex.getMessage());
         }
@@ -83,6 +88,7 @@ public class ClaimModerationServiceImpl implements ModerationService<RequestClai
         requestClaim.setStatus(ClaimRequestStatus.DECLINED);
         requestRepository.save(request);
         requestClaimRepository.save(requestClaim);
+        requestSummaryService.refresh(request.getId());
     }
 
     private List<RequestClaimDto> getRequestClaims(ClaimRequestStatus pending) {
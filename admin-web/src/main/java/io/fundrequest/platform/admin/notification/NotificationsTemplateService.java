@@ -1,6 +1,6 @@
 package io.fundrequest.platform.admin.notification;
 
-import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.RequestDto;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.ITemplateEngine;
@@ -12,18 +12,18 @@ import java.util.List;
 public class NotificationsTemplateService {
 
     private final ITemplateEngine githubTemplateEngine;
-    private final RequestService requestService;
+    private final RequestSummaryService requestSummaryService;
 
-    public NotificationsTemplateService(final ITemplateEngine githubTemplateEngine, final RequestService requestService) {
+    public NotificationsTemplateService(final ITemplateEngine githubTemplateEngine, final RequestSummaryService requestSummaryService) {
         this.githubTemplateEngine = githubTemplateEngine;
-        this.requestService = requestService;
+        this.requestSummaryService = requestSummaryService;
     }
 
     public String generateOpenRequestsTemplateFor(final TargetPlatform targetPlatform,
                                                   final List<String> projects,
                                                   final List<String> technologies,
                                                   Long lastUpdatedSinceDays) {
-        final List<RequestDto> requests = requestService.findAllFor(projects, technologies, lastUpdatedSinceDays);
+        final List<RequestDto> requests = requestSummaryService.findAllFor(projects, technologies, lastUpdatedSinceDays);
         final Context context = new Context();
         context.setVariable("requests", requests);
         return githubTemplateEngine.process("notification-templates/open-requests" + targetPlatform.getPostfix(), context);
@@ -0,0 +1,23 @@
+package io.fundrequest.platform.admin.request;
+
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+
+@Controller
+public class RequestSummaryController {
+
+    private final RequestSummaryService requestSummaryService;
+
+    public RequestSummaryController(final RequestSummaryService requestSummaryService) {
+        this.requestSummaryService = requestSummaryService;
+    }
+
+    @PostMapping("/request-summary/rebuild")
+    public ModelAndView rebuild() {
+        requestSummaryService.rebuild();
+        return new ModelAndView(new RedirectView("/notifications/open-requests", true, true, true));
+    }
+}
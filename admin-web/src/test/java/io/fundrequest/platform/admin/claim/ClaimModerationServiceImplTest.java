@@ -13,6 +13,7 @@ import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.infrastructure.azrael.AzraelClient;
 import io.fundrequest.core.request.infrastructure.azrael.ClaimSignature;
 import io.fundrequest.core.request.infrastructure.azrael.ClaimTransaction;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.platform.admin.claim.service.ClaimModerationServiceImpl;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,7 +42,7 @@ public class ClaimModerationServiceImplTest {
         final Mappers mappers = mock(Mappers.class);
         rabbitTemplate = mock(RabbitTemplate.class);
         azraelClient = mock(AzraelClient.class);
-        claimModerationService = new ClaimModerationServiceImpl(mappers, requestClaimRepository, requestRepository, azraelClient);
+        claimModerationService = new ClaimModerationServiceImpl(mappers, requestClaimRepository, requestRepository, azraelClient, mock(RequestSummaryService.class));
     }
 
 
@@ -1,6 +1,6 @@
 package io.fundrequest.platform.admin.notification;
 
-import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,13 +22,13 @@ class NotificationsTemplateServiceTest {
 
     private NotificationsTemplateService service;
     private ITemplateEngine githubTemplateEngine;
-    private RequestService requestService;
+    private RequestSummaryService requestSummaryService;
 
     @BeforeEach
     void setUp() {
         githubTemplateEngine = mock(ITemplateEngine.class);
-        requestService = mock(RequestService.class);
-        service = new NotificationsTemplateService(githubTemplateEngine, requestService);
+        requestSummaryService = mock(RequestSummaryService.class);
+        service = new NotificationsTemplateService(githubTemplateEngine, requestSummaryService);
     }
 
     @ParameterizedTest
@@ -42,7 +42,7 @@ class NotificationsTemplateServiceTest {
         final Context context = new Context();
         context.setVariable("requests", requests);
 
-        when(requestService.findAllFor(projects, technologies, lastUpdatedSinceDays)).thenReturn(requests);
+        when(requestSummaryService.findAllFor(projects, technologies, lastUpdatedSinceDays)).thenReturn(requests);
         when(githubTemplateEngine.process(eq("notification-templates/open-requests" + targetPlatform.getPostfix()), refEq(context, "locale"))).thenReturn(template);
 
         final String result = service.generateOpenRequestsTemplateFor(targetPlatform, projects, technologies, lastUpdatedSinceDays);
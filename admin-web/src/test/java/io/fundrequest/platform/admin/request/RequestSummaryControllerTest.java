@@ -0,0 +1,37 @@
+package io.fundrequest.platform.admin.request;
+
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.platform.admin.infrastructure.GenericControllerAdvice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestSummaryControllerTest {
+
+    private MockMvc mockMvc;
+    private RequestSummaryService requestSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        requestSummaryService = mock(RequestSummaryService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new RequestSummaryController(requestSummaryService))
+                                 .setControllerAdvice(new GenericControllerAdvice())
+                                 .build();
+    }
+
+    @Test
+    void rebuild() throws Exception {
+        mockMvc.perform(post("/request-summary/rebuild"))
+               .andExpect(status().is3xxRedirection())
+               .andExpect(redirectedUrl("/notifications/open-requests"));
+
+        verify(requestSummaryService).rebuild();
+    }
+}
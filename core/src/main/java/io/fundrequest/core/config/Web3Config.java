@@ -1,38 +1,40 @@
 package io.fundrequest.core.config;
 
-import org.springframework.beans.factory.annotation.Qualifier;
+import io.fundrequest.core.web3j.Web3jEndpoint;
+import io.fundrequest.core.web3j.Web3jProviderPool;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.web3j.protocol.Web3j;
-import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.http.HttpService;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Configuration
 public class Web3Config {
 
     @Bean
     @Primary
-    public Web3j provideWeb3J(final Web3jService web3jService) {
-        return Web3j.build(web3jService);
-    }
-
-    @Bean
-    @Qualifier("local")
-    public Web3j provideInfuraWeb3j(@Qualifier("local") final Web3jService web3jService) {
-        return Web3j.build(web3jService);
-    }
-
-    @Bean
-    @Primary
-    public Web3jService provideWeb3JService(@Value("${io.fundrequest.ethereum.endpoint.url}") final String endpoint) {
-        return new HttpService(endpoint);
+    public Web3j provideWeb3J(final Web3jProviderPool web3jProviderPool) {
+        return Web3j.build(web3jProviderPool);
     }
 
     @Bean
-    @Qualifier("local")
-    public Web3jService provideInfuraEndpoint(@Value("${io.fundrequest.ethereum.endpoint.local-url}") final String endpoint) {
-        return new HttpService(endpoint);
+    public Web3jProviderPool provideWeb3jProviderPool(@Value("${io.fundrequest.ethereum.endpoint.url}") final String endpoint,
+                                                      @Value("${io.fundrequest.ethereum.endpoint.local-url}") final String localEndpoint,
+                                                      @Value("${io.fundrequest.ethereum.endpoint.additional-urls:}") final String[] additionalEndpoints,
+                                                      @Value("${io.fundrequest.ethereum.endpoint.hedge-after-ms:0}") final long hedgeAfterMs) {
+        final List<Web3jEndpoint> endpoints = Stream.concat(Stream.of(endpoint, localEndpoint), Arrays.stream(additionalEndpoints))
+                                                    .filter(StringUtils::isNotBlank)
+                                                    .map(String::trim)
+                                                    .distinct()
+                                                    .map(url -> new Web3jEndpoint(url, new HttpService(url)))
+                                                    .collect(Collectors.toList());
+        return new Web3jProviderPool(endpoints, hedgeAfterMs);
     }
 }
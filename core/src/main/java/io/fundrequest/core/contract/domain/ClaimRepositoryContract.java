@@ -10,6 +10,7 @@ import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.ECKeyPair;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.RemoteCall;
 import org.web3j.tx.Contract;
 
 import java.math.BigInteger;
@@ -43,7 +44,7 @@ public class ClaimRepositoryContract extends Contract {
         }
     }
 
-    public Optional<String> getTokenByIndex(final String platform, final String platformId, final long index) {
+    public RemoteCall<String> getTokenByIndexAsync(final String platform, final String platformId, final long index) {
         final Function function = new Function("getTokenByIndex",
                                                Arrays.asList(
                                                        new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
@@ -51,14 +52,18 @@ public class ClaimRepositoryContract extends Contract {
                                                        new Uint(BigInteger.valueOf(index))),
                                                singletonList(new TypeReference<Address>() {
                                                }));
+        return executeRemoteCallSingleValueReturn(function, String.class);
+    }
+
+    public Optional<String> getTokenByIndex(final String platform, final String platformId, final long index) {
         try {
-            return Optional.of(prettify(executeCallSingleValueReturn(function, String.class)));
+            return Optional.of(prettify(getTokenByIndexAsync(platform, platformId, index).send()));
         } catch (final Exception ex) {
             return empty();
         }
     }
 
-    public BigInteger getAmountByToken(final String platform, final String platformId, final String token) {
+    public RemoteCall<BigInteger> getAmountByTokenAsync(final String platform, final String platformId, final String token) {
         final Function function = new Function("getAmountByToken",
                                                Arrays.asList(
                                                        new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
@@ -66,22 +71,30 @@ public class ClaimRepositoryContract extends Contract {
                                                        new Address(token)),
                                                singletonList(new TypeReference<Uint256>() {
                                                }));
+        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+    }
+
+    public BigInteger getAmountByToken(final String platform, final String platformId, final String token) {
         try {
-            return executeCallSingleValueReturn(function, BigInteger.class);
+            return getAmountByTokenAsync(platform, platformId, token).send();
         } catch (final Exception ex) {
             return BigInteger.ZERO;
         }
     }
 
-    public Long getTokenCount(final String platform, final String platformId) {
+    public RemoteCall<BigInteger> getTokenCountAsync(final String platform, final String platformId) {
         final Function function = new Function("getTokenCount",
                                                Arrays.asList(
                                                        new Bytes32(Arrays.copyOfRange(platform.getBytes(), 0, 32)),
                                                        new Utf8String(platformId)),
                                                singletonList(new TypeReference<Uint>() {
                                                }));
+        return executeRemoteCallSingleValueReturn(function, BigInteger.class);
+    }
+
+    public Long getTokenCount(final String platform, final String platformId) {
         try {
-            return executeCallSingleValueReturn(function, BigInteger.class).longValue();
+            return getTokenCountAsync(platform, platformId).send().longValue();
         } catch (final Exception ex) {
             return 0L;
         }
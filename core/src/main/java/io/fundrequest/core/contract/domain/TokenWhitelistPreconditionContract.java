@@ -16,7 +16,11 @@ import org.web3j.tx.Contract;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -56,6 +60,26 @@ public class TokenWhitelistPreconditionContract extends Contract {
         }
     }
 
+    /**
+     * All tokens on the whitelist, in whitelist order and without duplicates. The tokens are read concurrently.
+     */
+    public List<String> tokens() {
+        try {
+            final int amount = amountOftokens().send().intValue();
+            final List<CompletableFuture<String>> tokens = IntStream.range(0, amount)
+                                                                    .mapToObj(index -> tokenAsync(BigInteger.valueOf(index)).sendAsync()
+                                                                                                                            .exceptionally(ex -> null))
+                                                                    .collect(Collectors.toList());
+            return tokens.stream()
+                         .map(CompletableFuture::join)
+                         .filter(token -> token != null && !token.isEmpty() && !token.equalsIgnoreCase("0x"))
+                         .distinct()
+                         .collect(Collectors.toList());
+        } catch (final Exception ex) {
+            return emptyList();
+        }
+    }
+
     public RemoteCall<Boolean> isValidAsync(final String platform, final String platformId, final String token) {
         Function function = new Function("isValid",
                                          Arrays.asList(
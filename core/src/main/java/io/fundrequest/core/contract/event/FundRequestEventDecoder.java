@@ -0,0 +1,108 @@
+package io.fundrequest.core.contract.event;
+
+import io.fundrequest.core.request.fund.messaging.dto.ClaimedEthDto;
+import io.fundrequest.core.request.fund.messaging.dto.FundedEthDto;
+import io.fundrequest.core.request.fund.messaging.dto.RefundedEthDto;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Decodes the Funded, Claimed and Refund logs of the FundRequest contracts into the same messages Azrael publishes.
+ */
+public final class FundRequestEventDecoder {
+
+    public static final Event FUNDED = new Event("Funded",
+                                                 singletonList(new TypeReference<Address>() {}),
+                                                 Arrays.asList(new TypeReference<Bytes32>() {},
+                                                               new TypeReference<Utf8String>() {},
+                                                               new TypeReference<Address>() {},
+                                                               new TypeReference<Uint256>() {}));
+
+    public static final Event CLAIMED = new Event("Claimed",
+                                                  singletonList(new TypeReference<Address>() {}),
+                                                  Arrays.asList(new TypeReference<Bytes32>() {},
+                                                                new TypeReference<Utf8String>() {},
+                                                                new TypeReference<Utf8String>() {},
+                                                                new TypeReference<Address>() {},
+                                                                new TypeReference<Uint256>() {}));
+
+    public static final Event REFUND = new Event("Refund",
+                                                 singletonList(new TypeReference<Address>() {}),
+                                                 Arrays.asList(new TypeReference<Bytes32>() {},
+                                                               new TypeReference<Utf8String>() {},
+                                                               new TypeReference<Address>() {},
+                                                               new TypeReference<Uint256>() {}));
+
+    public static final String FUNDED_TOPIC = EventEncoder.encode(FUNDED);
+    public static final String CLAIMED_TOPIC = EventEncoder.encode(CLAIMED);
+    public static final String REFUND_TOPIC = EventEncoder.encode(REFUND);
+
+    private FundRequestEventDecoder() {
+    }
+
+    public static FundedEthDto decodeFunded(final Log log, final long timestamp) {
+        final List<Type> values = FunctionReturnDecoder.decode(log.getData(), FUNDED.getNonIndexedParameters());
+        return FundedEthDto.builder()
+                           .transactionHash(log.getTransactionHash())
+                           .logIndex(log.getLogIndexRaw())
+                           .from(indexedAddress(log))
+                           .platform(platform(values.get(0)))
+                           .platformId((String) values.get(1).getValue())
+                           .token((String) values.get(2).getValue())
+                           .amount(((BigInteger) values.get(3).getValue()).toString())
+                           .timestamp(timestamp)
+                           .build();
+    }
+
+    public static ClaimedEthDto decodeClaimed(final Log log, final long timestamp) {
+        final List<Type> values = FunctionReturnDecoder.decode(log.getData(), CLAIMED.getNonIndexedParameters());
+        final ClaimedEthDto claimed = new ClaimedEthDto();
+        claimed.setTransactionHash(log.getTransactionHash());
+        claimed.setLogIndex(log.getLogIndexRaw());
+        claimed.setSolverAddress(indexedAddress(log));
+        claimed.setPlatform(platform(values.get(0)));
+        claimed.setPlatformId((String) values.get(1).getValue());
+        claimed.setSolver((String) values.get(2).getValue());
+        claimed.setToken((String) values.get(3).getValue());
+        claimed.setAmount(((BigInteger) values.get(4).getValue()).toString());
+        claimed.setTimestamp(timestamp);
+        return claimed;
+    }
+
+    public static RefundedEthDto decodeRefund(final Log log, final long timestamp) {
+        final List<Type> values = FunctionReturnDecoder.decode(log.getData(), REFUND.getNonIndexedParameters());
+        return RefundedEthDto.builder()
+                             .transactionHash(log.getTransactionHash())
+                             .logIndex(log.getLogIndexRaw())
+                             .owner(indexedAddress(log))
+                             .platform(platform(values.get(0)))
+                             .platformId((String) values.get(1).getValue())
+                             .token((String) values.get(2).getValue())
+                             .amount(((BigInteger) values.get(3).getValue()).toString())
+                             .timestamp(timestamp)
+                             .build();
+    }
+
+    private static String indexedAddress(final Log log) {
+        return FunctionReturnDecoder.decodeIndexedValue(log.getTopics().get(1), new TypeReference<Address>() {}).toString();
+    }
+
+    private static String platform(final Type platform) {
+        return new String((byte[]) platform.getValue(), StandardCharsets.UTF_8).trim();
+    }
+}
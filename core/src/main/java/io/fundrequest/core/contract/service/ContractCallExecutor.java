@@ -0,0 +1,46 @@
+package io.fundrequest.core.contract.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.core.RemoteCall;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends contract calls on a fixed pool instead of web3j's unbounded executor, so reading many requests or tokens at
+ * once never has more than the configured amount of calls in flight towards the node. Calls beyond that are queued.
+ */
+@Component
+public class ContractCallExecutor {
+
+    private final ExecutorService executor;
+
+    public ContractCallExecutor(@Value("${io.fundrequest.contracts.max-concurrent-calls:16}") final int maxConcurrentCalls) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentCalls, runnable -> {
+            final Thread thread = new Thread(runnable, "contract-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> CompletableFuture<T> sendAsync(final RemoteCall<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.send();
+            } catch (final Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -5,7 +5,6 @@ import io.fundrequest.core.contract.domain.ClaimRepositoryContract;
 import io.fundrequest.core.contract.domain.FundRepositoryContract;
 import io.fundrequest.core.contract.domain.FundRequestContract;
 import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
-import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -13,11 +12,8 @@ import org.springframework.stereotype.Service;
 import org.web3j.protocol.Web3j;
 
 import javax.annotation.PostConstruct;
-import java.math.BigInteger;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -31,16 +27,16 @@ public class FundRequestContractsService {
     private FundRequestContract fundRequestContract;
     private FundRepositoryContract fundRepositoryContract;
     private ClaimRepositoryContract claimRepositoryContract;
-    private TokenInfoService tokenInfoService;
+    private TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
 
     public FundRequestContractsService(final FundRequestContract fundRequestContract,
                                        final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract,
                                        final Web3j web3j,
-                                       final TokenInfoService tokenInfoService) {
+                                       final TokenWhitelistSnapshotService tokenWhitelistSnapshotService) {
         this.fundRequestContract = fundRequestContract;
         this.tokenWhitelistPreconditionContract = tokenWhitelistPreconditionContract;
         this.web3j = web3j;
-        this.tokenInfoService = tokenInfoService;
+        this.tokenWhitelistSnapshotService = tokenWhitelistSnapshotService;
     }
 
     public FundRepositoryContract fundRepository() {
@@ -68,11 +64,26 @@ public class FundRequestContractsService {
         }
     }
 
+    /**
+     * The whitelisted tokens come from the snapshot, only their validity for the given issue is checked against the
+     * contract, with one concurrent isValid call per token.
+     */
     @Cacheable(value = "possible_tokens", keyGenerator = "getAllPossibleTokensKeyGenerator")
     public List<TokenInfoDto> getAllPossibleTokens(final String platform, final String platformId) {
-        return checkNotEmpty(getAllPossibleTokens().stream()
-                                                   .filter(token -> tokenWhitelistPreconditionContract.isValid(platform, platformId, token.getAddress()))
-                                                   .collect(Collectors.toList()));
+        final List<TokenInfoDto> tokens = tokenWhitelistSnapshotService.getTokens();
+        final List<CompletableFuture<Boolean>> validity = tokens.stream()
+                                                                .map(token -> isValid(platform, platformId, token.getAddress()))
+                                                                .collect(Collectors.toList());
+        return checkNotEmpty(IntStream.range(0, tokens.size())
+                                      .filter(index -> validity.get(index).join())
+                                      .mapToObj(tokens::get)
+                                      .collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<Boolean> isValid(final String platform, final String platformId, final String token) {
+        return tokenWhitelistPreconditionContract.isValidAsync(platform, platformId, token)
+                                                 .sendAsync()
+                                                 .exceptionally(ex -> true);
     }
 
     private List<TokenInfoDto> checkNotEmpty(final List<TokenInfoDto> possibleTokens) {
@@ -81,18 +92,4 @@ public class FundRequestContractsService {
         }
         return possibleTokens;
     }
-
-    private Set<TokenInfoDto> getAllPossibleTokens() {
-        try {
-            final int amount = tokenWhitelistPreconditionContract.amountOftokens().send().intValue();
-            return IntStream.range(0, amount)
-                            .mapToObj(x -> tokenWhitelistPreconditionContract.token(BigInteger.valueOf(x))).filter(Optional::isPresent)
-                            .map(Optional::get)
-                            .map(x -> tokenInfoService.getTokenInfo(x))
-                            .collect(Collectors.toSet());
-        } catch (final Exception exception) {
-            log.debug("Unable to fetch all possible tokens from contract", exception);
-            return Collections.emptySet();
-        }
-    }
 }
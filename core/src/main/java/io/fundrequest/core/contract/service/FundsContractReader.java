@@ -0,0 +1,106 @@
+package io.fundrequest.core.contract.service;
+
+import io.fundrequest.core.contract.domain.ClaimRepositoryContract;
+import io.fundrequest.core.contract.domain.FundRepositoryContract;
+import io.fundrequest.core.web3j.AddressUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.core.RemoteCall;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Reads the token amounts of a request from the FundRepository and ClaimRepository contracts.
+ * All calls that do not depend on each other are sent in one go, so reading the amounts of a request takes three
+ * round trips (token count, token addresses, amounts) to the node, regardless of the amount of tokens. The calls go
+ * through the {@link ContractCallExecutor}, which caps how many of them are in flight.
+ */
+@Component
+@Slf4j
+public class FundsContractReader {
+
+    private final FundRequestContractsService fundRequestContractsService;
+    private final ContractCallExecutor contractCallExecutor;
+
+    public FundsContractReader(final FundRequestContractsService fundRequestContractsService, final ContractCallExecutor contractCallExecutor) {
+        this.fundRequestContractsService = fundRequestContractsService;
+        this.contractCallExecutor = contractCallExecutor;
+    }
+
+    public Map<String, BigInteger> getFundedTokenBalances(final String platform, final String platformId) {
+        return getFundedTokenBalancesAsync(platform, platformId).join();
+    }
+
+    public Map<String, BigInteger> getClaimedTokenAmounts(final String platform, final String platformId) {
+        return getClaimedTokenAmountsAsync(platform, platformId).join();
+    }
+
+    public CompletableFuture<Map<String, BigInteger>> getFundedTokenBalancesAsync(final String platform, final String platformId) {
+        final FundRepositoryContract fundRepository = fundRequestContractsService.fundRepository();
+        return readTokenAmounts(fundRepository.getFundedTokenCountAsync(platform, platformId),
+                                index -> fundRepository.getFundedTokenAsync(platform, platformId, index),
+                                token -> fundRepository.balanceAsync(platform, platformId, token));
+    }
+
+    public CompletableFuture<Map<String, BigInteger>> getClaimedTokenAmountsAsync(final String platform, final String platformId) {
+        final ClaimRepositoryContract claimRepository = fundRequestContractsService.claimRepository();
+        return readTokenAmounts(claimRepository.getTokenCountAsync(platform, platformId),
+                                index -> claimRepository.getTokenByIndexAsync(platform, platformId, index),
+                                token -> claimRepository.getAmountByTokenAsync(platform, platformId, token));
+    }
+
+    private CompletableFuture<Map<String, BigInteger>> readTokenAmounts(final RemoteCall<BigInteger> tokenCountCall,
+                                                                        final LongFunction<RemoteCall<String>> tokenCall,
+                                                                        final Function<String, RemoteCall<BigInteger>> amountCall) {
+        return send(tokenCountCall).thenApply(tokenCount -> tokenCount.map(BigInteger::longValue).orElse(0L))
+                                   .thenCompose(tokenCount -> sendAll(LongStream.range(0, tokenCount)
+                                                                                .mapToObj(tokenCall)
+                                                                                .collect(Collectors.toList())))
+                                   .thenCompose(tokens -> readAmounts(tokens.stream()
+                                                                            .filter(Optional::isPresent)
+                                                                            .map(Optional::get)
+                                                                            .map(AddressUtils::prettify)
+                                                                            .distinct()
+                                                                            .collect(Collectors.toList()),
+                                                                      amountCall));
+    }
+
+    private CompletableFuture<Map<String, BigInteger>> readAmounts(final List<String> tokens, final Function<String, RemoteCall<BigInteger>> amountCall) {
+        return sendAll(tokens.stream().map(amountCall).collect(Collectors.toList()))
+                .thenApply(amounts -> {
+                    final Map<String, BigInteger> result = new LinkedHashMap<>();
+                    for (int i = 0; i < tokens.size(); i++) {
+                        result.put(tokens.get(i), amounts.get(i).orElse(BigInteger.ZERO));
+                    }
+                    return result;
+                });
+    }
+
+    private <T> CompletableFuture<List<Optional<T>>> sendAll(final List<RemoteCall<T>> calls) {
+        if (calls.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        final List<CompletableFuture<Optional<T>>> futures = calls.stream().map(this::send).collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                                .thenApply(x -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    private <T> CompletableFuture<Optional<T>> send(final RemoteCall<T> call) {
+        return contractCallExecutor.sendAsync(call)
+                   .thenApply(Optional::ofNullable)
+                   .exceptionally(ex -> {
+                       log.debug("Error while reading from contract", ex);
+                       return Optional.empty();
+                   });
+    }
+}
@@ -0,0 +1,80 @@
+package io.fundrequest.core.contract.service;
+
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.token.TokenInfoService;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In memory snapshot of the tokens on the whitelist. The whitelist is re-read every minute, and when it changed a new
+ * version of the snapshot is taken and the possible tokens that were evaluated against the previous version are evicted.
+ */
+@Component
+@Slf4j
+public class TokenWhitelistSnapshotService {
+
+    private final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
+    private final TokenInfoService tokenInfoService;
+    private final CacheManager cacheManager;
+
+    private volatile Snapshot snapshot;
+
+    public TokenWhitelistSnapshotService(final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract,
+                                         final TokenInfoService tokenInfoService,
+                                         final CacheManager cacheManager) {
+        this.tokenWhitelistPreconditionContract = tokenWhitelistPreconditionContract;
+        this.tokenInfoService = tokenInfoService;
+        this.cacheManager = cacheManager;
+    }
+
+    public List<TokenInfoDto> getTokens() {
+        if (snapshot == null) {
+            refresh();
+        }
+        final Snapshot current = snapshot;
+        return current == null ? Collections.emptyList() : current.tokens;
+    }
+
+    public long getVersion() {
+        final Snapshot current = snapshot;
+        return current == null ? 0 : current.version;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public synchronized void refresh() {
+        final List<String> tokenAddresses = tokenWhitelistPreconditionContract.tokens();
+        if (tokenAddresses.isEmpty()) {
+            log.debug("Unable to read the token whitelist, keeping snapshot version {}", getVersion());
+            return;
+        }
+        final Snapshot current = snapshot;
+        if (current == null || !current.tokenAddresses.equals(tokenAddresses)) {
+            snapshot = new Snapshot(getVersion() + 1,
+                                    tokenAddresses,
+                                    tokenAddresses.stream().map(tokenInfoService::getTokenInfo).collect(Collectors.toList()));
+            Optional.ofNullable(cacheManager.getCache("possible_tokens")).ifPresent(Cache::clear);
+            log.info("Token whitelist snapshot version {} taken with {} tokens", snapshot.version, tokenAddresses.size());
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<String> tokenAddresses;
+        private final List<TokenInfoDto> tokens;
+
+        private Snapshot(final long version, final List<String> tokenAddresses, final List<TokenInfoDto> tokens) {
+            this.version = version;
+            this.tokenAddresses = Collections.unmodifiableList(tokenAddresses);
+            this.tokens = Collections.unmodifiableList(tokens);
+        }
+    }
+}
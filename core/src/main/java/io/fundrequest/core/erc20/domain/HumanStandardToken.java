@@ -35,7 +35,7 @@ public final class HumanStandardToken extends Contract {
         super(BINARY, contractAddress, web3j, credentials, gasPrice, gasLimit);
     }
 
-    private RemoteCall<String> nameAsync() {
+    public RemoteCall<String> nameAsync() {
         Function function = new Function("name",
                                          emptyList(),
                                          singletonList(new TypeReference<Utf8String>() {
@@ -79,7 +79,7 @@ public final class HumanStandardToken extends Contract {
         return executeRemoteCallTransaction(function);
     }
 
-    private RemoteCall<BigInteger> decimalsAsync() {
+    public RemoteCall<BigInteger> decimalsAsync() {
         Function function = new Function("decimals",
                                          emptyList(),
                                          singletonList(new TypeReference<Uint8>() {
@@ -112,7 +112,7 @@ public final class HumanStandardToken extends Contract {
         return executeRemoteCallSingleValueReturn(function, BigInteger.class);
     }
 
-    private RemoteCall<String> symbolAsync() {
+    public RemoteCall<String> symbolAsync() {
         Function function = new Function("symbol",
                                          emptyList(),
                                          singletonList(new TypeReference<Utf8String>() {
@@ -1,10 +1,13 @@
 package io.fundrequest.core.erc20.service;
 
 import io.fundrequest.core.erc20.domain.HumanStandardToken;
+import io.fundrequest.core.token.dto.TokenInfoDto;
 import io.fundrequest.core.web3j.Web3jGateway;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
 
 @Component
 public class ERC20Service {
@@ -15,19 +18,21 @@ public class ERC20Service {
         this.web3jGateway = web3jGateway;
     }
 
-    @Cacheable(cacheNames = "erc20.tokens.decimals", key = "#token")
-    public int decimals(final String token) {
-        return getERC20(token).decimals();
-    }
-
-    @Cacheable(cacheNames = "erc20.tokens.name", key = "#token")
-    public String name(final String token) {
-        return getERC20(token).name();
-    }
-
-    @Cacheable(cacheNames = "erc20.tokens.symbol", key = "#token")
-    public String symbol(final String token) {
-        return getERC20(token).symbol();
+    /**
+     * Reads decimals, name and symbol of the token concurrently, completes exceptionally when one of them can't be read.
+     */
+    public CompletableFuture<TokenInfoDto> getTokenInfoAsync(final String token) {
+        final HumanStandardToken erc20 = getERC20(token);
+        final CompletableFuture<BigInteger> decimals = erc20.decimalsAsync().sendAsync();
+        final CompletableFuture<String> name = erc20.nameAsync().sendAsync();
+        final CompletableFuture<String> symbol = erc20.symbolAsync().sendAsync();
+        return CompletableFuture.allOf(decimals, name, symbol)
+                                .thenApply(x -> TokenInfoDto.builder()
+                                                            .address(token)
+                                                            .decimals(decimals.join().intValue())
+                                                            .name(name.join())
+                                                            .symbol(symbol.join())
+                                                            .build());
     }
 
     private HumanStandardToken getERC20(final String token) {
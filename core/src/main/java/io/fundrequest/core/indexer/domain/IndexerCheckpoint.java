@@ -0,0 +1,37 @@
+package io.fundrequest.core.indexer.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Last block up to which an indexer has processed the contract logs.
+ */
+@Table(name = "indexer_checkpoint")
+@Entity
+@Getter
+public class IndexerCheckpoint extends AbstractEntity {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "last_block")
+    private Long lastBlock;
+
+    protected IndexerCheckpoint() {
+    }
+
+    public IndexerCheckpoint(final String name, final Long lastBlock) {
+        this.name = name;
+        this.lastBlock = lastBlock;
+    }
+
+    public void advanceTo(final Long lastBlock) {
+        this.lastBlock = lastBlock;
+    }
+}
@@ -0,0 +1,7 @@
+package io.fundrequest.core.indexer.infrastructure;
+
+import io.fundrequest.core.indexer.domain.IndexerCheckpoint;
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+
+public interface IndexerCheckpointRepository extends JpaRepository<IndexerCheckpoint, String> {
+}
@@ -0,0 +1,133 @@
+package io.fundrequest.core.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Recomputes cached views that are derived from many rows, like the statistics or the list of projects. Callers mark a
+ * view dirty, a single background worker recomputes it in a read only transaction and puts the result in its cache, at
+ * most once per refresh window. Triggers that arrive while a recompute is pending are coalesced into it, triggers from
+ * within a transaction only count once it commits.
+ */
+@Component
+@Slf4j
+public class DerivedViewRefresher implements PublicMetrics {
+
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshWindowMs;
+    private final ScheduledExecutorService worker;
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    public DerivedViewRefresher(final CacheManager cacheManager,
+                                final PlatformTransactionManager transactionManager,
+                                @Value("${io.fundrequest.derived-views.refresh-window-ms:10000}") final long refreshWindowMs) {
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.refreshWindowMs = refreshWindowMs;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "derived-view-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void register(final String cacheName, final Object key, final Supplier<?> recompute) {
+        views.put(cacheName, new View(cacheName, key, recompute));
+    }
+
+    public void markDirty(final String cacheName) {
+        final View view = views.get(cacheName);
+        if (view == null) {
+            throw new IllegalArgumentException("No derived view registered for cache " + cacheName);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    trigger(view);
+                }
+            });
+        } else {
+            trigger(view);
+        }
+    }
+
+    private void trigger(final View view) {
+        view.triggers.incrementAndGet();
+        if (view.pending.compareAndSet(false, true)) {
+            final long delay = Math.max(0, view.lastRefresh.get() + refreshWindowMs - System.currentTimeMillis());
+            worker.schedule(() -> refresh(view), delay, TimeUnit.MILLISECONDS);
+        } else {
+            view.coalesced.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        final List<Metric<?>> metrics = new ArrayList<>();
+        views.values().forEach(view -> {
+            metrics.add(new Metric<>("derived-views." + view.cacheName + ".triggers", view.triggers.get()));
+            metrics.add(new Metric<>("derived-views." + view.cacheName + ".coalesced", view.coalesced.get()));
+            metrics.add(new Metric<>("derived-views." + view.cacheName + ".refreshes", view.refreshes.get()));
+        });
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void refresh(final View view) {
+        view.pending.set(false);
+        view.lastRefresh.set(System.currentTimeMillis());
+        try {
+            final Object value = transactionTemplate.execute(status -> view.recompute.get());
+            view.refreshes.incrementAndGet();
+            Optional.ofNullable(cacheManager.getCache(view.cacheName)).ifPresent(cache -> cache.put(view.key, value));
+        } catch (final Exception ex) {
+            log.error("Unable to refresh derived view {}", view.cacheName, ex);
+        }
+    }
+
+    private static final class View {
+        private final String cacheName;
+        private final Object key;
+        private final Supplier<?> recompute;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicLong lastRefresh = new AtomicLong();
+        private final AtomicLong triggers = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong refreshes = new AtomicLong();
+
+        private View(final String cacheName, final Object key, final Supplier<?> recompute) {
+            this.cacheName = cacheName;
+            this.key = key;
+            this.recompute = recompute;
+        }
+    }
+}
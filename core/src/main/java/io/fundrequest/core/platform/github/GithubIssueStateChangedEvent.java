@@ -0,0 +1,9 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import lombok.Value;
+
+@Value
+public class GithubIssueStateChangedEvent {
+    private final GithubId githubId;
+}
@@ -0,0 +1,26 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+
+import java.util.Optional;
+
+public interface GithubIssueStateService {
+
+    /**
+     * The stored state of the issue, empty when it was never stored or is missing on GitHub.
+     */
+    Optional<GithubIssue> find(GithubId githubId);
+
+    /**
+     * Stores the state of the issue together with the time it was checked and publishes a {@link GithubIssueStateChangedEvent} when its status or solver changed.
+     * The state is stored in a transaction of its own, an issue that is stored concurrently is updated instead.
+     */
+    void update(GithubIssue githubIssue);
+
+    /**
+     * Marks an issue that GitHub did not return as missing and checked now, so it waits for its next turn like any
+     * checked issue. A missing issue is not found until it is updated again.
+     */
+    void markMissing(GithubId githubId);
+}
@@ -0,0 +1,84 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.domain.GithubIssueState;
+import io.fundrequest.core.platform.github.infrastructure.GithubIssueStateRepository;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+@Service
+@Slf4j
+class GithubIssueStateServiceImpl implements GithubIssueStateService {
+
+    private final GithubIssueStateRepository githubIssueStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public GithubIssueStateServiceImpl(final GithubIssueStateRepository githubIssueStateRepository,
+                                       final ApplicationEventPublisher eventPublisher,
+                                       final PlatformTransactionManager transactionManager) {
+        this.githubIssueStateRepository = githubIssueStateRepository;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GithubIssue> find(final GithubId githubId) {
+        return githubIssueStateRepository.findByOwnerAndRepoAndNumber(githubId.getOwner(), githubId.getRepo(), githubId.getNumber())
+                                         .filter(state -> !state.isMissing())
+                                         .map(GithubIssueState::toGithubIssue);
+    }
+
+    @Override
+    public void update(final GithubIssue githubIssue) {
+        try {
+            requiresNewTransaction.execute(status -> store(githubIssue));
+        } catch (final DataIntegrityViolationException e) {
+            log.debug("State of GitHub issue {}/{}#{} was stored concurrently, updating it", githubIssue.getOwner(), githubIssue.getRepo(), githubIssue.getNumber());
+            requiresNewTransaction.execute(status -> store(githubIssue));
+        }
+    }
+
+    @Override
+    public void markMissing(final GithubId githubId) {
+        try {
+            requiresNewTransaction.execute(status -> storeMissing(githubId));
+        } catch (final DataIntegrityViolationException e) {
+            log.debug("State of GitHub issue {}/{}#{} was stored concurrently, marking it missing", githubId.getOwner(), githubId.getRepo(), githubId.getNumber());
+            requiresNewTransaction.execute(status -> storeMissing(githubId));
+        }
+    }
+
+    private GithubIssueState storeMissing(final GithubId githubId) {
+        final GithubIssueState state = githubIssueStateRepository.findByOwnerAndRepoAndNumber(githubId.getOwner(), githubId.getRepo(), githubId.getNumber())
+                                                                 .orElseGet(() -> new GithubIssueState(githubId.getOwner(), githubId.getRepo(), githubId.getNumber()));
+        state.markMissing();
+        return githubIssueStateRepository.save(state);
+    }
+
+    private GithubIssueState store(final GithubIssue githubIssue) {
+        final GithubIssueState state = githubIssueStateRepository.findByOwnerAndRepoAndNumber(githubIssue.getOwner(), githubIssue.getRepo(), githubIssue.getNumber())
+                                                                 .orElseGet(() -> new GithubIssueState(githubIssue.getOwner(), githubIssue.getRepo(), githubIssue.getNumber()));
+        final boolean changed = state.update(githubIssue.getStatus(), githubIssue.getSolver());
+        githubIssueStateRepository.save(state);
+        if (changed) {
+            eventPublisher.publishEvent(new GithubIssueStateChangedEvent(GithubId.builder()
+                                                                                 .owner(githubIssue.getOwner())
+                                                                                 .repo(githubIssue.getRepo())
+                                                                                 .number(githubIssue.getNumber())
+                                                                                 .build()));
+        }
+        return state;
+    }
+}
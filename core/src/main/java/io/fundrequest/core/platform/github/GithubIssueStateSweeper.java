@@ -0,0 +1,157 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.infrastructure.GithubIssueStateRepository;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitExceededException;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.ratelimit.GithubRequestPriority;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the stored state of the issues of funded and claimable requests fresh, so claimability can be served from the
+ * database. Each run picks the issues that were not checked within the minimum age, never checked and least recently
+ * checked ones first and the most funded first among those. They are fetched from GitHub in chunks, with at most
+ * {@code concurrency} chunks in flight, as bulk requests that are shed once the GraphQL rate limit runs low. Issues
+ * GitHub does not return are stored as missing, so they wait for their turn instead of heading every run. Disabled
+ * unless {@code io.fundrequest.github.issue-state-sweeper.enabled} is set, so only one application sweeps.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.github.issue-state-sweeper.enabled", havingValue = "true")
+public class GithubIssueStateSweeper implements PublicMetrics {
+
+    private final GithubIssueStateRepository githubIssueStateRepository;
+    private final GithubIssueStateService githubIssueStateService;
+    private final GithubIssueFetcher githubIssueFetcher;
+    private final GithubRateLimiter githubRateLimiter;
+    private final int batchSize;
+    private final int chunkSize;
+    private final long minAgeMs;
+    private final ExecutorService workers;
+    private final AtomicInteger lastRunIssues = new AtomicInteger();
+    private final AtomicLong checked = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public GithubIssueStateSweeper(final GithubIssueStateRepository githubIssueStateRepository,
+                                   final GithubIssueStateService githubIssueStateService,
+                                   final GithubIssueFetcher githubIssueFetcher,
+                                   final GithubRateLimiter githubRateLimiter,
+                                   @Value("${io.fundrequest.github.issue-state-sweeper.batch-size:500}") final int batchSize,
+                                   @Value("${io.fundrequest.github.issue-state-sweeper.chunk-size:50}") final int chunkSize,
+                                   @Value("${io.fundrequest.github.issue-state-sweeper.concurrency:2}") final int concurrency,
+                                   @Value("${io.fundrequest.github.issue-state-sweeper.min-age-ms:900000}") final long minAgeMs) {
+        this.githubIssueStateRepository = githubIssueStateRepository;
+        this.githubIssueStateService = githubIssueStateService;
+        this.githubIssueFetcher = githubIssueFetcher;
+        this.githubRateLimiter = githubRateLimiter;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.minAgeMs = minAgeMs;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "github-issue-state-sweeper-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000 /* 1 minute */)
+    public void sweep() {
+        final List<GithubId> githubIds = githubIssueStateRepository.findIssuesToCheck(LocalDateTime.now().minus(minAgeMs, ChronoUnit.MILLIS), batchSize)
+                                                                   .stream()
+                                                                   .map(row -> GithubId.builder()
+                                                                                       .owner((String) row[0])
+                                                                                       .repo((String) row[1])
+                                                                                       .number((String) row[2])
+                                                                                       .build())
+                                                                   .collect(Collectors.toList());
+        lastRunIssues.set(githubIds.size());
+        final List<Future<?>> chunks = new ArrayList<>();
+        for (int i = 0; i < githubIds.size(); i += chunkSize) {
+            final List<GithubId> chunk = githubIds.subList(i, Math.min(i + chunkSize, githubIds.size()));
+            chunks.add(workers.submit(() -> check(chunk)));
+        }
+        for (final Future<?> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunks.forEach(c -> c.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                log.error("Unable to check GitHub issue states", e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        return Arrays.asList(new Metric<>("github.issue-state-sweeper.last-run-issues", lastRunIssues.get()),
+                             new Metric<>("github.issue-state-sweeper.checked", checked.get()),
+                             new Metric<>("github.issue-state-sweeper.missing", missing.get()),
+                             new Metric<>("github.issue-state-sweeper.failed", failed.get()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void check(final List<GithubId> githubIds) {
+        final Map<GithubId, GithubIssue> githubIssues;
+        try {
+            githubIssues = githubRateLimiter.execute(GithubRateLimitResource.GRAPHQL, GithubRequestPriority.BULK, () -> githubIssueFetcher.fetchGithubIssues(githubIds));
+        } catch (final GithubRateLimitExceededException e) {
+            log.info("Postponing check of {} GitHub issues until the rate limit recovers", githubIds.size());
+            return;
+        } catch (final Exception e) {
+            failed.addAndGet(githubIds.size());
+            log.error("Unable to fetch {} GitHub issues", githubIds.size(), e);
+            return;
+        }
+        githubIssues.values().forEach(githubIssue -> {
+            try {
+                githubIssueStateService.update(githubIssue);
+                checked.incrementAndGet();
+            } catch (final Exception e) {
+                failed.incrementAndGet();
+                log.error("Unable to store state of GitHub issue {}/{}#{}", githubIssue.getOwner(), githubIssue.getRepo(), githubIssue.getNumber(), e);
+            }
+        });
+        githubIds.stream().filter(githubId -> !githubIssues.containsKey(githubId)).forEach(githubId -> {
+            try {
+                githubIssueStateService.markMissing(githubId);
+                missing.incrementAndGet();
+            } catch (final Exception e) {
+                failed.incrementAndGet();
+                log.error("Unable to mark GitHub issue {}/{}#{} as missing", githubId.getOwner(), githubId.getRepo(), githubId.getNumber(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.domain.GithubResponse;
+import io.fundrequest.core.platform.github.infrastructure.GithubResponseRepository;
+import io.fundrequest.platform.github.etag.GithubResponseStore;
+import io.fundrequest.platform.github.etag.StoredGithubResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Stores GitHub responses in the github_response table. A response is saved in a transaction of its own, as GitHub is
+ * also called from read only transactions. Responses that were not stored again within the retention are deleted, the
+ * next request for them is then sent without validators.
+ */
+@Service
+@Slf4j
+class GithubResponseStoreImpl implements GithubResponseStore {
+
+    private final GithubResponseRepository githubResponseRepository;
+    private final int retentionDays;
+
+    public GithubResponseStoreImpl(final GithubResponseRepository githubResponseRepository,
+                                   @Value("${io.fundrequest.github.response-store.retention-days:30}") final int retentionDays) {
+        this.githubResponseRepository = githubResponseRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredGithubResponse> find(final String url) {
+        return githubResponseRepository.findByUrlHash(hash(url)).map(GithubResponse::toStoredResponse);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(final String url, final StoredGithubResponse response) {
+        final String urlHash = hash(url);
+        final GithubResponse githubResponse = githubResponseRepository.findByUrlHash(urlHash).orElseGet(() -> new GithubResponse(urlHash, url));
+        githubResponse.update(response);
+        githubResponseRepository.save(githubResponse);
+    }
+
+    @Scheduled(fixedDelay = 86_400_000 /* 1 day */)
+    @Transactional
+    public void deleteExpired() {
+        final int deleted = githubResponseRepository.deleteStoredBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} GitHub responses stored more than {} days ago", deleted, retentionDays);
+    }
+
+    private static String hash(final String url) {
+        return DigestUtils.md5DigestAsHex(url.getBytes(StandardCharsets.UTF_8));
+    }
+}
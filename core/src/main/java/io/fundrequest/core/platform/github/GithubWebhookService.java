@@ -0,0 +1,11 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.platform.github.webhook.GithubIssuesEvent;
+import io.fundrequest.platform.github.webhook.GithubPullRequestEvent;
+
+public interface GithubWebhookService {
+
+    void onIssuesEvent(GithubIssuesEvent event);
+
+    void onPullRequestEvent(GithubPullRequestEvent event);
+}
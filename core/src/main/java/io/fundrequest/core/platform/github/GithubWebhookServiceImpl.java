@@ -0,0 +1,157 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitExceededException;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.ratelimit.GithubRequestPriority;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import io.fundrequest.platform.github.webhook.GithubIssuesEvent;
+import io.fundrequest.platform.github.webhook.GithubPullRequest;
+import io.fundrequest.platform.github.webhook.GithubPullRequestEvent;
+import io.fundrequest.platform.github.webhook.GithubWebhookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser.PLATFORM_ID_GITHUB_DELIMTER;
+
+/**
+ * Keeps the local state of funded GitHub issues up to date from webhook deliveries. The issue status is taken from
+ * "issues" events. When an issue is closed its solver is the author of the pull request that closed it, resolved from
+ * the issue itself, and a reopened issue has no solver. A pull request that is merged into the default branch sets
+ * its author as solver of the issues of the same repository it references with a closing keyword right away, as that
+ * merge is what closes them. References to issues of other repositories are left to the closed event of the issue.
+ * Issues are matched to requests regardless of the casing of owner and repository.
+ */
+@Service
+@Slf4j
+class GithubWebhookServiceImpl implements GithubWebhookService {
+
+    private static final List<String> ISSUE_ACTIONS = Arrays.asList("opened", "closed", "reopened");
+    private static final String STATUS_CLOSED = "Closed";
+    private static final Pattern CLOSING_REFERENCE = Pattern.compile("(?i)\\b(?:close[sd]?|fix(?:e[sd])?|resolve[sd]?):?\\s+(?:([\\w.-]+)/([\\w.-]+))?#(\\d+)\\b");
+
+    private final RequestRepository requestRepository;
+    private final GithubIssueStateService githubIssueStateService;
+    private final GithubIssueFetcher githubIssueFetcher;
+    private final GithubRateLimiter githubRateLimiter;
+
+    public GithubWebhookServiceImpl(final RequestRepository requestRepository,
+                                    final GithubIssueStateService githubIssueStateService,
+                                    final GithubIssueFetcher githubIssueFetcher,
+                                    final GithubRateLimiter githubRateLimiter) {
+        this.requestRepository = requestRepository;
+        this.githubIssueStateService = githubIssueStateService;
+        this.githubIssueFetcher = githubIssueFetcher;
+        this.githubRateLimiter = githubRateLimiter;
+    }
+
+    /**
+     * Runs without a transaction of its own, the solver is fetched from GitHub before the state is stored in a
+     * transaction of its own.
+     */
+    @Override
+    public void onIssuesEvent(final GithubIssuesEvent event) {
+        if (!ISSUE_ACTIONS.contains(event.getAction()) || event.getIssue() == null) {
+            return;
+        }
+        final GithubId githubId = githubId(event.getRepository(), event.getIssue().getNumber());
+        if (!isFunded(githubId)) {
+            return;
+        }
+        final String status = StringUtils.capitalize(event.getIssue().getState().toLowerCase());
+        final String solver = STATUS_CLOSED.equals(status) ? resolveSolver(githubId) : null;
+        githubIssueStateService.update(githubIssue(githubId, status, solver));
+    }
+
+    @Override
+    @Transactional
+    public void onPullRequestEvent(final GithubPullRequestEvent event) {
+        final GithubPullRequest pullRequest = event.getPullRequest();
+        if (!"closed".equals(event.getAction()) || pullRequest == null || !pullRequest.isMerged() || pullRequest.getUser() == null
+            || !isMergedIntoDefaultBranch(event.getRepository(), pullRequest)) {
+            return;
+        }
+        for (final GithubId githubId : closingReferences(event.getRepository(), pullRequest)) {
+            if (isFunded(githubId) && !isSolvedByOther(githubId, pullRequest.getUser().getLogin())) {
+                githubIssueStateService.update(githubIssue(githubId, STATUS_CLOSED, pullRequest.getUser().getLogin()));
+            }
+        }
+    }
+
+    /**
+     * The author of the pull request that closed the issue according to GitHub, or the solver recorded from a merged
+     * pull request of the same repository when GitHub does not know it (yet).
+     */
+    private String resolveSolver(final GithubId githubId) {
+        return fetch(githubId).map(GithubIssue::getSolver)
+                              .orElseGet(() -> githubIssueStateService.find(githubId).map(GithubIssue::getSolver).orElse(null));
+    }
+
+    private boolean isSolvedByOther(final GithubId githubId, final String solver) {
+        return githubIssueStateService.find(githubId)
+                                      .filter(issue -> STATUS_CLOSED.equals(issue.getStatus()) && issue.getSolver() != null && !issue.getSolver().equals(solver))
+                                      .isPresent();
+    }
+
+    private static boolean isMergedIntoDefaultBranch(final GithubWebhookRepository repository, final GithubPullRequest pullRequest) {
+        return pullRequest.getBase() != null && repository.getDefaultBranch() != null && repository.getDefaultBranch().equals(pullRequest.getBase().getRef());
+    }
+
+    private static Set<GithubId> closingReferences(final GithubWebhookRepository repository, final GithubPullRequest pullRequest) {
+        final Set<GithubId> references = new LinkedHashSet<>();
+        final Matcher matcher = CLOSING_REFERENCE.matcher(StringUtils.defaultString(pullRequest.getTitle()) + "\n" + StringUtils.defaultString(pullRequest.getBody()));
+        while (matcher.find()) {
+            if (matcher.group(1) == null
+                || (matcher.group(1).equalsIgnoreCase(repository.getOwner().getLogin()) && matcher.group(2).equalsIgnoreCase(repository.getName()))) {
+                references.add(githubId(repository, matcher.group(3)));
+            }
+        }
+        return references;
+    }
+
+    private Optional<GithubIssue> fetch(final GithubId githubId) {
+        try {
+            return Optional.ofNullable(githubRateLimiter.execute(GithubRateLimitResource.GRAPHQL,
+                                                                 GithubRequestPriority.BACKGROUND,
+                                                                 () -> githubIssueFetcher.fetchGithubIssues(Collections.singletonList(githubId)))
+                                                        .get(githubId));
+        } catch (final GithubRateLimitExceededException e) {
+            log.info("Not resolving the solver of GitHub issue {}/{}#{} from GitHub until the rate limit recovers", githubId.getOwner(), githubId.getRepo(), githubId.getNumber());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isFunded(final GithubId githubId) {
+        final String platformId = githubId.getOwner() + PLATFORM_ID_GITHUB_DELIMTER + githubId.getRepo() + PLATFORM_ID_GITHUB_DELIMTER + githubId.getNumber();
+        return requestRepository.countByPlatformAndPlatformIdIgnoreCase(Platform.GITHUB, platformId) > 0;
+    }
+
+    private static GithubId githubId(final GithubWebhookRepository repository, final String number) {
+        return GithubId.builder().owner(repository.getOwner().getLogin()).repo(repository.getName()).number(number).build();
+    }
+
+    private static GithubIssue githubIssue(final GithubId githubId, final String status, final String solver) {
+        return GithubIssue.builder()
+                          .owner(githubId.getOwner())
+                          .repo(githubId.getRepo())
+                          .number(githubId.getNumber())
+                          .status(status)
+                          .solver(solver)
+                          .build();
+    }
+}
@@ -0,0 +1,92 @@
+package io.fundrequest.core.platform.github.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Last known state of a GitHub issue and the author of the merged pull request that closed it, kept up to date by
+ * GitHub webhooks and the claimability sweeper so claimability can be answered without calling GitHub.
+ */
+@Table(name = "github_issue_state")
+@Entity
+@Getter
+public class GithubIssueState extends AbstractEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "repo")
+    private String repo;
+
+    @Column(name = "number")
+    private String number;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "solver")
+    private String solver;
+
+    @Column(name = "checked_at")
+    private LocalDateTime checkedAt;
+
+    @Column(name = "missing")
+    private boolean missing;
+
+    protected GithubIssueState() {
+    }
+
+    public GithubIssueState(final String owner, final String repo, final String number) {
+        this.owner = owner;
+        this.repo = repo;
+        this.number = number;
+    }
+
+    /**
+     * Stores the status and solver and marks the state as checked now.
+     *
+     * @return whether the status or solver changed
+     */
+    public boolean update(final String status, final String solver) {
+        final boolean changed = !Objects.equals(this.status, status) || !Objects.equals(this.solver, solver);
+        this.status = status;
+        this.solver = solver;
+        this.missing = false;
+        this.checkedAt = LocalDateTime.now();
+        return changed;
+    }
+
+    /**
+     * Marks the issue as not returned by GitHub, because it was deleted, made private or transferred, and as checked now.
+     * The last known status and solver are kept.
+     */
+    public void markMissing() {
+        this.missing = true;
+        this.checkedAt = LocalDateTime.now();
+    }
+
+    public GithubIssue toGithubIssue() {
+        return GithubIssue.builder()
+                          .owner(owner)
+                          .repo(repo)
+                          .number(number)
+                          .status(status)
+                          .solver(solver)
+                          .build();
+    }
+}
@@ -0,0 +1,68 @@
+package io.fundrequest.core.platform.github.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import io.fundrequest.platform.github.etag.StoredGithubResponse;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The last successful response of a GitHub GET request, looked up by the md5 hash of its URL.
+ */
+@Table(name = "github_response")
+@Entity
+@Getter
+public class GithubResponse extends AbstractEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "url_hash")
+    private String urlHash;
+
+    @Column(name = "url")
+    private String url;
+
+    @Column(name = "etag")
+    private String eTag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "body")
+    private String body;
+
+    protected GithubResponse() {
+    }
+
+    public GithubResponse(final String urlHash, final String url) {
+        this.urlHash = urlHash;
+        this.url = url;
+    }
+
+    public void update(final StoredGithubResponse response) {
+        this.eTag = response.getETag();
+        this.lastModified = response.getLastModified();
+        this.contentType = response.getContentType();
+        this.body = response.getBody();
+    }
+
+    public StoredGithubResponse toStoredResponse() {
+        return StoredGithubResponse.builder()
+                                   .eTag(eTag)
+                                   .lastModified(lastModified)
+                                   .contentType(contentType)
+                                   .body(body)
+                                   .build();
+    }
+}
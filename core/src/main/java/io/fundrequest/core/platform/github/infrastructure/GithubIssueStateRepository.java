@@ -0,0 +1,29 @@
+package io.fundrequest.core.platform.github.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.platform.github.domain.GithubIssueState;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface GithubIssueStateRepository extends JpaRepository<GithubIssueState, Long> {
+
+    Optional<GithubIssueState> findByOwnerAndRepoAndNumber(String owner, String repo, String number);
+
+    /**
+     * Owner, repo and number of the issues of funded and claimable GitHub requests that were never checked or not since
+     * the given time. Issues that were never checked come first, then the least recently checked ones, the most funded
+     * first.
+     */
+    @Query(value = "SELECT r.owner, r.repo, r.issue_number FROM request r "
+                   + "LEFT JOIN github_issue_state s ON s.owner = r.owner AND s.repo = r.repo AND s.number = r.issue_number "
+                   + "LEFT JOIN request_summary rs ON rs.request_id = r.id "
+                   + "WHERE r.platform = 'GITHUB' AND r.status IN ('FUNDED', 'CLAIMABLE') "
+                   + "AND (s.checked_at IS NULL OR s.checked_at < :checkedBefore) "
+                   + "ORDER BY CASE WHEN s.checked_at IS NULL THEN 0 ELSE 1 END, s.checked_at, COALESCE(rs.usd_value, 0) DESC, r.id "
+                   + "LIMIT :limit", nativeQuery = true)
+    List<Object[]> findIssuesToCheck(@Param("checkedBefore") LocalDateTime checkedBefore, @Param("limit") int limit);
+}
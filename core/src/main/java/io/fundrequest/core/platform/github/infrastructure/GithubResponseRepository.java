@@ -0,0 +1,18 @@
+package io.fundrequest.core.platform.github.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.platform.github.domain.GithubResponse;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface GithubResponseRepository extends JpaRepository<GithubResponse, Long> {
+
+    Optional<GithubResponse> findByUrlHash(String urlHash);
+
+    @Modifying
+    @Query("DELETE FROM GithubResponse r WHERE r.lastModifiedDate < ?1")
+    int deleteStoredBefore(LocalDateTime storedBefore);
+}
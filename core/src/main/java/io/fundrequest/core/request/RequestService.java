@@ -16,6 +16,7 @@ import io.fundrequest.core.request.view.RequestDto;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface RequestService {
@@ -23,8 +24,6 @@ public interface RequestService {
 
     List<RequestDto> findAll(Iterable<Long> ids);
 
-    List<RequestDto> findAllFor(List<String> projects, List<String> technologies, Long lastUpdatedSinceDays);
-
     Set<String> findAllTechnologies();
 
     Set<String> findAllProjects();
@@ -33,6 +32,11 @@ public interface RequestService {
 
     ClaimableResultDto getClaimableResult(Long id);
 
+    /**
+     * Moves a FUNDED request to CLAIMABLE when its issue became claimable, or back to FUNDED when it no longer is.
+     */
+    void refreshClaimableStatus(Long id);
+
     List<RequestDto> findRequestsForUser(Principal principal);
 
     RequestDto findRequest(Long id);
@@ -41,6 +45,10 @@ public interface RequestService {
 
     RequestDto findRequest(Platform platform, String platformId);
 
+    Optional<String> getVersion(Long requestId, Principal principal);
+
+    Optional<String> getVersion(Platform platform, String platformId, Principal principal);
+
     Long createRequest(CreateRequestCommand command);
 
     Request requestClaimed(RequestClaimedCommand command);
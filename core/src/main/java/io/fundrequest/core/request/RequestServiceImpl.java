@@ -2,6 +2,7 @@ package io.fundrequest.core.request;
 
 import io.fundrequest.common.infrastructure.exception.ResourceNotFoundException;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
 import io.fundrequest.core.request.claim.CanClaimRequest;
 import io.fundrequest.core.request.claim.SignedClaim;
 import io.fundrequest.core.request.claim.UserClaimRequest;
@@ -25,11 +26,14 @@ import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.domain.RequestTechnology;
 import io.fundrequest.core.request.erc67.ERC67;
 import io.fundrequest.core.request.erc67.Erc67Generator;
+import io.fundrequest.core.request.fiat.FiatPriceFeed;
+import io.fundrequest.core.request.fund.FundsLedgerService;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
 import io.fundrequest.core.request.fund.dto.CommentDto;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
-import io.fundrequest.core.request.infrastructure.RequestSpecification;
 import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.core.request.user.UserRequestService;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.token.model.TokenValue;
 import io.fundrequest.platform.github.GithubGateway;
@@ -38,7 +42,6 @@ import io.fundrequest.platform.profile.profile.ProfileService;
 import io.fundrequest.platform.profile.profile.dto.UserProfile;
 import io.fundrequest.platform.profile.profile.dto.UserProfileProvider;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
@@ -48,13 +51,16 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityNotFoundException;
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.WATCHING;
 
 @Service
 class RequestServiceImpl implements RequestService {
@@ -69,6 +75,11 @@ class RequestServiceImpl implements RequestService {
     private ApplicationEventPublisher eventPublisher;
     private Erc67Generator erc67Generator;
     private Environment environment;
+    private FundsLedgerService fundsLedgerService;
+    private DerivedViewRefresher derivedViewRefresher;
+    private RequestSummaryService requestSummaryService;
+    private UserRequestService userRequestService;
+    private FiatPriceFeed fiatPriceFeed;
 
     public RequestServiceImpl(final RequestRepository requestRepository,
                               final Mappers mappers,
@@ -79,7 +90,12 @@ class RequestServiceImpl implements RequestService {
                               final GithubClaimResolver githubClaimResolver,
                               final ApplicationEventPublisher eventPublisher,
                               final Erc67Generator erc67Generator,
-                              final Environment environment) {
+                              final Environment environment,
+                              final FundsLedgerService fundsLedgerService,
+                              final DerivedViewRefresher derivedViewRefresher,
+                              final RequestSummaryService requestSummaryService,
+                              final UserRequestService userRequestService,
+                              final FiatPriceFeed fiatPriceFeed) {
         this.requestRepository = requestRepository;
         this.mappers = mappers;
         this.githubLinkParser = githubLinkParser;
@@ -90,6 +106,13 @@ class RequestServiceImpl implements RequestService {
         this.eventPublisher = eventPublisher;
         this.erc67Generator = erc67Generator;
         this.environment = environment;
+        this.fundsLedgerService = fundsLedgerService;
+        this.derivedViewRefresher = derivedViewRefresher;
+        this.requestSummaryService = requestSummaryService;
+        this.userRequestService = userRequestService;
+        this.fiatPriceFeed = fiatPriceFeed;
+        derivedViewRefresher.register("projects", "all", requestRepository::findAllProjects);
+        derivedViewRefresher.register("technologies", "all", requestRepository::findAllTechnologies);
     }
 
     @Override
@@ -98,12 +121,6 @@ class RequestServiceImpl implements RequestService {
         return mappers.mapList(Request.class, RequestDto.class, requestRepository.findAll());
     }
 
-    @Transactional(readOnly = true)
-    public List<RequestDto> findAllFor(final List<String> projects, final List<String> technologies, final Long lastUpdatedSinceDays) {
-        final RequestSpecification specification = new RequestSpecification(projects, technologies, lastUpdatedSinceDays);
-        return mappers.mapList(Request.class, RequestDto.class, requestRepository.findAll(specification));
-    }
-
     @Override
     @Transactional(readOnly = true)
     public List<RequestDto> findAll(Iterable<Long> ids) {
@@ -125,7 +142,7 @@ class RequestServiceImpl implements RequestService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserClaimableDto getUserClaimableResult(final Principal principal, final Long requestId) {
         final ClaimableResultDto claimableResult = getClaimableResult(requestId);
         return UserClaimableDto.builder()
@@ -136,16 +153,21 @@ class RequestServiceImpl implements RequestService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ClaimableResultDto getClaimableResult(final Long requestId) {
+        return claimableResult(findOne(requestId));
+    }
+
+    @Override
+    @Transactional
+    public void refreshClaimableStatus(final Long requestId) {
         final Request request = findOne(requestId);
+        checkAndUpdateRequestStatus(request, claimableResult(request));
+    }
+
+    private ClaimableResultDto claimableResult(final Request request) {
         final IssueInformation issueInformation = request.getIssueInformation();
-        final ClaimableResultDto claimableResult = githubClaimResolver.claimableResult(issueInformation.getOwner(),
-                                                                                       issueInformation.getRepo(),
-                                                                                       issueInformation.getNumber(),
-                                                                                       request.getStatus());
-        checkAndUpdateRequestStatus(request, claimableResult);
-        return claimableResult;
+        return githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), request.getStatus());
     }
 
     private Boolean isClaimableByLoggedInUser(final Principal principal, final String solver, final Platform platform) {
@@ -173,11 +195,8 @@ class RequestServiceImpl implements RequestService {
     @Override
     @Transactional(readOnly = true)
     public List<RequestDto> findRequestsForUser(Principal principal) {
-        Set<Request> result = new HashSet<>();
-        String etherAddress = profileService.getUserProfile(principal).getEtherAddress();
-        result.addAll(requestRepository.findRequestsUserIsWatching(principal.getName()));
-        result.addAll(requestRepository.findRequestsUserHasFunded(principal.getName(), etherAddress));
-        return mappers.mapList(Request.class, RequestDto.class, result);
+        final String etherAddress = Optional.ofNullable(profileService.getUserProfile(principal)).map(UserProfile::getEtherAddress).orElse(null);
+        return requestSummaryService.findAll(userRequestService.findRequestIds(principal.getName(), etherAddress));
     }
 
     @Override
@@ -204,18 +223,61 @@ class RequestServiceImpl implements RequestService {
         return mappers.map(Request.class, RequestDto.class, request);
     }
 
+    /**
+     * Also covers the GitHub comments, which the detail page renders. Not transactional, the comments may have to be
+     * read from GitHub. Empty when the comments can not be read, so the page gets rendered instead of a 304.
+     */
+    @Override
+    public Optional<String> getVersion(final Long requestId, final Principal principal) {
+        return toVersion(requestRepository.getVersion(requestId, getUserName(principal)), principal)
+                .flatMap(version -> getCommentsVersion(requestId).map(commentsVersion -> version + "|" + commentsVersion));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getVersion(final Platform platform, final String platformId, final Principal principal) {
+        return toVersion(requestRepository.getVersion(platform.name(), platformId, getUserName(principal)), principal);
+    }
+
+    private Optional<String> toVersion(final List<Object[]> rows, final Principal principal) {
+        return rows.stream()
+                   .findFirst()
+                   .map(row -> Stream.concat(Arrays.stream(row), Stream.of(fiatPriceFeed.getVersion(), getUserName(principal)))
+                                     .map(String::valueOf)
+                                     .collect(Collectors.joining("|")));
+    }
+
+    private Optional<String> getCommentsVersion(final Long requestId) {
+        try {
+            final IssueInformation issueInformation = findOne(requestId).getIssueInformation();
+            return Optional.of(githubGateway.getCommentsForIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())
+                                            .stream()
+                                            .map(comment -> comment.getId() + ":" + comment.getUpdatedAt())
+                                            .collect(Collectors.joining(",")));
+        } catch (final RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String getUserName(final Principal principal) {
+        return principal == null ? "" : principal.getName();
+    }
+
     @Override
     @Transactional
-    @CacheEvict(value = {"projects", "technologies"}, key = "'all'")
     public Long createRequest(CreateRequestCommand command) {
         Optional<Request> request = requestRepository.findByPlatformAndPlatformId(command.getPlatform(), command.getPlatformId());
         Request r = request.orElseGet(() -> createNewRequest(command));
+        if (!request.isPresent()) {
+            requestSummaryService.refresh(r.getId());
+            derivedViewRefresher.markDirty("projects");
+            derivedViewRefresher.markDirty("technologies");
+        }
         return r.getId();
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"projects", "technologies"}, key = "'all'")
     public Request requestClaimed(RequestClaimedCommand command) {
         final Request request = updateStatus(requestRepository.findByPlatformAndPlatformId(command.getPlatform(), command.getPlatformId())
                                                               .orElseThrow(ResourceNotFoundException::new),
@@ -230,6 +292,9 @@ class RequestServiceImpl implements RequestService {
                                                                                  .build())
                                                        .withBlockchainEventId(command.getBlockchainEventId())
                                                        .build());
+        fundsLedgerService.fundsClaimed(request.getId(), command.getTokenHash(), command.getAmountInWei());
+        derivedViewRefresher.markDirty("projects");
+        derivedViewRefresher.markDirty("technologies");
 
         eventPublisher.publishEvent(RequestClaimedEvent.builder()
                                                        .blockchainEventId(command.getBlockchainEventId())
@@ -284,6 +349,7 @@ class RequestServiceImpl implements RequestService {
         requestRepository.findOne(command.getRequestId()).ifPresent(request -> {
             request.setStatus(command.getNewStatus());
             requestRepository.save(request);
+            requestSummaryService.refresh(request.getId());
         });
     }
 
@@ -295,12 +361,14 @@ class RequestServiceImpl implements RequestService {
         if (StringUtils.isNotBlank(user)) {
             r.addWatcher(user);
             requestRepository.save(r);
+            userRequestService.add(user, r.getId(), WATCHING);
         }
     }
 
     private void removeWatcherFromRequest(String user, Request r) {
         r.removeWatcher(user);
         requestRepository.save(r);
+        userRequestService.remove(user, r.getId(), WATCHING);
     }
 
     private Request createNewRequest(CreateRequestCommand command) {
@@ -324,6 +392,8 @@ class RequestServiceImpl implements RequestService {
 
     private Request updateStatus(final Request request, final RequestStatus newStatus) {
         request.setStatus(newStatus);
-        return requestRepository.save(request);
+        final Request updatedRequest = requestRepository.save(request);
+        requestSummaryService.refresh(request.getId());
+        return updatedRequest;
     }
 }
@@ -1,5 +1,7 @@
 package io.fundrequest.core.request.claim.github;
 
+import io.fundrequest.core.platform.github.GithubIssueStateService;
+import io.fundrequest.core.platform.github.GithubIssueStateSweeper;
 import io.fundrequest.core.request.claim.SignedClaim;
 import io.fundrequest.core.request.claim.UserClaimRequest;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
@@ -10,7 +12,8 @@ import io.fundrequest.core.request.infrastructure.azrael.ClaimSignature;
 import io.fundrequest.core.request.infrastructure.azrael.SignClaimCommand;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
-import io.fundrequest.platform.github.scraper.GithubScraper;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.scraper.model.GithubId;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import io.fundrequest.platform.keycloak.KeycloakRepository;
 import io.fundrequest.platform.keycloak.UserIdentity;
@@ -29,16 +32,19 @@ public class GithubClaimResolver {
     private static final Supplier<RuntimeException> GITHUB_ACCOUNT_IS_NOT_LINKED = () -> new RuntimeException("Github account is not linked");
     private static final String GITHUB_STATE_CLOSED = "closed";
 
-    private GithubScraper githubScraper;
+    private GithubIssueFetcher githubIssueFetcher;
     private AzraelClient azraelClient;
     private KeycloakRepository keycloakRepository;
+    private GithubIssueStateService githubIssueStateService;
 
-    public GithubClaimResolver(final GithubScraper githubScraper,
+    public GithubClaimResolver(final GithubIssueFetcher githubIssueFetcher,
                                final AzraelClient azraelClient,
-                               final KeycloakRepository keycloakRepository) {
-        this.githubScraper = githubScraper;
+                               final KeycloakRepository keycloakRepository,
+                               final GithubIssueStateService githubIssueStateService) {
+        this.githubIssueFetcher = githubIssueFetcher;
         this.azraelClient = azraelClient;
         this.keycloakRepository = keycloakRepository;
+        this.githubIssueStateService = githubIssueStateService;
     }
 
     public SignedClaim getSignedClaim(final Principal user, final UserClaimRequest userClaimRequest, final RequestDto request) {
@@ -59,20 +65,24 @@ public class GithubClaimResolver {
         final String owner = request.getIssueInformation().getOwner();
         final String repo = request.getIssueInformation().getRepo();
         final String number = request.getIssueInformation().getNumber();
-        final GithubIssue githubIssue = githubScraper.fetchGithubIssue(owner, repo, number);
+        final GithubIssue githubIssue = githubIssueFetcher.fetchGithubIssue(owner, repo, number);
         return isIssueClosed(githubIssue) && isClaimalbeByLoggedInUser(user, request, githubIssue.getSolver());
     }
 
+    /**
+     * Answers from the locally stored issue state only, which GitHub webhooks and the {@link GithubIssueStateSweeper}
+     * keep up to date, so this never calls GitHub. Issues without a stored state are not claimable yet.
+     */
     public ClaimableResultDto claimableResult(final String owner, final String repo, final String number, final RequestStatus requestStatus) {
-        final GithubIssue githubIssue = githubScraper.fetchGithubIssue(owner, repo, number);
-        if (isIssueClosed(githubIssue) && githubIssue.getSolver() != null && (requestStatus == FUNDED || requestStatus == CLAIMABLE)) {
-            return ClaimableResultDto.builder()
-                                     .claimable(true)
-                                     .platform(Platform.GITHUB)
-                                     .claimableByPlatformUserName(githubIssue.getSolver())
-                                     .build();
-        }
-        return ClaimableResultDto.builder().claimable(false).platform(Platform.GITHUB).build();
+        return githubIssueStateService.find(GithubId.builder().owner(owner).repo(repo).number(number).build())
+                                      .filter(githubIssue -> isIssueClosed(githubIssue) && githubIssue.getSolver() != null)
+                                      .filter(githubIssue -> requestStatus == FUNDED || requestStatus == CLAIMABLE)
+                                      .map(githubIssue -> ClaimableResultDto.builder()
+                                                                            .claimable(true)
+                                                                            .platform(Platform.GITHUB)
+                                                                            .claimableByPlatformUserName(githubIssue.getSolver())
+                                                                            .build())
+                                      .orElseGet(() -> ClaimableResultDto.builder().claimable(false).platform(Platform.GITHUB).build());
     }
 
     private Boolean isClaimalbeByLoggedInUser(final Principal user, final RequestDto request, final String solver) {
@@ -87,7 +97,7 @@ public class GithubClaimResolver {
 
     private String getSolver(final Principal user, final UserClaimRequest userClaimRequest, final RequestDto request) {
         final IssueInformationDto issueInformation = request.getIssueInformation();
-        final String solver = Optional.ofNullable(githubScraper.fetchGithubIssue(issueInformation.getOwner(),
+        final String solver = Optional.ofNullable(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(),
                                                                                  issueInformation.getRepo(),
                                                                                  issueInformation.getNumber()).getSolver())
                                       .orElseThrow(() -> new RuntimeException("Unable to get solver"));
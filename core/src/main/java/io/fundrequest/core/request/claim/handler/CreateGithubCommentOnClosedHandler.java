@@ -8,8 +8,8 @@ import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.platform.github.CreateGithubComment;
 import io.fundrequest.platform.github.GithubCommentFactory;
 import io.fundrequest.platform.github.GithubGateway;
+import io.fundrequest.platform.github.GithubIssueFetcher;
 import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -24,19 +24,19 @@ import java.util.stream.Collectors;
 public class CreateGithubCommentOnClosedHandler {
 
     private final GithubGateway githubGateway;
-    private final GithubScraper githubScraper;
+    private final GithubIssueFetcher githubIssueFetcher;
     private final GithubCommentFactory githubCommentFactory;
     private final Boolean addComment;
     private final String githubUser;
 
     public CreateGithubCommentOnClosedHandler(final GithubGateway githubGateway,
-                                              final GithubScraper githubScraper,
+                                              final GithubIssueFetcher githubIssueFetcher,
                                               final GithubCommentFactory githubCommentFactory,
                                               @Value("${github.add-comments:false}") final Boolean addComment,
                                               @Value("${feign.client.github.username:fundrequest-notifier}") final String githubUser) {
 
         this.githubGateway = githubGateway;
-        this.githubScraper = githubScraper;
+        this.githubIssueFetcher = githubIssueFetcher;
         this.githubCommentFactory = githubCommentFactory;
         this.addComment = addComment;
         this.githubUser = githubUser;
@@ -65,7 +65,7 @@ public class CreateGithubCommentOnClosedHandler {
     }
 
     private CreateGithubComment createComment(final Long requestId, final IssueInformationDto issueInformation, final ClaimDto claim) {
-        final String solver = Optional.ofNullable(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()).getSolver())
+        final String solver = Optional.ofNullable(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()).getSolver())
                                       .orElseThrow(() -> new RuntimeException("No solver found for request " + requestId));
         final String transactionHash = claim.getTransactionHash();
 
@@ -7,7 +7,7 @@ import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.platform.github.CreateGithubComment;
 import io.fundrequest.platform.github.GithubCommentFactory;
 import io.fundrequest.platform.github.GithubGateway;
-import io.fundrequest.platform.github.scraper.GithubScraper;
+import io.fundrequest.platform.github.GithubIssueFetcher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -19,16 +19,16 @@ import java.util.Optional;
 public class CreateGithubCommentOnResolvedHandler {
 
     private final GithubGateway githubGateway;
-    private final GithubScraper githubScraper;
+    private final GithubIssueFetcher githubIssueFetcher;
     private final GithubCommentFactory githubCommentFactory;
     private final Boolean addComment;
 
     public CreateGithubCommentOnResolvedHandler(final GithubGateway githubGateway,
-                                                final GithubScraper githubScraper,
+                                                final GithubIssueFetcher githubIssueFetcher,
                                                 final GithubCommentFactory githubCommentFactory,
                                                 @Value("${github.add-comments:false}") final Boolean addComment) {
         this.githubGateway = githubGateway;
-        this.githubScraper = githubScraper;
+        this.githubIssueFetcher = githubIssueFetcher;
         this.githubCommentFactory = githubCommentFactory;
         this.addComment = addComment;
     }
@@ -39,7 +39,7 @@ public class CreateGithubCommentOnResolvedHandler {
             final RequestDto request = event.getRequestDto();
             final IssueInformationDto issueInformation = request.getIssueInformation();
             if (issueInformation.getPlatform() == Platform.GITHUB) {
-                final String solver = Optional.ofNullable(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()).getSolver())
+                final String solver = Optional.ofNullable(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()).getSolver())
                                               .orElseThrow(() -> new RuntimeException("No solver found for request " + request.getId()));
                 final CreateGithubComment comment = new CreateGithubComment();
                 comment.setBody(githubCommentFactory.createResolvedComment(request.getId(), solver));
@@ -0,0 +1,35 @@
+package io.fundrequest.core.request.claim.handler;
+
+import io.fundrequest.core.platform.github.GithubIssueStateChangedEvent;
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Moves the request of a GitHub issue between FUNDED and CLAIMABLE once a change of the issue state is committed.
+ */
+@Component
+public class RefreshClaimableStatusOnIssueStateChangedHandler {
+
+    private final RequestService requestService;
+
+    public RefreshClaimableStatusOnIssueStateChangedHandler(final RequestService requestService) {
+        this.requestService = requestService;
+    }
+
+    @Async("taskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueStateChanged(final GithubIssueStateChangedEvent event) {
+        final GithubId githubId = event.getGithubId();
+        final String platformId = githubId.getOwner()
+                                  + GithubPlatformIdParser.PLATFORM_ID_GITHUB_DELIMTER
+                                  + githubId.getRepo()
+                                  + GithubPlatformIdParser.PLATFORM_ID_GITHUB_DELIMTER
+                                  + githubId.getNumber();
+        requestService.refreshClaimableStatus(requestService.findRequest(Platform.GITHUB, platformId).getId());
+    }
+}
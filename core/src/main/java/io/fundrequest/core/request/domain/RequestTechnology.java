@@ -1,23 +1,40 @@
 package io.fundrequest.core.request.domain;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 
 @Embeddable
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
-@Builder
 public class RequestTechnology {
 
     @Column(name = "technology")
     private String technology;
 
+    /**
+     * Lower cased technology, so the request filters can match it on an index.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "technology_lc")
+    private String technologyLc;
+
     @Column(name = "weight")
     private Long weight;
+
+    @Builder
+    public RequestTechnology(final String technology, final Long weight) {
+        setTechnology(technology);
+        this.weight = weight;
+    }
+
+    public void setTechnology(final String technology) {
+        this.technology = technology;
+        this.technologyLc = technology == null ? null : technology.toLowerCase();
+    }
 }
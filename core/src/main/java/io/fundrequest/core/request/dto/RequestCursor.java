@@ -0,0 +1,42 @@
+package io.fundrequest.core.request.dto;
+
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in a listing of requests ordered by last modified date or USD value, then id, all descending. The next page
+ * holds the requests that come strictly after it.
+ */
+@Value
+public class RequestCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime lastModifiedDate;
+    private final BigDecimal usdValue;
+    private final Long id;
+
+    public static RequestCursor of(final RequestSummary summary) {
+        return new RequestCursor(summary.getLastModifiedDate(), summary.getUsdValue(), summary.getRequestId());
+    }
+
+    public static RequestCursor decode(final String cursor) {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+            return new RequestCursor(LocalDateTime.parse(parts[0]), new BigDecimal(parts[1]), Long.valueOf(parts[2]));
+        } catch (final RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, ex);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString((lastModifiedDate + SEPARATOR + usdValue.toPlainString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
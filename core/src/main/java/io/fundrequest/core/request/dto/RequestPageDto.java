@@ -0,0 +1,12 @@
+package io.fundrequest.core.request.dto;
+
+import io.fundrequest.core.request.view.RequestDto;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class RequestPageDto {
+    private final List<RequestDto> requests;
+    private final RequestCursor next;
+}
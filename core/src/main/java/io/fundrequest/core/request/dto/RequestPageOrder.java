@@ -0,0 +1,6 @@
+package io.fundrequest.core.request.dto;
+
+public enum RequestPageOrder {
+    RECENTLY_MODIFIED,
+    MOST_FUNDED
+}
@@ -0,0 +1,22 @@
+package io.fundrequest.core.request.dto;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class RequestPageQuery {
+    private final RequestPhase phase;
+    @Singular
+    private final List<String> projects;
+    @Singular
+    private final List<String> technologies;
+    private final boolean funded;
+    private final RequestPageOrder order;
+    private final RequestCursor cursor;
+    private final int size;
+}
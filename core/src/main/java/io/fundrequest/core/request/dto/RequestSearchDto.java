@@ -0,0 +1,15 @@
+package io.fundrequest.core.request.dto;
+
+import io.fundrequest.core.request.view.RequestDto;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class RequestSearchDto {
+    private final List<RequestDto> requests;
+    private final int total;
+    private final Map<String, Long> projects;
+    private final Map<String, Long> technologies;
+}
@@ -0,0 +1,20 @@
+package io.fundrequest.core.request.dto;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class RequestSearchQuery {
+    private final String text;
+    private final RequestPhase phase;
+    @Singular
+    private final List<String> projects;
+    @Singular
+    private final List<String> technologies;
+    private final int size;
+}
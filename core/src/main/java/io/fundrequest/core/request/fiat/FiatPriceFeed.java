@@ -0,0 +1,149 @@
+package io.fundrequest.core.request.fiat;
+
+import io.fundrequest.core.contract.service.TokenWhitelistSnapshotService;
+import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
+import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In memory USD price per token symbol. All whitelisted symbols, and the other symbols that have been asked for within
+ * the expiry, are repriced in the background: CoinMarketCap first, the symbols it does not know in one CryptoCompare
+ * call. A lookup serves the last known price, however old, until a refresh replaces it. Only the first lookup of a
+ * symbol without a price calls out, once per refresh, so a new token is priced right away instead of at zero. Symbols
+ * outside the whitelist that were not asked for within the expiry are dropped, so the feed stays bounded. The version
+ * changes whenever a price changes or is dropped, so responses that show USD amounts can put it in their ETag.
+ */
+@Component
+@Slf4j
+public class FiatPriceFeed {
+
+    private final CoinMarketCapService coinMarketCapService;
+    private final CryptoCompareService cryptoCompareService;
+    private final TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
+
+    private final long requestedSymbolExpiryMs;
+
+    private final Map<String, Price> prices = new ConcurrentHashMap<>();
+    private final Map<String, Instant> requestedSymbols = new ConcurrentHashMap<>();
+    private final Set<String> lookedUpSymbols = ConcurrentHashMap.newKeySet();
+    private final AtomicLong version = new AtomicLong();
+
+    public FiatPriceFeed(final CoinMarketCapService coinMarketCapService,
+                         final CryptoCompareService cryptoCompareService,
+                         final TokenWhitelistSnapshotService tokenWhitelistSnapshotService,
+                         @Value("${io.fundrequest.fiat.requested-symbol-expiry-ms:86400000}") final long requestedSymbolExpiryMs) {
+        this.coinMarketCapService = coinMarketCapService;
+        this.cryptoCompareService = cryptoCompareService;
+        this.tokenWhitelistSnapshotService = tokenWhitelistSnapshotService;
+        this.requestedSymbolExpiryMs = requestedSymbolExpiryMs;
+    }
+
+    public Optional<Double> getUsdPrice(final String symbol) {
+        final String key = symbol.toUpperCase();
+        requestedSymbols.put(key, Instant.now());
+        if (!prices.containsKey(key) && lookedUpSymbols.add(key)) {
+            store(fetchPrices(Collections.singleton(key)));
+        }
+        return Optional.ofNullable(prices.get(key)).map(price -> price.usd);
+    }
+
+    public Optional<Instant> getLastUpdated(final String symbol) {
+        return Optional.ofNullable(prices.get(symbol.toUpperCase())).map(price -> price.updatedAt);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Scheduled(fixedDelay = 300000)
+    public void refresh() {
+        final Set<String> symbols = symbolsToRefresh();
+        final Map<String, Double> fetched = fetchPrices(symbols);
+        store(fetched);
+        lookedUpSymbols.clear();
+        log.debug("Refreshed {} of {} fiat prices", fetched.size(), symbols.size());
+    }
+
+    private Map<String, Double> fetchPrices(final Set<String> symbols) {
+        final Map<String, Double> fetched = new HashMap<>();
+        symbols.forEach(symbol -> {
+            try {
+                coinMarketCapService.getCurrentPriceInUsd(symbol).ifPresent(price -> fetched.put(symbol, price));
+            } catch (final Exception ex) {
+                log.debug("Unable to fetch CoinMarketCap price for {}", symbol, ex);
+            }
+        });
+        final Set<String> missing = symbols.stream().filter(symbol -> !fetched.containsKey(symbol)).collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            try {
+                cryptoCompareService.getCurrentPricesInUsd(missing)
+                                    .forEach((symbol, price) -> {
+                                        if (missing.contains(symbol)) {
+                                            fetched.put(symbol, price);
+                                        }
+                                    });
+            } catch (final Exception ex) {
+                log.debug("Unable to fetch CryptoCompare prices for {}", missing, ex);
+            }
+        }
+        return fetched;
+    }
+
+    private void store(final Map<String, Double> fetched) {
+        final Instant now = Instant.now();
+        fetched.forEach((symbol, price) -> {
+            final Price previous = prices.put(symbol, new Price(price, now));
+            if (previous == null || previous.usd != price) {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    private Set<String> symbolsToRefresh() {
+        final Instant expiredBefore = Instant.now().minusMillis(requestedSymbolExpiryMs);
+        requestedSymbols.entrySet().removeIf(requested -> requested.getValue().isBefore(expiredBefore));
+        final Set<String> symbols = new HashSet<>(requestedSymbols.keySet());
+        try {
+            final Set<String> whitelisted = tokenWhitelistSnapshotService.getTokens()
+                                                                         .stream()
+                                                                         .map(TokenInfoDto::getSymbol)
+                                                                         .filter(StringUtils::isNotBlank)
+                                                                         .map(String::toUpperCase)
+                                                                         .collect(Collectors.toSet());
+            symbols.addAll(whitelisted);
+            if (prices.keySet().retainAll(symbols)) {
+                version.incrementAndGet();
+            }
+        } catch (final Exception ex) {
+            log.debug("Unable to read the whitelisted token symbols", ex);
+            symbols.addAll(prices.keySet());
+        }
+        return symbols;
+    }
+
+    private static final class Price {
+        private final double usd;
+        private final Instant updatedAt;
+
+        private Price(final double usd, final Instant updatedAt) {
+            this.usd = usd;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
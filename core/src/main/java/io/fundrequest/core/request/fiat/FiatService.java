@@ -1,8 +1,5 @@
 package io.fundrequest.core.request.fiat;
 
-import io.fundrequest.common.infrastructure.exception.ResourceNotFoundException;
-import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
-import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
@@ -15,12 +12,10 @@ public class FiatService {
 
     private static final double DEFAULT_PRICE = 0.0;
 
-    private CryptoCompareService cryptoCompareService;
-    private CoinMarketCapService coinMarketCapService;
+    private FiatPriceFeed fiatPriceFeed;
 
-    public FiatService(CryptoCompareService cryptoCompareService, CoinMarketCapService coinMarketCapService) {
-        this.cryptoCompareService = cryptoCompareService;
-        this.coinMarketCapService = coinMarketCapService;
+    public FiatService(FiatPriceFeed fiatPriceFeed) {
+        this.fiatPriceFeed = fiatPriceFeed;
     }
 
     public double getUsdPrice(TokenValueDto... funds) {
@@ -38,13 +33,7 @@ public class FiatService {
     }
 
     private Double getCurrentPrice(TokenValueDto f) {
-        try {
-            return coinMarketCapService.getCurrentPriceInUsd(f.getTokenSymbol())
-                                       .orElseGet(() -> cryptoCompareService.getCurrentPriceInUsd(f.getTokenSymbol())
-                                                                            .orElseThrow(ResourceNotFoundException::new));
-        } catch (final Exception ex) {
-            return DEFAULT_PRICE;
-        }
+        return fiatPriceFeed.getUsdPrice(f.getTokenSymbol()).orElse(DEFAULT_PRICE);
     }
 
     private Double calculateResult(TokenValueDto tokenvalue, Double currentPrice) {
@@ -3,10 +3,10 @@ package io.fundrequest.core.request.fiat.coinmarketcap.service;
 import io.fundrequest.core.request.fiat.coinmarketcap.client.CoinMarketCapClient;
 import io.fundrequest.core.request.fiat.coinmarketcap.dto.listing.CmcListing;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -20,28 +20,27 @@ public class CoinMarketCapService {
         this.cacheManager = cacheManager;
     }
 
-    @Cacheable(value = "cmc_token_price", key = "#symbol")
     public Optional<Double> getCurrentPriceInUsd(final String symbol) {
-        return getListing(symbol)
-                .map(CmcListing::getId)
-                .map(id -> client.getTickerById(id))
-                .map(t -> t.getData().getQuotes().getUsd().getPrice());
+        return Optional.ofNullable(getSymbolIndex().get(symbol.toUpperCase()))
+                       .map(id -> client.getTickerById(id))
+                       .map(t -> t.getData().getQuotes().getUsd().getPrice());
     }
 
-    private Optional<CmcListing> getListing(String symbol) {
-        return getListings()
-                .stream()
-                .filter(l -> symbol.equalsIgnoreCase(l.getSymbol()))
-                .findFirst();
-    }
-
-
-    private List<CmcListing> getListings() {
-        List listings = cacheManager.getCache("cmc_listings").get("all", List.class);
-        if (listings == null) {
-            listings = client.getListings().getListings();
-            cacheManager.getCache("cmc_listings").put("all", listings);
+    /**
+     * Listing id per upper case symbol, the first listing wins when several listings share a symbol.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> getSymbolIndex() {
+        Map<String, Long> symbolIndex = cacheManager.getCache("cmc_listings").get("symbol-index", Map.class);
+        if (symbolIndex == null) {
+            symbolIndex = new HashMap<>();
+            for (final CmcListing listing : client.getListings().getListings()) {
+                if (listing.getSymbol() != null) {
+                    symbolIndex.putIfAbsent(listing.getSymbol().toUpperCase(), listing.getId());
+                }
+            }
+            cacheManager.getCache("cmc_listings").put("symbol-index", symbolIndex);
         }
-        return listings;
+        return symbolIndex;
     }
 }
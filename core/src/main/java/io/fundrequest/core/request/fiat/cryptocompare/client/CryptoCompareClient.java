@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.util.Map;
+
 @FeignClient(
         name = "cryptocompare-client",
         url = "https://min-api.cryptocompare.com"
@@ -15,4 +17,7 @@ public interface CryptoCompareClient {
     @RequestMapping(value = "/data/price?fsym={symbol}&tsyms=USD", method = RequestMethod.GET)
     PriceResultDto getPrice(final @PathVariable("symbol") String symbol);
 
+    @RequestMapping(value = "/data/pricemulti?fsyms={symbols}&tsyms=USD", method = RequestMethod.GET)
+    Map<String, PriceResultDto> getPrices(final @PathVariable("symbols") String symbols);
+
 }
@@ -1,9 +1,12 @@
 package io.fundrequest.core.request.fiat.cryptocompare.service;
 
 import io.fundrequest.core.request.fiat.cryptocompare.client.CryptoCompareClient;
-import org.springframework.cache.annotation.Cacheable;
+import io.fundrequest.core.request.fiat.cryptocompare.dto.PriceResultDto;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -15,9 +18,24 @@ public class CryptoCompareService {
         this.client = client;
     }
 
-    @Cacheable(value = "token_price", key = "#symbol")
     public Optional<Double> getCurrentPriceInUsd(final String symbol) {
         String price = client.getPrice(symbol).getUSD();
         return price == null ? Optional.empty() : Optional.of(Double.valueOf(price));
     }
+
+    /**
+     * Prices of all given symbols in one call, symbols without a price are left out.
+     */
+    public Map<String, Double> getCurrentPricesInUsd(final Collection<String> symbols) {
+        final Map<String, Double> prices = new HashMap<>();
+        final Map<String, PriceResultDto> result = client.getPrices(String.join(",", symbols));
+        if (result != null) {
+            result.forEach((symbol, price) -> {
+                if (price != null && price.getUSD() != null) {
+                    prices.put(symbol.toUpperCase(), Double.valueOf(price.getUSD()));
+                }
+            });
+        }
+        return prices;
+    }
 }
@@ -5,8 +5,9 @@ import io.fundrequest.core.request.fund.dto.FundDto;
 import io.fundrequest.core.request.fund.dto.FundsForRequestDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 public interface FundService {
     List<FundDto> findAll();
@@ -17,11 +18,11 @@ public interface FundService {
 
     List<TokenValueDto> getTotalFundsForRequest(Long requestId);
 
-    FundsForRequestDto getFundsForRequestGroupedByFunder(Long requestId);
+    Map<Long, List<TokenValueDto>> getTotalFundsForRequests(Collection<Long> requestIds);
 
-    void clearTotalFundsCache(Long requestId);
+    FundsForRequestDto getFundsForRequestGroupedByFunder(Long requestId);
 
     void addFunds(FundsAddedCommand command);
 
-    Optional<TokenValueDto> getFundsFor(Long requestId, String funderAddress, String tokenAddress);
+    List<TokenValueDto> getFundsFor(Long requestId, String funderAddress, Collection<String> tokenAddresses);
 }
@@ -2,10 +2,10 @@ package io.fundrequest.core.request.fund;
 
 import io.fundrequest.common.infrastructure.exception.ResourceNotFoundException;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.contract.service.ContractCallExecutor;
 import io.fundrequest.core.contract.service.FundRequestContractsService;
 import io.fundrequest.core.request.domain.IssueInformation;
 import io.fundrequest.core.request.domain.Request;
-import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.fiat.FiatService;
 import io.fundrequest.core.request.fund.command.FundsAddedCommand;
 import io.fundrequest.core.request.fund.domain.Fund;
@@ -20,13 +20,12 @@ import io.fundrequest.core.request.fund.event.RequestFundedEvent;
 import io.fundrequest.core.request.fund.infrastructure.FundRepository;
 import io.fundrequest.core.request.fund.infrastructure.PendingFundRepository;
 import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.core.token.mapper.TokenValueMapper;
 import io.fundrequest.core.token.model.TokenValue;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -34,13 +33,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.math.BigDecimal.ZERO;
@@ -54,13 +56,14 @@ class FundServiceImpl implements FundService {
     private final RequestRepository requestRepository;
     private final Mappers mappers;
     private final ApplicationEventPublisher eventPublisher;
-    private final CacheManager cacheManager;
     private final FundRequestContractsService fundRequestContractsService;
     private final FiatService fiatService;
     private final TokenValueMapper tokenValueMapper;
     private final FundFundsByFunderAggregator fundFundsByFunderAggregator;
     private final RefundFundsByFunderAggregator refundFundsByFunderAggregator;
     private final FundsAndRefundsAggregator fundsAndRefundsAggregator;
+    private final FundsLedgerService fundsLedgerService;
+    private final ContractCallExecutor contractCallExecutor;
 
     @Autowired
     public FundServiceImpl(final FundRepository fundRepository,
@@ -69,26 +72,28 @@ class FundServiceImpl implements FundService {
                            final RequestRepository requestRepository,
                            final Mappers mappers,
                            final ApplicationEventPublisher eventPublisher,
-                           final CacheManager cacheManager,
                            final FundRequestContractsService fundRequestContractsService,
                            final FiatService fiatService,
                            final TokenValueMapper tokenValueMapper,
                            final FundFundsByFunderAggregator fundFundsByFunderAggregator,
                            final RefundFundsByFunderAggregator refundFundsByFunderAggregator,
-                           final FundsAndRefundsAggregator fundsAndRefundsAggregator) {
+                           final FundsAndRefundsAggregator fundsAndRefundsAggregator,
+                           final FundsLedgerService fundsLedgerService,
+                           final ContractCallExecutor contractCallExecutor) {
         this.fundRepository = fundRepository;
         this.refundRepository = refundRepository;
         this.pendingFundRepository = pendingFundRepository;
         this.requestRepository = requestRepository;
         this.mappers = mappers;
         this.eventPublisher = eventPublisher;
-        this.cacheManager = cacheManager;
         this.fundRequestContractsService = fundRequestContractsService;
         this.fiatService = fiatService;
         this.tokenValueMapper = tokenValueMapper;
         this.fundFundsByFunderAggregator = fundFundsByFunderAggregator;
         this.refundFundsByFunderAggregator = refundFundsByFunderAggregator;
         this.fundsAndRefundsAggregator = fundsAndRefundsAggregator;
+        this.fundsLedgerService = fundsLedgerService;
+        this.contractCallExecutor = contractCallExecutor;
     }
 
     @Transactional(readOnly = true)
@@ -112,51 +117,25 @@ class FundServiceImpl implements FundService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "funds", key = "#requestId", unless = "#result.isEmpty()")
     public List<TokenValueDto> getTotalFundsForRequest(Long requestId) {
-
-        final Optional<Request> one = requestRepository.findOne(requestId);
-        if (one.isPresent()) {
-            try {
-                if (one.get().getStatus() == RequestStatus.CLAIMED) {
-                    return getFromClaimRepository(one.get());
-                } else {
-                    return getFromFundRepository(one.get());
-                }
-            } catch (final Exception ex) {
-                return Collections.emptyList();
-            }
-        } else {
-            return Collections.emptyList();
-        }
+        return requestRepository.findOne(requestId)
+                                .map(request -> toTokenValues(fundsLedgerService.getTotalFunds(request)))
+                                .orElse(Collections.emptyList());
     }
 
-    private List<TokenValueDto> getFromClaimRepository(final Request request) {
-        final Long tokenCount = fundRequestContractsService.claimRepository()
-                                                           .getTokenCount(request.getIssueInformation().getPlatform().name(),
-                                                                          request.getIssueInformation().getPlatformId());
-
-        return LongStream.range(0, tokenCount)
-                         .mapToObj(x -> fundRequestContractsService.claimRepository()
-                                                                   .getTokenByIndex(request.getIssueInformation().getPlatform().name(),
-                                                                                    request.getIssueInformation().getPlatformId(),
-                                                                                    x))
-                         .filter(Optional::isPresent)
-                         .map(Optional::get)
-                         .map(getTotalClaimFundDto(request)).collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<TokenValueDto>> getTotalFundsForRequests(final Collection<Long> requestIds) {
+        return fundsLedgerService.getTotalFunds(requestRepository.findAll(requestIds))
+                                 .entrySet()
+                                 .stream()
+                                 .collect(Collectors.toMap(Map.Entry::getKey, totalFunds -> toTokenValues(totalFunds.getValue())));
     }
 
-    private List<TokenValueDto> getFromFundRepository(final Request request) {
-        final Long fundedTokenCount = fundRequestContractsService.fundRepository()
-                                                                 .getFundedTokenCount(request.getIssueInformation().getPlatform().name(),
-                                                                                      request.getIssueInformation().getPlatformId());
-        return LongStream.range(0, fundedTokenCount)
-                         .mapToObj(x -> fundRequestContractsService.fundRepository()
-                                                                   .getFundedToken(request.getIssueInformation().getPlatform().name(),
-                                                                                   request.getIssueInformation().getPlatformId(),
-                                                                                   x)).filter(Optional::isPresent)
-                         .map(Optional::get)
-                         .map(getTotalFundDto(request)).collect(Collectors.toList());
+    private List<TokenValueDto> toTokenValues(final List<TokenAmountDto> tokenAmounts) {
+        return tokenAmounts.stream()
+                           .map(tokenAmount -> tokenValueMapper.map(tokenAmount.getTokenAddress(), tokenAmount.getTotalAmount()))
+                           .collect(Collectors.toList());
     }
 
     @Override
@@ -259,32 +238,6 @@ class FundServiceImpl implements FundService {
                     .reduce(ZERO, BigDecimal::add);
     }
 
-    @Override
-    @CacheEvict(value = "funds", key = "#requestId")
-    public void clearTotalFundsCache(Long requestId) {
-        // Intentionally blank
-    }
-
-    private Function<String, TokenValueDto> getTotalClaimFundDto(final Request request) {
-        return tokenAddress -> {
-            final BigDecimal rawBalance = new BigDecimal(fundRequestContractsService.claimRepository()
-                                                                                    .getAmountByToken(request.getIssueInformation().getPlatform().name(),
-                                                                                                      request.getIssueInformation().getPlatformId(),
-                                                                                                      tokenAddress));
-            return tokenValueMapper.map(tokenAddress, rawBalance);
-        };
-    }
-
-    private Function<String, TokenValueDto> getTotalFundDto(final Request request) {
-        return tokenAddress -> {
-            final BigDecimal rawBalance = new BigDecimal(fundRequestContractsService.fundRepository()
-                                                                                    .balance(request.getIssueInformation().getPlatform().name(),
-                                                                                             request.getIssueInformation().getPlatformId(),
-                                                                                             tokenAddress));
-            return tokenValueMapper.map(tokenAddress, rawBalance);
-        };
-    }
-
     @Override
     @Transactional
     public void addFunds(final FundsAddedCommand command) {
@@ -302,7 +255,7 @@ class FundServiceImpl implements FundService {
             fundBuilder.funderUserId(pendingFund.get().getUserId());
         }
         final Fund fund = fundRepository.saveAndFlush(fundBuilder.build());
-        cacheManager.getCache("funds").evict(fund.getRequestId());
+        fundsLedgerService.fundsAdded(fund.getRequestId(), command.getToken(), command.getAmountInWei());
 
         eventPublisher.publishEvent(RequestFundedEvent.builder()
                                                       .fundDto(mappers.map(Fund.class, FundDto.class, fund))
@@ -311,22 +264,32 @@ class FundServiceImpl implements FundService {
                                                       .build());
     }
 
+    /**
+     * Reads the amount funded for all given tokens concurrently, tokens that could not be read are left out.
+     */
     @Override
-    public Optional<TokenValueDto> getFundsFor(final Long requestId, final String funderAddress, final String tokenAddress) {
+    @Cacheable(value = "funded_amounts", key = "#requestId + '-' + #funderAddress + '-' + #tokenAddresses")
+    public List<TokenValueDto> getFundsFor(final Long requestId, final String funderAddress, final Collection<String> tokenAddresses) {
         return requestRepository.findOne(requestId)
                                 .map(request -> {
-                                    try {
-                                        final IssueInformation issueInformation = request.getIssueInformation();
-                                        final BigInteger amountFunded = fundRequestContractsService.fundRepository()
-                                                                                                   .amountFunded(issueInformation.getPlatform().name(),
-                                                                                                                 issueInformation.getPlatformId(),
-                                                                                                                 funderAddress,
-                                                                                                                 tokenAddress)
-                                                                                                   .send();
-                                        return tokenValueMapper.map(tokenAddress, new BigDecimal(amountFunded));
-                                    } catch (Exception e) {
-                                        return null;
-                                    }
-                                });
+                                    final IssueInformation issueInformation = request.getIssueInformation();
+                                    final Map<String, CompletableFuture<BigInteger>> amountsFunded = new LinkedHashMap<>();
+                                    tokenAddresses.forEach(tokenAddress -> amountsFunded.computeIfAbsent(tokenAddress, token -> amountFundedAsync(issueInformation, funderAddress, token)));
+                                    return amountsFunded.entrySet()
+                                                        .stream()
+                                                        .filter(amountFunded -> amountFunded.getValue().join() != null)
+                                                        .map(amountFunded -> tokenValueMapper.map(amountFunded.getKey(), new BigDecimal(amountFunded.getValue().join())))
+                                                        .collect(Collectors.toList());
+                                })
+                                .orElse(Collections.emptyList());
+    }
+
+    private CompletableFuture<BigInteger> amountFundedAsync(final IssueInformation issueInformation, final String funderAddress, final String tokenAddress) {
+        return contractCallExecutor.sendAsync(fundRequestContractsService.fundRepository()
+                                                                         .amountFunded(issueInformation.getPlatform().name(),
+                                                                                       issueInformation.getPlatformId(),
+                                                                                       funderAddress,
+                                                                                       tokenAddress))
+                                   .exceptionally(ex -> null);
     }
 }
@@ -0,0 +1,22 @@
+package io.fundrequest.core.request.fund;
+
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface FundsLedgerService {
+
+    void fundsAdded(Long requestId, String tokenAddress, BigDecimal amountInWei);
+
+    void fundsRefunded(Long requestId, String tokenAddress, BigDecimal amountInWei);
+
+    void fundsClaimed(Long requestId, String tokenAddress, BigDecimal amountInWei);
+
+    List<TokenAmountDto> getTotalFunds(Request request);
+
+    Map<Long, List<TokenAmountDto>> getTotalFunds(Collection<Request> requests);
+}
@@ -0,0 +1,101 @@
+package io.fundrequest.core.request.fund;
+
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.domain.FundsLedgerEntry;
+import io.fundrequest.core.request.fund.infrastructure.FundsLedgerRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.web3j.AddressUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+class FundsLedgerServiceImpl implements FundsLedgerService {
+
+    private final FundsLedgerRepository fundsLedgerRepository;
+    private final RequestRepository requestRepository;
+
+    public FundsLedgerServiceImpl(final FundsLedgerRepository fundsLedgerRepository, final RequestRepository requestRepository) {
+        this.fundsLedgerRepository = fundsLedgerRepository;
+        this.requestRepository = requestRepository;
+    }
+
+    @Override
+    @Transactional
+    public void fundsAdded(final Long requestId, final String tokenAddress, final BigDecimal amountInWei) {
+        update(requestId, tokenAddress, entry -> entry.fund(amountInWei));
+    }
+
+    @Override
+    @Transactional
+    public void fundsRefunded(final Long requestId, final String tokenAddress, final BigDecimal amountInWei) {
+        update(requestId, tokenAddress, entry -> entry.refund(amountInWei));
+    }
+
+    @Override
+    @Transactional
+    public void fundsClaimed(final Long requestId, final String tokenAddress, final BigDecimal amountInWei) {
+        update(requestId, tokenAddress, entry -> entry.claim(amountInWei));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TokenAmountDto> getTotalFunds(final Request request) {
+        return toTokenAmounts(request, fundsLedgerRepository.findAllByRequestId(request.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<TokenAmountDto>> getTotalFunds(final Collection<Request> requests) {
+        final Map<Long, List<FundsLedgerEntry>> entriesByRequest = fundsLedgerRepository.findAllByRequestIdIn(requests.stream().map(Request::getId).collect(Collectors.toList()))
+                                                                                        .stream()
+                                                                                        .collect(Collectors.groupingBy(FundsLedgerEntry::getRequestId));
+        return requests.stream()
+                       .collect(Collectors.toMap(Request::getId,
+                                                 request -> toTokenAmounts(request, entriesByRequest.getOrDefault(request.getId(), Collections.emptyList())),
+                                                 (first, second) -> first));
+    }
+
+    /**
+     * Token addresses are stored lowercase, since fund, refund and claim events each report them in their own casing.
+     * The entry is read with a row lock. When it does not exist yet, the request row is locked first and the lookup is
+     * repeated, so concurrent first events for the same token create the entry only once.
+     */
+    private void update(final Long requestId, final String tokenAddress, final Consumer<FundsLedgerEntry> mutation) {
+        final String normalizedTokenAddress = AddressUtils.prettify(tokenAddress).toLowerCase();
+        final FundsLedgerEntry entry = fundsLedgerRepository.findByRequestIdAndTokenAddress(requestId, normalizedTokenAddress)
+                                                            .orElseGet(() -> {
+                                                                requestRepository.lockById(requestId);
+                                                                return fundsLedgerRepository.findByRequestIdAndTokenAddress(requestId, normalizedTokenAddress)
+                                                                                            .orElseGet(() -> new FundsLedgerEntry(requestId, normalizedTokenAddress));
+                                                            });
+        mutation.accept(entry);
+        fundsLedgerRepository.save(entry);
+    }
+
+    private List<TokenAmountDto> toTokenAmounts(final Request request, final List<FundsLedgerEntry> entries) {
+        if (request.getStatus() == RequestStatus.CLAIMED) {
+            return entries.stream()
+                          .filter(entry -> entry.getClaimedInWei().signum() > 0)
+                          .map(toTokenAmount(FundsLedgerEntry::getClaimedInWei))
+                          .collect(Collectors.toList());
+        }
+        return entries.stream()
+                      .map(toTokenAmount(FundsLedgerEntry::getBalanceInWei))
+                      .collect(Collectors.toList());
+    }
+
+    private Function<FundsLedgerEntry, TokenAmountDto> toTokenAmount(final Function<FundsLedgerEntry, BigDecimal> amount) {
+        return entry -> new TokenAmountDto(entry.getTokenAddress(), amount.apply(entry));
+    }
+}
@@ -10,7 +10,6 @@ import io.fundrequest.core.request.fund.dto.RefundRequestDtoMapper;
 import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
 import io.fundrequest.core.request.fund.infrastructure.RefundRequestRepository;
 import io.fundrequest.core.token.model.TokenValue;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,18 +28,18 @@ public class RefundServiceImpl implements RefundService {
     private final RefundRequestRepository refundRequestRepository;
     private final RefundRepository refundRepository;
     private final RefundRequestDtoMapper refundRequestDtoMapper;
-    private final CacheManager cacheManager;
+    private final FundsLedgerService fundsLedgerService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public RefundServiceImpl(final RefundRequestRepository refundRequestRepository,
                              final RefundRepository refundRepository,
                              final RefundRequestDtoMapper refundRequestDtoMapper,
-                             final CacheManager cacheManager,
+                             final FundsLedgerService fundsLedgerService,
                              final ApplicationEventPublisher applicationEventPublisher) {
         this.refundRequestRepository = refundRequestRepository;
         this.refundRepository = refundRepository;
         this.refundRequestDtoMapper = refundRequestDtoMapper;
-        this.cacheManager = cacheManager;
+        this.fundsLedgerService = fundsLedgerService;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
@@ -87,7 +86,7 @@ public class RefundServiceImpl implements RefundService {
                                                           .build())
                                     .build();
         refundRepository.save(refund);
-        cacheManager.getCache ("funds").evict(command.getRequestId());
+        fundsLedgerService.fundsRefunded(refund.getRequestId(), refund.getTokenValue().getTokenAddress(), refund.getTokenValue().getAmountInWei());
         applicationEventPublisher.publishEvent(new RefundProcessedEvent(refund));
     }
 
@@ -0,0 +1,83 @@
+package io.fundrequest.core.request.fund.continuous;
+
+import io.fundrequest.core.contract.service.FundsContractReader;
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.FundsLedgerService;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the funds ledger with the amounts stored in the FundRepository and ClaimRepository contracts and reports
+ * every token for which they differ.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.funds-ledger-reconciler.enabled", havingValue = "true")
+public class FundsLedgerReconciler {
+
+    private final RequestRepository requestRepository;
+    private final FundsLedgerService fundsLedgerService;
+    private final FundsContractReader fundsContractReader;
+
+    public FundsLedgerReconciler(final RequestRepository requestRepository,
+                                 final FundsLedgerService fundsLedgerService,
+                                 final FundsContractReader fundsContractReader) {
+        this.requestRepository = requestRepository;
+        this.fundsLedgerService = fundsLedgerService;
+        this.fundsContractReader = fundsContractReader;
+    }
+
+    @Scheduled(fixedDelay = 3_600_000 /* 1 hour */)
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        final List<Request> requests = requestRepository.findAll();
+        final Map<Long, List<TokenAmountDto>> totalFunds = fundsLedgerService.getTotalFunds(requests);
+        requests.forEach(request -> {
+            try {
+                reconcile(request, totalFunds.get(request.getId()));
+            } catch (final Exception ex) {
+                log.error("Unable to reconcile funds ledger for request {}", request.getId(), ex);
+            }
+        });
+    }
+
+    private void reconcile(final Request request, final List<TokenAmountDto> ledgerAmounts) {
+        final IssueInformation issueInformation = request.getIssueInformation();
+        final Map<String, BigInteger> contractAmounts = request.getStatus() == RequestStatus.CLAIMED
+                                                        ? fundsContractReader.getClaimedTokenAmounts(issueInformation.getPlatform().name(), issueInformation.getPlatformId())
+                                                        : fundsContractReader.getFundedTokenBalances(issueInformation.getPlatform().name(), issueInformation.getPlatformId());
+        ledgerAmounts.forEach(ledgerAmount -> {
+            final BigDecimal contractAmount = contractAmounts.entrySet()
+                                                             .stream()
+                                                             .filter(entry -> entry.getKey().equalsIgnoreCase(ledgerAmount.getTokenAddress()))
+                                                             .map(entry -> new BigDecimal(entry.getValue()))
+                                                             .findFirst()
+                                                             .orElse(BigDecimal.ZERO);
+            if (contractAmount.compareTo(ledgerAmount.getTotalAmount()) != 0) {
+                log.warn("Funds ledger drift for request {} and token {}: ledger has {}, contract has {}",
+                         request.getId(),
+                         ledgerAmount.getTokenAddress(),
+                         ledgerAmount.getTotalAmount(),
+                         contractAmount);
+            }
+        });
+        contractAmounts.forEach((token, amount) -> {
+            final boolean inLedger = ledgerAmounts.stream().anyMatch(ledgerAmount -> ledgerAmount.getTokenAddress().equalsIgnoreCase(token));
+            if (!inLedger && amount.signum() != 0) {
+                log.warn("Funds ledger drift for request {} and token {}: ledger has no entry, contract has {}", request.getId(), token, amount);
+            }
+        });
+    }
+}
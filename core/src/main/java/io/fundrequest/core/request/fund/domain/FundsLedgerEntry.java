@@ -0,0 +1,66 @@
+package io.fundrequest.core.request.fund.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+
+/**
+ * Running per token totals of a request, kept in line with the fund, refund and claim events.
+ * The balance mirrors FundRepository.balance, the claimed amount mirrors ClaimRepository.getAmountByToken.
+ */
+@Table(name = "funds_ledger")
+@Entity
+@Getter
+public class FundsLedgerEntry extends AbstractEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "token_hash")
+    private String tokenAddress;
+
+    @Column(name = "balance_in_wei")
+    private BigDecimal balanceInWei;
+
+    @Column(name = "claimed_in_wei")
+    private BigDecimal claimedInWei;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    protected FundsLedgerEntry() {
+    }
+
+    public FundsLedgerEntry(final Long requestId, final String tokenAddress) {
+        this.requestId = requestId;
+        this.tokenAddress = tokenAddress;
+        this.balanceInWei = BigDecimal.ZERO;
+        this.claimedInWei = BigDecimal.ZERO;
+    }
+
+    public void fund(final BigDecimal amountInWei) {
+        balanceInWei = balanceInWei.add(amountInWei);
+    }
+
+    public void refund(final BigDecimal amountInWei) {
+        balanceInWei = balanceInWei.subtract(amountInWei);
+    }
+
+    public void claim(final BigDecimal amountInWei) {
+        balanceInWei = balanceInWei.subtract(amountInWei);
+        claimedInWei = claimedInWei.add(amountInWei);
+    }
+}
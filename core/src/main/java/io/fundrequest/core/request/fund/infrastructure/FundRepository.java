@@ -4,6 +4,7 @@ import io.fundrequest.core.infrastructure.repository.JpaRepository;
 import io.fundrequest.core.request.fund.domain.Fund;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FundRepository extends JpaRepository<Fund, Long> {
@@ -12,6 +13,15 @@ public interface FundRepository extends JpaRepository<Fund, Long> {
 
     List<Fund> findAllByRequestIdIn(List<Long> requestIds);
 
+    @Query("SELECT DISTINCT f.requestId FROM Fund f WHERE f.funderAddress = ?1")
+    List<Long> findRequestIdsFundedFrom(String funderAddress);
+
+    @Query("SELECT MAX(f.timestamp) FROM Fund f WHERE f.requestId = ?1")
+    LocalDateTime getLastFundedDate(Long requestId);
+
+    @Query("SELECT f.requestId, MAX(f.timestamp) FROM Fund f WHERE f.requestId IN ?1 GROUP BY f.requestId")
+    List<Object[]> getLastFundedDatePerRequest(List<Long> requestIds);
+
     @Query(""
            + "SELECT new io.fundrequest.core.request.fund.infrastructure.TokenAmountDto(f.tokenValue.tokenAddress, SUM(f.tokenValue.amountInWei)) "
            + "FROM Fund f, Request r "
@@ -0,0 +1,21 @@
+package io.fundrequest.core.request.fund.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.request.fund.domain.FundsLedgerEntry;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface FundsLedgerRepository extends JpaRepository<FundsLedgerEntry, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<FundsLedgerEntry> findByRequestIdAndTokenAddress(Long requestId, String tokenAddress);
+
+    List<FundsLedgerEntry> findAllByRequestId(Long requestId);
+
+    List<FundsLedgerEntry> findAllByRequestIdIn(Collection<Long> requestIds);
+}
@@ -5,24 +5,57 @@ import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestStatus;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface RequestRepository extends JpaRepository<Request, Long>, JpaSpecificationExecutor<Request> {
+
+    String SELECT_VERSION = "SELECT r.id, r.status, r.last_modified_date, "
+                            + "(SELECT COUNT(*) FROM request_watcher w WHERE w.request_id = r.id), "
+                            + "(SELECT COUNT(*) FROM request_watcher w WHERE w.request_id = r.id AND w.email = :user), "
+                            + "(SELECT COUNT(*) FROM funds_ledger l WHERE l.request_id = r.id), "
+                            + "(SELECT COALESCE(SUM(l.version), 0) FROM funds_ledger l WHERE l.request_id = r.id), "
+                            + "(SELECT COUNT(*) FROM refund_request rr WHERE rr.request_id = r.id), "
+                            + "(SELECT MAX(rr.last_modified_date) FROM refund_request rr WHERE rr.request_id = r.id), "
+                            + "(SELECT COUNT(*) FROM request_claim rc WHERE rc.request_id = r.id), "
+                            + "(SELECT MAX(rc.last_modified_date) FROM request_claim rc WHERE rc.request_id = r.id), "
+                            + "(SELECT COUNT(*) FROM claim c WHERE c.request_id = r.id) "
+                            + "FROM request r ";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Request r where r.id = ?1")
+    Optional<Request> lockById(Long id);
+
     @Query("SELECT r FROM Request r where r.issueInformation.platform = ?1 and r.issueInformation.platformId = ?2")
     Optional<Request> findByPlatformAndPlatformId(Platform platform, String platformId);
 
+    @Query("SELECT COUNT(r) FROM Request r where r.issueInformation.platform = ?1 and lower(r.issueInformation.platformId) = lower(?2)")
+    long countByPlatformAndPlatformIdIgnoreCase(Platform platform, String platformId);
+
     @Query("SELECT distinct r FROM Request r where ?1 member of r.watchers")
     List<Request> findRequestsUserIsWatching(String user);
 
-    @Query("SELECT distinct r FROM Request r, Fund f where f.requestId = r.id and (f.funderUserId = ?1 or f.funderAddress = lower(?2))")
-    List<Request> findRequestsUserHasFunded(String user, String userAddress);
+    @Query("SELECT r.id FROM Request r where ?1 member of r.watchers")
+    Set<Long> findIdsOfRequestsUserIsWatching(String user);
+
+    @Query("SELECT r.id FROM Request r ORDER BY r.id")
+    List<Long> findAllIds();
 
     List<Request> findByStatusIn(List<RequestStatus> status);
 
+    @Query(value = SELECT_VERSION + "WHERE r.id = :id", nativeQuery = true)
+    List<Object[]> getVersion(@Param("id") Long id, @Param("user") String user);
+
+    @Query(value = SELECT_VERSION + "WHERE r.platform = :platform AND r.platform_id = :platformId", nativeQuery = true)
+    List<Object[]> getVersion(@Param("platform") String platform, @Param("platformId") String platformId, @Param("user") String user);
+
     @Query(value = "SELECT DISTINCT technology FROM request_technology", nativeQuery = true)
     Set<String> findAllTechnologies();
 
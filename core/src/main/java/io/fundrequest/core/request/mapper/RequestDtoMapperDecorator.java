@@ -15,7 +15,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.Authentication;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -43,6 +45,14 @@ public abstract class RequestDtoMapperDecorator implements RequestDtoMapper {
         return map(request, fundService.getTotalFundsForRequest(request.getId()));
     }
 
+    @Override
+    public List<RequestDto> mapToList(final Collection<? extends Request> requests) {
+        final Map<Long, List<TokenValueDto>> totalFunds = fundService.getTotalFundsForRequests(requests.stream().map(Request::getId).collect(Collectors.toList()));
+        return requests.stream()
+                       .map(request -> map(request, totalFunds.get(request.getId())))
+                       .collect(Collectors.toList());
+    }
+
     private RequestDto map(Request request, List<TokenValueDto> totalFunds) {
         RequestDto result = delegate.map(request);
         Optional<Authentication> currentAuth = securityContextService.getLoggedInUser();
@@ -0,0 +1,14 @@
+package io.fundrequest.core.request.search;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class RequestSearchHits {
+    private final List<Long> requestIds;
+    private final int total;
+    private final Map<String, Long> projects;
+    private final Map<String, Long> technologies;
+}
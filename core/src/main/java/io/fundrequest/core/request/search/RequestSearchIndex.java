@@ -0,0 +1,250 @@
+package io.fundrequest.core.request.search;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In memory inverted index over the request summaries. Title, owner, repo, issue number, technologies and status are
+ * split into lower case terms, every term of a query has to match (as a prefix) for a request to be a hit. Changes made
+ * within a transaction are only applied to the index once it commits.
+ * <p>
+ * Next to the terms, a bitmap of request ids is kept per project and per technology, so project and technology filters
+ * of a search are evaluated as bitmap unions and intersections whatever the number of technologies asked for. The index
+ * is only up to date in the application that makes the changes, so it serves the interactive search and nothing else.
+ */
+@Component
+@Slf4j
+public class RequestSearchIndex {
+
+    private static final Comparator<Document> MOST_RECENT_FIRST = Comparator.comparing((Document document) -> document.lastModifiedDate,
+                                                                                       Comparator.nullsLast(Comparator.reverseOrder()))
+                                                                             .thenComparing(document -> document.requestId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<String, BitSet> projectBitmaps = new HashMap<>();
+    private final Map<String, BitSet> technologyBitmaps = new HashMap<>();
+
+    public void index(final RequestSummary summary) {
+        final Document document = new Document(summary);
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void indexAll(final Collection<RequestSummary> summaries) {
+        final List<Document> newDocuments = summaries.stream().map(Document::new).collect(Collectors.toList());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                projectBitmaps.clear();
+                technologyBitmaps.clear();
+                newDocuments.forEach(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Request search index built for {} requests", newDocuments.size());
+        });
+    }
+
+    public RequestSearchHits search(final RequestSearchQuery query) {
+        final Set<String> projects = lowerCase(query.getProjects());
+        final Set<String> technologies = lowerCase(query.getTechnologies());
+        lock.readLock().lock();
+        try {
+            final List<Document> matches = match(tokenize(query.getText())).stream()
+                                                                           .map(documents::get)
+                                                                           .filter(document -> query.getPhase() == null || query.getPhase() == document.phase)
+                                                                           .collect(Collectors.toList());
+            final BitSet filter = filter(projects, technologies);
+            final List<Document> hits = matches.stream()
+                                               .filter(document -> filter == null || filter.get(bit(document.requestId)))
+                                               .sorted(MOST_RECENT_FIRST)
+                                               .collect(Collectors.toList());
+            return new RequestSearchHits(hits.stream().limit(query.getSize()).map(document -> document.requestId).collect(Collectors.toList()),
+                                         hits.size(),
+                                         facet(matches.stream().map(document -> document.project)),
+                                         facet(matches.stream().flatMap(document -> document.technologies.stream())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet filter(final Set<String> projects, final Set<String> technologies) {
+        BitSet result = null;
+        if (!projects.isEmpty()) {
+            result = new BitSet();
+            for (final String project : projects) {
+                result.or(projectBitmaps.getOrDefault(project, new BitSet()));
+            }
+        }
+        for (final String technology : technologies) {
+            final BitSet technologyBitmap = technologyBitmaps.getOrDefault(technology, new BitSet());
+            if (result == null) {
+                result = (BitSet) technologyBitmap.clone();
+            } else {
+                result.and(technologyBitmap);
+            }
+        }
+        return result;
+    }
+
+    private Set<Long> match(final Set<String> terms) {
+        if (terms.isEmpty()) {
+            return new HashSet<>(documents.keySet());
+        }
+        Set<Long> result = null;
+        for (final String term : terms) {
+            final Set<Long> termMatches = new HashSet<>();
+            postings.subMap(term, true, term + Character.MAX_VALUE, true).values().forEach(termMatches::addAll);
+            if (result == null) {
+                result = termMatches;
+            } else {
+                result.retainAll(termMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void add(final Document document) {
+        remove(document.requestId);
+        documents.put(document.requestId, document);
+        document.terms.forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.requestId));
+        projectBitmaps.computeIfAbsent(document.lowerCaseProject, p -> new BitSet()).set(bit(document.requestId));
+        document.lowerCaseTechnologies.forEach(technology -> technologyBitmaps.computeIfAbsent(technology, t -> new BitSet()).set(bit(document.requestId)));
+    }
+
+    private void remove(final Long requestId) {
+        final Document existing = documents.remove(requestId);
+        if (existing != null) {
+            existing.terms.forEach(term -> {
+                final Set<Long> requestIds = postings.get(term);
+                requestIds.remove(requestId);
+                if (requestIds.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+            clear(projectBitmaps, existing.lowerCaseProject, requestId);
+            existing.lowerCaseTechnologies.forEach(technology -> clear(technologyBitmaps, technology, requestId));
+        }
+    }
+
+    private static void clear(final Map<String, BitSet> bitmaps, final String key, final Long requestId) {
+        final BitSet bitmap = bitmaps.get(key);
+        bitmap.clear(bit(requestId));
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private static int bit(final Long requestId) {
+        return Math.toIntExact(requestId);
+    }
+
+    private static Map<String, Long> facet(final Stream<String> values) {
+        return values.filter(Objects::nonNull)
+                     .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                     .entrySet()
+                     .stream()
+                     .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static Set<String> lowerCase(final Collection<String> values) {
+        return values == null ? Collections.emptySet() : values.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    static Set<String> tokenize(final String... texts) {
+        return Arrays.stream(texts)
+                     .filter(Objects::nonNull)
+                     .flatMap(text -> Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")))
+                     .filter(term -> !term.isEmpty())
+                     .collect(Collectors.toSet());
+    }
+
+    private static void afterCommit(final Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    private static final class Document {
+        private final Long requestId;
+        private final String project;
+        private final String lowerCaseProject;
+        private final Set<String> technologies;
+        private final Set<String> lowerCaseTechnologies;
+        private final RequestPhase phase;
+        private final LocalDateTime lastModifiedDate;
+        private final Set<String> terms;
+
+        private Document(final RequestSummary summary) {
+            this.requestId = summary.getRequestId();
+            this.project = summary.getOwner() == null ? "" : summary.getOwner();
+            this.lowerCaseProject = project.toLowerCase(Locale.ROOT);
+            this.technologies = summary.getTechnologies();
+            this.lowerCaseTechnologies = lowerCase(technologies);
+            this.phase = summary.getPhase();
+            this.lastModifiedDate = summary.getLastModifiedDate();
+            this.terms = tokenize(summary.getTitle(),
+                                  summary.getOwner(),
+                                  summary.getRepo(),
+                                  summary.getIssueNumber(),
+                                  String.join(" ", technologies),
+                                  summary.getStatus() == null ? null : summary.getStatus().name());
+        }
+    }
+}
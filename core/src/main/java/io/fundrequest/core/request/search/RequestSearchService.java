@@ -0,0 +1,9 @@
+package io.fundrequest.core.request.search;
+
+import io.fundrequest.core.request.dto.RequestSearchDto;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+
+public interface RequestSearchService {
+
+    RequestSearchDto search(RequestSearchQuery query);
+}
@@ -0,0 +1,53 @@
+package io.fundrequest.core.request.search;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.request.dto.RequestSearchDto;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.request.view.RequestDto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+class RequestSearchServiceImpl implements RequestSearchService {
+
+    private final RequestSearchIndex requestSearchIndex;
+    private final RequestSummaryRepository requestSummaryRepository;
+    private final Mappers mappers;
+
+    public RequestSearchServiceImpl(final RequestSearchIndex requestSearchIndex, final RequestSummaryRepository requestSummaryRepository, final Mappers mappers) {
+        this.requestSearchIndex = requestSearchIndex;
+        this.requestSummaryRepository = requestSummaryRepository;
+        this.mappers = mappers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RequestSearchDto search(final RequestSearchQuery query) {
+        final RequestSearchHits hits = requestSearchIndex.search(query);
+        final Map<Long, RequestSummary> summaries = requestSummaryRepository.findAll(hits.getRequestIds())
+                                                                            .stream()
+                                                                            .collect(Collectors.toMap(RequestSummary::getRequestId, Function.identity()));
+        final List<RequestSummary> ordered = hits.getRequestIds()
+                                                 .stream()
+                                                 .map(summaries::get)
+                                                 .filter(Objects::nonNull)
+                                                 .collect(Collectors.toList());
+        return new RequestSearchDto(mappers.mapList(RequestSummary.class, RequestDto.class, ordered), hits.getTotal(), hits.getProjects(), hits.getTechnologies());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        requestSearchIndex.indexAll(requestSummaryRepository.findAll());
+    }
+}
@@ -1,21 +1,29 @@
 package io.fundrequest.core.request.statistics;
 
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
 import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.FundsLedgerService;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
 import io.fundrequest.core.request.fund.event.RequestFundedEvent;
-import io.fundrequest.core.request.fund.infrastructure.FundRepository;
 import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.statistics.StatisticsStore.Contribution;
 import io.fundrequest.core.request.statistics.dto.StatisticsDto;
 import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
-import org.springframework.cache.CacheManager;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -26,33 +34,50 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
 @Service
+@Slf4j
 class StatisticsServiceImpl implements StatisticsService {
 
-    private FundRepository fundRepository;
+    private RequestRepository requestRepository;
+    private FundsLedgerService fundsLedgerService;
+    private StatisticsStore statisticsStore;
     private TokenInfoService tokenInfoService;
     private FiatService fiatService;
-    private CacheManager cacheManager;
+    private DerivedViewRefresher derivedViewRefresher;
 
-    public StatisticsServiceImpl(FundRepository fundRepository,
+    public StatisticsServiceImpl(RequestRepository requestRepository,
+                                 FundsLedgerService fundsLedgerService,
+                                 StatisticsStore statisticsStore,
                                  TokenInfoService tokenInfoService,
-                                 FiatService fiatService, CacheManager cacheManager) {
-        this.fundRepository = fundRepository;
+                                 FiatService fiatService,
+                                 DerivedViewRefresher derivedViewRefresher) {
+        this.requestRepository = requestRepository;
+        this.fundsLedgerService = fundsLedgerService;
+        this.statisticsStore = statisticsStore;
         this.tokenInfoService = tokenInfoService;
         this.fiatService = fiatService;
-        this.cacheManager = cacheManager;
+        this.derivedViewRefresher = derivedViewRefresher;
+        derivedViewRefresher.register("statistics", "all", this::computeStatistics);
     }
 
     @Transactional(readOnly = true)
     @Override
     @Cacheable(value = "statistics", key = "'all'")
     public StatisticsDto getStatistics() {
-        double totalAvailableFunding = fundRepository.getAmountPerTokenWhereRequestHasStatusFunded()
-                                                     .stream()
-                                                     .mapToDouble(this::mapToUsd)
-                                                     .sum();
+        return computeStatistics();
+    }
+
+    private StatisticsDto computeStatistics() {
+        if (!statisticsStore.isInitialized()) {
+            rebuild();
+        }
+        double totalAvailableFunding = statisticsStore.getAmountPerToken()
+                                                      .entrySet()
+                                                      .stream()
+                                                      .mapToDouble(this::mapToUsd)
+                                                      .sum();
 
-        String mostFundedProject = getMostFunded(fundRepository.getAmountPerTokenPerProjectWhereRequestHasStatusFunded());
-        String mostFundedTechnology = getMostFunded(fundRepository.getAmountPerTokenPerTechnologyWhereRequestHasStatusFunded());
+        String mostFundedProject = getMostFunded(statisticsStore.getAmountPerTokenPerProject());
+        String mostFundedTechnology = getMostFunded(statisticsStore.getAmountPerTokenPerTechnology());
         return StatisticsDto.builder()
                             .totalAvailableFunding(totalAvailableFunding)
                             .mostFundedProject(mostFundedProject)
@@ -60,40 +85,76 @@ class StatisticsServiceImpl implements StatisticsService {
                             .build();
     }
 
-    private String getMostFunded(List<Object[]> objects) {
-        return objects
+    private String getMostFunded(Map<String, Map<String, BigDecimal>> amountPerTokenPerKey) {
+        return amountPerTokenPerKey
+                .entrySet()
                 .stream()
-                .collect(Collectors.groupingBy(o -> (String) o[0],
-                                               Collectors.reducing(0.0,
-                                                                   o -> mapToUsd(new TokenAmountDto((String) o[1], (BigDecimal) o[2])),
-                                                                   (a, b) -> a + b)
-                                              )
-                        )
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                                          e -> e.getValue().entrySet().stream().mapToDouble(this::mapToUsd).sum()))
                 .entrySet().stream().max(Comparator.comparing(Map.Entry::getValue))
                 .map(Map.Entry::getKey).orElse("");
     }
 
+    /**
+     * Recomputes the statistics store from the funds ledger of all funded requests, the changes of request status that
+     * are not announced by a fund, claim or refund event are picked up here.
+     */
+    @Scheduled(fixedDelay = 3_600_000 /* 1 hour */)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        final List<Request> requests = requestRepository.findByStatusIn(Collections.singletonList(RequestStatus.FUNDED));
+        final Map<Long, List<TokenAmountDto>> totalFunds = fundsLedgerService.getTotalFunds(requests);
+        final Map<Long, Contribution> contributions = requests.stream()
+                                                              .collect(Collectors.toMap(Request::getId,
+                                                                                        request -> toContribution(request, totalFunds.get(request.getId()))));
+        if (statisticsStore.rebuild(contributions)) {
+            log.warn("Statistics store drifted from the funds ledger and has been rebuilt");
+            derivedViewRefresher.markDirty("statistics");
+        }
+    }
+
     @TransactionalEventListener(phase = AFTER_COMMIT)
     @Transactional(propagation = REQUIRES_NEW, readOnly = true)
     public void onFunded(RequestFundedEvent fundedEvent) {
-        refreshCache();
+        update(fundedEvent.getRequestId());
     }
 
     @TransactionalEventListener(phase = AFTER_COMMIT)
     @Transactional(propagation = REQUIRES_NEW, readOnly = true)
     public void onClaimed(RequestClaimedEvent claimedEvent) {
-        refreshCache();
+        update(claimedEvent.getRequestDto().getId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    @Transactional(propagation = REQUIRES_NEW, readOnly = true)
+    public void onRefunded(RefundProcessedEvent refundProcessedEvent) {
+        update(refundProcessedEvent.getRefund().getRequestId());
+    }
+
+    private void update(Long requestId) {
+        if (statisticsStore.isInitialized()) {
+            requestRepository.findOne(requestId)
+                             .ifPresent(request -> statisticsStore.update(requestId, toContribution(request, fundsLedgerService.getTotalFunds(request))));
+        }
+        derivedViewRefresher.markDirty("statistics");
     }
 
-    private void refreshCache() {
-        cacheManager.getCache("statistics").put("all", getStatistics());
+    private Contribution toContribution(Request request, List<TokenAmountDto> totalFunds) {
+        if (request.getStatus() != RequestStatus.FUNDED || totalFunds == null) {
+            return Contribution.none();
+        }
+        return new Contribution(request.getIssueInformation().getOwner(),
+                                request.getTechnologies(),
+                                totalFunds.stream()
+                                          .filter(tokenAmount -> tokenAmount.getTotalAmount().signum() != 0)
+                                          .collect(Collectors.toMap(TokenAmountDto::getTokenAddress, TokenAmountDto::getTotalAmount, BigDecimal::add)));
     }
 
-    private double mapToUsd(TokenAmountDto f) {
-        TokenInfoDto tokenInfo = tokenInfoService.getTokenInfo(f.getTokenAddress());
+    private double mapToUsd(Map.Entry<String, BigDecimal> amountPerToken) {
+        TokenInfoDto tokenInfo = tokenInfoService.getTokenInfo(amountPerToken.getKey());
         TokenValueDto dto = TokenValueDto.builder()
-                                         .totalAmount(fromWei(f.getTotalAmount(), tokenInfo.getDecimals()))
-                                         .tokenAddress(f.getTokenAddress())
+                                         .totalAmount(fromWei(amountPerToken.getValue(), tokenInfo.getDecimals()))
+                                         .tokenAddress(amountPerToken.getKey())
                                          .tokenSymbol(tokenInfo.getSymbol())
                                          .build();
         return fiatService.getUsdPrice(dto);
@@ -0,0 +1,125 @@
+package io.fundrequest.core.request.statistics;
+
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+/**
+ * Wei sums of the funded requests per token, per project and per technology. Every request contributes its ledger
+ * balance while it is funded, replacing the contribution of a request applies the difference to the sums.
+ */
+@Component
+class StatisticsStore {
+
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Map<String, BigDecimal> amountPerToken = new HashMap<>();
+    private final Map<String, Map<String, BigDecimal>> amountPerTokenPerProject = new HashMap<>();
+    private final Map<String, Map<String, BigDecimal>> amountPerTokenPerTechnology = new HashMap<>();
+    private boolean initialized;
+
+    synchronized boolean isInitialized() {
+        return initialized;
+    }
+
+    synchronized void update(final Long requestId, final Contribution contribution) {
+        final Contribution previous = contribution.getAmountPerToken().isEmpty()
+                                      ? contributions.remove(requestId)
+                                      : contributions.put(requestId, contribution);
+        if (previous != null) {
+            apply(previous, BigDecimal::subtract);
+        }
+        apply(contribution, BigDecimal::add);
+    }
+
+    /**
+     * Replaces all contributions and recomputes the sums from scratch.
+     *
+     * @return whether the recomputed sums differ from the incrementally maintained ones
+     */
+    synchronized boolean rebuild(final Map<Long, Contribution> allContributions) {
+        final Map<String, BigDecimal> previousAmountPerToken = normalize(amountPerToken);
+        final Map<String, Map<String, BigDecimal>> previousAmountPerTokenPerProject = normalizeAll(amountPerTokenPerProject);
+        final Map<String, Map<String, BigDecimal>> previousAmountPerTokenPerTechnology = normalizeAll(amountPerTokenPerTechnology);
+        contributions.clear();
+        amountPerToken.clear();
+        amountPerTokenPerProject.clear();
+        amountPerTokenPerTechnology.clear();
+        allContributions.forEach(this::update);
+        final boolean drifted = initialized && (!previousAmountPerToken.equals(normalize(amountPerToken))
+                                                || !previousAmountPerTokenPerProject.equals(normalizeAll(amountPerTokenPerProject))
+                                                || !previousAmountPerTokenPerTechnology.equals(normalizeAll(amountPerTokenPerTechnology)));
+        initialized = true;
+        return drifted;
+    }
+
+    synchronized Map<String, BigDecimal> getAmountPerToken() {
+        return new HashMap<>(amountPerToken);
+    }
+
+    synchronized Map<String, Map<String, BigDecimal>> getAmountPerTokenPerProject() {
+        return copy(amountPerTokenPerProject);
+    }
+
+    synchronized Map<String, Map<String, BigDecimal>> getAmountPerTokenPerTechnology() {
+        return copy(amountPerTokenPerTechnology);
+    }
+
+    private void apply(final Contribution contribution, final BinaryOperator<BigDecimal> operation) {
+        contribution.getAmountPerToken().forEach((token, amount) -> {
+            apply(amountPerToken, token, amount, operation);
+            apply(amountPerTokenPerProject.computeIfAbsent(contribution.getProject(), project -> new HashMap<>()), token, amount, operation);
+            contribution.getTechnologies()
+                        .forEach(technology -> apply(amountPerTokenPerTechnology.computeIfAbsent(technology, t -> new HashMap<>()), token, amount, operation));
+        });
+        removeEmpty(amountPerTokenPerProject);
+        removeEmpty(amountPerTokenPerTechnology);
+    }
+
+    private static void apply(final Map<String, BigDecimal> amounts, final String token, final BigDecimal amount, final BinaryOperator<BigDecimal> operation) {
+        final BigDecimal result = operation.apply(amounts.getOrDefault(token, BigDecimal.ZERO), amount);
+        if (result.signum() == 0) {
+            amounts.remove(token);
+        } else {
+            amounts.put(token, result);
+        }
+    }
+
+    private static void removeEmpty(final Map<String, Map<String, BigDecimal>> amounts) {
+        amounts.values().removeIf(Map::isEmpty);
+    }
+
+    private static Map<String, BigDecimal> normalize(final Map<String, BigDecimal> amounts) {
+        final Map<String, BigDecimal> normalized = new HashMap<>();
+        amounts.forEach((token, amount) -> normalized.put(token, amount.stripTrailingZeros()));
+        return normalized;
+    }
+
+    private static Map<String, Map<String, BigDecimal>> normalizeAll(final Map<String, Map<String, BigDecimal>> amounts) {
+        final Map<String, Map<String, BigDecimal>> normalized = new HashMap<>();
+        amounts.forEach((key, value) -> normalized.put(key, normalize(value)));
+        return normalized;
+    }
+
+    private static Map<String, Map<String, BigDecimal>> copy(final Map<String, Map<String, BigDecimal>> amounts) {
+        final Map<String, Map<String, BigDecimal>> copy = new HashMap<>();
+        amounts.forEach((key, value) -> copy.put(key, new HashMap<>(value)));
+        return copy;
+    }
+
+    @Value
+    static class Contribution {
+        private final String project;
+        private final Set<String> technologies;
+        private final Map<String, BigDecimal> amountPerToken;
+
+        static Contribution none() {
+            return new Contribution(null, Collections.emptySet(), Collections.emptyMap());
+        }
+    }
+}
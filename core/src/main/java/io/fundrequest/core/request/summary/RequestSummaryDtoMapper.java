@@ -0,0 +1,88 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.BaseMapper;
+import io.fundrequest.core.infrastructure.SecurityContextService;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.view.AllFundsDto;
+import io.fundrequest.core.request.view.IssueInformationDto;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps a request summary to the RequestDto the list pages use. The requests the logged in user is watching are read
+ * once per list instead of loading the watchers of every request.
+ */
+@Component
+public class RequestSummaryDtoMapper implements BaseMapper<RequestSummary, RequestDto> {
+
+    private final RequestRepository requestRepository;
+    private final SecurityContextService securityContextService;
+
+    public RequestSummaryDtoMapper(final RequestRepository requestRepository, final SecurityContextService securityContextService) {
+        this.requestRepository = requestRepository;
+        this.securityContextService = securityContextService;
+    }
+
+    @Override
+    public RequestDto map(final RequestSummary summary) {
+        return summary == null ? null : map(summary, getWatchedRequestIds());
+    }
+
+    @Override
+    public List<RequestDto> mapToList(final Collection<? extends RequestSummary> summaries) {
+        final Set<Long> watchedRequestIds = summaries.isEmpty() ? Collections.emptySet() : getWatchedRequestIds();
+        return summaries.stream()
+                        .map(summary -> map(summary, watchedRequestIds))
+                        .collect(Collectors.toList());
+    }
+
+    private Set<Long> getWatchedRequestIds() {
+        return securityContextService.getLoggedInUser()
+                                     .map(Authentication::getName)
+                                     .map(requestRepository::findIdsOfRequestsUserIsWatching)
+                                     .orElse(Collections.emptySet());
+    }
+
+    private RequestDto map(final RequestSummary summary, final Set<Long> watchedRequestIds) {
+        final IssueInformationDto issueInformation = new IssueInformationDto();
+        issueInformation.setOwner(summary.getOwner());
+        issueInformation.setRepo(summary.getRepo());
+        issueInformation.setNumber(summary.getIssueNumber());
+        issueInformation.setTitle(summary.getTitle());
+        issueInformation.setPlatform(summary.getPlatform());
+        issueInformation.setPlatformId(summary.getPlatformId());
+
+        final RequestDto result = new RequestDto();
+        result.setId(summary.getRequestId());
+        result.setStatus(summary.getStatus());
+        result.setIssueInformation(issueInformation);
+        result.setTechnologies(new HashSet<>(summary.getTechnologies()));
+        result.setLoggedInUserIsWatcher(watchedRequestIds.contains(summary.getRequestId()));
+        result.setFunds(AllFundsDto.builder()
+                                   .fndFunds(summary.getFunds().stream().filter(f -> "FND".equalsIgnoreCase(f.getTokenSymbol())).findFirst().map(this::copy).orElse(null))
+                                   .otherFunds(summary.getFunds().stream().filter(f -> !"FND".equalsIgnoreCase(f.getTokenSymbol())).findFirst().map(this::copy).orElse(null))
+                                   .usdFunds(summary.getUsdValue().doubleValue())
+                                   .build());
+        result.setCreationDate(summary.getCreationDate());
+        result.setLastModifiedDate(summary.getLastModifiedDate());
+        return result;
+    }
+
+    private TokenValueDto copy(final TokenValueDto tokenValue) {
+        return TokenValueDto.builder()
+                            .tokenAddress(tokenValue.getTokenAddress())
+                            .tokenSymbol(tokenValue.getTokenSymbol())
+                            .totalAmount(tokenValue.getTotalAmount())
+                            .build();
+    }
+}
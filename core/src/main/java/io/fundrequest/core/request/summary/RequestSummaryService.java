@@ -0,0 +1,24 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.dto.RequestPageDto;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.view.RequestDto;
+
+import java.util.List;
+import java.util.Map;
+
+public interface RequestSummaryService {
+
+    RequestPageDto findPage(RequestPageQuery query);
+
+    List<RequestDto> findAll(List<Long> requestIds);
+
+    List<RequestDto> findAllFor(List<String> projects, List<String> technologies, Long lastUpdatedSinceDays);
+
+    Map<RequestPhase, Map<String, Long>> countPerPhaseAndProject();
+
+    void refresh(Long requestId);
+
+    void rebuild();
+}
@@ -0,0 +1,233 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
+import io.fundrequest.core.request.claim.event.ClaimRequestedEvent;
+import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageDto;
+import io.fundrequest.core.request.dto.RequestPageOrder;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.FundsLedgerService;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.search.RequestSearchIndex;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestPageSpecification;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummarySpecification;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
+
+/**
+ * Maintains the request_summary read model. A summary is refreshed in the transaction that changed its request or
+ * funds, and the whole table is regenerated every hour to pick up price changes and anything that slipped through.
+ * The search index follows every summary that is written, the request counts are recomputed when a phase changes.
+ * <p>
+ * A refresh locks its summary row. The rebuild works in chunks of short transactions and relies on the summary version,
+ * so a chunk that raced a refresh is read again instead of writing back what it read before the refresh.
+ */
+@Service
+@Slf4j
+class RequestSummaryServiceImpl implements RequestSummaryService {
+
+    private static final Sort RECENTLY_MODIFIED_FIRST = new Sort(Sort.Direction.DESC, "lastModifiedDate", "requestId");
+    private static final Sort MOST_FUNDED_FIRST = new Sort(Sort.Direction.DESC, "usdValue", "requestId");
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final RequestSummaryRepository requestSummaryRepository;
+    private final RequestRepository requestRepository;
+    private final FundsLedgerService fundsLedgerService;
+    private final FundRepository fundRepository;
+    private final TokenValueMapper tokenValueMapper;
+    private final FiatService fiatService;
+    private final Mappers mappers;
+    private final RequestSearchIndex requestSearchIndex;
+    private final DerivedViewRefresher derivedViewRefresher;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public RequestSummaryServiceImpl(final RequestSummaryRepository requestSummaryRepository,
+                                     final RequestRepository requestRepository,
+                                     final FundsLedgerService fundsLedgerService,
+                                     final FundRepository fundRepository,
+                                     final TokenValueMapper tokenValueMapper,
+                                     final FiatService fiatService,
+                                     final Mappers mappers,
+                                     final RequestSearchIndex requestSearchIndex,
+                                     final DerivedViewRefresher derivedViewRefresher,
+                                     final PlatformTransactionManager transactionManager) {
+        this.requestSummaryRepository = requestSummaryRepository;
+        this.requestRepository = requestRepository;
+        this.fundsLedgerService = fundsLedgerService;
+        this.fundRepository = fundRepository;
+        this.tokenValueMapper = tokenValueMapper;
+        this.fiatService = fiatService;
+        this.mappers = mappers;
+        this.requestSearchIndex = requestSearchIndex;
+        this.derivedViewRefresher = derivedViewRefresher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        derivedViewRefresher.register("request_counts", "all", this::computeCountPerPhaseAndProject);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RequestPageDto findPage(final RequestPageQuery query) {
+        final Sort sort = query.getOrder() == RequestPageOrder.MOST_FUNDED ? MOST_FUNDED_FIRST : RECENTLY_MODIFIED_FIRST;
+        final List<RequestSummary> summaries = requestSummaryRepository.findAll(new RequestPageSpecification(query), sort, query.getSize() + 1);
+        final List<RequestSummary> page = summaries.subList(0, Math.min(query.getSize(), summaries.size()));
+        return new RequestPageDto(mappers.mapList(RequestSummary.class, RequestDto.class, page),
+                                  summaries.size() > page.size() ? RequestCursor.of(page.get(page.size() - 1)) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestDto> findAll(final List<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return mappers.mapList(RequestSummary.class, RequestDto.class, requestSummaryRepository.findAll(requestIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestDto> findAllFor(final List<String> projects, final List<String> technologies, final Long lastUpdatedSinceDays) {
+        final RequestSummarySpecification specification = new RequestSummarySpecification(projects, technologies, lastUpdatedSinceDays);
+        return mappers.mapList(RequestSummary.class, RequestDto.class, requestSummaryRepository.findAll(specification));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "request_counts", key = "'all'")
+    public Map<RequestPhase, Map<String, Long>> countPerPhaseAndProject() {
+        return computeCountPerPhaseAndProject();
+    }
+
+    private Map<RequestPhase, Map<String, Long>> computeCountPerPhaseAndProject() {
+        final Map<RequestPhase, Map<String, Long>> counts = new EnumMap<>(RequestPhase.class);
+        requestSummaryRepository.countPerPhaseAndOwner()
+                                .forEach(row -> counts.computeIfAbsent((RequestPhase) row[0], phase -> new HashMap<>()).put((String) row[1], (Long) row[2]));
+        return counts;
+    }
+
+    @Override
+    @Transactional
+    public void refresh(final Long requestId) {
+        requestRepository.findOne(requestId).ifPresent(request -> {
+            final Optional<RequestSummary> existing = requestSummaryRepository.lockById(requestId);
+            final RequestPhase previousPhase = existing.map(RequestSummary::getPhase).orElse(null);
+            final RequestSummary summary = toSummary(existing.orElseGet(() -> new RequestSummary(requestId)),
+                                                     request,
+                                                     fundsLedgerService.getTotalFunds(request),
+                                                     fundRepository.getLastFundedDate(requestId));
+            requestSummaryRepository.save(summary);
+            requestSearchIndex.index(summary);
+            if (summary.getPhase() != previousPhase) {
+                derivedViewRefresher.markDirty("request_counts");
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 3_600_000 /* 1 hour */)
+    public void rebuild() {
+        final List<Long> requestIds = requestRepository.findAllIds();
+        for (int from = 0; from < requestIds.size(); from += REBUILD_CHUNK_SIZE) {
+            final List<Long> chunk = requestIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, requestIds.size()));
+            try {
+                requestSearchIndex.indexAll(rebuildChunk(chunk));
+            } catch (final OptimisticLockingFailureException e) {
+                log.debug("Request summaries were refreshed during the rebuild of requests {} to {}, rebuilding them again", chunk.get(0), chunk.get(chunk.size() - 1));
+                requestSearchIndex.indexAll(rebuildChunk(chunk));
+            }
+        }
+        derivedViewRefresher.markDirty("request_counts");
+        log.info("Request summary rebuilt for {} requests", requestIds.size());
+    }
+
+    private List<RequestSummary> rebuildChunk(final List<Long> requestIds) {
+        return requiresNewTransaction.execute(status -> {
+            final List<Request> requests = requestRepository.findAll(requestIds);
+            final Map<Long, List<TokenAmountDto>> totalFunds = fundsLedgerService.getTotalFunds(requests);
+            final Map<Long, LocalDateTime> lastFundedDates = fundRepository.getLastFundedDatePerRequest(requestIds)
+                                                                           .stream()
+                                                                           .collect(Collectors.toMap(row -> (Long) row[0], row -> (LocalDateTime) row[1]));
+            final Map<Long, RequestSummary> summaries = requestSummaryRepository.findAll(requestIds)
+                                                                                .stream()
+                                                                                .collect(Collectors.toMap(RequestSummary::getRequestId, Function.identity()));
+            final List<RequestSummary> rebuilt = requests.stream()
+                                                         .map(request -> toSummary(summaries.getOrDefault(request.getId(), new RequestSummary(request.getId())),
+                                                                                   request,
+                                                                                   totalFunds.get(request.getId()),
+                                                                                   lastFundedDates.get(request.getId())))
+                                                         .collect(Collectors.toList());
+            return requestSummaryRepository.save(rebuilt);
+        });
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onFunded(final RequestFundedEvent fundedEvent) {
+        refresh(fundedEvent.getRequestId());
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onClaimRequested(final ClaimRequestedEvent claimRequestedEvent) {
+        refresh(claimRequestedEvent.getRequestClaim().getRequestId());
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onClaimed(final RequestClaimedEvent claimedEvent) {
+        refresh(claimedEvent.getRequestDto().getId());
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onRefunded(final RefundProcessedEvent refundProcessedEvent) {
+        refresh(refundProcessedEvent.getRefund().getRequestId());
+    }
+
+    private RequestSummary toSummary(final RequestSummary summary, final Request request, final List<TokenAmountDto> totalFunds, final LocalDateTime lastFundedDate) {
+        final List<TokenValueDto> funds = (totalFunds == null ? Collections.<TokenAmountDto>emptyList() : totalFunds)
+                .stream()
+                .filter(tokenAmount -> tokenAmount.getTotalAmount().signum() > 0)
+                .map(tokenAmount -> tokenValueMapper.map(tokenAmount.getTokenAddress(), tokenAmount.getTotalAmount()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        summary.update(request, funds, fiatService.getUsdPrice(funds.toArray(new TokenValueDto[0])), lastFundedDate);
+        return summary;
+    }
+}
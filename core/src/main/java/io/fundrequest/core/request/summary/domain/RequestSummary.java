@@ -0,0 +1,142 @@
+package io.fundrequest.core.request.summary.domain;
+
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized row holding everything the request lists show, kept in line with the request and its funds ledger so a
+ * list page is a single query on one table.
+ */
+@Table(name = "request_summary")
+@Entity
+@Getter
+@ToString
+@EqualsAndHashCode(of = "requestId")
+public class RequestSummary {
+
+    private static final String TECHNOLOGY_SEPARATOR = ",";
+
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "platform")
+    @Enumerated(EnumType.STRING)
+    private Platform platform;
+
+    @Column(name = "platform_id")
+    private String platformId;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "owner_lc")
+    private String ownerLc;
+
+    @Column(name = "repo")
+    private String repo;
+
+    @Column(name = "issue_number")
+    private String issueNumber;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private RequestStatus status;
+
+    @Column(name = "phase")
+    @Enumerated(EnumType.STRING)
+    private RequestPhase phase;
+
+    @Column(name = "technologies")
+    private String technologies;
+
+    @Column(name = "funds")
+    @Convert(converter = TokenValuesConverter.class)
+    private List<TokenValueDto> funds = new ArrayList<>();
+
+    @Column(name = "usd_value")
+    private BigDecimal usdValue = BigDecimal.ZERO;
+
+    @Column(name = "last_funded_date")
+    private LocalDateTime lastFundedDate;
+
+    @Column(name = "creation_date")
+    private LocalDateTime creationDate;
+
+    @Column(name = "last_modified_date")
+    private LocalDateTime lastModifiedDate;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    protected RequestSummary() {
+    }
+
+    public RequestSummary(final Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public void update(final Request request, final List<TokenValueDto> funds, final double usdValue, final LocalDateTime lastFundedDate) {
+        final IssueInformation issueInformation = request.getIssueInformation();
+        this.platform = issueInformation.getPlatform();
+        this.platformId = issueInformation.getPlatformId();
+        this.owner = issueInformation.getOwner();
+        this.ownerLc = owner == null ? null : owner.toLowerCase();
+        this.repo = issueInformation.getRepo();
+        this.issueNumber = issueInformation.getNumber();
+        this.title = issueInformation.getTitle();
+        this.status = request.getStatus();
+        this.phase = request.getStatus().getPhase();
+        this.technologies = request.getTechnologies().isEmpty()
+                            ? null
+                            : request.getTechnologies().stream().sorted().collect(Collectors.joining(TECHNOLOGY_SEPARATOR, TECHNOLOGY_SEPARATOR, TECHNOLOGY_SEPARATOR));
+        this.funds = new ArrayList<>(funds);
+        this.usdValue = BigDecimal.valueOf(usdValue).setScale(2, RoundingMode.HALF_UP);
+        this.lastFundedDate = lastFundedDate;
+        this.creationDate = request.getCreationDate();
+        this.lastModifiedDate = request.getLastModifiedDate() == null ? request.getCreationDate() : request.getLastModifiedDate();
+    }
+
+    public Set<String> getTechnologies() {
+        if (technologies == null) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(technologies.split(TECHNOLOGY_SEPARATOR))
+                     .filter(technology -> !technology.isEmpty())
+                     .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public List<TokenValueDto> getFunds() {
+        return funds == null ? Collections.emptyList() : Collections.unmodifiableList(funds);
+    }
+}
@@ -0,0 +1,50 @@
+package io.fundrequest.core.request.summary.domain;
+
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Stores the per token totals of a request summary in a single column as {@code address:symbol:amount} entries
+ * separated by semicolons.
+ */
+@Converter
+public class TokenValuesConverter implements AttributeConverter<List<TokenValueDto>, String> {
+
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ":";
+
+    @Override
+    public String convertToDatabaseColumn(final List<TokenValueDto> tokenValues) {
+        if (tokenValues == null || tokenValues.isEmpty()) {
+            return null;
+        }
+        return tokenValues.stream()
+                          .map(tokenValue -> tokenValue.getTokenAddress()
+                                             + FIELD_SEPARATOR + StringUtils.defaultString(tokenValue.getTokenSymbol())
+                                             + FIELD_SEPARATOR + tokenValue.getTotalAmount().toPlainString())
+                          .collect(Collectors.joining(ENTRY_SEPARATOR));
+    }
+
+    @Override
+    public List<TokenValueDto> convertToEntityAttribute(final String column) {
+        if (StringUtils.isBlank(column)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(column.split(ENTRY_SEPARATOR))
+                     .map(entry -> entry.split(FIELD_SEPARATOR, -1))
+                     .map(fields -> TokenValueDto.builder()
+                                                 .tokenAddress(fields[0])
+                                                 .tokenSymbol(fields[1])
+                                                 .totalAmount(new BigDecimal(fields[2]))
+                                                 .build())
+                     .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,58 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageOrder;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters of a page of request summaries, combined with the keyset condition that selects the summaries after the
+ * cursor in the requested order.
+ */
+public class RequestPageSpecification implements Specification<RequestSummary> {
+
+    private final RequestPageQuery query;
+    private final RequestSummarySpecification requestSummarySpecification;
+
+    public RequestPageSpecification(final RequestPageQuery query) {
+        this.query = query;
+        this.requestSummarySpecification = new RequestSummarySpecification(query.getProjects(), query.getTechnologies(), 0L);
+    }
+
+    @Override
+    public Predicate toPredicate(final Root<RequestSummary> root, final CriteriaQuery<?> criteriaQuery, final CriteriaBuilder criteriaBuilder) {
+        final List<Predicate> predicates = new ArrayList<>();
+        predicates.add(requestSummarySpecification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        if (query.getPhase() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("phase"), query.getPhase()));
+        }
+        if (query.isFunded()) {
+            predicates.add(criteriaBuilder.isNotNull(root.get("funds")));
+        }
+        if (query.getCursor() != null) {
+            predicates.add(query.getOrder() == RequestPageOrder.MOST_FUNDED
+                           ? createAfterCursorPredicate(root.get("usdValue"), query.getCursor().getUsdValue(), root, criteriaBuilder)
+                           : createAfterCursorPredicate(root.get("lastModifiedDate"), query.getCursor().getLastModifiedDate(), root, criteriaBuilder));
+        }
+        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private <T extends Comparable<? super T>> Predicate createAfterCursorPredicate(final Path<T> sortKey,
+                                                                                  final T cursorValue,
+                                                                                  final Root<RequestSummary> root,
+                                                                                  final CriteriaBuilder criteriaBuilder) {
+        final RequestCursor cursor = query.getCursor();
+        return criteriaBuilder.or(criteriaBuilder.lessThan(sortKey, cursorValue),
+                                  criteriaBuilder.and(criteriaBuilder.equal(sortKey, cursorValue),
+                                                      criteriaBuilder.lessThan(root.get("requestId"), cursor.getId())));
+    }
+}
@@ -0,0 +1,22 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RequestSummaryRepository extends JpaRepository<RequestSummary, Long>, JpaSpecificationExecutor<RequestSummary>, RequestSummaryRepositoryCustom {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RequestSummary s WHERE s.requestId = ?1")
+    Optional<RequestSummary> lockById(Long requestId);
+
+    @Query("SELECT s.phase, s.owner, COUNT(s) FROM RequestSummary s GROUP BY s.phase, s.owner")
+    List<Object[]> countPerPhaseAndOwner();
+}
@@ -0,0 +1,12 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface RequestSummaryRepositoryCustom {
+
+    List<RequestSummary> findAll(Specification<RequestSummary> specification, Sort sort, int limit);
+}
@@ -0,0 +1,32 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+class RequestSummaryRepositoryImpl implements RequestSummaryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RequestSummary> findAll(final Specification<RequestSummary> specification, final Sort sort, final int limit) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<RequestSummary> query = criteriaBuilder.createQuery(RequestSummary.class);
+        final Root<RequestSummary> root = query.from(RequestSummary.class);
+        query.select(root)
+             .where(specification.toPredicate(root, query, criteriaBuilder))
+             .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query)
+                            .setMaxResults(limit)
+                            .getResultList();
+    }
+}
@@ -0,0 +1,60 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestTechnology;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Request summaries of any of the given projects having all of the given technologies. The filters are lower cased
+ * here and matched on the lower cased owner_lc and technology_lc columns, every technology with an exists that uses the
+ * (technology_lc, request_id) index of request_technology.
+ */
+public class RequestSummarySpecification implements Specification<RequestSummary> {
+
+    private final List<String> projects;
+    private final List<String> technologies;
+    private final Long lastUpdatedSinceDays;
+
+    public RequestSummarySpecification(final List<String> projects, final List<String> technologies, final Long lastUpdatedSinceDays) {
+        this.projects = projects.stream().map(String::toLowerCase).collect(Collectors.toList());
+        this.technologies = technologies.stream().map(String::toLowerCase).collect(Collectors.toList());
+        this.lastUpdatedSinceDays = lastUpdatedSinceDays;
+    }
+
+    @Override
+    public Predicate toPredicate(final Root<RequestSummary> root, final CriteriaQuery<?> criteriaQuery, final CriteriaBuilder criteriaBuilder) {
+        final List<Predicate> predicates = new ArrayList<>();
+        if (!projects.isEmpty()) {
+            predicates.add(root.get("ownerLc").in(projects));
+        }
+        technologies.forEach(technology -> predicates.add(criteriaBuilder.exists(hasTechnology(technology, root, criteriaQuery, criteriaBuilder))));
+        if (lastUpdatedSinceDays > 0L) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("lastModifiedDate"), LocalDate.now().minusDays(lastUpdatedSinceDays).atStartOfDay()));
+        }
+        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private Subquery<Long> hasTechnology(final String technology,
+                                         final Root<RequestSummary> root,
+                                         final CriteriaQuery<?> criteriaQuery,
+                                         final CriteriaBuilder criteriaBuilder) {
+        final Subquery<Long> subquery = criteriaQuery.subquery(Long.class);
+        final Root<Request> request = subquery.from(Request.class);
+        final Join<Request, RequestTechnology> requestTechnology = request.join("technologies");
+        return subquery.select(request.get("id"))
+                       .where(criteriaBuilder.equal(request.get("id"), root.get("requestId")),
+                              criteriaBuilder.equal(requestTechnology.get("technologyLc"), technology));
+    }
+}
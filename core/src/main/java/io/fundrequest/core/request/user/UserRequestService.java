@@ -0,0 +1,18 @@
+package io.fundrequest.core.request.user;
+
+import io.fundrequest.core.request.user.domain.UserRequestRelation;
+
+import java.util.List;
+
+public interface UserRequestService {
+
+    /**
+     * Requests the user watches, funded or claimed, including those funded from the given ether address without a user
+     * id, like funds that were only picked up from the chain.
+     */
+    List<Long> findRequestIds(String userId, String etherAddress);
+
+    void add(String userId, Long requestId, UserRequestRelation relation);
+
+    void remove(String userId, Long requestId, UserRequestRelation relation);
+}
@@ -0,0 +1,101 @@
+package io.fundrequest.core.request.user;
+
+import io.fundrequest.core.request.claim.event.ClaimRequestedEvent;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.user.domain.UserRequest;
+import io.fundrequest.core.request.user.domain.UserRequestRelation;
+import io.fundrequest.core.request.user.infrastructure.UserRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.CLAIMED;
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.FUNDED;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Records which requests a user watches, funded or claimed. Funds without a user id are not recorded, they are matched
+ * on the ether address of the user when the requests are read. The relations that follow from a fund, claim or refund are
+ * recorded once that transaction commits, in a transaction of their own, so a relation that is recorded concurrently
+ * never rolls back the ingestion of the event itself.
+ */
+@Service
+@Slf4j
+class UserRequestServiceImpl implements UserRequestService {
+
+    private final UserRequestRepository userRequestRepository;
+    private final FundRepository fundRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public UserRequestServiceImpl(final UserRequestRepository userRequestRepository,
+                                  final FundRepository fundRepository,
+                                  final PlatformTransactionManager transactionManager) {
+        this.userRequestRepository = userRequestRepository;
+        this.fundRepository = fundRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findRequestIds(final String userId, final String etherAddress) {
+        final Set<Long> requestIds = new LinkedHashSet<>(userRequestRepository.findRequestIds(userId));
+        if (StringUtils.isNotBlank(etherAddress)) {
+            requestIds.addAll(fundRepository.findRequestIdsFundedFrom(etherAddress.toLowerCase()));
+        }
+        return new ArrayList<>(requestIds);
+    }
+
+    @Override
+    @Transactional
+    public void add(final String userId, final Long requestId, final UserRequestRelation relation) {
+        if (StringUtils.isNotBlank(userId) && !userRequestRepository.existsByUserIdAndRequestIdAndRelation(userId, requestId, relation)) {
+            userRequestRepository.save(new UserRequest(userId, requestId, relation));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void remove(final String userId, final Long requestId, final UserRequestRelation relation) {
+        userRequestRepository.delete(userId, requestId, relation);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onFunded(final RequestFundedEvent fundedEvent) {
+        addIfAbsent(fundedEvent.getFundDto().getFunderUserId(), fundedEvent.getRequestId(), FUNDED);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onClaimRequested(final ClaimRequestedEvent claimRequestedEvent) {
+        addIfAbsent(claimRequestedEvent.getRequestClaim().getCreatedBy(), claimRequestedEvent.getRequestClaim().getRequestId(), CLAIMED);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onRefunded(final RefundProcessedEvent refundProcessedEvent) {
+        addIfAbsent(refundProcessedEvent.getRefund().getRequestedBy(), refundProcessedEvent.getRefund().getRequestId(), FUNDED);
+    }
+
+    private void addIfAbsent(final String userId, final Long requestId, final UserRequestRelation relation) {
+        try {
+            requiresNewTransaction.execute(status -> {
+                add(userId, requestId, relation);
+                return null;
+            });
+        } catch (final DataIntegrityViolationException e) {
+            log.debug("User {} already has relation {} with request {}", userId, relation, requestId);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.fundrequest.core.request.user.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Links a user to a request they are watching, have funded or have claimed, so the requests of a user are read with one
+ * indexed query.
+ */
+@Table(name = "user_request")
+@Entity
+@Getter
+public class UserRequest extends AbstractEntity {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "relation")
+    @Enumerated(EnumType.STRING)
+    private UserRequestRelation relation;
+
+    protected UserRequest() {
+    }
+
+    public UserRequest(final String userId, final Long requestId, final UserRequestRelation relation) {
+        this.userId = userId;
+        this.requestId = requestId;
+        this.relation = relation;
+    }
+}
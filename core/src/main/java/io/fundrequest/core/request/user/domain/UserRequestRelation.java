@@ -0,0 +1,5 @@
+package io.fundrequest.core.request.user.domain;
+
+public enum UserRequestRelation {
+    WATCHING, FUNDED, CLAIMED
+}
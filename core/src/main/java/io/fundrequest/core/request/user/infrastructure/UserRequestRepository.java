@@ -0,0 +1,21 @@
+package io.fundrequest.core.request.user.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.request.user.domain.UserRequest;
+import io.fundrequest.core.request.user.domain.UserRequestRelation;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface UserRequestRepository extends JpaRepository<UserRequest, Long> {
+
+    @Query("SELECT DISTINCT u.requestId FROM UserRequest u WHERE u.userId = ?1")
+    List<Long> findRequestIds(String userId);
+
+    boolean existsByUserIdAndRequestIdAndRelation(String userId, Long requestId, UserRequestRelation relation);
+
+    @Modifying
+    @Query("DELETE FROM UserRequest u WHERE u.userId = ?1 AND u.requestId = ?2 AND u.relation = ?3")
+    void delete(String userId, Long requestId, UserRequestRelation relation);
+}
@@ -1,28 +1,127 @@
 package io.fundrequest.core.token;
 
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
 import io.fundrequest.core.erc20.service.ERC20Service;
+import io.fundrequest.core.token.domain.TokenInfo;
 import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import io.fundrequest.core.web3j.AddressUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of ERC20 token metadata. Tokens are kept in memory and in the token_info table: at startup the registry is
+ * filled from the database and completed with the tokens on the whitelist, unknown tokens are read from their contract
+ * the first time they are asked for.
+ */
 @Service
+@Slf4j
 public class TokenInfoServiceImpl implements TokenInfoService {
 
+    private final ERC20Service erc20Service;
+    private final TokenInfoRepository tokenInfoRepository;
+    private final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
 
-    private ERC20Service erc20Service;
+    private final Map<String, TokenInfoDto> registry = new ConcurrentHashMap<>();
 
-    public TokenInfoServiceImpl(final ERC20Service erc20Service) {
+    public TokenInfoServiceImpl(final ERC20Service erc20Service,
+                                final TokenInfoRepository tokenInfoRepository,
+                                final TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract) {
         this.erc20Service = erc20Service;
+        this.tokenInfoRepository = tokenInfoRepository;
+        this.tokenWhitelistPreconditionContract = tokenWhitelistPreconditionContract;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TokenInfoDto getTokenInfo(final String tokenAddress) {
+        final String key = key(tokenAddress);
+        TokenInfoDto tokenInfo = registry.get(key);
+        if (tokenInfo == null) {
+            tokenInfo = tokenInfoRepository.findByAddress(key)
+                                            .map(this::register)
+                                            .orElseGet(() -> resolve(key));
+        }
+        return copy(tokenInfo, tokenAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        tokenInfoRepository.findAll().forEach(this::register);
+        try {
+            final List<CompletableFuture<TokenInfoDto>> unknownTokens = tokenWhitelistPreconditionContract.tokens()
+                                                                                                          .stream()
+                                                                                                          .map(this::key)
+                                                                                                          .filter(key -> !registry.containsKey(key))
+                                                                                                          .distinct()
+                                                                                                          .map(key -> erc20Service.getTokenInfoAsync(key)
+                                                                                                                                  .exceptionally(ex -> null))
+                                                                                                          .collect(Collectors.toList());
+            unknownTokens.stream()
+                         .map(CompletableFuture::join)
+                         .filter(Objects::nonNull)
+                         .forEach(this::store);
+            log.info("Token registry warmed up with {} tokens", registry.size());
+        } catch (final Exception ex) {
+            log.error("Unable to warm up token registry from the whitelist", ex);
+        }
+    }
+
+    private TokenInfoDto resolve(final String key) {
+        try {
+            return store(erc20Service.getTokenInfoAsync(key).join());
+        } catch (final Exception ex) {
+            log.error("Unable to fetch token info for {}", key, ex);
+            return TokenInfoDto.builder()
+                               .address(key)
+                               .name("Unknown ERC20")
+                               .symbol("ERC20")
+                               .decimals(18)
+                               .build();
+        }
+    }
+
+    private TokenInfoDto store(final TokenInfoDto tokenInfo) {
+        final String key = key(tokenInfo.getAddress());
+        try {
+            tokenInfoRepository.save(new TokenInfo(key, tokenInfo.getSymbol(), tokenInfo.getName(), tokenInfo.getDecimals()));
+        } catch (final DataIntegrityViolationException ex) {
+            log.debug("Token {} has already been stored", key, ex);
+        }
+        registry.put(key, copy(tokenInfo, key));
+        return tokenInfo;
+    }
+
+    private TokenInfoDto register(final TokenInfo tokenInfo) {
+        final TokenInfoDto dto = TokenInfoDto.builder()
+                                             .address(tokenInfo.getAddress())
+                                             .symbol(tokenInfo.getSymbol())
+                                             .name(tokenInfo.getName())
+                                             .decimals(tokenInfo.getDecimals())
+                                             .build();
+        registry.put(tokenInfo.getAddress(), dto);
+        return dto;
+    }
+
+    private String key(final String tokenAddress) {
+        return AddressUtils.prettify(tokenAddress).toLowerCase();
+    }
+
+    private TokenInfoDto copy(final TokenInfoDto tokenInfo, final String address) {
         return TokenInfoDto.builder()
-                           .address(tokenAddress)
-                           .decimals(erc20Service.decimals(tokenAddress))
-                           .name(erc20Service.name(tokenAddress))
-                           .symbol(erc20Service.symbol(tokenAddress))
+                           .address(address)
+                           .symbol(tokenInfo.getSymbol())
+                           .name(tokenInfo.getName())
+                           .decimals(tokenInfo.getDecimals())
                            .build();
     }
 }
@@ -0,0 +1,47 @@
+package io.fundrequest.core.token.domain;
+
+import io.fundrequest.db.infrastructure.AbstractEntity;
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Metadata of an ERC20 token as read from its contract. Token metadata never changes, so once resolved it is never read
+ * from the chain again.
+ */
+@Table(name = "token_info")
+@Entity
+@Getter
+public class TokenInfo extends AbstractEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "symbol")
+    private String symbol;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "decimals")
+    private int decimals;
+
+    protected TokenInfo() {
+    }
+
+    public TokenInfo(final String address, final String symbol, final String name, final int decimals) {
+        this.address = address;
+        this.symbol = symbol;
+        this.name = name;
+        this.decimals = decimals;
+    }
+}
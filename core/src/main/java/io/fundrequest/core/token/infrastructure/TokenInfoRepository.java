@@ -0,0 +1,21 @@
+package io.fundrequest.core.token.infrastructure;
+
+import io.fundrequest.core.infrastructure.repository.JpaRepository;
+import io.fundrequest.core.token.domain.TokenInfo;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+public interface TokenInfoRepository extends JpaRepository<TokenInfo, Long> {
+
+    Optional<TokenInfo> findByAddress(String address);
+
+    /**
+     * Tokens are resolved from within read only transactions, so they are stored in a transaction of their own.
+     */
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    <S extends TokenInfo> S save(S tokenInfo);
+}
@@ -0,0 +1,118 @@
+package io.fundrequest.core.web3j;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache for the results of contract calls. Every entry remembers the block at which it was written and is only served
+ * as long as no new block has been seen by the {@link Web3jGateway}, so cached contract state is never older than one block.
+ * The delegate cache still applies its own expiry and size limits.
+ * <p>
+ * Only the per funder amounts read from the contract go through it. Totals, refunds and claims shown next to them are
+ * read from the funds ledger and the fund, refund and claim tables, which follow the ingested events and not a block
+ * number, so a page can show a funder amount that is one block ahead of those.
+ */
+public class BlockHeightCache implements Cache {
+
+    private final Cache delegate;
+    private final Web3jGateway web3jGateway;
+
+    public BlockHeightCache(final Cache delegate, final Web3jGateway web3jGateway) {
+        this.delegate = delegate;
+        this.web3jGateway = web3jGateway;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        final BlockValue blockValue = (BlockValue) wrapper.get();
+        if (!Objects.equals(blockValue.blockNumber, currentBlockNumber())) {
+            delegate.evict(key);
+            return null;
+        }
+        return new SimpleValueWrapper(blockValue.value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final ValueWrapper wrapper = get(key);
+        final Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        final T value;
+        try {
+            value = valueLoader.call();
+        } catch (final Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        delegate.put(key, new BlockValue(currentBlockNumber(), value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        final ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private BigInteger currentBlockNumber() {
+        return web3jGateway.currentBlockNumber().orElse(null);
+    }
+
+    private static final class BlockValue {
+        private final BigInteger blockNumber;
+        private final Object value;
+
+        private BlockValue(final BigInteger blockNumber, final Object value) {
+            this.blockNumber = blockNumber;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.fundrequest.core.web3j;
+
+import org.web3j.protocol.Web3jService;
+
+/**
+ * A single Ethereum node in the {@link Web3jProviderPool}, together with a rolling view on its latency and error rate.
+ * Both are kept as exponentially weighted moving averages, so a node that becomes slow or unreachable drops in ranking
+ * after a couple of calls and recovers in the same way.
+ */
+public class Web3jEndpoint {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double ERROR_PENALTY_MS = 10_000;
+
+    private final String name;
+    private final Web3jService service;
+
+    private double latencyMs;
+    private double errorRate;
+
+    public Web3jEndpoint(final String name, final Web3jService service) {
+        this.name = name;
+        this.service = service;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Web3jService getService() {
+        return service;
+    }
+
+    public synchronized void recordSuccess(final long elapsedMs) {
+        latencyMs = latencyMs == 0 ? elapsedMs : SMOOTHING * elapsedMs + (1 - SMOOTHING) * latencyMs;
+        errorRate = (1 - SMOOTHING) * errorRate;
+    }
+
+    public synchronized void recordFailure() {
+        errorRate = SMOOTHING + (1 - SMOOTHING) * errorRate;
+    }
+
+    public synchronized double getLatencyMs() {
+        return latencyMs;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Lower is better: the expected latency of the next call, where every failing call counts as a very slow one.
+     */
+    public synchronized double score() {
+        return latencyMs + errorRate * ERROR_PENALTY_MS;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
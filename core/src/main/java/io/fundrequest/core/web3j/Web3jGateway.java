@@ -1,44 +1,43 @@
 package io.fundrequest.core.web3j;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.web3j.protocol.Web3j;
 
 import javax.annotation.PostConstruct;
+import java.math.BigInteger;
+import java.util.Optional;
 
 @Component
 public class Web3jGateway {
 
-    @Autowired
-    private Web3j primary;
-    @Autowired
-    @Qualifier("local")
-    private Web3j secondary;
+    private final Web3j web3j;
+    private final Web3jProviderPool providerPool;
 
-    private Web3j currentProvider;
+    private volatile BigInteger currentBlockNumber;
+
+    public Web3jGateway(final Web3j web3j, final Web3jProviderPool providerPool) {
+        this.web3j = web3j;
+        this.providerPool = providerPool;
+    }
 
     @PostConstruct
-    @Scheduled(fixedDelay = 20000)
+    @Scheduled(fixedDelay = 10000)
     private void init() {
-        currentProvider = updateCurrentProvider();
+        providerPool.probe().ifPresent(blockNumber -> currentBlockNumber = blockNumber);
     }
 
+    /**
+     * Web3j backed by the {@link Web3jProviderPool}, every call is routed to the healthiest endpoint.
+     */
     public Web3j web3j() {
-        return currentProvider;
-    }
-
-    public Web3j secondary() {
-        return secondary;
+        return web3j;
     }
 
-    private Web3j updateCurrentProvider() {
-        try {
-            primary.ethBlockNumber().send();
-            return primary;
-        } catch (final Exception ex) {
-            return secondary;
-        }
+    /**
+     * The most recent block number seen while probing the endpoints, empty as long as no endpoint could be reached.
+     */
+    public Optional<BigInteger> currentBlockNumber() {
+        return Optional.ofNullable(currentBlockNumber);
     }
 }
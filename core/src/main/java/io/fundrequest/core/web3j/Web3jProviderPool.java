@@ -0,0 +1,239 @@
+package io.fundrequest.core.web3j;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.websocket.events.Notification;
+import rx.Observable;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Web3jService} that spreads calls over a pool of Ethereum nodes. Every call goes to the endpoint with the best
+ * rolling latency and error rate and fails over to the next one when the node can't be reached.
+ * When hedging is enabled, read calls that did not get an answer within the configured delay are sent to the second best
+ * endpoint as well, and the first answer wins.
+ */
+@Slf4j
+public class Web3jProviderPool implements Web3jService {
+
+    private static final Set<String> HEDGEABLE_METHODS = new HashSet<>(Arrays.asList("eth_call",
+                                                                                     "eth_blockNumber",
+                                                                                     "eth_getBalance",
+                                                                                     "eth_getBlockByNumber",
+                                                                                     "eth_getLogs",
+                                                                                     "eth_getTransactionByHash",
+                                                                                     "eth_getTransactionReceipt",
+                                                                                     "net_version"));
+    private static final long MAX_BLOCKS_BEHIND = 2;
+
+    private final List<Web3jEndpoint> endpoints;
+    private final long hedgeAfterMs;
+    private final ScheduledExecutorService scheduler;
+
+    public Web3jProviderPool(final List<Web3jEndpoint> endpoints, final long hedgeAfterMs) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one ethereum endpoint should be configured");
+        }
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+        this.hedgeAfterMs = hedgeAfterMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "web3j-hedge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<Web3jEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(final Request request, final Class<T> responseType) throws IOException {
+        if (isHedged(request)) {
+            try {
+                return sendAsync(request, responseType).get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            } catch (final ExecutionException ex) {
+                throw asIOException(ex.getCause());
+            }
+        }
+        IOException lastException = null;
+        for (final Web3jEndpoint endpoint : ranked()) {
+            final long start = System.nanoTime();
+            try {
+                final T response = endpoint.getService().send(request, responseType);
+                endpoint.recordSuccess(elapsedMs(start));
+                return response;
+            } catch (final IOException ex) {
+                endpoint.recordFailure();
+                log.debug("Call {} to ethereum endpoint {} failed", request.getMethod(), endpoint, ex);
+                lastException = ex;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(final Request request, final Class<T> responseType) {
+        return new PooledCall<>(request, responseType, ranked()).start(isHedged(request));
+    }
+
+    @Override
+    public <T extends Notification<?>> Observable<T> subscribe(final Request request, final String unsubscribeMethod, final Class<T> responseType) {
+        return ranked().get(0).getService().subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        for (final Web3jEndpoint endpoint : endpoints) {
+            endpoint.getService().close();
+        }
+    }
+
+    /**
+     * Asks every endpoint for its latest block, which refreshes the health of endpoints that did not get any calls lately.
+     * Endpoints that lag behind the others are penalized as if the call failed.
+     *
+     * @return the highest block number reported by any of the endpoints
+     */
+    public Optional<BigInteger> probe() {
+        final Map<Web3jEndpoint, BigInteger> blockNumbers = new HashMap<>();
+        endpoints.forEach(endpoint -> {
+            final long start = System.nanoTime();
+            try {
+                final EthBlockNumber response = endpoint.getService().send(blockNumberRequest(endpoint), EthBlockNumber.class);
+                endpoint.recordSuccess(elapsedMs(start));
+                blockNumbers.put(endpoint, response.getBlockNumber());
+            } catch (final Exception ex) {
+                endpoint.recordFailure();
+                log.debug("Ethereum endpoint {} is not reachable", endpoint, ex);
+            }
+        });
+        final Optional<BigInteger> highestBlock = blockNumbers.values().stream().max(Comparator.naturalOrder());
+        highestBlock.ifPresent(highest -> blockNumbers.forEach((endpoint, blockNumber) -> {
+            if (highest.subtract(blockNumber).longValue() > MAX_BLOCKS_BEHIND) {
+                endpoint.recordFailure();
+            }
+        }));
+        return highestBlock;
+    }
+
+    private Request<?, EthBlockNumber> blockNumberRequest(final Web3jEndpoint endpoint) {
+        return new Request<>("eth_blockNumber", Collections.<String>emptyList(), endpoint.getService(), EthBlockNumber.class);
+    }
+
+    private List<Web3jEndpoint> ranked() {
+        return endpoints.stream().sorted(Comparator.comparingDouble(Web3jEndpoint::score)).collect(Collectors.toList());
+    }
+
+    private boolean isHedged(final Request request) {
+        return hedgeAfterMs > 0 && endpoints.size() > 1 && HEDGEABLE_METHODS.contains(request.getMethod());
+    }
+
+    private static long elapsedMs(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private static IOException asIOException(final Throwable throwable) {
+        final Throwable cause = unwrap(throwable);
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    /**
+     * One call over the ranked endpoints: a failed attempt moves on to the next endpoint, a slow attempt is hedged once.
+     */
+    private final class PooledCall<T extends Response> {
+
+        private final Request request;
+        private final Class<T> responseType;
+        private final List<Web3jEndpoint> rankedEndpoints;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private int attempts;
+        private int failures;
+
+        private PooledCall(final Request request, final Class<T> responseType, final List<Web3jEndpoint> rankedEndpoints) {
+            this.request = request;
+            this.responseType = responseType;
+            this.rankedEndpoints = rankedEndpoints;
+        }
+
+        private CompletableFuture<T> start(final boolean hedged) {
+            attempt();
+            if (hedged) {
+                scheduler.schedule(this::hedge, hedgeAfterMs, TimeUnit.MILLISECONDS);
+            }
+            return result;
+        }
+
+        private synchronized void hedge() {
+            if (!result.isDone() && attempts == 1) {
+                log.debug("Hedging call {} after {} ms", request.getMethod(), hedgeAfterMs);
+                attempt();
+            }
+        }
+
+        private synchronized void attempt() {
+            final Web3jEndpoint endpoint = rankedEndpoints.get(attempts++);
+            final long start = System.nanoTime();
+            final CompletableFuture<T> future;
+            try {
+                future = endpoint.getService().sendAsync(request, responseType);
+            } catch (final RuntimeException ex) {
+                endpoint.recordFailure();
+                onFailure(endpoint, ex);
+                return;
+            }
+            future.whenComplete((response, ex) -> {
+                if (ex == null) {
+                    endpoint.recordSuccess(elapsedMs(start));
+                    result.complete(response);
+                } else {
+                    endpoint.recordFailure();
+                    onFailure(endpoint, ex);
+                }
+            });
+        }
+
+        private synchronized void onFailure(final Web3jEndpoint endpoint, final Throwable ex) {
+            log.debug("Call {} to ethereum endpoint {} failed", request.getMethod(), endpoint, ex);
+            failures++;
+            if (result.isDone() || failures < attempts) {
+                return;
+            }
+            if (attempts < rankedEndpoints.size()) {
+                attempt();
+            } else {
+                result.completeExceptionally(asIOException(ex));
+            }
+        }
+    }
+}
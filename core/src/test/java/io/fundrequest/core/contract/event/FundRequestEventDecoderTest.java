@@ -0,0 +1,74 @@
+package io.fundrequest.core.contract.event;
+
+import io.fundrequest.core.request.fund.messaging.dto.ClaimedEthDto;
+import io.fundrequest.core.request.fund.messaging.dto.FundedEthDto;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FundRequestEventDecoderTest {
+
+    private static final String FUNDER = "0x0000000000000000000000000000000000000abc";
+    private static final String TOKEN = "0x0000000000000000000000000000000000000def";
+    private static final String PLATFORM_ID = "FundRequest|FR|area51|FR|3";
+
+    @Test
+    void decodeFunded() {
+        final Log log = log(FundRequestEventDecoder.FUNDED_TOPIC,
+                            FUNDER,
+                            new Bytes32(Arrays.copyOf("GITHUB".getBytes(), 32)),
+                            new Utf8String(PLATFORM_ID),
+                            new Address(TOKEN),
+                            new Uint256(BigInteger.TEN));
+
+        final FundedEthDto result = FundRequestEventDecoder.decodeFunded(log, 1234L);
+
+        assertThat(result.getTransactionHash()).isEqualTo("0xtx");
+        assertThat(result.getLogIndex()).isEqualTo("0x3");
+        assertThat(result.getFrom()).isEqualTo(FUNDER);
+        assertThat(result.getPlatform()).isEqualTo("GITHUB");
+        assertThat(result.getPlatformId()).isEqualTo(PLATFORM_ID);
+        assertThat(result.getToken()).isEqualTo(TOKEN);
+        assertThat(result.getAmount()).isEqualTo("10");
+        assertThat(result.getTimestamp()).isEqualTo(1234L);
+    }
+
+    @Test
+    void decodeClaimed() {
+        final Log log = log(FundRequestEventDecoder.CLAIMED_TOPIC,
+                            FUNDER,
+                            new Bytes32(Arrays.copyOf("GITHUB".getBytes(), 32)),
+                            new Utf8String(PLATFORM_ID),
+                            new Utf8String("davyvanroy"),
+                            new Address(TOKEN),
+                            new Uint256(BigInteger.ONE));
+
+        final ClaimedEthDto result = FundRequestEventDecoder.decodeClaimed(log, 1234L);
+
+        assertThat(result.getSolverAddress()).isEqualTo(FUNDER);
+        assertThat(result.getSolver()).isEqualTo("davyvanroy");
+        assertThat(result.getToken()).isEqualTo(TOKEN);
+        assertThat(result.getAmount()).isEqualTo("1");
+    }
+
+    private Log log(final String topic, final String indexedAddress, final Type... values) {
+        final Log log = new Log();
+        log.setTransactionHash("0xtx");
+        log.setLogIndex("0x3");
+        log.setBlockNumber("0x1");
+        log.setTopics(Arrays.asList(topic, "0x" + TypeEncoder.encode(new Address(indexedAddress))));
+        log.setData("0x" + FunctionEncoder.encodeConstructor(Arrays.asList(values)));
+        return log;
+    }
+}
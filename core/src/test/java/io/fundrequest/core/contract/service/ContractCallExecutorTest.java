@@ -0,0 +1,59 @@
+package io.fundrequest.core.contract.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.RemoteCall;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContractCallExecutorTest {
+
+    private ContractCallExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ContractCallExecutor(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void sendAsync_capsCallsInFlight() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final RemoteCall<String> call = mock(RemoteCall.class);
+        when(call.send()).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return "result";
+        });
+
+        final List<CompletableFuture<String>> results = IntStream.range(0, 10).mapToObj(i -> executor.sendAsync(call)).collect(Collectors.toList());
+
+        assertThat(results.stream().map(CompletableFuture::join)).hasSize(10).containsOnly("result");
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void sendAsync_failedCall() throws Exception {
+        final RemoteCall<String> call = mock(RemoteCall.class);
+        when(call.send()).thenThrow(new RuntimeException("node unavailable"));
+
+        assertThatThrownBy(() -> executor.sendAsync(call).join()).isInstanceOf(CompletionException.class).hasCauseInstanceOf(RuntimeException.class);
+    }
+}
@@ -3,20 +3,19 @@ package io.fundrequest.core.contract.service;
 import io.fundrequest.common.infrastructure.exception.ResourceNotFoundException;
 import io.fundrequest.core.contract.domain.FundRequestContract;
 import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
-import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.web3j.protocol.Web3j;
 
-import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
-import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -25,34 +24,31 @@ public class FundRequestContractsServiceTest {
 
     private FundRequestContractsService fundRequestContractsService;
     private TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
-    private TokenInfoService tokenInfoService;
+    private TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
 
     @BeforeEach
     void setUp() {
         tokenWhitelistPreconditionContract = mock(TokenWhitelistPreconditionContract.class, RETURNS_DEEP_STUBS);
-        tokenInfoService = mock(TokenInfoService.class);
+        tokenWhitelistSnapshotService = mock(TokenWhitelistSnapshotService.class);
         fundRequestContractsService = new FundRequestContractsService(
                 mock(FundRequestContract.class),
                 tokenWhitelistPreconditionContract,
                 mock(Web3j.class),
-                tokenInfoService
+                tokenWhitelistSnapshotService
         );
     }
 
     @Test
-    void testNoDuplicates() throws Exception {
+    void getAllPossibleTokens() {
         String platform = "GITHUB";
         String platformId = "FundRequest|FR|area51|FR|3";
 
-        when(tokenWhitelistPreconditionContract.amountOftokens().send().intValue()).thenReturn(3);
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(0))).thenReturn(Optional.of("FND"));
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(1))).thenReturn(Optional.of("ZRX"));
-        when(tokenWhitelistPreconditionContract.token(BigInteger.valueOf(2))).thenReturn(Optional.of("ZRX"));
-        when(tokenInfoService.getTokenInfo("FND")).thenReturn(TokenInfoDto.builder().symbol("FND").address("FND").build());
-        when(tokenInfoService.getTokenInfo("ZRX")).thenReturn(TokenInfoDto.builder().symbol("ZRX").address("ZRX").build());
-        when(tokenWhitelistPreconditionContract.isValid(platform, platformId, "FND")).thenReturn(true);
-        when(tokenWhitelistPreconditionContract.isValid(platform, platformId, "ZRX")).thenReturn(true);
-
+        when(tokenWhitelistSnapshotService.getTokens()).thenReturn(Arrays.asList(TokenInfoDto.builder().symbol("FND").address("FND").build(),
+                                                                                 TokenInfoDto.builder().symbol("ZRX").address("ZRX").build(),
+                                                                                 TokenInfoDto.builder().symbol("DAI").address("DAI").build()));
+        when(tokenWhitelistPreconditionContract.isValidAsync(platform, platformId, "FND").sendAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(tokenWhitelistPreconditionContract.isValidAsync(platform, platformId, "ZRX").sendAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(tokenWhitelistPreconditionContract.isValidAsync(platform, platformId, "DAI").sendAsync()).thenReturn(CompletableFuture.completedFuture(false));
 
         List<TokenInfoDto> possibleTokens = fundRequestContractsService.getAllPossibleTokens(platform, platformId);
 
@@ -64,7 +60,7 @@ public class FundRequestContractsServiceTest {
         final String platform = "GITHUB";
         final String platformId = "FundRequest|FR|area51|FR|3";
 
-        when(tokenWhitelistPreconditionContract.token(any(BigInteger.class))).thenReturn(Optional.empty());
+        when(tokenWhitelistSnapshotService.getTokens()).thenReturn(Collections.emptyList());
 
         try {
             fundRequestContractsService.getAllPossibleTokens(platform, platformId);
@@ -73,4 +69,4 @@ public class FundRequestContractsServiceTest {
             assertThat(e).isNotNull();
         }
     }
-}
\ No newline at end of file
+}
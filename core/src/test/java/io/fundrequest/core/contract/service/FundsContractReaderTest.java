@@ -0,0 +1,101 @@
+package io.fundrequest.core.contract.service;
+
+import io.fundrequest.core.contract.domain.ClaimRepositoryContract;
+import io.fundrequest.core.contract.domain.FundRepositoryContract;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.RemoteCall;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FundsContractReaderTest {
+
+    private static final String PLATFORM = "GITHUB";
+    private static final String PLATFORM_ID = "FundRequest|FR|area51|FR|3";
+
+    private FundsContractReader reader;
+    private ContractCallExecutor contractCallExecutor;
+    private FundRepositoryContract fundRepository;
+    private ClaimRepositoryContract claimRepository;
+
+    @BeforeEach
+    void setUp() {
+        final FundRequestContractsService fundRequestContractsService = mock(FundRequestContractsService.class);
+        fundRepository = mock(FundRepositoryContract.class);
+        claimRepository = mock(ClaimRepositoryContract.class);
+        when(fundRequestContractsService.fundRepository()).thenReturn(fundRepository);
+        when(fundRequestContractsService.claimRepository()).thenReturn(claimRepository);
+        contractCallExecutor = new ContractCallExecutor(2);
+        reader = new FundsContractReader(fundRequestContractsService, contractCallExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contractCallExecutor.shutdown();
+    }
+
+    @Test
+    void getFundedTokenBalances() throws Exception {
+        final RemoteCall<BigInteger> tokenCount = successful(BigInteger.valueOf(2));
+        final RemoteCall<String> fnd = successful("0xfnd");
+        final RemoteCall<String> zrx = successful("zrx");
+        final RemoteCall<BigInteger> fndBalance = successful(BigInteger.TEN);
+        final RemoteCall<BigInteger> zrxBalance = successful(BigInteger.ONE);
+        when(fundRepository.getFundedTokenCountAsync(PLATFORM, PLATFORM_ID)).thenReturn(tokenCount);
+        when(fundRepository.getFundedTokenAsync(PLATFORM, PLATFORM_ID, 0L)).thenReturn(fnd);
+        when(fundRepository.getFundedTokenAsync(PLATFORM, PLATFORM_ID, 1L)).thenReturn(zrx);
+        when(fundRepository.balanceAsync(PLATFORM, PLATFORM_ID, "0xfnd")).thenReturn(fndBalance);
+        when(fundRepository.balanceAsync(PLATFORM, PLATFORM_ID, "0xzrx")).thenReturn(zrxBalance);
+
+        final Map<String, BigInteger> result = reader.getFundedTokenBalances(PLATFORM, PLATFORM_ID);
+
+        assertThat(result).containsExactly(entry("0xfnd", BigInteger.TEN), entry("0xzrx", BigInteger.ONE));
+    }
+
+    @Test
+    void getClaimedTokenAmounts_skipsFailedCalls() throws Exception {
+        final RemoteCall<BigInteger> tokenCount = successful(BigInteger.valueOf(2));
+        final RemoteCall<String> fnd = successful("0xfnd");
+        final RemoteCall<String> failing = failing();
+        final RemoteCall<BigInteger> failingAmount = failing();
+        when(claimRepository.getTokenCountAsync(PLATFORM, PLATFORM_ID)).thenReturn(tokenCount);
+        when(claimRepository.getTokenByIndexAsync(PLATFORM, PLATFORM_ID, 0L)).thenReturn(fnd);
+        when(claimRepository.getTokenByIndexAsync(PLATFORM, PLATFORM_ID, 1L)).thenReturn(failing);
+        when(claimRepository.getAmountByTokenAsync(PLATFORM, PLATFORM_ID, "0xfnd")).thenReturn(failingAmount);
+
+        final Map<String, BigInteger> result = reader.getClaimedTokenAmounts(PLATFORM, PLATFORM_ID);
+
+        assertThat(result).containsExactly(entry("0xfnd", BigInteger.ZERO));
+    }
+
+    @Test
+    void getFundedTokenBalances_noTokens() throws Exception {
+        final RemoteCall<BigInteger> failing = failing();
+        when(fundRepository.getFundedTokenCountAsync(PLATFORM, PLATFORM_ID)).thenReturn(failing);
+
+        final Map<String, BigInteger> result = reader.getFundedTokenBalances(PLATFORM, PLATFORM_ID);
+
+        assertThat(result).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RemoteCall<T> successful(final T value) throws Exception {
+        final RemoteCall<T> call = mock(RemoteCall.class);
+        when(call.send()).thenReturn(value);
+        return call;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RemoteCall<T> failing() throws Exception {
+        final RemoteCall<T> call = mock(RemoteCall.class);
+        when(call.send()).thenThrow(new RuntimeException("node unavailable"));
+        return call;
+    }
+}
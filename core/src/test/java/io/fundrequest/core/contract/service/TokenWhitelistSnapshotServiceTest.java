@@ -0,0 +1,83 @@
+package io.fundrequest.core.contract.service;
+
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.token.TokenInfoService;
+import io.fundrequest.core.token.dto.TokenInfoDtoMother;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenWhitelistSnapshotServiceTest {
+
+    private static final String FND = TokenInfoDtoMother.fnd().getAddress();
+    private static final String ZRX = TokenInfoDtoMother.zrx().getAddress();
+
+    private TokenWhitelistSnapshotService snapshotService;
+    private TokenWhitelistPreconditionContract tokenWhitelistPreconditionContract;
+    private Cache possibleTokensCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenWhitelistPreconditionContract = mock(TokenWhitelistPreconditionContract.class);
+        final TokenInfoService tokenInfoService = mock(TokenInfoService.class);
+        final CacheManager cacheManager = mock(CacheManager.class);
+        possibleTokensCache = mock(Cache.class);
+        when(tokenInfoService.getTokenInfo(FND)).thenReturn(TokenInfoDtoMother.fnd());
+        when(tokenInfoService.getTokenInfo(ZRX)).thenReturn(TokenInfoDtoMother.zrx());
+        when(cacheManager.getCache("possible_tokens")).thenReturn(possibleTokensCache);
+        snapshotService = new TokenWhitelistSnapshotService(tokenWhitelistPreconditionContract, tokenInfoService, cacheManager);
+    }
+
+    @Test
+    void getTokens_takesSnapshotOnFirstUse() {
+        when(tokenWhitelistPreconditionContract.tokens()).thenReturn(Collections.singletonList(FND));
+
+        assertThat(snapshotService.getTokens()).containsExactly(TokenInfoDtoMother.fnd());
+        assertThat(snapshotService.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_unchangedWhitelistKeepsVersion() {
+        when(tokenWhitelistPreconditionContract.tokens()).thenReturn(Collections.singletonList(FND));
+
+        snapshotService.refresh();
+        snapshotService.refresh();
+
+        assertThat(snapshotService.getVersion()).isEqualTo(1);
+        verify(possibleTokensCache, times(1)).clear();
+    }
+
+    @Test
+    void refresh_changedWhitelistTakesNewVersion() {
+        when(tokenWhitelistPreconditionContract.tokens()).thenReturn(Collections.singletonList(FND))
+                                                          .thenReturn(Arrays.asList(FND, ZRX));
+
+        snapshotService.refresh();
+        snapshotService.refresh();
+
+        assertThat(snapshotService.getVersion()).isEqualTo(2);
+        assertThat(snapshotService.getTokens()).containsExactly(TokenInfoDtoMother.fnd(), TokenInfoDtoMother.zrx());
+        verify(possibleTokensCache, times(2)).clear();
+    }
+
+    @Test
+    void refresh_unreadableWhitelistKeepsSnapshot() {
+        when(tokenWhitelistPreconditionContract.tokens()).thenReturn(Collections.singletonList(FND))
+                                                          .thenReturn(Collections.emptyList());
+
+        snapshotService.refresh();
+        snapshotService.refresh();
+
+        assertThat(snapshotService.getTokens()).containsExactly(TokenInfoDtoMother.fnd());
+    }
+}
@@ -0,0 +1,69 @@
+package io.fundrequest.core.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DerivedViewRefresherTest {
+
+    private DerivedViewRefresher refresher;
+    private Cache cache;
+    private AtomicInteger recomputes;
+
+    @BeforeEach
+    void setUp() {
+        final CacheManager cacheManager = mock(CacheManager.class);
+        cache = mock(Cache.class);
+        when(cacheManager.getCache("statistics")).thenReturn(cache);
+        refresher = new DerivedViewRefresher(cacheManager, mock(PlatformTransactionManager.class), 60000);
+        recomputes = new AtomicInteger();
+        refresher.register("statistics", "all", recomputes::incrementAndGet);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    @Test
+    void markDirty_refreshesCache() {
+        refresher.markDirty("statistics");
+
+        verify(cache, timeout(5000)).put("all", 1);
+    }
+
+    @Test
+    void markDirty_coalescesTriggersWithinWindow() {
+        refresher.markDirty("statistics");
+        verify(cache, timeout(5000)).put("all", 1);
+
+        for (int i = 0; i < 40; i++) {
+            refresher.markDirty("statistics");
+        }
+
+        assertThat(recomputes.get()).isEqualTo(1);
+        assertThat(refresher.metrics()).extracting(Metric::getName, Metric::getValue)
+                                       .contains(tuple("derived-views.statistics.triggers", 41L),
+                                                 tuple("derived-views.statistics.coalesced", 39L),
+                                                 tuple("derived-views.statistics.refreshes", 1L));
+    }
+
+    @Test
+    void markDirty_unknownView() {
+        assertThatThrownBy(() -> refresher.markDirty("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
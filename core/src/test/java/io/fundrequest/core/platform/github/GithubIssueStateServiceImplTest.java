@@ -0,0 +1,151 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.domain.GithubIssueState;
+import io.fundrequest.core.platform.github.infrastructure.GithubIssueStateRepository;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GithubIssueStateServiceImplTest {
+
+    private static final GithubId GITHUB_ID = GithubId.builder().owner("FundRequest").repo("area51").number("38").build();
+
+    private GithubIssueStateServiceImpl githubIssueStateService;
+    private GithubIssueStateRepository githubIssueStateRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        githubIssueStateRepository = mock(GithubIssueStateRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        githubIssueStateService = new GithubIssueStateServiceImpl(githubIssueStateRepository, eventPublisher, mock(PlatformTransactionManager.class));
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void find() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.update("Closed", "nico-ptl");
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        assertThat(githubIssueStateService.find(GITHUB_ID)).contains(issue("Closed", "nico-ptl"));
+    }
+
+    @Test
+    void find_missing() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.update("Open", null);
+        state.markMissing();
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        assertThat(githubIssueStateService.find(GITHUB_ID)).isEmpty();
+    }
+
+    @Test
+    void update_new() {
+        githubIssueStateService.update(issue("Open", null));
+
+        verify(githubIssueStateRepository).save(any(GithubIssueState.class));
+        verify(eventPublisher).publishEvent(new GithubIssueStateChangedEvent(GITHUB_ID));
+    }
+
+    @Test
+    void update_changed() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.update("Open", null);
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        githubIssueStateService.update(issue("Closed", "nico-ptl"));
+
+        assertThat(state.getStatus()).isEqualTo("Closed");
+        assertThat(state.getSolver()).isEqualTo("nico-ptl");
+        verify(githubIssueStateRepository).save(state);
+        verify(eventPublisher).publishEvent(new GithubIssueStateChangedEvent(GITHUB_ID));
+    }
+
+    @Test
+    void update_unchanged() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.update("Closed", "nico-ptl");
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        githubIssueStateService.update(issue("Closed", "nico-ptl"));
+
+        assertThat(state.getCheckedAt()).isNotNull();
+        verify(githubIssueStateRepository).save(state);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void update_storedConcurrently() {
+        final GithubIssueState concurrentState = new GithubIssueState("FundRequest", "area51", "38");
+        concurrentState.update("Open", null);
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.empty(), Optional.of(concurrentState));
+        when(githubIssueStateRepository.save(any(GithubIssueState.class))).thenThrow(new DataIntegrityViolationException("github_issue_state_uk"))
+                                                                           .thenReturn(concurrentState);
+
+        githubIssueStateService.update(issue("Closed", "nico-ptl"));
+
+        assertThat(concurrentState.getStatus()).isEqualTo("Closed");
+        assertThat(concurrentState.getSolver()).isEqualTo("nico-ptl");
+        verify(githubIssueStateRepository, times(2)).save(any(GithubIssueState.class));
+        verify(eventPublisher).publishEvent(new GithubIssueStateChangedEvent(GITHUB_ID));
+    }
+
+    @Test
+    void update_missing() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.markMissing();
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        githubIssueStateService.update(issue("Open", null));
+
+        assertThat(state.isMissing()).isFalse();
+        assertThat(state.getStatus()).isEqualTo("Open");
+    }
+
+    @Test
+    void markMissing_new() {
+        final ArgumentCaptor<GithubIssueState> captor = ArgumentCaptor.forClass(GithubIssueState.class);
+
+        githubIssueStateService.markMissing(GITHUB_ID);
+
+        verify(githubIssueStateRepository).save(captor.capture());
+        assertThat(captor.getValue().isMissing()).isTrue();
+        assertThat(captor.getValue().getCheckedAt()).isNotNull();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void markMissing_keepsLastKnownState() {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", "38");
+        state.update("Closed", "nico-ptl");
+        when(githubIssueStateRepository.findByOwnerAndRepoAndNumber("FundRequest", "area51", "38")).thenReturn(Optional.of(state));
+
+        githubIssueStateService.markMissing(GITHUB_ID);
+
+        assertThat(state.isMissing()).isTrue();
+        assertThat(state.getStatus()).isEqualTo("Closed");
+        assertThat(state.getSolver()).isEqualTo("nico-ptl");
+        verify(githubIssueStateRepository).save(state);
+    }
+
+    private GithubIssue issue(final String status, final String solver) {
+        return GithubIssue.builder().owner("FundRequest").repo("area51").number("38").status(status).solver(solver).build();
+    }
+}
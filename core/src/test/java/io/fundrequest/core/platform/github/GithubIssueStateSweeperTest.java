@@ -0,0 +1,126 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.infrastructure.GithubIssueStateRepository;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GithubIssueStateSweeperTest {
+
+    private static final GithubId ISSUE_1 = githubId("1");
+    private static final GithubId ISSUE_2 = githubId("2");
+    private static final GithubId ISSUE_3 = githubId("3");
+
+    private GithubIssueStateSweeper sweeper;
+    private GithubIssueStateRepository githubIssueStateRepository;
+    private GithubIssueStateService githubIssueStateService;
+    private GithubIssueFetcher githubIssueFetcher;
+    private GithubRateLimiter githubRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        githubIssueStateRepository = mock(GithubIssueStateRepository.class);
+        githubIssueStateService = mock(GithubIssueStateService.class);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        githubRateLimiter = new GithubRateLimiter(20, 50, 100);
+        sweeper = new GithubIssueStateSweeper(githubIssueStateRepository, githubIssueStateService, githubIssueFetcher, githubRateLimiter, 10, 2, 2, 900_000);
+        when(githubIssueStateRepository.findIssuesToCheck(any(LocalDateTime.class), eq(10))).thenReturn(Arrays.asList(row(ISSUE_1), row(ISSUE_2), row(ISSUE_3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweeper.shutdown();
+    }
+
+    @Test
+    void sweep() {
+        final GithubIssue issue1 = issue(ISSUE_1, "Closed", "davyvanroy");
+        final GithubIssue issue3 = issue(ISSUE_3, "Open", null);
+        when(githubIssueFetcher.fetchGithubIssues(Arrays.asList(ISSUE_1, ISSUE_2))).thenReturn(Collections.singletonMap(ISSUE_1, issue1));
+        when(githubIssueFetcher.fetchGithubIssues(Collections.singletonList(ISSUE_3))).thenReturn(Collections.singletonMap(ISSUE_3, issue3));
+
+        sweeper.sweep();
+
+        verify(githubIssueStateService).update(issue1);
+        verify(githubIssueStateService).update(issue3);
+        verify(githubIssueStateService).markMissing(ISSUE_2);
+        verify(githubIssueStateService, never()).markMissing(ISSUE_1);
+        assertThat(metric("github.issue-state-sweeper.last-run-issues")).isEqualTo(3);
+        assertThat(metric("github.issue-state-sweeper.checked")).isEqualTo(2L);
+        assertThat(metric("github.issue-state-sweeper.missing")).isEqualTo(1L);
+    }
+
+    @Test
+    void sweep_fetchFails() {
+        final GithubIssue issue3 = issue(ISSUE_3, "Open", null);
+        when(githubIssueFetcher.fetchGithubIssues(Arrays.asList(ISSUE_1, ISSUE_2))).thenThrow(new RuntimeException("GitHub is down"));
+        when(githubIssueFetcher.fetchGithubIssues(Collections.singletonList(ISSUE_3))).thenReturn(Collections.singletonMap(ISSUE_3, issue3));
+
+        sweeper.sweep();
+
+        verify(githubIssueStateService).update(issue3);
+        verify(githubIssueStateService, never()).markMissing(any(GithubId.class));
+        assertThat(metric("github.issue-state-sweeper.checked")).isEqualTo(1L);
+        assertThat(metric("github.issue-state-sweeper.failed")).isEqualTo(2L);
+    }
+
+    @Test
+    void sweep_shedWhenRateLimitLow() {
+        githubRateLimiter.record(GithubRateLimitResource.GRAPHQL, 100, 10, Instant.now().plusSeconds(3600).getEpochSecond());
+
+        sweeper.sweep();
+
+        verify(githubIssueFetcher, never()).fetchGithubIssues(anyCollectionOf(GithubId.class));
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+        assertThat(metric("github.issue-state-sweeper.checked")).isEqualTo(0L);
+    }
+
+    @Test
+    void sweep_notShedWhenOnlyCoreRateLimitLow() {
+        githubRateLimiter.record(GithubRateLimitResource.CORE, 100, 10, Instant.now().plusSeconds(3600).getEpochSecond());
+
+        sweeper.sweep();
+
+        verify(githubIssueFetcher).fetchGithubIssues(Arrays.asList(ISSUE_1, ISSUE_2));
+        verify(githubIssueFetcher).fetchGithubIssues(Collections.singletonList(ISSUE_3));
+    }
+
+    private Object metric(final String name) {
+        final Map<String, Object> metrics = new HashMap<>();
+        sweeper.metrics().forEach(metric -> metrics.put(metric.getName(), metric.getValue()));
+        return metrics.get(name);
+    }
+
+    private static Object[] row(final GithubId githubId) {
+        return new Object[] {githubId.getOwner(), githubId.getRepo(), githubId.getNumber()};
+    }
+
+    private static GithubId githubId(final String number) {
+        return GithubId.builder().owner("FundRequest").repo("area51").number(number).build();
+    }
+
+    private static GithubIssue issue(final GithubId githubId, final String status, final String solver) {
+        return GithubIssue.builder().owner(githubId.getOwner()).repo(githubId.getRepo()).number(githubId.getNumber()).status(status).solver(solver).build();
+    }
+}
@@ -0,0 +1,88 @@
+package io.fundrequest.core.platform.github;
+
+import io.fundrequest.core.platform.github.domain.GithubResponse;
+import io.fundrequest.core.platform.github.infrastructure.GithubResponseRepository;
+import io.fundrequest.platform.github.etag.StoredGithubResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GithubResponseStoreImplTest {
+
+    private static final String URL = "https://api.github.com/repos/FundRequest/platform/languages";
+    private static final String URL_HASH = DigestUtils.md5DigestAsHex(URL.getBytes(StandardCharsets.UTF_8));
+
+    private GithubResponseStoreImpl store;
+    private GithubResponseRepository githubResponseRepository;
+
+    @BeforeEach
+    void setUp() {
+        githubResponseRepository = mock(GithubResponseRepository.class);
+        store = new GithubResponseStoreImpl(githubResponseRepository, 30);
+    }
+
+    @Test
+    void find() {
+        final StoredGithubResponse response = StoredGithubResponse.builder().eTag("\"abc\"").contentType("application/json").body("{\"Java\":100}").build();
+        final GithubResponse githubResponse = new GithubResponse(URL_HASH, URL);
+        githubResponse.update(response);
+        when(githubResponseRepository.findByUrlHash(URL_HASH)).thenReturn(Optional.of(githubResponse));
+
+        assertThat(store.find(URL)).contains(response);
+    }
+
+    @Test
+    void find_notStored() {
+        when(githubResponseRepository.findByUrlHash(URL_HASH)).thenReturn(Optional.empty());
+
+        assertThat(store.find(URL)).isEmpty();
+    }
+
+    @Test
+    void save_new() {
+        final StoredGithubResponse response = StoredGithubResponse.builder().eTag("\"abc\"").body("{}").build();
+        when(githubResponseRepository.findByUrlHash(URL_HASH)).thenReturn(Optional.empty());
+
+        store.save(URL, response);
+
+        final ArgumentCaptor<GithubResponse> captor = ArgumentCaptor.forClass(GithubResponse.class);
+        verify(githubResponseRepository).save(captor.capture());
+        assertThat(captor.getValue().getUrlHash()).isEqualTo(URL_HASH);
+        assertThat(captor.getValue().getUrl()).isEqualTo(URL);
+        assertThat(captor.getValue().toStoredResponse()).isEqualTo(response);
+    }
+
+    @Test
+    void save_updatesExisting() {
+        final GithubResponse existing = new GithubResponse(URL_HASH, URL);
+        existing.update(StoredGithubResponse.builder().eTag("\"old\"").body("{}").build());
+        final StoredGithubResponse response = StoredGithubResponse.builder().eTag("\"new\"").body("{\"Java\":1}").build();
+        when(githubResponseRepository.findByUrlHash(URL_HASH)).thenReturn(Optional.of(existing));
+
+        store.save(URL, response);
+
+        verify(githubResponseRepository).save(existing);
+        assertThat(existing.toStoredResponse()).isEqualTo(response);
+    }
+
+    @Test
+    void deleteExpired() {
+        store.deleteExpired();
+
+        final ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(githubResponseRepository).deleteStoredBefore(captor.capture());
+        assertThat(captor.getValue()).isCloseTo(LocalDateTime.now().minusDays(30), within(1, ChronoUnit.MINUTES));
+    }
+}
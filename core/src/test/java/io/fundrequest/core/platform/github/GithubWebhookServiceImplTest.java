@@ -0,0 +1,180 @@
+package io.fundrequest.core.platform.github;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import io.fundrequest.platform.github.webhook.GithubIssuesEvent;
+import io.fundrequest.platform.github.webhook.GithubPullRequestBase;
+import io.fundrequest.platform.github.webhook.GithubPullRequestEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class GithubWebhookServiceImplTest {
+
+    private static final GithubId AREA51_38 = GithubId.builder().owner("FundRequest").repo("area51").number("38").build();
+    private static final GithubId CONTRACTS_7 = GithubId.builder().owner("FundRequest").repo("contracts").number("7").build();
+
+    private GithubWebhookServiceImpl githubWebhookService;
+    private RequestRepository requestRepository;
+    private GithubIssueStateService githubIssueStateService;
+    private GithubIssueFetcher githubIssueFetcher;
+    private GithubRateLimiter githubRateLimiter;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        requestRepository = mock(RequestRepository.class);
+        githubIssueStateService = mock(GithubIssueStateService.class);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        githubRateLimiter = new GithubRateLimiter(20, 50, 0);
+        githubWebhookService = new GithubWebhookServiceImpl(requestRepository, githubIssueStateService, githubIssueFetcher, githubRateLimiter);
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        when(requestRepository.countByPlatformAndPlatformIdIgnoreCase(eq(Platform.GITHUB), anyString())).thenReturn(0L);
+        when(githubIssueStateService.find(any(GithubId.class))).thenReturn(Optional.empty());
+        when(githubIssueFetcher.fetchGithubIssues(anyCollectionOf(GithubId.class))).thenReturn(Collections.emptyMap());
+    }
+
+    @Test
+    void onIssuesEvent_closedResolvesSolverFromIssue() throws IOException {
+        funded(AREA51_38);
+        when(githubIssueStateService.find(AREA51_38)).thenReturn(Optional.of(issue(AREA51_38, "Closed", "davyvanroy")));
+        final Collection<GithubId> ids = Collections.singletonList(AREA51_38);
+        when(githubIssueFetcher.fetchGithubIssues(ids)).thenReturn(Collections.singletonMap(AREA51_38, issue(AREA51_38, "Closed", "nico-ptl")));
+
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-closed.json"));
+
+        verify(githubIssueStateService).update(issue(AREA51_38, "Closed", "nico-ptl"));
+    }
+
+    @Test
+    void onIssuesEvent_closedKeepsStoredSolverWhenRateLimitLow() throws IOException {
+        funded(AREA51_38);
+        githubRateLimiter.record(GithubRateLimitResource.GRAPHQL, 100, 10, Instant.now().plusSeconds(3600).getEpochSecond());
+        when(githubIssueStateService.find(AREA51_38)).thenReturn(Optional.of(issue(AREA51_38, "Closed", "nico-ptl")));
+
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-closed.json"));
+
+        verify(githubIssueFetcher, never()).fetchGithubIssues(anyCollectionOf(GithubId.class));
+        verify(githubIssueStateService).update(issue(AREA51_38, "Closed", "nico-ptl"));
+    }
+
+    @Test
+    void onIssuesEvent_closedKeepsStoredSolverWhenNotResolved() throws IOException {
+        funded(AREA51_38);
+        when(githubIssueStateService.find(AREA51_38)).thenReturn(Optional.of(issue(AREA51_38, "Closed", "nico-ptl")));
+
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-closed.json"));
+
+        verify(githubIssueStateService).update(issue(AREA51_38, "Closed", "nico-ptl"));
+    }
+
+    @Test
+    void onIssuesEvent_reopenedClearsSolver() throws IOException {
+        funded(AREA51_38);
+        when(githubIssueStateService.find(AREA51_38)).thenReturn(Optional.of(issue(AREA51_38, "Closed", "nico-ptl")));
+
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-reopened.json"));
+
+        verify(githubIssueStateService).update(issue(AREA51_38, "Open", null));
+        verifyZeroInteractions(githubIssueFetcher);
+    }
+
+    @Test
+    void onIssuesEvent_ignoredAction() throws IOException {
+        funded(AREA51_38);
+
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-labeled.json"));
+
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+    }
+
+    @Test
+    void onIssuesEvent_issueNotFunded() throws IOException {
+        githubWebhookService.onIssuesEvent(issuesEvent("issues-closed.json"));
+
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+    }
+
+    @Test
+    void onPullRequestEvent_mergedSetsSolverOfClosingReferences() throws IOException {
+        funded(AREA51_38);
+        funded(CONTRACTS_7);
+
+        githubWebhookService.onPullRequestEvent(pullRequestEvent("pull_request-merged.json"));
+
+        verify(githubIssueStateService).update(issue(AREA51_38, "Closed", "nico-ptl"));
+        verify(githubIssueStateService, never()).update(issue(CONTRACTS_7, "Closed", "nico-ptl"));
+        verify(requestRepository, never()).countByPlatformAndPlatformIdIgnoreCase(Platform.GITHUB, "FundRequest|FR|platform|FR|12");
+        verifyZeroInteractions(githubIssueFetcher);
+    }
+
+    @Test
+    void onPullRequestEvent_mergedIntoOtherBranch() throws IOException {
+        funded(AREA51_38);
+        final GithubPullRequestEvent event = pullRequestEvent("pull_request-merged.json");
+        event.getPullRequest().setBase(GithubPullRequestBase.builder().ref("develop").build());
+
+        githubWebhookService.onPullRequestEvent(event);
+
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+    }
+
+    @Test
+    void onPullRequestEvent_issueAlreadySolvedByOther() throws IOException {
+        funded(AREA51_38);
+        when(githubIssueStateService.find(AREA51_38)).thenReturn(Optional.of(issue(AREA51_38, "Closed", "davyvanroy")));
+
+        githubWebhookService.onPullRequestEvent(pullRequestEvent("pull_request-merged.json"));
+
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+    }
+
+    @Test
+    void onPullRequestEvent_notMerged() throws IOException {
+        funded(AREA51_38);
+
+        githubWebhookService.onPullRequestEvent(pullRequestEvent("pull_request-closed-unmerged.json"));
+
+        verify(githubIssueStateService, never()).update(any(GithubIssue.class));
+    }
+
+    private void funded(final GithubId githubId) {
+        when(requestRepository.countByPlatformAndPlatformIdIgnoreCase(Platform.GITHUB, githubId.getOwner() + "|FR|" + githubId.getRepo() + "|FR|" + githubId.getNumber()))
+                .thenReturn(1L);
+    }
+
+    private GithubIssue issue(final GithubId githubId, final String status, final String solver) {
+        return GithubIssue.builder().owner(githubId.getOwner()).repo(githubId.getRepo()).number(githubId.getNumber()).status(status).solver(solver).build();
+    }
+
+    private GithubIssuesEvent issuesEvent(final String payload) throws IOException {
+        return objectMapper.readValue(new ClassPathResource("github/webhook/" + payload).getInputStream(), GithubIssuesEvent.class);
+    }
+
+    private GithubPullRequestEvent pullRequestEvent(final String payload) throws IOException {
+        return objectMapper.readValue(new ClassPathResource("github/webhook/" + payload).getInputStream(), GithubPullRequestEvent.class);
+    }
+}
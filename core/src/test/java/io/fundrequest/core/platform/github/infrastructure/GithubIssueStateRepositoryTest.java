@@ -0,0 +1,90 @@
+package io.fundrequest.core.platform.github.infrastructure;
+
+import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.platform.github.domain.GithubIssueState;
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class GithubIssueStateRepositoryTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private GithubIssueStateRepository githubIssueStateRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Test
+    public void findIssuesToCheck() {
+        saveRequest("1", RequestStatus.FUNDED, 10);
+        saveRequest("2", RequestStatus.CLAIMABLE, 500);
+        saveRequest("3", RequestStatus.FUNDED, 100);
+        saveRequest("4", RequestStatus.CLAIMED, 1000);
+        saveRequest("5", RequestStatus.FUNDED, 1000);
+        saveState("1");
+        saveState("5");
+
+        assertThat(githubIssueStateRepository.findIssuesToCheck(LocalDateTime.now().minusMinutes(1), 10))
+                .extracting(row -> row[0], row -> row[1], row -> row[2])
+                .containsExactly(tuple("FundRequest", "area51", "2"), tuple("FundRequest", "area51", "3"));
+        assertThat(githubIssueStateRepository.findIssuesToCheck(LocalDateTime.now().plusMinutes(1), 10))
+                .extracting(row -> row[2])
+                .hasSize(4)
+                .startsWith("2", "3");
+        assertThat(githubIssueStateRepository.findIssuesToCheck(LocalDateTime.now().plusMinutes(1), 1))
+                .extracting(row -> row[2])
+                .containsExactly("2");
+    }
+
+    @Test
+    public void findIssuesToCheck_missingIssueWaitsItsTurn() {
+        saveRequest("1", RequestStatus.FUNDED, 10);
+        saveRequest("2", RequestStatus.FUNDED, 500);
+        final GithubIssueState missing = new GithubIssueState("FundRequest", "area51", "2");
+        missing.markMissing();
+        githubIssueStateRepository.saveAndFlush(missing);
+
+        assertThat(githubIssueStateRepository.findIssuesToCheck(LocalDateTime.now().minusMinutes(1), 10))
+                .extracting(row -> row[2])
+                .containsExactly("1");
+    }
+
+    private void saveRequest(final String number, final RequestStatus status, final double usdValue) {
+        final Request request = RequestMother.fundRequestArea51()
+                                             .withIssueInformation(IssueInformation.builder()
+                                                                                   .owner("FundRequest")
+                                                                                   .repo("area51")
+                                                                                   .number(number)
+                                                                                   .platform(Platform.GITHUB)
+                                                                                   .platformId("FundRequest|FR|area51|FR|" + number)
+                                                                                   .build())
+                                             .withStatus(status)
+                                             .build();
+        requestRepository.saveAndFlush(request);
+        final RequestSummary summary = new RequestSummary(request.getId());
+        summary.update(request, Collections.emptyList(), usdValue, null);
+        requestSummaryRepository.saveAndFlush(summary);
+    }
+
+    private void saveState(final String number) {
+        final GithubIssueState state = new GithubIssueState("FundRequest", "area51", number);
+        state.update("Open", null);
+        githubIssueStateRepository.saveAndFlush(state);
+    }
+}
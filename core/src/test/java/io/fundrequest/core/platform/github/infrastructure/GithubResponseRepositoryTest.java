@@ -0,0 +1,47 @@
+package io.fundrequest.core.platform.github.infrastructure;
+
+import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.platform.github.domain.GithubResponse;
+import io.fundrequest.platform.github.etag.StoredGithubResponse;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GithubResponseRepositoryTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private GithubResponseRepository githubResponseRepository;
+
+    @Test
+    public void findByUrlHash() {
+        final StoredGithubResponse response = StoredGithubResponse.builder()
+                                                                  .eTag("\"abc\"")
+                                                                  .lastModified("Tue, 24 Jul 2018 09:00:00 GMT")
+                                                                  .contentType("application/json; charset=utf-8")
+                                                                  .body("[{\"id\":1}]")
+                                                                  .build();
+        final GithubResponse githubResponse = new GithubResponse("0cc175b9c0f1b6a831c399e269772661", "https://api.github.com/users/davyvanroy");
+        githubResponse.update(response);
+        githubResponseRepository.saveAndFlush(githubResponse);
+
+        assertThat(githubResponseRepository.findByUrlHash("0cc175b9c0f1b6a831c399e269772661")).hasValueSatisfying(result -> {
+            assertThat(result.getUrl()).isEqualTo("https://api.github.com/users/davyvanroy");
+            assertThat(result.toStoredResponse()).isEqualTo(response);
+        });
+        assertThat(githubResponseRepository.findByUrlHash("92eb5ffee6ae2fec3ad71c777531578f")).isEmpty();
+    }
+
+    @Test
+    public void deleteStoredBefore() {
+        final GithubResponse githubResponse = new GithubResponse("0cc175b9c0f1b6a831c399e269772661", "https://api.github.com/users/davyvanroy");
+        githubResponse.update(StoredGithubResponse.builder().eTag("\"abc\"").body("{}").build());
+        githubResponseRepository.saveAndFlush(githubResponse);
+
+        assertThat(githubResponseRepository.deleteStoredBefore(LocalDateTime.now().minusDays(1))).isEqualTo(0);
+        assertThat(githubResponseRepository.deleteStoredBefore(LocalDateTime.now().plusDays(1))).isEqualTo(1);
+        assertThat(githubResponseRepository.findByUrlHash("0cc175b9c0f1b6a831c399e269772661")).isEmpty();
+    }
+}
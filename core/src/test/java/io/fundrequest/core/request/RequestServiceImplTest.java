@@ -2,6 +2,7 @@ package io.fundrequest.core.request;
 
 import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.PrincipalMother;
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
 import io.fundrequest.core.request.claim.SignedClaim;
 import io.fundrequest.core.request.claim.UserClaimRequest;
 import io.fundrequest.core.request.claim.command.RequestClaimedCommand;
@@ -9,6 +10,7 @@ import io.fundrequest.core.request.claim.domain.Claim;
 import io.fundrequest.core.request.claim.dto.ClaimDto;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
 import io.fundrequest.core.request.claim.dto.UserClaimableDto;
+import io.fundrequest.core.request.claim.event.RequestClaimableEvent;
 import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
 import io.fundrequest.core.request.claim.github.GithubClaimResolver;
 import io.fundrequest.core.request.claim.infrastructure.ClaimRepository;
@@ -22,17 +24,22 @@ import io.fundrequest.core.request.domain.RequestMother;
 import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.domain.RequestType;
 import io.fundrequest.core.request.erc67.Erc67Generator;
+import io.fundrequest.core.request.fiat.FiatPriceFeed;
+import io.fundrequest.core.request.fund.FundsLedgerService;
 import io.fundrequest.core.request.fund.domain.CreateERC67FundRequest;
 import io.fundrequest.core.request.fund.dto.CommentDto;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
-import io.fundrequest.core.request.infrastructure.RequestSpecification;
 import io.fundrequest.core.request.infrastructure.github.parser.GithubPlatformIdParser;
+import io.fundrequest.core.request.summary.RequestSummaryService;
+import io.fundrequest.core.request.user.UserRequestService;
+import io.fundrequest.core.request.user.domain.UserRequestRelation;
 import io.fundrequest.core.request.view.ClaimDtoMother;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
 import io.fundrequest.platform.github.GithubGateway;
 import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
 import io.fundrequest.platform.profile.profile.ProfileService;
+import io.fundrequest.platform.profile.profile.dto.UserProfile;
 import io.fundrequest.platform.profile.profile.dto.UserProfileMother;
 import org.junit.Before;
 import org.junit.Test;
@@ -43,10 +50,8 @@ import org.springframework.core.env.Environment;
 import java.math.BigDecimal;
 import java.security.Principal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -59,10 +64,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
-import static org.mockito.Matchers.refEq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,6 +84,10 @@ public class RequestServiceImplTest {
     private ProfileService profileService;
     private Environment environment;
     private Erc67Generator erc67Generator;
+    private FundsLedgerService fundsLedgerService;
+    private RequestSummaryService requestSummaryService;
+    private UserRequestService userRequestService;
+    private FiatPriceFeed fiatPriceFeed;
 
     @Before
     public void setUp() {
@@ -92,12 +101,16 @@ public class RequestServiceImplTest {
         claimRepository = mock(ClaimRepository.class);
         erc67Generator = mock(Erc67Generator.class);
         environment = mock(Environment.class);
+        fundsLedgerService = mock(FundsLedgerService.class);
+        requestSummaryService = mock(RequestSummaryService.class);
+        userRequestService = mock(UserRequestService.class);
+        fiatPriceFeed = mock(FiatPriceFeed.class);
         requestService = new RequestServiceImpl(
                 requestRepository,
                 mappers,
                 githubLinkParser,
                 profileService,
-                claimRepository, githubGateway, githubClaimResolver, eventPublisher, erc67Generator, environment);
+                claimRepository, githubGateway, githubClaimResolver, eventPublisher, erc67Generator, environment, fundsLedgerService, mock(DerivedViewRefresher.class), requestSummaryService, userRequestService, fiatPriceFeed);
     }
 
     @Test
@@ -113,22 +126,6 @@ public class RequestServiceImplTest {
         assertThat(result).isEqualTo(expectedRequests);
     }
 
-    @Test
-    public void findAllFor() {
-        final List<String> projects = new ArrayList<>();
-        final List<String> technologies = new ArrayList<>();
-        final long lastUpdatedSinceDays = 10L;
-        final List<Request> requests = new ArrayList<>();
-        final List<RequestDto> expected = new ArrayList<>();
-
-        when(requestRepository.findAll(refEq(new RequestSpecification(projects, technologies, lastUpdatedSinceDays)))).thenReturn(requests);
-        when(mappers.mapList(eq(Request.class), eq(RequestDto.class), same(requests))).thenReturn(expected);
-
-        final List<RequestDto> result = requestService.findAllFor(projects, technologies, lastUpdatedSinceDays);
-
-        assertThat(result).isSameAs(expected);
-    }
-
     @Test
     public void generateERC67() {
         when(environment.getProperty("io.fundrequest.payments.erc67.gas", "200000"))
@@ -169,6 +166,48 @@ public class RequestServiceImplTest {
         assertThat(result).isEqualTo(expectedRequests);
     }
 
+    @Test
+    public void getVersion() {
+        final Request request = RequestMother.fundRequestArea51().build();
+        final IssueInformation issueInformation = request.getIssueInformation();
+        when(requestRepository.getVersion(1L, "davy")).thenReturn(singletonList(new Object[] {1L, "FUNDED", null, 1L, 1L, 2L, 5L, 0L, null, 1L, null, 0L}));
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(request));
+        when(githubGateway.getCommentsForIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber()))
+                .thenReturn(Arrays.asList(GithubIssueCommentsResult.builder().id(10L).build(), GithubIssueCommentsResult.builder().id(11L).build()));
+        when(fiatPriceFeed.getVersion()).thenReturn(3L);
+
+        final Optional<String> result = requestService.getVersion(1L, () -> "davy");
+
+        assertThat(result).contains("1|FUNDED|null|1|1|2|5|0|null|1|null|0|3|davy|10:null,11:null");
+    }
+
+    @Test
+    public void getVersion_commentsUnavailable() {
+        final Request request = RequestMother.fundRequestArea51().build();
+        when(requestRepository.getVersion(1L, "davy")).thenReturn(singletonList(new Object[] {1L, "FUNDED"}));
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(request));
+        when(githubGateway.getCommentsForIssue(any(), any(), any())).thenThrow(new RuntimeException("rate limited"));
+
+        assertThat(requestService.getVersion(1L, () -> "davy")).isEmpty();
+    }
+
+    @Test
+    public void getVersion_byPlatformId() {
+        when(requestRepository.getVersion("GITHUB", "FundRequest|FR|area51|FR|12", "")).thenReturn(singletonList(new Object[] {1L, "FUNDED"}));
+
+        final Optional<String> result = requestService.getVersion(Platform.GITHUB, "FundRequest|FR|area51|FR|12", null);
+
+        assertThat(result).contains("1|FUNDED|0|");
+        verify(githubGateway, never()).getCommentsForIssue(any(), any(), any());
+    }
+
+    @Test
+    public void getVersion_unknownRequest() {
+        when(requestRepository.getVersion(1L, "davy")).thenReturn(Collections.emptyList());
+
+        assertThat(requestService.getVersion(1L, () -> "davy")).isEmpty();
+    }
+
     @Test
     public void findRequest() {
         Optional<Request> request = Optional.of(RequestMother.freeCodeCampNoUserStories().withWatchers(singletonList("davy")).withId(1L).build());
@@ -183,22 +222,13 @@ public class RequestServiceImplTest {
 
     @Test
     public void findRequestsForUser() {
-        Principal user = mock(Principal.class, RETURNS_DEEP_STUBS);
-
-        List<Request> requests = singletonList(RequestMother.freeCodeCampNoUserStories().build());
-        when(requestRepository.findRequestsUserIsWatching(user.getName())).thenReturn(requests);
-
-        String address = "0x0";
-        when(profileService.getUserProfile(user).getEtherAddress()).thenReturn(address);
-
-        List<Request> fundedRequests = singletonList(RequestMother.fundRequestArea51().build());
-        when(requestRepository.findRequestsUserHasFunded(user.getName(), address)).thenReturn(fundedRequests);
-        HashSet<Request> userRequets = new HashSet<>();
-        userRequets.addAll(requests);
-        userRequets.addAll(fundedRequests);
+        Principal user = mock(Principal.class);
+        when(user.getName()).thenReturn("davy");
+        List<Long> requestIds = Arrays.asList(1L, 2L);
+        when(profileService.getUserProfile(user)).thenReturn(UserProfile.builder().etherAddress("0xd24400ae8BfEBb18cA49Be86258a3C749cf46853").build());
+        when(userRequestService.findRequestIds("davy", "0xd24400ae8BfEBb18cA49Be86258a3C749cf46853")).thenReturn(requestIds);
         List<RequestDto> expectedRequests = Arrays.asList(RequestDtoMother.freeCodeCampNoUserStories(), RequestDtoMother.fundRequestArea51());
-        when(mappers.mapList(Request.class, RequestDto.class, userRequets)).thenReturn(expectedRequests);
-
+        when(requestSummaryService.findAll(requestIds)).thenReturn(expectedRequests);
 
         List<RequestDto> result = requestService.findRequestsForUser(user);
 
@@ -206,7 +236,7 @@ public class RequestServiceImplTest {
     }
 
     @Test
-    public void getUserClaimableResultUpdatesStatus() {
+    public void getUserClaimableResult() {
         final Principal principal = PrincipalMother.davyvanroy();
         final long requestId = 1L;
         final Request request = RequestMother.fundRequestArea51().build();
@@ -214,7 +244,6 @@ public class RequestServiceImplTest {
         final IssueInformation issueInformation = request.getIssueInformation();
         final ClaimableResultDto claimableResultDto = ClaimableResultDto.builder().claimable(true).claimableByPlatformUserName("davyvanroy").platform(Platform.GITHUB).build();
         final UserClaimableDto expected = UserClaimableDto.builder().claimableByLoggedInUser(true).claimableByPlatformUserName("davyvanroy").claimable(true).build();
-        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
         when(githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), FUNDED)).thenReturn(claimableResultDto);
@@ -223,12 +252,11 @@ public class RequestServiceImplTest {
         UserClaimableDto result = requestService.getUserClaimableResult(principal, requestId);
 
         assertThat(result).isEqualTo(expected);
-        verify(requestRepository).save(requestArgumentCaptor.capture());
-        assertThat(requestArgumentCaptor.getValue().getStatus()).isEqualTo(RequestStatus.CLAIMABLE);
+        verify(requestRepository, never()).save(any(Request.class));
     }
 
     @Test
-    public void getUserClaimableResultUpdatesStatusToFunded() {
+    public void getUserClaimableResult_notClaimable() {
         final Principal principal = PrincipalMother.davyvanroy();
         final long requestId = 1L;
         final Request request = RequestMother.fundRequestArea51().build();
@@ -236,7 +264,6 @@ public class RequestServiceImplTest {
         final IssueInformation issueInformation = request.getIssueInformation();
         final ClaimableResultDto claimableResultDto = ClaimableResultDto.builder().claimable(false).platform(Platform.GITHUB).build();
         final UserClaimableDto expected = UserClaimableDto.builder().claimable(false).build();
-        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
         when(githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), RequestStatus.CLAIMABLE)).thenReturn(
@@ -246,31 +273,47 @@ public class RequestServiceImplTest {
         UserClaimableDto result = requestService.getUserClaimableResult(principal, requestId);
 
         assertThat(result).isEqualTo(expected);
-        verify(requestRepository).save(requestArgumentCaptor.capture());
-        assertThat(requestArgumentCaptor.getValue().getStatus()).isEqualTo(FUNDED);
+        verify(requestRepository, never()).save(any(Request.class));
     }
 
     @Test
-    public void getClaimableResultUpdatesStatus() {
+    public void getClaimableResult() {
         final long requestId = 1L;
         final Request request = RequestMother.fundRequestArea51().build();
         request.setStatus(FUNDED);
         final IssueInformation issueInformation = request.getIssueInformation();
         final ClaimableResultDto claimableResultDto = ClaimableResultDto.builder().claimable(true).claimableByPlatformUserName("davyvanroy").platform(Platform.GITHUB).build();
-        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
         when(githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), FUNDED)).thenReturn(claimableResultDto);
 
-        ClaimableResultDto result = requestService.getClaimableResult(requestId);
+        final ClaimableResultDto result = requestService.getClaimableResult(requestId);
 
         assertThat(result).isEqualTo(claimableResultDto);
+        verify(requestRepository, never()).save(any(Request.class));
+    }
+
+    @Test
+    public void refreshClaimableStatusUpdatesStatus() {
+        final long requestId = 1L;
+        final Request request = RequestMother.fundRequestArea51().build();
+        request.setStatus(FUNDED);
+        final IssueInformation issueInformation = request.getIssueInformation();
+        final ClaimableResultDto claimableResultDto = ClaimableResultDto.builder().claimable(true).claimableByPlatformUserName("davyvanroy").platform(Platform.GITHUB).build();
+        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
+
+        when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
+        when(githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), FUNDED)).thenReturn(claimableResultDto);
+
+        requestService.refreshClaimableStatus(requestId);
+
         verify(requestRepository).save(requestArgumentCaptor.capture());
         assertThat(requestArgumentCaptor.getValue().getStatus()).isEqualTo(RequestStatus.CLAIMABLE);
+        verify(eventPublisher).publishEvent(any(RequestClaimableEvent.class));
     }
 
     @Test
-    public void getClaimableResultUpdatesStatusToFunded() {
+    public void refreshClaimableStatusUpdatesStatusToFunded() {
         final long requestId = 1L;
         final Request request = RequestMother.fundRequestArea51().build();
         request.setStatus(RequestStatus.CLAIMABLE);
@@ -282,11 +325,11 @@ public class RequestServiceImplTest {
         when(githubClaimResolver.claimableResult(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber(), RequestStatus.CLAIMABLE)).thenReturn(
                 claimableResultDto);
 
-        ClaimableResultDto result = requestService.getClaimableResult(requestId);
+        requestService.refreshClaimableStatus(requestId);
 
-        assertThat(result).isEqualTo(claimableResultDto);
         verify(requestRepository).save(requestArgumentCaptor.capture());
         assertThat(requestArgumentCaptor.getValue().getStatus()).isEqualTo(FUNDED);
+        verify(eventPublisher, never()).publishEvent(any(RequestClaimableEvent.class));
     }
 
     @Test
@@ -336,6 +379,7 @@ public class RequestServiceImplTest {
         requestService.addWatcherToRequest(user, request.get().getId());
 
         assertThat(request.get().getWatchers()).contains("davy");
+        verify(userRequestService).add("davy", 1L, UserRequestRelation.WATCHING);
     }
 
     @Test
@@ -348,6 +392,7 @@ public class RequestServiceImplTest {
         requestService.removeWatcherFromRequest(user, request.get().getId());
 
         assertThat(request.get().getWatchers()).isEmpty();
+        verify(userRequestService).remove("davy", 1L, UserRequestRelation.WATCHING);
     }
 
     @Test
@@ -378,6 +423,8 @@ public class RequestServiceImplTest {
         command.setPlatform(Platform.GITHUB);
         command.setPlatformId("1");
         command.setBlockchainEventId(6453L);
+        command.setAmountInWei(new BigDecimal("1000000000000000000"));
+        command.setTokenHash("0x02f96ef85cad6639500ca1cc8356f0b5ca5bf1d2");
         final Request request = RequestMother.freeCodeCampNoUserStories().build();
         final RequestDto requestDto = RequestDtoMother.freeCodeCampNoUserStories();
         final ClaimDto claimDto = ClaimDtoMother.aClaimDto().build();
@@ -389,6 +436,7 @@ public class RequestServiceImplTest {
 
         requestService.requestClaimed(command);
 
+        verify(fundsLedgerService).fundsClaimed(request.getId(), command.getTokenHash(), command.getAmountInWei());
         verifyClaimEventPublished(command, requestDto, claimDto);
     }
 
@@ -420,6 +468,7 @@ public class RequestServiceImplTest {
 
         assertThat(request.getStatus()).isEqualTo(FUNDED);
         verify(requestRepository).save(same(request));
+        verify(requestSummaryService).refresh(request.getId());
     }
 
     @Test
@@ -1,6 +1,7 @@
 package io.fundrequest.core.request.claim.github;
 
 import io.fundrequest.core.PrincipalMother;
+import io.fundrequest.core.platform.github.GithubIssueStateService;
 import io.fundrequest.core.request.claim.SignedClaim;
 import io.fundrequest.core.request.claim.UserClaimRequest;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
@@ -12,7 +13,8 @@ import io.fundrequest.core.request.infrastructure.azrael.SignClaimCommand;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
-import io.fundrequest.platform.github.scraper.GithubScraper;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.scraper.model.GithubId;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import io.fundrequest.platform.keycloak.KeycloakRepository;
 import io.fundrequest.platform.keycloak.Provider;
@@ -21,25 +23,56 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.security.Principal;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class GithubClaimResolverTest {
 
     private GithubClaimResolver claimResolver;
-    private GithubScraper githubScraper;
+    private GithubIssueFetcher githubIssueFetcher;
     private AzraelClient azraelClient;
     private KeycloakRepository keycloakRepository;
+    private GithubIssueStateService githubIssueStateService;
 
     @Before
     public void setUp() {
-        githubScraper = mock(GithubScraper.class);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
         azraelClient = mock(AzraelClient.class);
         keycloakRepository = mock(KeycloakRepository.class);
-        claimResolver = new GithubClaimResolver(githubScraper, azraelClient, keycloakRepository);
+        githubIssueStateService = mock(GithubIssueStateService.class);
+        claimResolver = new GithubClaimResolver(githubIssueFetcher, azraelClient, keycloakRepository, githubIssueStateService);
+        when(githubIssueStateService.find(any(GithubId.class))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void claimableResult_fromStoredIssueState() {
+        final String owner = "FundRequest";
+        final String repo = "area51";
+        final String number = "983";
+        final GithubId githubId = GithubId.builder().owner(owner).repo(repo).number(number).build();
+
+        when(githubIssueStateService.find(githubId)).thenReturn(Optional.of(GithubIssue.builder().status("Closed").solver("davyvanroy").build()));
+
+        final ClaimableResultDto result = claimResolver.claimableResult(owner, repo, number, RequestStatus.FUNDED);
+
+        assertThat(result.isClaimable()).isTrue();
+        assertThat(result.getClaimableByPlatformUserName()).isEqualTo("davyvanroy");
+        verifyZeroInteractions(githubIssueFetcher);
+    }
+
+    @Test
+    public void claimableResult_noStoredIssueState() {
+        final ClaimableResultDto result = claimResolver.claimableResult("FundRequest", "area51", "983", RequestStatus.FUNDED);
+
+        assertThat(result.isClaimable()).isFalse();
+        assertThat(result.getPlatform()).isEqualTo(Platform.GITHUB);
+        verifyZeroInteractions(githubIssueFetcher);
     }
 
     @Test
@@ -49,10 +82,11 @@ public class GithubClaimResolverTest {
         final String number = "983";
         final String solver = "davyvanroy";
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(GithubIssue.builder()
-                                                                                        .status("Open")
-                                                                                        .solver(solver)
-                                                                                        .build());
+        when(githubIssueStateService.find(GithubId.builder().owner(owner).repo(repo).number(number).build()))
+                .thenReturn(Optional.of(GithubIssue.builder()
+                                                   .status("Open")
+                                                   .solver(solver)
+                                                   .build()));
 
         final ClaimableResultDto result = claimResolver.claimableResult(owner, repo, number, RequestStatus.FUNDED);
 
@@ -67,9 +101,10 @@ public class GithubClaimResolverTest {
         final String repo = "area51";
         final String number = "983";
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(GithubIssue.builder()
-                                                                                        .status("Closed")
-                                                                                        .build());
+        when(githubIssueStateService.find(GithubId.builder().owner(owner).repo(repo).number(number).build()))
+                .thenReturn(Optional.of(GithubIssue.builder()
+                                                   .status("Closed")
+                                                   .build()));
 
         final ClaimableResultDto result = claimResolver.claimableResult(owner, repo, number, RequestStatus.FUNDED);
 
@@ -85,10 +120,11 @@ public class GithubClaimResolverTest {
         final String number = "983";
         final String solver = "davyvanroy";
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(GithubIssue.builder()
-                                                                                        .solver(solver)
-                                                                                        .status("Closed")
-                                                                                        .build());
+        when(githubIssueStateService.find(GithubId.builder().owner(owner).repo(repo).number(number).build()))
+                .thenReturn(Optional.of(GithubIssue.builder()
+                                                   .solver(solver)
+                                                   .status("Closed")
+                                                   .build()));
 
         final ClaimableResultDto result = claimResolver.claimableResult(owner, repo, number, RequestStatus.CLAIMABLE);
 
@@ -104,10 +140,11 @@ public class GithubClaimResolverTest {
         final String number = "983";
         final String solver = "davyvanroy";
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(GithubIssue.builder()
-                                                                                        .solver(solver)
-                                                                                        .status("Closed")
-                                                                                        .build());
+        when(githubIssueStateService.find(GithubId.builder().owner(owner).repo(repo).number(number).build()))
+                .thenReturn(Optional.of(GithubIssue.builder()
+                                                   .solver(solver)
+                                                   .status("Closed")
+                                                   .build()));
 
         final ClaimableResultDto result = claimResolver.claimableResult(owner, repo, number, RequestStatus.FUNDED);
 
@@ -122,7 +159,7 @@ public class GithubClaimResolverTest {
         final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
         final IssueInformationDto issueInformation = requestDto.getIssueInformation();
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
                                                                                                                                                           .solver("davyvanroy")
                                                                                                                                                           .status("Closed")
                                                                                                                                                           .build());
@@ -137,7 +174,7 @@ public class GithubClaimResolverTest {
         final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
         final IssueInformationDto issueInformation = requestDto.getIssueInformation();
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
                                                                                                                                                           .solver("dfgj")
                                                                                                                                                           .status("Closed")
                                                                                                                                                           .build());
@@ -152,7 +189,7 @@ public class GithubClaimResolverTest {
         final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
         final IssueInformationDto issueInformation = requestDto.getIssueInformation();
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
                                                                                                                                                           .status("Open")
                                                                                                                                                           .build());
         assertThat(claimResolver.canClaim(principal, requestDto)).isFalse();
@@ -170,7 +207,7 @@ public class GithubClaimResolverTest {
                                                                                                       .provider(Provider.GITHUB)
                                                                                                       .username("davyvanroy")
                                                                                                       .build()));
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
                                                                                                                                                           .solver("davyvanroy")
                                                                                                                                                           .status("Closed")
                                                                                                                                                           .build());
@@ -9,9 +9,9 @@ import io.fundrequest.core.request.view.RequestDtoMother;
 import io.fundrequest.platform.github.CreateGithubComment;
 import io.fundrequest.platform.github.GithubCommentFactory;
 import io.fundrequest.platform.github.GithubGateway;
+import io.fundrequest.platform.github.GithubIssueFetcher;
 import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
 import io.fundrequest.platform.github.parser.GithubUser;
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,20 +41,20 @@ public class CreateGithubCommentOnClosedHandlerTest {
 
     private GithubGateway githubGateway;
     private GithubCommentFactory githubCommentFactory;
-    private GithubScraper githubScraper;
+    private GithubIssueFetcher githubIssueFetcher;
     private String githubUser = "ytruyt";
 
     @Before
     public void setUp() {
         githubGateway = mock(GithubGateway.class);
         githubCommentFactory = mock(GithubCommentFactory.class);
-        githubScraper = mock(GithubScraper.class);
-        handler = new CreateGithubCommentOnClosedHandler(githubGateway, githubScraper, githubCommentFactory, true, githubUser);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        handler = new CreateGithubCommentOnClosedHandler(githubGateway, githubIssueFetcher, githubCommentFactory, true, githubUser);
     }
 
     @Test
     public void ignoresGithubComment() {
-        handler = new CreateGithubCommentOnClosedHandler(githubGateway, githubScraper, githubCommentFactory, false, githubUser);
+        handler = new CreateGithubCommentOnClosedHandler(githubGateway, githubIssueFetcher, githubCommentFactory, false, githubUser);
 
         handler.createGithubCommentOnRequestClaimed(mock((RequestClaimedEvent.class)));
 
@@ -77,7 +77,7 @@ public class CreateGithubCommentOnClosedHandlerTest {
         final List<GithubIssueCommentsResult> existingComments = Arrays.asList(createCommentFromGithubUserMock(0));
 
         when(githubGateway.getCommentsForIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(existingComments);
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
         when(githubCommentFactory.createClosedComment(request.getId(), SOLVER, claim.getTransactionHash())).thenReturn(EXPECTED_MESSAGE);
 
         handler.createGithubCommentOnRequestClaimed(event);
@@ -110,7 +110,7 @@ public class CreateGithubCommentOnClosedHandlerTest {
         final List<GithubIssueCommentsResult> existingComments = Arrays.asList(firstComment, secondComment);
 
         when(githubGateway.getCommentsForIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(existingComments);
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
         when(githubCommentFactory.createClosedComment(request.getId(), SOLVER, claim.getTransactionHash())).thenReturn(EXPECTED_MESSAGE);
 
         handler.createGithubCommentOnRequestClaimed(event);
@@ -144,7 +144,7 @@ public class CreateGithubCommentOnClosedHandlerTest {
         final List<GithubIssueCommentsResult> existingComments = Arrays.asList(firstComment, secondComment, thirdComment);
 
         when(githubGateway.getCommentsForIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(existingComments);
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().solver(SOLVER).build());
         when(githubCommentFactory.createClosedComment(request.getId(), SOLVER, claim.getTransactionHash())).thenReturn(EXPECTED_MESSAGE);
 
         handler.createGithubCommentOnRequestClaimed(event);
@@ -171,7 +171,7 @@ public class CreateGithubCommentOnClosedHandlerTest {
         final RequestDto request = event.getRequestDto();
         final IssueInformationDto issueInformation = request.getIssueInformation();
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().build());
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().build());
 
         try {
             handler.createGithubCommentOnRequestClaimed(event);
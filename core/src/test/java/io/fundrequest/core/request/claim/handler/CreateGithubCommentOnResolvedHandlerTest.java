@@ -7,7 +7,7 @@ import io.fundrequest.core.request.view.RequestDtoMother;
 import io.fundrequest.platform.github.CreateGithubComment;
 import io.fundrequest.platform.github.GithubCommentFactory;
 import io.fundrequest.platform.github.GithubGateway;
-import io.fundrequest.platform.github.scraper.GithubScraper;
+import io.fundrequest.platform.github.GithubIssueFetcher;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,19 +28,19 @@ public class CreateGithubCommentOnResolvedHandlerTest {
     private CreateGithubCommentOnResolvedHandler handler;
     private GithubGateway githubGateway;
     private GithubCommentFactory githubCommentFactory;
-    private GithubScraper githubScraper;
+    private GithubIssueFetcher githubIssueFetcher;
 
     @Before
     public void setUp() {
         githubGateway = mock(GithubGateway.class);
         githubCommentFactory = mock(GithubCommentFactory.class);
-        githubScraper = mock(GithubScraper.class);
-        handler = new CreateGithubCommentOnResolvedHandler(githubGateway, githubScraper, githubCommentFactory, true);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        handler = new CreateGithubCommentOnResolvedHandler(githubGateway, githubIssueFetcher, githubCommentFactory, true);
     }
 
     @Test
     public void ignoresGithubComment() {
-        handler = new CreateGithubCommentOnResolvedHandler(githubGateway, githubScraper, githubCommentFactory, false);
+        handler = new CreateGithubCommentOnResolvedHandler(githubGateway, githubIssueFetcher, githubCommentFactory, false);
 
         handler.createGithubCommentOnRequestClaimable(mock((RequestClaimableEvent.class)));
 
@@ -56,7 +56,7 @@ public class CreateGithubCommentOnResolvedHandlerTest {
         final String solver = "gdhfjghiuyutfyd";
         final ArgumentCaptor<CreateGithubComment> createGithubCommentArgumentCaptor = ArgumentCaptor.forClass(CreateGithubComment.class);
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder()
                                                                                                                                                           .solver(solver)
                                                                                                                                                           .build());
         when(githubCommentFactory.createResolvedComment(request.getId(), solver)).thenReturn(expectedMessage);
@@ -76,7 +76,7 @@ public class CreateGithubCommentOnResolvedHandlerTest {
         final RequestDto request = event.getRequestDto();
         final IssueInformationDto issueInformation = request.getIssueInformation();
 
-        when(githubScraper.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().build());
+        when(githubIssueFetcher.fetchGithubIssue(issueInformation.getOwner(), issueInformation.getRepo(), issueInformation.getNumber())).thenReturn(GithubIssue.builder().build());
 
         try {
             handler.createGithubCommentOnRequestClaimable(event);
@@ -0,0 +1,124 @@
+package io.fundrequest.core.request.fiat;
+
+import io.fundrequest.core.contract.service.TokenWhitelistSnapshotService;
+import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
+import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
+import io.fundrequest.core.token.dto.TokenInfoDtoMother;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class FiatPriceFeedTest {
+
+    private FiatPriceFeed fiatPriceFeed;
+    private CoinMarketCapService coinMarketCapService;
+    private CryptoCompareService cryptoCompareService;
+    private TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        coinMarketCapService = mock(CoinMarketCapService.class);
+        cryptoCompareService = mock(CryptoCompareService.class);
+        tokenWhitelistSnapshotService = mock(TokenWhitelistSnapshotService.class);
+        fiatPriceFeed = new FiatPriceFeed(coinMarketCapService, cryptoCompareService, tokenWhitelistSnapshotService, 60_000);
+        when(tokenWhitelistSnapshotService.getTokens()).thenReturn(Collections.singletonList(TokenInfoDtoMother.fnd()));
+    }
+
+    @Test
+    void coinMarketCapHasPriority() {
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+
+        fiatPriceFeed.refresh();
+
+        assertThat(fiatPriceFeed.getUsdPrice("fnd")).hasValue(0.56);
+        assertThat(fiatPriceFeed.getLastUpdated("FND")).isPresent();
+        verifyZeroInteractions(cryptoCompareService);
+    }
+
+    @Test
+    void cryptoCompareIsFallback() {
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
+        when(cryptoCompareService.getCurrentPricesInUsd(Collections.singleton("FND"))).thenReturn(Collections.singletonMap("FND", 0.56));
+
+        fiatPriceFeed.refresh();
+
+        assertThat(fiatPriceFeed.getUsdPrice("FND")).hasValue(0.56);
+    }
+
+    @Test
+    void unknownSymbolIsPricedOnFirstLookup() {
+        when(coinMarketCapService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.of(0.98));
+
+        assertThat(fiatPriceFeed.getUsdPrice("ZRX")).hasValue(0.98);
+        assertThat(fiatPriceFeed.getUsdPrice("ZRX")).hasValue(0.98);
+
+        verify(coinMarketCapService, times(1)).getCurrentPriceInUsd("ZRX");
+        verifyZeroInteractions(cryptoCompareService);
+    }
+
+    @Test
+    void unpricedSymbolIsLookedUpOncePerRefresh() {
+        when(coinMarketCapService.getCurrentPriceInUsd(any())).thenReturn(Optional.empty());
+        when(cryptoCompareService.getCurrentPricesInUsd(any())).thenReturn(Collections.emptyMap());
+
+        assertThat(fiatPriceFeed.getUsdPrice("XYZ")).isEmpty();
+        assertThat(fiatPriceFeed.getUsdPrice("XYZ")).isEmpty();
+        verify(coinMarketCapService, times(1)).getCurrentPriceInUsd("XYZ");
+
+        when(coinMarketCapService.getCurrentPriceInUsd("XYZ")).thenReturn(Optional.of(0.12));
+        fiatPriceFeed.refresh();
+
+        assertThat(fiatPriceFeed.getUsdPrice("XYZ")).hasValue(0.12);
+    }
+
+    @Test
+    void stalePriceIsKeptWhenRefreshFails() {
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        fiatPriceFeed.refresh();
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenThrow(new RuntimeException("rate limited"));
+        when(cryptoCompareService.getCurrentPricesInUsd(any())).thenThrow(new RuntimeException("rate limited"));
+
+        fiatPriceFeed.refresh();
+
+        assertThat(fiatPriceFeed.getUsdPrice("FND")).hasValue(0.56);
+    }
+
+    @Test
+    void symbolNotRequestedWithinExpiryIsDropped() {
+        fiatPriceFeed = new FiatPriceFeed(coinMarketCapService, cryptoCompareService, tokenWhitelistSnapshotService, -1);
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        when(coinMarketCapService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.of(0.98));
+        when(cryptoCompareService.getCurrentPricesInUsd(any())).thenReturn(Collections.emptyMap());
+        fiatPriceFeed.getUsdPrice("ZRX");
+
+        fiatPriceFeed.refresh();
+
+        assertThat(fiatPriceFeed.getLastUpdated("ZRX")).isEmpty();
+        assertThat(fiatPriceFeed.getUsdPrice("FND")).hasValue(0.56);
+        verify(coinMarketCapService, times(1)).getCurrentPriceInUsd("ZRX");
+    }
+
+    @Test
+    void versionChangesOnlyWhenAPriceChanges() {
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        fiatPriceFeed.refresh();
+        final long version = fiatPriceFeed.getVersion();
+
+        fiatPriceFeed.refresh();
+        assertThat(fiatPriceFeed.getVersion()).isEqualTo(version);
+
+        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.57));
+        fiatPriceFeed.refresh();
+        assertThat(fiatPriceFeed.getVersion()).isNotEqualTo(version);
+    }
+}
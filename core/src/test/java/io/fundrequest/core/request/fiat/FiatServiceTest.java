@@ -1,7 +1,5 @@
 package io.fundrequest.core.request.fiat;
 
-import io.fundrequest.core.request.fiat.coinmarketcap.service.CoinMarketCapService;
-import io.fundrequest.core.request.fiat.cryptocompare.service.CryptoCompareService;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import org.junit.Before;
 import org.junit.Test;
@@ -11,29 +9,23 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class FiatServiceTest {
 
-    private CryptoCompareService cryptoCompareService;
-    private CoinMarketCapService coinMarketCapService;
+    private FiatPriceFeed fiatPriceFeed;
     private FiatService fiatService;
 
     @Before
     public void setUp() {
-        cryptoCompareService = mock(CryptoCompareService.class);
-        coinMarketCapService = mock(CoinMarketCapService.class);
-        fiatService = new FiatService(cryptoCompareService, coinMarketCapService);
+        fiatPriceFeed = mock(FiatPriceFeed.class);
+        fiatService = new FiatService(fiatPriceFeed);
     }
 
-
     @Test
-    public void getUsdPriceOneCryptoCompare() {
+    public void getUsdPriceOne() {
         TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        when(fiatPriceFeed.getUsdPrice("FND")).thenReturn(Optional.of(0.56));
 
         double result = fiatService.getUsdPrice(totalFund);
 
@@ -41,13 +33,11 @@ public class FiatServiceTest {
     }
 
     @Test
-    public void getUsdPriceMultipleCryptoCompare() {
+    public void getUsdPriceMultiple() {
         TokenValueDto totalFund1 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(new BigDecimal("8457.858")).build();
         TokenValueDto totalFund2 = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("ZRX").totalAmount(new BigDecimal("123.464")).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(coinMarketCapService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
-        when(cryptoCompareService.getCurrentPriceInUsd("ZRX")).thenReturn(Optional.of(0.98));
+        when(fiatPriceFeed.getUsdPrice("FND")).thenReturn(Optional.of(0.56));
+        when(fiatPriceFeed.getUsdPrice("ZRX")).thenReturn(Optional.of(0.98));
 
         double result = fiatService.getUsdPrice(totalFund1, totalFund2);
 
@@ -55,27 +45,12 @@ public class FiatServiceTest {
     }
 
     @Test
-    public void coinMarketCapHasPriority() {
+    public void unknownPriceIsZero() {
         TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
+        when(fiatPriceFeed.getUsdPrice("FND")).thenReturn(Optional.empty());
 
         double result = fiatService.getUsdPrice(totalFund);
 
-        assertThat(result).isEqualTo(5.6);
-
-        verifyZeroInteractions(cryptoCompareService);
-    }
-
-    @Test
-    public void cryptoCompareIsFallback() {
-        TokenValueDto totalFund = TokenValueDto.builder().tokenAddress("0x0").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
-        when(coinMarketCapService.getCurrentPriceInUsd("FND")).thenReturn(Optional.empty());
-        when(cryptoCompareService.getCurrentPriceInUsd("FND")).thenReturn(Optional.of(0.56));
-
-        double result = fiatService.getUsdPrice(totalFund);
-
-        assertThat(result).isEqualTo(5.6);
-        verify(coinMarketCapService).getCurrentPriceInUsd("FND");
-        verify(cryptoCompareService).getCurrentPriceInUsd("FND");
+        assertThat(result).isEqualTo(0.0);
     }
-}
\ No newline at end of file
+}
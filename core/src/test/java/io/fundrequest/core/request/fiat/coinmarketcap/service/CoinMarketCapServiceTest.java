@@ -13,7 +13,7 @@ import org.springframework.cache.CacheManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +32,7 @@ class CoinMarketCapServiceTest {
         client = mock(CoinMarketCapClient.class);
         cacheManager = mock(CacheManager.class, RETURNS_DEEP_STUBS);
         service = new CoinMarketCapService(client, cacheManager);
-        when(cacheManager.getCache("cmc_listings").get("all", List.class)).thenReturn(null);
+        when(cacheManager.getCache("cmc_listings").get("symbol-index", Map.class)).thenReturn(null);
     }
 
     @Test
@@ -2,9 +2,10 @@ package io.fundrequest.core.request.fund;
 
 
 import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.contract.domain.FundRepositoryContract;
+import io.fundrequest.core.contract.service.ContractCallExecutor;
 import io.fundrequest.core.contract.service.FundRequestContractsService;
 import io.fundrequest.core.request.domain.FundMother;
-import io.fundrequest.core.request.domain.IssueInformation;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestMother;
 import io.fundrequest.core.request.domain.RequestStatus;
@@ -23,6 +24,7 @@ import io.fundrequest.core.request.fund.event.RequestFundedEvent;
 import io.fundrequest.core.request.fund.infrastructure.FundRepository;
 import io.fundrequest.core.request.fund.infrastructure.PendingFundRepository;
 import io.fundrequest.core.request.fund.infrastructure.RefundRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
 import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.view.FundDtoMother;
 import io.fundrequest.core.request.view.RequestDto;
@@ -31,20 +33,23 @@ import io.fundrequest.core.token.dto.TokenValueDtoMother;
 import io.fundrequest.core.token.mapper.TokenValueMapper;
 import io.fundrequest.core.token.model.TokenValue;
 import io.fundrequest.platform.profile.profile.dto.UserProfileMother;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
+import org.web3j.protocol.core.RemoteCall;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -71,13 +76,14 @@ public class FundServiceImplTest {
     private RequestRepository requestRepository;
     private Mappers mappers;
     private ApplicationEventPublisher eventPublisher;
-    private CacheManager cacheManager;
     private FundRequestContractsService fundRequestContractsService;
     private FiatService fiatService;
     private TokenValueMapper tokenValueMapper;
     private FundFundsByFunderAggregator fundFundsByFunderAggregator;
     private RefundFundsByFunderAggregator refundFundsByFunderAggregator;
     private FundsAndRefundsAggregator fundsAndRefundsAggregator;
+    private FundsLedgerService fundsLedgerService;
+    private ContractCallExecutor contractCallExecutor;
     private Principal funder;
 
     @Before
@@ -88,7 +94,6 @@ public class FundServiceImplTest {
         requestRepository = mock(RequestRepository.class);
         mappers = mock(Mappers.class);
         eventPublisher = mock(ApplicationEventPublisher.class);
-        cacheManager = mock(CacheManager.class, RETURNS_DEEP_STUBS);
         fundRequestContractsService = mock(FundRequestContractsService.class, RETURNS_DEEP_STUBS);
         fiatService = mock(FiatService.class);
         when(fundRepository.saveAndFlush(any(Fund.class))).then(returnsFirstArg());
@@ -97,23 +102,31 @@ public class FundServiceImplTest {
         fundFundsByFunderAggregator = mock(FundFundsByFunderAggregator.class);
         refundFundsByFunderAggregator = mock(RefundFundsByFunderAggregator.class);
         fundsAndRefundsAggregator = mock(FundsAndRefundsAggregator.class);
+        fundsLedgerService = mock(FundsLedgerService.class);
+        contractCallExecutor = new ContractCallExecutor(2);
         fundService = new FundServiceImpl(fundRepository,
                                           refundRepository,
                                           pendingFundRepository,
                                           requestRepository,
                                           mappers,
                                           eventPublisher,
-                                          cacheManager,
                                           fundRequestContractsService,
                                           fiatService,
                                           tokenValueMapper,
                                           fundFundsByFunderAggregator,
                                           refundFundsByFunderAggregator,
-                                          fundsAndRefundsAggregator);
+                                          fundsAndRefundsAggregator,
+                                          fundsLedgerService,
+                                          contractCallExecutor);
 
         when(fundRepository.saveAndFlush(any(Fund.class))).then(returnsFirstArg());
     }
 
+    @After
+    public void tearDown() {
+        contractCallExecutor.shutdown();
+    }
+
     @Test
     public void findAll() {
         List<Fund> funds = singletonList(FundMother.fndFundFunderKnown().build());
@@ -154,19 +167,17 @@ public class FundServiceImplTest {
                                                            .build();
         final FundDto fundDto = FundDtoMother.aFundDto().build();
         final RequestDto requestDto = new RequestDto();
-        final Cache cache = mock(Cache.class);
 
         when(requestRepository.findOne(request.getId())).thenReturn(Optional.of(request));
         when(mappers.map(eq(Fund.class), eq(FundDto.class), any(Fund.class))).thenReturn(fundDto);
         when(mappers.map(eq(Request.class), eq(RequestDto.class), any(Request.class))).thenReturn(requestDto);
-        when(cacheManager.getCache("funds")).thenReturn(cache);
         when(pendingFundRepository.findByTransactionHash(command.getTransactionHash())).thenReturn(Optional.of(PendingFund.builder().userId(funder.getName()).build()));
 
         fundService.addFunds(command);
 
         verifyFundsSaved(command, funder);
         verifyEventCreated(request.getId(), fundDto);
-        verify(cache).evict(request.getId());
+        verify(fundsLedgerService).fundsAdded(request.getId(), command.getToken(), command.getAmountInWei());
     }
 
     @Test
@@ -261,9 +272,6 @@ public class FundServiceImplTest {
     public void getTotalFundsForRequest() {
         final long requestId = 6457L;
         final Request request = RequestMother.fundRequestArea51().withStatus(RequestStatus.FUNDED).build();
-        final IssueInformation issueInformation = request.getIssueInformation();
-        final String platform = issueInformation.getPlatform().name();
-        final String platformId = issueInformation.getPlatformId();
         final String tokenAddress1 = "0x64576fg";
         final String tokenAddress2 = "0x654fh987";
         final BigDecimal fndAmount = new BigDecimal("324");
@@ -272,11 +280,7 @@ public class FundServiceImplTest {
         final TokenValueDto zrxTokenValue = TokenValueDtoMother.ZRX().totalAmount(zrxAmount).build();
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
-        when(fundRequestContractsService.fundRepository().getFundedTokenCount(platform, platformId)).thenReturn(2L);
-        when(fundRequestContractsService.fundRepository().getFundedToken(platform, platformId, 0L)).thenReturn(Optional.of(tokenAddress1));
-        when(fundRequestContractsService.fundRepository().getFundedToken(platform, platformId, 1L)).thenReturn(Optional.of(tokenAddress2));
-        when(fundRequestContractsService.fundRepository().balance(platform, platformId, tokenAddress1)).thenReturn(fndAmount.toBigInteger());
-        when(fundRequestContractsService.fundRepository().balance(platform, platformId, tokenAddress2)).thenReturn(zrxAmount.toBigInteger());
+        when(fundsLedgerService.getTotalFunds(request)).thenReturn(Arrays.asList(new TokenAmountDto(tokenAddress1, fndAmount), new TokenAmountDto(tokenAddress2, zrxAmount)));
 
         when(tokenValueMapper.map(tokenAddress1, fndAmount)).thenReturn(fndTokenValue);
         when(tokenValueMapper.map(tokenAddress2, zrxAmount)).thenReturn(zrxTokenValue);
@@ -290,9 +294,6 @@ public class FundServiceImplTest {
     public void getTotalFundsForRequest_CLAIMED() {
         final long requestId = 6457L;
         final Request request = RequestMother.fundRequestArea51().withStatus(RequestStatus.CLAIMED).build();
-        final IssueInformation issueInformation = request.getIssueInformation();
-        final String platform = issueInformation.getPlatform().name();
-        final String platformId = issueInformation.getPlatformId();
         final String tokenAddress1 = "0x64576fg";
         final String tokenAddress2 = "0x654fh987";
         final BigDecimal fndAmount = new BigDecimal("324");
@@ -301,11 +302,7 @@ public class FundServiceImplTest {
         final TokenValueDto zrxTokenValue = TokenValueDtoMother.ZRX().totalAmount(zrxAmount).build();
 
         when(requestRepository.findOne(requestId)).thenReturn(Optional.of(request));
-        when(fundRequestContractsService.claimRepository().getTokenCount(platform, platformId)).thenReturn(2L);
-        when(fundRequestContractsService.claimRepository().getTokenByIndex(platform, platformId, 0L)).thenReturn(Optional.of(tokenAddress1));
-        when(fundRequestContractsService.claimRepository().getTokenByIndex(platform, platformId, 1L)).thenReturn(Optional.of(tokenAddress2));
-        when(fundRequestContractsService.claimRepository().getAmountByToken(platform, platformId, tokenAddress1)).thenReturn(fndAmount.toBigInteger());
-        when(fundRequestContractsService.claimRepository().getAmountByToken(platform, platformId, tokenAddress2)).thenReturn(zrxAmount.toBigInteger());
+        when(fundsLedgerService.getTotalFunds(request)).thenReturn(Arrays.asList(new TokenAmountDto(tokenAddress1, fndAmount), new TokenAmountDto(tokenAddress2, zrxAmount)));
         when(tokenValueMapper.map(tokenAddress1, fndAmount)).thenReturn(fndTokenValue);
         when(tokenValueMapper.map(tokenAddress2, zrxAmount)).thenReturn(zrxTokenValue);
 
@@ -314,6 +311,92 @@ public class FundServiceImplTest {
         assertThat(result).containsExactlyInAnyOrder(fndTokenValue, zrxTokenValue);
     }
 
+    @Test
+    public void getTotalFundsForRequests() {
+        final Request request1 = RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED).withId(1L).build();
+        final Request request2 = RequestMother.fundRequestArea51().withStatus(RequestStatus.CLAIMED).withId(2L).build();
+        final List<Long> requestIds = Arrays.asList(request1.getId(), request2.getId());
+        final String tokenAddress = "0x64576fg";
+        final BigDecimal fndAmount = new BigDecimal("324");
+        final TokenValueDto fndTokenValue = TokenValueDtoMother.FND().totalAmount(fndAmount).build();
+        final Map<Long, List<TokenAmountDto>> totalFunds = new HashMap<>();
+        totalFunds.put(request1.getId(), singletonList(new TokenAmountDto(tokenAddress, fndAmount)));
+        totalFunds.put(request2.getId(), Collections.emptyList());
+
+        when(requestRepository.findAll(requestIds)).thenReturn(Arrays.asList(request1, request2));
+        when(fundsLedgerService.getTotalFunds(Arrays.asList(request1, request2))).thenReturn(totalFunds);
+        when(tokenValueMapper.map(tokenAddress, fndAmount)).thenReturn(fndTokenValue);
+
+        final Map<Long, List<TokenValueDto>> result = fundService.getTotalFundsForRequests(requestIds);
+
+        assertThat(result).containsEntry(request1.getId(), singletonList(fndTokenValue))
+                          .containsEntry(request2.getId(), Collections.emptyList());
+    }
+
+    @Test
+    public void getFundsFor() throws Exception {
+        final Request request = RequestMother.fundRequestArea51().build();
+        final String platformId = request.getIssueInformation().getPlatformId();
+        final String funderAddress = "0x5346547";
+        final FundRepositoryContract fundRepositoryContract = mock(FundRepositoryContract.class);
+        final RemoteCall<BigInteger> fndAmount = successful(BigInteger.TEN);
+        final RemoteCall<BigInteger> zrxAmount = successful(BigInteger.ONE);
+        final TokenValueDto fndTokenValue = TokenValueDtoMother.FND().totalAmount(BigDecimal.TEN).build();
+        final TokenValueDto zrxTokenValue = TokenValueDtoMother.ZRX().totalAmount(BigDecimal.ONE).build();
+        when(requestRepository.findOne(request.getId())).thenReturn(Optional.of(request));
+        when(fundRequestContractsService.fundRepository()).thenReturn(fundRepositoryContract);
+        when(fundRepositoryContract.amountFunded("GITHUB", platformId, funderAddress, "0xfnd")).thenReturn(fndAmount);
+        when(fundRepositoryContract.amountFunded("GITHUB", platformId, funderAddress, "0xzrx")).thenReturn(zrxAmount);
+        when(tokenValueMapper.map("0xfnd", BigDecimal.TEN)).thenReturn(fndTokenValue);
+        when(tokenValueMapper.map("0xzrx", BigDecimal.ONE)).thenReturn(zrxTokenValue);
+
+        final List<TokenValueDto> result = fundService.getFundsFor(request.getId(), funderAddress, Arrays.asList("0xfnd", "0xzrx", "0xfnd"));
+
+        assertThat(result).containsExactly(fndTokenValue, zrxTokenValue);
+        verify(fndAmount).send();
+    }
+
+    @Test
+    public void getFundsFor_leavesOutUnreadableTokens() throws Exception {
+        final Request request = RequestMother.fundRequestArea51().build();
+        final String platformId = request.getIssueInformation().getPlatformId();
+        final String funderAddress = "0x5346547";
+        final FundRepositoryContract fundRepositoryContract = mock(FundRepositoryContract.class);
+        final RemoteCall<BigInteger> fndAmount = successful(BigInteger.TEN);
+        final RemoteCall<BigInteger> zrxAmount = failing();
+        final TokenValueDto fndTokenValue = TokenValueDtoMother.FND().totalAmount(BigDecimal.TEN).build();
+        when(requestRepository.findOne(request.getId())).thenReturn(Optional.of(request));
+        when(fundRequestContractsService.fundRepository()).thenReturn(fundRepositoryContract);
+        when(fundRepositoryContract.amountFunded("GITHUB", platformId, funderAddress, "0xfnd")).thenReturn(fndAmount);
+        when(fundRepositoryContract.amountFunded("GITHUB", platformId, funderAddress, "0xzrx")).thenReturn(zrxAmount);
+        when(tokenValueMapper.map("0xfnd", BigDecimal.TEN)).thenReturn(fndTokenValue);
+
+        final List<TokenValueDto> result = fundService.getFundsFor(request.getId(), funderAddress, Arrays.asList("0xfnd", "0xzrx"));
+
+        assertThat(result).containsExactly(fndTokenValue);
+    }
+
+    @Test
+    public void getFundsFor_unknownRequest() {
+        when(requestRepository.findOne(6457L)).thenReturn(Optional.empty());
+
+        assertThat(fundService.getFundsFor(6457L, "0x5346547", singletonList("0xfnd"))).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RemoteCall<T> successful(final T value) throws Exception {
+        final RemoteCall<T> call = mock(RemoteCall.class);
+        when(call.send()).thenReturn(value);
+        return call;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RemoteCall<T> failing() throws Exception {
+        final RemoteCall<T> call = mock(RemoteCall.class);
+        when(call.send()).thenThrow(new RuntimeException("node unavailable"));
+        return call;
+    }
+
     private void verifyEventCreated(Long requestId, FundDto fundDto) {
         final ArgumentCaptor<RequestFundedEvent> requestFundedEventArgumentCaptor = ArgumentCaptor.forClass(RequestFundedEvent.class);
 
@@ -0,0 +1,135 @@
+package io.fundrequest.core.request.fund;
+
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.fund.domain.FundsLedgerEntry;
+import io.fundrequest.core.request.fund.infrastructure.FundsLedgerRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FundsLedgerServiceImplTest {
+
+    private static final String TOKEN = "0x02f96ef85cad6639500ca1cc8356f0b5ca5bf1d2";
+
+    private FundsLedgerServiceImpl fundsLedgerService;
+    private FundsLedgerRepository fundsLedgerRepository;
+    private RequestRepository requestRepository;
+
+    @Before
+    public void setUp() {
+        fundsLedgerRepository = mock(FundsLedgerRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        fundsLedgerService = new FundsLedgerServiceImpl(fundsLedgerRepository, requestRepository);
+    }
+
+    @Test
+    public void fundsAdded_createsEntry() {
+        when(fundsLedgerRepository.findByRequestIdAndTokenAddress(1L, TOKEN)).thenReturn(Optional.empty());
+
+        fundsLedgerService.fundsAdded(1L, TOKEN, new BigDecimal("300"));
+
+        final ArgumentCaptor<FundsLedgerEntry> captor = ArgumentCaptor.forClass(FundsLedgerEntry.class);
+        verify(fundsLedgerRepository).save(captor.capture());
+        assertThat(captor.getValue().getRequestId()).isEqualTo(1L);
+        assertThat(captor.getValue().getTokenAddress()).isEqualTo(TOKEN);
+        assertThat(captor.getValue().getBalanceInWei()).isEqualByComparingTo("300");
+        assertThat(captor.getValue().getClaimedInWei()).isEqualByComparingTo("0");
+        verify(requestRepository).lockById(1L);
+    }
+
+    @Test
+    public void fundsAdded_createdConcurrently() {
+        final FundsLedgerEntry entry = new FundsLedgerEntry(1L, TOKEN);
+        entry.fund(new BigDecimal("100"));
+        when(fundsLedgerRepository.findByRequestIdAndTokenAddress(1L, TOKEN)).thenReturn(Optional.empty(), Optional.of(entry));
+
+        fundsLedgerService.fundsAdded(1L, TOKEN, new BigDecimal("300"));
+
+        verify(fundsLedgerRepository).save(entry);
+        assertThat(entry.getBalanceInWei()).isEqualByComparingTo("400");
+    }
+
+    @Test
+    public void fundsRefunded_normalizesTokenAddress() {
+        final FundsLedgerEntry entry = new FundsLedgerEntry(1L, TOKEN);
+        entry.fund(new BigDecimal("300"));
+        when(fundsLedgerRepository.findByRequestIdAndTokenAddress(1L, TOKEN)).thenReturn(Optional.of(entry));
+
+        fundsLedgerService.fundsRefunded(1L, "02F96EF85CAD6639500CA1CC8356F0B5CA5BF1D2", new BigDecimal("100"));
+
+        verify(fundsLedgerRepository).save(entry);
+        assertThat(entry.getBalanceInWei()).isEqualByComparingTo("200");
+        verify(requestRepository, never()).lockById(1L);
+    }
+
+    @Test
+    public void fundsRefunded() {
+        final FundsLedgerEntry entry = new FundsLedgerEntry(1L, TOKEN);
+        entry.fund(new BigDecimal("300"));
+        when(fundsLedgerRepository.findByRequestIdAndTokenAddress(1L, TOKEN)).thenReturn(Optional.of(entry));
+
+        fundsLedgerService.fundsRefunded(1L, TOKEN, new BigDecimal("100"));
+
+        verify(fundsLedgerRepository).save(entry);
+        assertThat(entry.getBalanceInWei()).isEqualByComparingTo("200");
+    }
+
+    @Test
+    public void fundsClaimed() {
+        final FundsLedgerEntry entry = new FundsLedgerEntry(1L, TOKEN);
+        entry.fund(new BigDecimal("300"));
+        when(fundsLedgerRepository.findByRequestIdAndTokenAddress(1L, TOKEN)).thenReturn(Optional.of(entry));
+
+        fundsLedgerService.fundsClaimed(1L, TOKEN, new BigDecimal("300"));
+
+        verify(fundsLedgerRepository).save(entry);
+        assertThat(entry.getBalanceInWei()).isEqualByComparingTo("0");
+        assertThat(entry.getClaimedInWei()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    public void getTotalFunds_returnsBalanceWhenNotClaimed() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final FundsLedgerEntry entry = new FundsLedgerEntry(1L, TOKEN);
+        entry.fund(new BigDecimal("300"));
+        when(fundsLedgerRepository.findAllByRequestId(1L)).thenReturn(Arrays.asList(entry));
+
+        final List<TokenAmountDto> result = fundsLedgerService.getTotalFunds(request);
+
+        assertThat(result).containsExactly(new TokenAmountDto(TOKEN, new BigDecimal("300")));
+    }
+
+    @Test
+    public void getTotalFunds_returnsClaimedAmountsWhenClaimed() {
+        final Request funded = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final Request claimed = RequestMother.freeCodeCampNoUserStories().withId(2L).withStatus(RequestStatus.CLAIMED).build();
+        final FundsLedgerEntry fundedEntry = new FundsLedgerEntry(1L, TOKEN);
+        fundedEntry.fund(new BigDecimal("300"));
+        final FundsLedgerEntry claimedEntry = new FundsLedgerEntry(2L, TOKEN);
+        claimedEntry.fund(new BigDecimal("500"));
+        claimedEntry.claim(new BigDecimal("500"));
+        final FundsLedgerEntry unclaimedEntry = new FundsLedgerEntry(2L, "0xother");
+        when(fundsLedgerRepository.findAllByRequestIdIn(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(fundedEntry, claimedEntry, unclaimedEntry));
+
+        final Map<Long, List<TokenAmountDto>> result = fundsLedgerService.getTotalFunds(Arrays.asList(funded, claimed));
+
+        assertThat(result.get(1L)).containsExactly(new TokenAmountDto(TOKEN, new BigDecimal("300")));
+        assertThat(result.get(2L)).containsExactly(new TokenAmountDto(TOKEN, new BigDecimal("500")));
+    }
+}
@@ -13,8 +13,6 @@ import io.fundrequest.core.token.model.TokenValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
@@ -42,7 +40,7 @@ class RefundServiceImplTest {
     private RefundRepository refundRepository;
     private RefundRequestDtoMapper refundRequestDtoMapper;
     private ApplicationEventPublisher applicationEventPublisher;
-    private CacheManager cacheManager;
+    private FundsLedgerService fundsLedgerService;
 
     @BeforeEach
     void setUp() {
@@ -50,8 +48,8 @@ class RefundServiceImplTest {
         refundRepository = mock(RefundRepository.class);
         refundRequestDtoMapper = mock(RefundRequestDtoMapper.class);
         applicationEventPublisher = mock(ApplicationEventPublisher.class);
-        cacheManager = mock(CacheManager.class);
-        refundService = new RefundServiceImpl(refundRequestRepository, refundRepository, refundRequestDtoMapper, cacheManager, applicationEventPublisher);
+        fundsLedgerService = mock(FundsLedgerService.class);
+        refundService = new RefundServiceImpl(refundRequestRepository, refundRepository, refundRequestDtoMapper, fundsLedgerService, applicationEventPublisher);
     }
 
     @Test
@@ -112,7 +110,6 @@ class RefundServiceImplTest {
         final RefundRequest refundRequest1 = mock(RefundRequest.class);
         final RefundRequest refundRequest2 = mock(RefundRequest.class);
         final List<RefundRequest> refundRequests = Arrays.asList(refundRequest1, refundRequest2);
-        final Cache fundsCache = mock(Cache.class);
         final Refund expected = Refund.builder()
                                       .requestId(requestId)
                                       .tokenValue(TokenValue.builder()
@@ -126,7 +123,6 @@ class RefundServiceImplTest {
 
         when(refundRequest1.getRequestedBy()).thenReturn(requestedBy);
         when(refundRequestRepository.findAllByRequestIdAndStatusIn(requestId, APPROVED)).thenReturn(refundRequests);
-        when(cacheManager.getCache("funds")).thenReturn(fundsCache);
 
         refundService.refundProcessed(RefundProcessedCommand.builder()
                                                             .requestId(requestId)
@@ -137,9 +133,9 @@ class RefundServiceImplTest {
                                                             .transactionHash(transactionHash)
                                                             .build());
 
-        final InOrder inOrder = inOrder(refundRepository, fundsCache, applicationEventPublisher);
+        final InOrder inOrder = inOrder(refundRepository, fundsLedgerService, applicationEventPublisher);
         inOrder.verify(refundRepository).save(expected);
-        inOrder.verify(fundsCache).evict(requestId);
+        inOrder.verify(fundsLedgerService).fundsRefunded(requestId, tokenHash, new BigDecimal(amount));
         inOrder.verify(applicationEventPublisher).publishEvent(new RefundProcessedEvent(expected));
         verify(refundRequest1).setTransactionHash(transactionHash);
         verify(refundRequest1).setStatus(PROCESSED);
@@ -157,7 +153,6 @@ class RefundServiceImplTest {
         final long blockchainEventId = 34L;
         final String transactionHash = "0x46578";
         final String requestedBy = "fhghjvkbj";
-        final Cache fundsCache = mock(Cache.class);
         final Refund expected = Refund.builder()
                                       .requestId(requestId)
                                       .tokenValue(TokenValue.builder()
@@ -173,7 +168,6 @@ class RefundServiceImplTest {
         when(refundRequestRepository.findByTransactionHash(transactionHash)).thenReturn(Optional.of(RefundRequest.builder()
                                                                                                                  .requestedBy(requestedBy)
                                                                                                                  .build()));
-        when(cacheManager.getCache("funds")).thenReturn(fundsCache);
 
         refundService.refundProcessed(RefundProcessedCommand.builder()
                                                             .requestId(requestId)
@@ -184,9 +178,9 @@ class RefundServiceImplTest {
                                                             .transactionHash(transactionHash)
                                                             .build());
 
-        final InOrder inOrder = inOrder(refundRepository, fundsCache, applicationEventPublisher);
+        final InOrder inOrder = inOrder(refundRepository, fundsLedgerService, applicationEventPublisher);
         inOrder.verify(refundRepository).save(expected);
-        inOrder.verify(fundsCache).evict(requestId);
+        inOrder.verify(fundsLedgerService).fundsRefunded(requestId, tokenHash, new BigDecimal(amount));
         inOrder.verify(applicationEventPublisher).publishEvent(new RefundProcessedEvent(expected));
     }
 
@@ -198,7 +192,6 @@ class RefundServiceImplTest {
         final String funderAddress = "0x67879809";
         final long blockchainEventId = 34L;
         final String transactionHash = "0x46578";
-        final Cache fundsCache = mock(Cache.class);
         final Refund expected = Refund.builder()
                                       .requestId(requestId)
                                       .tokenValue(TokenValue.builder()
@@ -212,7 +205,6 @@ class RefundServiceImplTest {
 
         when(refundRequestRepository.findAllByRequestIdAndStatusIn(requestId, APPROVED)).thenReturn(new ArrayList<>());
         when(refundRequestRepository.findByTransactionHash(transactionHash)).thenReturn(Optional.empty());
-        when(cacheManager.getCache("funds")).thenReturn(fundsCache);
 
         refundService.refundProcessed(RefundProcessedCommand.builder()
                                                             .requestId(requestId)
@@ -223,9 +215,9 @@ class RefundServiceImplTest {
                                                             .transactionHash(transactionHash)
                                                             .build());
 
-        final InOrder inOrder = inOrder(refundRepository, fundsCache, applicationEventPublisher);
+        final InOrder inOrder = inOrder(refundRepository, fundsLedgerService, applicationEventPublisher);
         inOrder.verify(refundRepository).save(expected);
-        inOrder.verify(fundsCache).evict(requestId);
+        inOrder.verify(fundsLedgerService).fundsRefunded(requestId, tokenHash, new BigDecimal(amount));
         inOrder.verify(applicationEventPublisher).publishEvent(new RefundProcessedEvent(expected));
     }
 }
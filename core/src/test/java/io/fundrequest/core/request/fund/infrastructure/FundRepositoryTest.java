@@ -41,6 +41,18 @@ public class FundRepositoryTest extends AbstractRepositoryTest {
         fundRepository.saveAndFlush(fund);
     }
 
+    @Test
+    public void findRequestIdsFundedFrom() {
+        final Request request1 = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().build());
+        final Request request2 = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().build());
+        fundRepository.save(Arrays.asList(FundMother.fndFundFunderKnown("0xd24400ae8BfEBb18cA49Be86258a3C749cf46853", null, "10").requestId(request1.getId()).build(),
+                                          FundMother.fndFundFunderKnown("0xd24400ae8BfEBb18cA49Be86258a3C749cf46853", null, "20").requestId(request1.getId()).build(),
+                                          FundMother.fndFundFunderKnown("0x0000000000000000000000000000000000000001", null, "30").requestId(request2.getId()).build()));
+        fundRepository.flush();
+
+        assertThat(fundRepository.findRequestIdsFundedFrom("0xd24400ae8bfebb18ca49be86258a3c749cf46853")).containsExactly(request1.getId());
+    }
+
     @Test
     public void getAmountPerTokenPerProjectWhereRequestHasStatusFunded() {
         final Request request1 = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().withStatus(RequestStatus.FUNDED).build());
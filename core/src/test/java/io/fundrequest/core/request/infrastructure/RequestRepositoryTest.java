@@ -1,22 +1,18 @@
 package io.fundrequest.core.request.infrastructure;
 
 import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.request.claim.domain.RequestClaimMother;
+import io.fundrequest.core.request.claim.infrastructure.RequestClaimRepository;
 import io.fundrequest.core.request.domain.IssueInformation;
-import io.fundrequest.core.request.domain.Platform;
 import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.domain.RequestMother;
-import io.fundrequest.core.request.domain.RequestTechnology;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +22,9 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
     @Autowired
     private RequestRepository requestRepository;
 
+    @Autowired
+    private RequestClaimRepository requestClaimRepository;
+
     @Test
     public void findAll() throws Exception {
         requestRepository.findAll();
@@ -53,6 +52,19 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
                   ).isPresent().contains(request);
     }
 
+    @Test
+    public void countByPlatformAndPlatformIdIgnoreCase() throws Exception {
+        Request request = RequestMother
+                .freeCodeCampNoUserStories()
+                .build();
+        requestRepository.saveAndFlush(request);
+
+        IssueInformation issueInformation = request.getIssueInformation();
+        assertThat(
+                requestRepository.countByPlatformAndPlatformIdIgnoreCase(issueInformation.getPlatform(), issueInformation.getPlatformId().toUpperCase())
+                  ).isEqualTo(1L);
+    }
+
     @Test
     public void findRequestsForUser() throws Exception {
         Request request = RequestMother
@@ -67,6 +79,42 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
                   ).contains(request);
     }
 
+    @Test
+    public void findIdsOfRequestsUserIsWatching() throws Exception {
+        Request request = RequestMother
+                .freeCodeCampNoUserStories()
+                .build();
+        requestRepository.saveAndFlush(request);
+
+        String watcher = request.getWatchers().iterator().next();
+
+        assertThat(
+                requestRepository.findIdsOfRequestsUserIsWatching(watcher)
+                  ).containsExactly(request.getId());
+    }
+
+    @Test
+    public void getVersion() throws Exception {
+        Request request = RequestMother.freeCodeCampNoUserStories().build();
+        requestRepository.saveAndFlush(request);
+        IssueInformation issueInformation = request.getIssueInformation();
+
+        List<Object[]> byId = requestRepository.getVersion(request.getId(), "davy");
+        List<Object[]> byPlatformId = requestRepository.getVersion(issueInformation.getPlatform().name(), issueInformation.getPlatformId(), "davy");
+        request.addWatcher("davy");
+        requestRepository.saveAndFlush(request);
+        List<Object[]> afterWatching = requestRepository.getVersion(request.getId(), "davy");
+        requestClaimRepository.saveAndFlush(RequestClaimMother.requestClaim().id(null).requestId(request.getId()).build());
+        List<Object[]> afterClaiming = requestRepository.getVersion(request.getId(), "davy");
+
+        assertThat(byId).hasSize(1);
+        assertThat(byPlatformId).hasSize(1);
+        assertThat(Arrays.asList(byPlatformId.get(0))).isEqualTo(Arrays.asList(byId.get(0)));
+        assertThat(Arrays.asList(afterWatching.get(0))).isNotEqualTo(Arrays.asList(byId.get(0)));
+        assertThat(Arrays.asList(afterClaiming.get(0))).isNotEqualTo(Arrays.asList(afterWatching.get(0)));
+        assertThat(requestRepository.getVersion(-1L, "davy")).isEmpty();
+    }
+
     @Test
     public void findAllTechnologies() throws Exception {
         Request request = RequestMother.freeCodeCampNoUserStories().build();
@@ -96,45 +144,4 @@ public class RequestRepositoryTest extends AbstractRepositoryTest {
         assertThat(allTechnologies)
                 .containsExactlyInAnyOrder(request.getIssueInformation().getOwner(), request2.getIssueInformation().getOwner());
     }
-
-    @Test
-    public void findAllFor() {
-        final RequestTechnology java = new RequestTechnology("Java", 1L);
-        final RequestTechnology html = new RequestTechnology("HTML", 1L);
-        final RequestTechnology css = new RequestTechnology("CSS", 1L);
-        final RequestTechnology vue = new RequestTechnology("Vue", 1L);
-        final String fundRequest = "FundRequest";
-        final String cindercloud = "Cindercloud";
-        final String trustWallet = "TrustWallet";
-        final Request request1 = buildRequest(fundRequest, 4, java, html);
-        final Request request2 = buildRequest(cindercloud, 3, java, html);
-        final Request request3 = buildRequest(trustWallet, 2, java, html);
-        final Request request4 = buildRequest(cindercloud, 4, html, css, vue);
-        final Request request5 = buildRequest(fundRequest, 2, java);
-        requestRepository.save(Arrays.asList(request1, request2, request3, request4, request5));
-        requestRepository.flush();
-
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2);
-        assertThat(findAllFor(Arrays.asList(trustWallet, cindercloud), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request3, request2);
-        assertThat(findAllFor(new ArrayList<>(), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request3);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request5);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 6L)).containsExactlyInAnyOrder(request1, request2, request5);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 4L)).containsExactlyInAnyOrder(request1, request2, request5);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 3L)).containsExactlyInAnyOrder(request2, request5);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request4);
-        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), new ArrayList<>(), 0L)).containsExactlyInAnyOrder(request1, request2, request4, request5);
-        assertThat(findAllFor(new ArrayList<>(), new ArrayList<>(), 0L)).containsExactlyInAnyOrder(request1, request2, request3, request4, request5);
-    }
-
-    private List<Request> findAllFor(List<String> projects, List<String> technologies, long lastUpdatedSinceDays) {
-        return requestRepository.findAll(new RequestSpecification(projects, technologies, lastUpdatedSinceDays));
-    }
-
-    private Request buildRequest(final String project, final int daysSinceLastUpdate, final RequestTechnology... technologies) {
-        return RequestMother.fundRequestArea51()
-                            .withIssueInformation(IssueInformation.builder().platform(Platform.GITHUB).platformId(UUID.randomUUID().toString()).owner(project).build())
-                            .withTechnologies(new HashSet<>(Arrays.asList(technologies)))
-                            .withLastModifiedDate(LocalDateTime.now().minusDays(daysSinceLastUpdate))
-                            .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package io.fundrequest.core.request.search;
+
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.domain.RequestTechnology;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class RequestSearchIndexTest {
+
+    private RequestSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RequestSearchIndex();
+        index.indexAll(Arrays.asList(summary(1L, "FundRequest", "area51", "Add a search endpoint", RequestStatus.FUNDED, 3, "Java", "Vue"),
+                                     summary(2L, "FundRequest", "platform", "Fix the request list", RequestStatus.CLAIMED, 2, "Java"),
+                                     summary(3L, "Cindercloud", "cindercloud", "Search transactions", RequestStatus.FUNDED, 1, "Kotlin")));
+    }
+
+    @Test
+    void search_allTermsHaveToMatchAsPrefix() {
+        final RequestSearchHits hits = index.search(query("sea fundreq").build());
+
+        assertThat(hits.getRequestIds()).containsExactly(1L);
+        assertThat(hits.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void search_ordersMostRecentlyModifiedFirst() {
+        final RequestSearchHits hits = index.search(query("search").build());
+
+        assertThat(hits.getRequestIds()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void search_matchesOwnerRepoTechnologiesAndStatus() {
+        assertThat(index.search(query("cindercloud").build()).getRequestIds()).containsExactly(3L);
+        assertThat(index.search(query("platform").build()).getRequestIds()).containsExactly(2L);
+        assertThat(index.search(query("vue").build()).getRequestIds()).containsExactly(1L);
+        assertThat(index.search(query("claimed").build()).getRequestIds()).containsExactly(2L);
+    }
+
+    @Test
+    void search_filtersOnPhaseProjectAndTechnology() {
+        assertThat(index.search(query(null).phase(RequestPhase.OPEN).build()).getRequestIds()).containsExactly(3L, 1L);
+        assertThat(index.search(query(null).project("fundrequest").build()).getRequestIds()).containsExactly(2L, 1L);
+        assertThat(index.search(query(null).technology("java").technology("vue").build()).getRequestIds()).containsExactly(1L);
+    }
+
+    @Test
+    void search_facetsOverTextMatches() {
+        final RequestSearchHits hits = index.search(query(null).project("Cindercloud").build());
+
+        assertThat(hits.getRequestIds()).containsExactly(3L);
+        assertThat(hits.getProjects()).containsExactly(entry("FundRequest", 2L), entry("Cindercloud", 1L));
+        assertThat(hits.getTechnologies()).containsExactly(entry("Java", 2L), entry("Kotlin", 1L), entry("Vue", 1L));
+    }
+
+    @Test
+    void search_limitsToSizeButCountsAllHits() {
+        final RequestSearchHits hits = index.search(query(null).size(1).build());
+
+        assertThat(hits.getRequestIds()).containsExactly(3L);
+        assertThat(hits.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void index_replacesExistingDocument() {
+        index.index(summary(1L, "FundRequest", "area51", "Rename the widget", RequestStatus.FUNDED, 0, "Java"));
+
+        assertThat(index.search(query("search").build()).getRequestIds()).containsExactly(3L);
+        assertThat(index.search(query("widget").build()).getRequestIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private RequestSearchQuery.RequestSearchQueryBuilder query(final String text) {
+        return RequestSearchQuery.builder().text(text).size(10);
+    }
+
+    private RequestSummary summary(final long id,
+                                   final String owner,
+                                   final String repo,
+                                   final String title,
+                                   final RequestStatus status,
+                                   final int daysSinceLastUpdate,
+                                   final String... technologies) {
+        final Request request = RequestMother.fundRequestArea51()
+                                             .withId(id)
+                                             .withStatus(status)
+                                             .withIssueInformation(IssueInformation.builder()
+                                                                                   .platform(Platform.GITHUB)
+                                                                                   .platformId(owner + "|FR|" + repo + "|FR|" + id)
+                                                                                   .owner(owner)
+                                                                                   .repo(repo)
+                                                                                   .number(String.valueOf(id))
+                                                                                   .title(title)
+                                                                                   .build())
+                                             .withTechnologies(new HashSet<>(Arrays.stream(technologies)
+                                                                                   .map(technology -> new RequestTechnology(technology, 1L))
+                                                                                   .collect(Collectors.toList())))
+                                             .withLastModifiedDate(LocalDateTime.now().minusDays(daysSinceLastUpdate))
+                                             .build();
+        final RequestSummary summary = new RequestSummary(id);
+        summary.update(request, Collections.emptyList(), 0, null);
+        return summary;
+    }
+}
@@ -0,0 +1,66 @@
+package io.fundrequest.core.request.search;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.request.dto.RequestSearchDto;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.request.view.RequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestSearchServiceImplTest {
+
+    private RequestSearchServiceImpl requestSearchService;
+    private RequestSearchIndex requestSearchIndex;
+    private RequestSummaryRepository requestSummaryRepository;
+    private Mappers mappers;
+
+    @BeforeEach
+    void setUp() {
+        requestSearchIndex = mock(RequestSearchIndex.class);
+        requestSummaryRepository = mock(RequestSummaryRepository.class);
+        mappers = mock(Mappers.class);
+        requestSearchService = new RequestSearchServiceImpl(requestSearchIndex, requestSummaryRepository, mappers);
+    }
+
+    @Test
+    void search_keepsTheOrderOfTheIndex() {
+        final RequestSearchQuery query = RequestSearchQuery.builder().text("java").size(10).build();
+        final Map<String, Long> projects = Collections.singletonMap("FundRequest", 2L);
+        final Map<String, Long> technologies = Collections.singletonMap("Java", 2L);
+        final RequestSummary first = new RequestSummary(2L);
+        final RequestSummary second = new RequestSummary(1L);
+        final List<RequestDto> expected = Arrays.asList(new RequestDto(), new RequestDto());
+        when(requestSearchIndex.search(query)).thenReturn(new RequestSearchHits(Arrays.asList(2L, 1L), 2, projects, technologies));
+        when(requestSummaryRepository.findAll(Arrays.asList(2L, 1L))).thenReturn(Arrays.asList(second, first));
+        when(mappers.mapList(RequestSummary.class, RequestDto.class, Arrays.asList(first, second))).thenReturn(expected);
+
+        final RequestSearchDto result = requestSearchService.search(query);
+
+        assertThat(result.getRequests()).isSameAs(expected);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getProjects()).isEqualTo(projects);
+        assertThat(result.getTechnologies()).isEqualTo(technologies);
+    }
+
+    @Test
+    void warmUp() {
+        final List<RequestSummary> summaries = Collections.singletonList(new RequestSummary(1L));
+        when(requestSummaryRepository.findAll()).thenReturn(summaries);
+
+        requestSearchService.warmUp();
+
+        verify(requestSearchIndex).indexAll(summaries);
+    }
+}
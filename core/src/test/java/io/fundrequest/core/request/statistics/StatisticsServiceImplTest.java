@@ -1,8 +1,14 @@
 package io.fundrequest.core.request.statistics;
 
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
 import io.fundrequest.core.request.fiat.FiatService;
-import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.FundsLedgerService;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
 import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
 import io.fundrequest.core.request.statistics.dto.StatisticsDto;
 import io.fundrequest.core.token.TokenInfoService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
@@ -10,58 +16,69 @@ import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.core.web3j.EthUtil;
 import org.junit.Before;
 import org.junit.Test;
-import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static io.fundrequest.core.token.dto.TokenInfoDtoMother.fnd;
 import static io.fundrequest.core.token.dto.TokenInfoDtoMother.zrx;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class StatisticsServiceImplTest {
 
     private StatisticsServiceImpl statisticsService;
-    private FundRepository fundRepository;
+    private RequestRepository requestRepository;
+    private FundsLedgerService fundsLedgerService;
     private TokenInfoService tokenInfoService;
     private FiatService fiatService;
     private TokenInfoDto fnd;
     private TokenInfoDto zrx;
+    private Request kazuki;
+    private Request fundRequest;
+    private TokenAmountDto tenFnd;
+    private TokenAmountDto oneZrx;
 
     @Before
     public void setUp() throws Exception {
-        fundRepository = mock(FundRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        fundsLedgerService = mock(FundsLedgerService.class);
         tokenInfoService = mock(TokenInfoService.class);
         fiatService = mock(FiatService.class);
-        statisticsService = new StatisticsServiceImpl(fundRepository, tokenInfoService, fiatService, mock(CacheManager.class));
+        statisticsService = new StatisticsServiceImpl(requestRepository,
+                                                      fundsLedgerService,
+                                                      new StatisticsStore(),
+                                                      tokenInfoService,
+                                                      fiatService,
+                                                      mock(DerivedViewRefresher.class));
         fnd = fnd();
         zrx = zrx();
         when(tokenInfoService.getTokenInfo(fnd.getAddress())).thenReturn(fnd);
         when(tokenInfoService.getTokenInfo(zrx.getAddress())).thenReturn(zrx);
+        kazuki = RequestMother.freeCodeCampNoUserStories().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        fundRequest = RequestMother.fundRequestArea51().withId(2L).withStatus(RequestStatus.FUNDED).build();
+        tenFnd = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
+        oneZrx = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
+        final Map<Long, List<TokenAmountDto>> totalFunds = new HashMap<>();
+        totalFunds.put(1L, Collections.singletonList(tenFnd));
+        totalFunds.put(2L, Collections.singletonList(oneZrx));
+        when(requestRepository.findByStatusIn(Collections.singletonList(RequestStatus.FUNDED))).thenReturn(Arrays.asList(kazuki, fundRequest));
+        when(fundsLedgerService.getTotalFunds(Arrays.asList(kazuki, fundRequest))).thenReturn(totalFunds);
+        when(fiatService.getUsdPrice(usdValue(fnd, tenFnd))).thenReturn(10.0);
+        when(fiatService.getUsdPrice(usdValue(zrx, oneZrx))).thenReturn(20.0);
     }
 
     @Test
     public void statisticsReturnsTotalAvailableFunding() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        when(fundRepository.getAmountPerTokenWhereRequestHasStatusFunded()).thenReturn(Arrays.asList(tokenAmount, tokenAmount2));
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-
-
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
-
-
         StatisticsDto result = statisticsService.getStatistics();
 
         assertThat(result.getTotalAvailableFunding()).isEqualTo(30.0);
@@ -69,55 +86,39 @@ public class StatisticsServiceImplTest {
 
     @Test
     public void statisticsReturnsMostFundedProject() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        List<Object[]> requests = Arrays.asList(
-                createObject("FundRequest", fnd.getAddress(), tokenAmount.getTotalAmount()),
-                createObject("Dock", zrx.getAddress(), tokenAmount2.getTotalAmount())
-                                               );
-        when(fundRepository.getAmountPerTokenPerProjectWhereRequestHasStatusFunded()).thenReturn(requests);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
-
         StatisticsDto result = statisticsService.getStatistics();
 
-        assertThat(result.getMostFundedProject()).isEqualTo("Dock");
+        assertThat(result.getMostFundedProject()).isEqualTo("FundRequest");
     }
 
     @Test
     public void statisticsReturnsMostFundedTechnology() {
-        TokenAmountDto tokenAmount = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(BigDecimal.TEN, fnd.getDecimals()));
-        TokenAmountDto tokenAmount2 = new TokenAmountDto(zrx.getAddress(), EthUtil.toWei(BigDecimal.ONE, zrx.getDecimals()));
-        List<Object[]> requests = Arrays.asList(
-                createObject("Java", fnd.getAddress(), tokenAmount.getTotalAmount()),
-                createObject("Python", zrx.getAddress(), tokenAmount2.getTotalAmount())
-                                               );
-        when(fundRepository.getAmountPerTokenPerTechnologyWhereRequestHasStatusFunded()).thenReturn(requests);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(fnd.getSymbol())
-                                                  .tokenAddress(fnd.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), fnd.getDecimals()))
-                                                  .build())).thenReturn(10.0);
-        when(fiatService.getUsdPrice(TokenValueDto.builder()
-                                                  .tokenSymbol(zrx.getSymbol())
-                                                  .tokenAddress(zrx.getAddress())
-                                                  .totalAmount(EthUtil.fromWei(tokenAmount2.getTotalAmount(), zrx.getDecimals()))
-                                                  .build())).thenReturn(20.0);
+        StatisticsDto result = statisticsService.getStatistics();
+
+        assertThat(result.getMostFundedTechnology()).isIn("python", "kotlin");
+    }
 
+    @Test
+    public void onFundedOnlyReadsTheFundedRequest() {
+        statisticsService.getStatistics();
+        final TokenAmountDto twentyFnd = new TokenAmountDto(fnd.getAddress(), EthUtil.toWei(new BigDecimal("20"), fnd.getDecimals()));
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(kazuki));
+        when(fundsLedgerService.getTotalFunds(kazuki)).thenReturn(Collections.singletonList(twentyFnd));
+        when(fiatService.getUsdPrice(usdValue(fnd, twentyFnd))).thenReturn(40.0);
+
+        statisticsService.onFunded(RequestFundedEvent.builder().requestId(1L).build());
         StatisticsDto result = statisticsService.getStatistics();
 
-        assertThat(result.getMostFundedTechnology()).isEqualTo("Python");
+        assertThat(result.getTotalAvailableFunding()).isEqualTo(60.0);
+        assertThat(result.getMostFundedProject()).isEqualTo("kazuki43zoo");
+        verify(requestRepository, times(1)).findByStatusIn(any());
     }
 
-    private Object[] createObject(String techProject, String token, BigDecimal amount) {
-        return new Object[] {techProject, token, amount};
+    private TokenValueDto usdValue(final TokenInfoDto tokenInfo, final TokenAmountDto tokenAmount) {
+        return TokenValueDto.builder()
+                            .tokenSymbol(tokenInfo.getSymbol())
+                            .tokenAddress(tokenInfo.getAddress())
+                            .totalAmount(EthUtil.fromWei(tokenAmount.getTotalAmount(), tokenInfo.getDecimals()))
+                            .build();
     }
-}
\ No newline at end of file
+}
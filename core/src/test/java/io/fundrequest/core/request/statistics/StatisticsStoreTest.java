@@ -0,0 +1,81 @@
+package io.fundrequest.core.request.statistics;
+
+import io.fundrequest.core.request.statistics.StatisticsStore.Contribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class StatisticsStoreTest {
+
+    private static final String FND = "0x4df47b4969b2911c966506e3592c41389493953b";
+    private static final String ZRX = "0xe41d2489571d322189246dafa5ebde1f4699f498";
+
+    private StatisticsStore statisticsStore;
+
+    @BeforeEach
+    void setUp() {
+        statisticsStore = new StatisticsStore();
+        statisticsStore.rebuild(Collections.emptyMap());
+    }
+
+    @Test
+    void update_addsContribution() {
+        statisticsStore.update(1L, contribution("FundRequest", amounts(FND, "10")));
+        statisticsStore.update(2L, contribution("Dock", amounts(FND, "5", ZRX, "1")));
+
+        assertThat(statisticsStore.getAmountPerToken()).containsEntry(FND, new BigDecimal("15"))
+                                                       .containsEntry(ZRX, new BigDecimal("1"));
+        assertThat(statisticsStore.getAmountPerTokenPerProject().get("Dock")).containsEntry(FND, new BigDecimal("5"));
+        assertThat(statisticsStore.getAmountPerTokenPerTechnology().get("java")).containsEntry(FND, new BigDecimal("15"));
+    }
+
+    @Test
+    void update_replacesPreviousContributionOfRequest() {
+        statisticsStore.update(1L, contribution("FundRequest", amounts(FND, "10")));
+
+        statisticsStore.update(1L, contribution("FundRequest", amounts(FND, "12")));
+
+        assertThat(statisticsStore.getAmountPerToken()).containsOnly(entry(FND, new BigDecimal("12")));
+    }
+
+    @Test
+    void update_withNoContributionRemovesRequest() {
+        statisticsStore.update(1L, contribution("FundRequest", amounts(FND, "10")));
+
+        statisticsStore.update(1L, Contribution.none());
+
+        assertThat(statisticsStore.getAmountPerToken()).isEmpty();
+        assertThat(statisticsStore.getAmountPerTokenPerProject()).isEmpty();
+        assertThat(statisticsStore.getAmountPerTokenPerTechnology()).isEmpty();
+    }
+
+    @Test
+    void rebuild_reportsDrift() {
+        statisticsStore.update(1L, contribution("FundRequest", amounts(FND, "10")));
+
+        assertThat(statisticsStore.rebuild(Collections.singletonMap(1L, contribution("FundRequest", amounts(FND, "10"))))).isFalse();
+        assertThat(statisticsStore.rebuild(Collections.singletonMap(1L, contribution("FundRequest", amounts(FND, "7"))))).isTrue();
+        assertThat(statisticsStore.getAmountPerToken()).containsOnly(entry(FND, new BigDecimal("7")));
+    }
+
+    private Contribution contribution(final String project, final Map<String, BigDecimal> amounts) {
+        return new Contribution(project, new HashSet<>(Arrays.asList("java", "kotlin")), amounts);
+    }
+
+    private Map<String, BigDecimal> amounts(final String... tokensAndAmounts) {
+        final Map<String, BigDecimal> amounts = new HashMap<>();
+        for (int i = 0; i < tokensAndAmounts.length; i += 2) {
+            amounts.put(tokensAndAmounts[i], new BigDecimal(tokensAndAmounts[i + 1]));
+        }
+        return amounts;
+    }
+}
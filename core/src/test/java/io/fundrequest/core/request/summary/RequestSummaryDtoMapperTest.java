@@ -0,0 +1,84 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.core.infrastructure.SecurityContextService;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestSummaryDtoMapperTest {
+
+    private RequestSummaryDtoMapper mapper;
+    private RequestRepository requestRepository;
+    private SecurityContextService securityContextService;
+
+    @BeforeEach
+    void setUp() {
+        requestRepository = mock(RequestRepository.class);
+        securityContextService = mock(SecurityContextService.class);
+        mapper = new RequestSummaryDtoMapper(requestRepository, securityContextService);
+    }
+
+    @Test
+    void mapToList() {
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn("davy");
+        when(securityContextService.getLoggedInUser()).thenReturn(Optional.of(authentication));
+        when(requestRepository.findIdsOfRequestsUserIsWatching("davy")).thenReturn(Collections.singleton(1L));
+        final TokenValueDto fnd = TokenValueDto.builder().tokenAddress("0x1").tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
+        final TokenValueDto zrx = TokenValueDto.builder().tokenAddress("0x2").tokenSymbol("ZRX").totalAmount(BigDecimal.ONE).build();
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final RequestSummary watched = summary(request, Arrays.asList(fnd, zrx), 30);
+        final RequestSummary other = summary(RequestMother.freeCodeCampNoUserStories().withId(2L).build(), Collections.emptyList(), 0);
+
+        final List<RequestDto> result = mapper.mapToList(Arrays.asList(watched, other));
+
+        assertThat(result).hasSize(2);
+        final RequestDto first = result.get(0);
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getStatus()).isEqualTo(RequestStatus.FUNDED);
+        assertThat(first.getIssueInformation().getOwner()).isEqualTo(request.getIssueInformation().getOwner());
+        assertThat(first.getIssueInformation().getNumber()).isEqualTo(request.getIssueInformation().getNumber());
+        assertThat(first.getTechnologies()).containsExactlyInAnyOrderElementsOf(request.getTechnologies());
+        assertThat(first.isLoggedInUserIsWatcher()).isTrue();
+        assertThat(first.getFunds().getFndFunds()).isEqualTo(fnd);
+        assertThat(first.getFunds().getOtherFunds()).isEqualTo(zrx);
+        assertThat(first.getFunds().getUsdFunds()).isEqualTo(30.0);
+        assertThat(result.get(1).isLoggedInUserIsWatcher()).isFalse();
+        assertThat(result.get(1).getFunds().getFndFunds()).isNull();
+        verify(requestRepository, times(1)).findIdsOfRequestsUserIsWatching("davy");
+    }
+
+    @Test
+    void map_notLoggedIn() {
+        when(securityContextService.getLoggedInUser()).thenReturn(Optional.empty());
+
+        final RequestDto result = mapper.map(summary(RequestMother.fundRequestArea51().withId(1L).build(), Collections.emptyList(), 0));
+
+        assertThat(result.isLoggedInUserIsWatcher()).isFalse();
+    }
+
+    private RequestSummary summary(final Request request, final List<TokenValueDto> funds, final double usdValue) {
+        final RequestSummary summary = new RequestSummary(request.getId());
+        summary.update(request, funds, usdValue, null);
+        return summary;
+    }
+}
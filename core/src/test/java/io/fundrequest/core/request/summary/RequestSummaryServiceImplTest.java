@@ -0,0 +1,242 @@
+package io.fundrequest.core.request.summary;
+
+import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.core.infrastructure.cache.DerivedViewRefresher;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageDto;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.FundsLedgerService;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.fund.infrastructure.TokenAmountDto;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.search.RequestSearchIndex;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummaryRepository;
+import io.fundrequest.core.request.summary.infrastructure.RequestSummarySpecification;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.mapper.TokenValueMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class RequestSummaryServiceImplTest {
+
+    private static final String FND_ADDRESS = "0x02f96ef85cad6639500ca1cc8356f0b5ca5bf1d2";
+
+    private RequestSummaryServiceImpl requestSummaryService;
+    private RequestSummaryRepository requestSummaryRepository;
+    private RequestRepository requestRepository;
+    private FundsLedgerService fundsLedgerService;
+    private FundRepository fundRepository;
+    private TokenValueMapper tokenValueMapper;
+    private FiatService fiatService;
+    private Mappers mappers;
+    private RequestSearchIndex requestSearchIndex;
+    private DerivedViewRefresher derivedViewRefresher;
+    private TokenValueDto tenFnd;
+
+    @Before
+    public void setUp() {
+        requestSummaryRepository = mock(RequestSummaryRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        fundsLedgerService = mock(FundsLedgerService.class);
+        fundRepository = mock(FundRepository.class);
+        tokenValueMapper = mock(TokenValueMapper.class);
+        fiatService = mock(FiatService.class);
+        mappers = mock(Mappers.class);
+        requestSearchIndex = mock(RequestSearchIndex.class);
+        derivedViewRefresher = mock(DerivedViewRefresher.class);
+        requestSummaryService = new RequestSummaryServiceImpl(requestSummaryRepository,
+                                                              requestRepository,
+                                                              fundsLedgerService,
+                                                              fundRepository,
+                                                              tokenValueMapper,
+                                                              fiatService,
+                                                              mappers,
+                                                              requestSearchIndex,
+                                                              derivedViewRefresher,
+                                                              mock(PlatformTransactionManager.class));
+        tenFnd = TokenValueDto.builder().tokenAddress(FND_ADDRESS).tokenSymbol("FND").totalAmount(BigDecimal.TEN).build();
+        when(tokenValueMapper.map(FND_ADDRESS, new BigDecimal("10000000000000000000"))).thenReturn(tenFnd);
+        when(fiatService.getUsdPrice(tenFnd)).thenReturn(12.345);
+    }
+
+    @Test
+    public void refresh() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final LocalDateTime lastFundedDate = LocalDateTime.now();
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(request));
+        when(requestSummaryRepository.lockById(1L)).thenReturn(Optional.empty());
+        when(fundsLedgerService.getTotalFunds(request)).thenReturn(Arrays.asList(new TokenAmountDto(FND_ADDRESS, new BigDecimal("10000000000000000000")),
+                                                                                 new TokenAmountDto("0xzrx", BigDecimal.ZERO)));
+        when(fundRepository.getLastFundedDate(1L)).thenReturn(lastFundedDate);
+
+        requestSummaryService.refresh(1L);
+
+        final ArgumentCaptor<RequestSummary> captor = ArgumentCaptor.forClass(RequestSummary.class);
+        verify(requestSummaryRepository).save(captor.capture());
+        final RequestSummary summary = captor.getValue();
+        assertThat(summary.getRequestId()).isEqualTo(1L);
+        assertThat(summary.getOwner()).isEqualTo(request.getIssueInformation().getOwner());
+        assertThat(summary.getStatus()).isEqualTo(RequestStatus.FUNDED);
+        assertThat(summary.getPhase()).isEqualTo(RequestPhase.OPEN);
+        assertThat(summary.getTechnologies()).containsExactlyInAnyOrderElementsOf(request.getTechnologies());
+        assertThat(summary.getFunds()).containsExactly(tenFnd);
+        assertThat(summary.getUsdValue()).isEqualByComparingTo("12.35");
+        assertThat(summary.getLastFundedDate()).isEqualTo(lastFundedDate);
+        verify(requestSearchIndex).index(summary);
+        verify(derivedViewRefresher).markDirty("request_counts");
+    }
+
+    @Test
+    public void refresh_samePhase() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final RequestSummary existing = new RequestSummary(1L);
+        existing.update(RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.OPEN).build(), Collections.emptyList(), 0, null);
+        when(requestRepository.findOne(1L)).thenReturn(Optional.of(request));
+        when(requestSummaryRepository.lockById(1L)).thenReturn(Optional.of(existing));
+        when(fundsLedgerService.getTotalFunds(request)).thenReturn(Collections.emptyList());
+
+        requestSummaryService.refresh(1L);
+
+        assertThat(existing.getStatus()).isEqualTo(RequestStatus.FUNDED);
+        verify(derivedViewRefresher, never()).markDirty("request_counts");
+    }
+
+    @Test
+    public void countPerPhaseAndProject() {
+        when(requestSummaryRepository.countPerPhaseAndOwner()).thenReturn(Arrays.asList(new Object[] {RequestPhase.OPEN, "FundRequest", 4L},
+                                                                                        new Object[] {RequestPhase.CLOSED, "FundRequest", 2L},
+                                                                                        new Object[] {RequestPhase.CLOSED, "Cindercloud", 1L}));
+
+        final Map<RequestPhase, Map<String, Long>> result = requestSummaryService.countPerPhaseAndProject();
+
+        assertThat(result).containsOnlyKeys(RequestPhase.OPEN, RequestPhase.CLOSED);
+        assertThat(result.get(RequestPhase.OPEN)).containsOnly(entry("FundRequest", 4L));
+        assertThat(result.get(RequestPhase.CLOSED)).containsOnly(entry("FundRequest", 2L), entry("Cindercloud", 1L));
+    }
+
+    @Test
+    public void rebuild() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final List<Request> requests = Collections.singletonList(request);
+        final List<Long> requestIds = Collections.singletonList(1L);
+        when(requestRepository.findAllIds()).thenReturn(requestIds);
+        when(requestRepository.findAll(requestIds)).thenReturn(requests);
+        when(fundsLedgerService.getTotalFunds(requests)).thenReturn(Collections.singletonMap(1L, Collections.singletonList(new TokenAmountDto(FND_ADDRESS,
+                                                                                                                                               new BigDecimal("10000000000000000000")))));
+        when(fundRepository.getLastFundedDatePerRequest(requestIds)).thenReturn(Collections.emptyList());
+        when(requestSummaryRepository.findAll(requestIds)).thenReturn(Collections.emptyList());
+        when(requestSummaryRepository.save(any(Iterable.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        requestSummaryService.rebuild();
+
+        final ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(requestSummaryRepository).save(captor.capture());
+        assertThat((Iterable<RequestSummary>) captor.getValue()).extracting(RequestSummary::getRequestId, RequestSummary::getUsdValue)
+                                                                 .containsExactly(tuple(1L, new BigDecimal("12.35")));
+        verify(requestSearchIndex).indexAll((List<RequestSummary>) captor.getValue());
+        verify(derivedViewRefresher).markDirty("request_counts");
+    }
+
+    @Test
+    public void rebuild_rereadsChunkRefreshedConcurrently() {
+        final Request request = RequestMother.fundRequestArea51().withId(1L).withStatus(RequestStatus.FUNDED).build();
+        final List<Request> requests = Collections.singletonList(request);
+        final List<Long> requestIds = Collections.singletonList(1L);
+        final RequestSummary refreshed = new RequestSummary(1L);
+        when(requestRepository.findAllIds()).thenReturn(requestIds);
+        when(requestRepository.findAll(requestIds)).thenReturn(requests);
+        when(fundsLedgerService.getTotalFunds(requests)).thenReturn(Collections.emptyMap());
+        when(fundRepository.getLastFundedDatePerRequest(requestIds)).thenReturn(Collections.emptyList());
+        when(requestSummaryRepository.findAll(requestIds)).thenReturn(Collections.emptyList(), Collections.singletonList(refreshed));
+        when(requestSummaryRepository.save(any(Iterable.class))).thenThrow(new ObjectOptimisticLockingFailureException(RequestSummary.class, 1L))
+                                                                .thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        requestSummaryService.rebuild();
+
+        final ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(requestSummaryRepository, times(2)).save(captor.capture());
+        assertThat((Iterable<RequestSummary>) captor.getValue()).containsExactly(refreshed);
+        assertThat(refreshed.getStatus()).isEqualTo(RequestStatus.FUNDED);
+        verify(requestSearchIndex).indexAll(Collections.singletonList(refreshed));
+    }
+
+    @Test
+    public void findPage_hasNext() {
+        final RequestSummary first = summary(3L);
+        final RequestSummary second = summary(2L);
+        final RequestSummary third = summary(1L);
+        final List<RequestDto> expected = Arrays.asList(new RequestDto(), new RequestDto());
+        final RequestPageQuery query = RequestPageQuery.builder().size(2).build();
+        when(requestSummaryRepository.findAll(any(), eq(new Sort(Sort.Direction.DESC, "lastModifiedDate", "requestId")), anyInt())).thenReturn(Arrays.asList(first, second, third));
+        when(mappers.mapList(RequestSummary.class, RequestDto.class, Arrays.asList(first, second))).thenReturn(expected);
+
+        final RequestPageDto result = requestSummaryService.findPage(query);
+
+        assertThat(result.getRequests()).isSameAs(expected);
+        assertThat(result.getNext()).isEqualTo(RequestCursor.of(second));
+    }
+
+    @Test
+    public void findPage_lastPage() {
+        final RequestSummary first = summary(3L);
+        final List<RequestDto> expected = Collections.singletonList(new RequestDto());
+        when(requestSummaryRepository.findAll(any(), any(Sort.class), anyInt())).thenReturn(Collections.singletonList(first));
+        when(mappers.mapList(RequestSummary.class, RequestDto.class, Collections.singletonList(first))).thenReturn(expected);
+
+        final RequestPageDto result = requestSummaryService.findPage(RequestPageQuery.builder().size(2).build());
+
+        assertThat(result.getRequests()).isSameAs(expected);
+        assertThat(result.getNext()).isNull();
+    }
+
+    @Test
+    public void findAllFor() {
+        final List<RequestSummary> summaries = Arrays.asList(summary(1L), summary(3L));
+        final List<RequestDto> expected = Arrays.asList(new RequestDto(), new RequestDto());
+        when(requestSummaryRepository.findAll(any(RequestSummarySpecification.class))).thenReturn(summaries);
+        when(mappers.mapList(RequestSummary.class, RequestDto.class, summaries)).thenReturn(expected);
+
+        final List<RequestDto> result = requestSummaryService.findAllFor(Collections.singletonList("FundRequest"), Arrays.asList("Java", "Vue"), 7L);
+
+        assertThat(result).isSameAs(expected);
+        verifyZeroInteractions(requestSearchIndex);
+    }
+
+    private RequestSummary summary(final long requestId) {
+        final RequestSummary summary = new RequestSummary(requestId);
+        summary.update(RequestMother.fundRequestArea51().withId(requestId).build(), Collections.emptyList(), 0, null);
+        return summary;
+    }
+}
@@ -0,0 +1,182 @@
+package io.fundrequest.core.request.summary.infrastructure;
+
+import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.request.domain.IssueInformation;
+import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.domain.RequestStatus;
+import io.fundrequest.core.request.domain.RequestTechnology;
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageOrder;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.summary.domain.RequestSummary;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class RequestSummaryRepositoryTest extends AbstractRepositoryTest {
+
+    private static final Sort RECENTLY_MODIFIED_FIRST = new Sort(Sort.Direction.DESC, "lastModifiedDate", "requestId");
+    private static final Sort MOST_FUNDED_FIRST = new Sort(Sort.Direction.DESC, "usdValue", "requestId");
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private RequestSummaryRepository requestSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void save() {
+        final RequestSummary summary = summarize(buildRequest("FundRequest", 1, new RequestTechnology("Java", 1L)), 100);
+
+        final RequestSummary result = requestSummaryRepository.findOne(summary.getRequestId()).get();
+
+        assertThat(result.getOwner()).isEqualTo("FundRequest");
+        assertThat(result.getOwnerLc()).isEqualTo("fundrequest");
+        assertThat(result.getTechnologies()).containsExactly("Java");
+        assertThat(result.getFunds()).hasSize(1);
+        assertThat(result.getFunds().get(0).getTotalAmount()).isEqualByComparingTo("1.5");
+        assertThat(result.getUsdValue()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    public void save_staleVersion() {
+        final Request request = buildRequest("FundRequest", 1, new RequestTechnology("Java", 1L));
+        final RequestSummary stale = summarize(request, 0);
+        entityManager.detach(stale);
+        final RequestSummary refreshed = requestSummaryRepository.findOne(stale.getRequestId()).get();
+        refreshed.update(request, Collections.emptyList(), 10, null);
+        requestSummaryRepository.saveAndFlush(refreshed);
+        stale.update(request, Collections.emptyList(), 5, null);
+
+        assertThat(refreshed.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> requestSummaryRepository.saveAndFlush(stale)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    public void findAllFor() {
+        final RequestTechnology java = new RequestTechnology("Java", 1L);
+        final RequestTechnology html = new RequestTechnology("HTML", 1L);
+        final RequestTechnology css = new RequestTechnology("CSS", 1L);
+        final RequestTechnology vue = new RequestTechnology("Vue", 1L);
+        final String fundRequest = "FundRequest";
+        final String cindercloud = "Cindercloud";
+        final String trustWallet = "TrustWallet";
+        final RequestSummary request1 = summarize(buildRequest(fundRequest, 4, java, html), 0);
+        final RequestSummary request2 = summarize(buildRequest(cindercloud, 3, java, html), 0);
+        final RequestSummary request3 = summarize(buildRequest(trustWallet, 2, java, html), 0);
+        final RequestSummary request4 = summarize(buildRequest(cindercloud, 4, html, css, vue), 0);
+        final RequestSummary request5 = summarize(buildRequest(fundRequest, 2, java), 0);
+
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2);
+        assertThat(findAllFor(Arrays.asList(trustWallet, cindercloud), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request3, request2);
+        assertThat(findAllFor(new ArrayList<>(), Arrays.asList(java.getTechnology(), html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request3);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request5);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 6L)).containsExactlyInAnyOrder(request1, request2, request5);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 4L)).containsExactlyInAnyOrder(request1, request2, request5);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(java.getTechnology()), 3L)).containsExactlyInAnyOrder(request2, request5);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), Arrays.asList(html.getTechnology()), 0L)).containsExactlyInAnyOrder(request1, request2, request4);
+        assertThat(findAllFor(Arrays.asList(fundRequest, cindercloud), new ArrayList<>(), 0L)).containsExactlyInAnyOrder(request1, request2, request4, request5);
+        assertThat(findAllFor(new ArrayList<>(), new ArrayList<>(), 0L)).containsExactlyInAnyOrder(request1, request2, request3, request4, request5);
+        assertThat(findAllFor(Arrays.asList("FUNDREQUEST", "cindercloud"), Arrays.asList("java", "Html"), 0L)).containsExactlyInAnyOrder(request1, request2);
+    }
+
+    @Test
+    public void findAll_pageAfterCursor() {
+        final RequestTechnology java = new RequestTechnology("Java", 1L);
+        final RequestSummary request1 = summarize(buildRequest("FundRequest", 1, java), 0);
+        final RequestSummary request2 = summarize(buildRequest("FundRequest", 2, java), 50);
+        final RequestSummary request3 = summarize(buildRequest("Cindercloud", 3, java), 0);
+        final Request claimed = buildRequest("FundRequest", 4, java);
+        claimed.setStatus(RequestStatus.CLAIMED);
+        final RequestSummary request4 = summarize(claimed, 20);
+
+        final List<RequestSummary> firstPage = requestSummaryRepository.findAll(new RequestPageSpecification(RequestPageQuery.builder().size(2).build()), RECENTLY_MODIFIED_FIRST, 2);
+        final List<RequestSummary> secondPage = requestSummaryRepository.findAll(new RequestPageSpecification(RequestPageQuery.builder()
+                                                                                                                               .cursor(RequestCursor.of(firstPage.get(1)))
+                                                                                                                               .size(2)
+                                                                                                                               .build()), RECENTLY_MODIFIED_FIRST, 2);
+
+        assertThat(firstPage).containsExactly(request1, request2);
+        assertThat(secondPage).containsExactly(request3, request4);
+        assertThat(requestSummaryRepository.findAll(new RequestPageSpecification(RequestPageQuery.builder()
+                                                                                                 .phase(RequestPhase.OPEN)
+                                                                                                 .project("fundrequest")
+                                                                                                 .size(10)
+                                                                                                 .build()), RECENTLY_MODIFIED_FIRST, 10)).containsExactly(request1, request2);
+        assertThat(requestSummaryRepository.findAll(new RequestPageSpecification(RequestPageQuery.builder()
+                                                                                                 .funded(true)
+                                                                                                 .size(10)
+                                                                                                 .build()), RECENTLY_MODIFIED_FIRST, 10)).containsExactly(request2, request4);
+        assertThat(requestSummaryRepository.findAll(new RequestPageSpecification(RequestPageQuery.builder()
+                                                                                                 .funded(true)
+                                                                                                 .order(RequestPageOrder.MOST_FUNDED)
+                                                                                                 .cursor(RequestCursor.of(request2))
+                                                                                                 .size(10)
+                                                                                                 .build()), MOST_FUNDED_FIRST, 10)).containsExactly(request4);
+    }
+
+    @Test
+    public void countPerPhaseAndOwner() {
+        final RequestTechnology java = new RequestTechnology("Java", 1L);
+        summarize(buildRequest("FundRequest", 1, java), 0);
+        summarize(buildRequest("FundRequest", 2, java), 0);
+        final Request claimed = buildRequest("FundRequest", 3, java);
+        claimed.setStatus(RequestStatus.CLAIMED);
+        summarize(claimed, 0);
+        summarize(buildRequest("Cindercloud", 4, java), 0);
+
+        assertThat(requestSummaryRepository.countPerPhaseAndOwner()).extracting(row -> row[0], row -> row[1], row -> row[2])
+                                                                   .containsExactlyInAnyOrder(tuple(RequestPhase.OPEN, "FundRequest", 2L),
+                                                                                              tuple(RequestPhase.CLOSED, "FundRequest", 1L),
+                                                                                              tuple(RequestPhase.OPEN, "Cindercloud", 1L));
+    }
+
+    private List<RequestSummary> findAllFor(List<String> projects, List<String> technologies, long lastUpdatedSinceDays) {
+        return requestSummaryRepository.findAll(new RequestSummarySpecification(projects, technologies, lastUpdatedSinceDays));
+    }
+
+    private RequestSummary summarize(final Request request, final double usdValue) {
+        final List<TokenValueDto> funds = usdValue > 0
+                                          ? Collections.singletonList(TokenValueDto.builder()
+                                                                                   .tokenAddress("0x02f96ef85cad6639500ca1cc8356f0b5ca5bf1d2")
+                                                                                   .tokenSymbol("FND")
+                                                                                   .totalAmount(new BigDecimal("1.5"))
+                                                                                   .build())
+                                          : Collections.emptyList();
+        requestRepository.saveAndFlush(request);
+        final RequestSummary summary = new RequestSummary(request.getId());
+        summary.update(request, funds, usdValue, null);
+        return requestSummaryRepository.saveAndFlush(summary);
+    }
+
+    private Request buildRequest(final String project, final int daysSinceLastUpdate, final RequestTechnology... technologies) {
+        return RequestMother.fundRequestArea51()
+                            .withIssueInformation(IssueInformation.builder().platform(Platform.GITHUB).platformId(UUID.randomUUID().toString()).owner(project).build())
+                            .withTechnologies(new HashSet<>(Arrays.asList(technologies)))
+                            .withLastModifiedDate(LocalDateTime.now().minusDays(daysSinceLastUpdate))
+                            .build();
+    }
+}
@@ -0,0 +1,137 @@
+package io.fundrequest.core.request.user;
+
+import io.fundrequest.core.request.claim.domain.RequestClaim;
+import io.fundrequest.core.request.claim.event.ClaimRequestedEvent;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.domain.Refund;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.fund.infrastructure.FundRepository;
+import io.fundrequest.core.request.user.domain.UserRequest;
+import io.fundrequest.core.request.user.infrastructure.UserRequestRepository;
+import io.fundrequest.core.request.view.FundDtoMother;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.CLAIMED;
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.FUNDED;
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.WATCHING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRequestServiceImplTest {
+
+    private UserRequestServiceImpl userRequestService;
+    private UserRequestRepository userRequestRepository;
+    private FundRepository fundRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRequestRepository = mock(UserRequestRepository.class);
+        fundRepository = mock(FundRepository.class);
+        userRequestService = new UserRequestServiceImpl(userRequestRepository, fundRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void findRequestIds() {
+        final List<Long> requestIds = Arrays.asList(1L, 2L);
+        when(userRequestRepository.findRequestIds("davy")).thenReturn(requestIds);
+
+        assertThat(userRequestService.findRequestIds("davy", null)).isEqualTo(requestIds);
+        verify(fundRepository, never()).findRequestIdsFundedFrom(any(String.class));
+    }
+
+    @Test
+    void findRequestIds_fundedFromEtherAddress() {
+        when(userRequestRepository.findRequestIds("davy")).thenReturn(Arrays.asList(1L, 2L));
+        when(fundRepository.findRequestIdsFundedFrom("0xd24400ae8bfebb18ca49be86258a3c749cf46853")).thenReturn(Arrays.asList(2L, 3L));
+
+        assertThat(userRequestService.findRequestIds("davy", "0xd24400ae8BfEBb18cA49Be86258a3C749cf46853")).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void add() {
+        userRequestService.add("davy", 1L, WATCHING);
+
+        final UserRequest userRequest = savedUserRequest();
+        assertThat(userRequest.getUserId()).isEqualTo("davy");
+        assertThat(userRequest.getRequestId()).isEqualTo(1L);
+        assertThat(userRequest.getRelation()).isEqualTo(WATCHING);
+    }
+
+    @Test
+    void add_alreadyRelated() {
+        when(userRequestRepository.existsByUserIdAndRequestIdAndRelation("davy", 1L, WATCHING)).thenReturn(true);
+
+        userRequestService.add("davy", 1L, WATCHING);
+
+        verify(userRequestRepository, never()).save(any(UserRequest.class));
+    }
+
+    @Test
+    void remove() {
+        userRequestService.remove("davy", 1L, WATCHING);
+
+        verify(userRequestRepository).delete("davy", 1L, WATCHING);
+    }
+
+    @Test
+    void onFunded() {
+        userRequestService.onFunded(RequestFundedEvent.builder().requestId(1L).fundDto(FundDtoMother.aFundDto().funderUserId("davy").build()).build());
+
+        assertThat(savedUserRequest().getRelation()).isEqualTo(FUNDED);
+    }
+
+    @Test
+    void onFunded_recordedConcurrently() {
+        when(userRequestRepository.save(any(UserRequest.class))).thenThrow(new DataIntegrityViolationException("user_request_uk"));
+
+        userRequestService.onFunded(RequestFundedEvent.builder().requestId(1L).fundDto(FundDtoMother.aFundDto().funderUserId("davy").build()).build());
+
+        assertThat(savedUserRequest().getRelation()).isEqualTo(FUNDED);
+    }
+
+    @Test
+    void onFunded_withoutUser() {
+        userRequestService.onFunded(RequestFundedEvent.builder().requestId(1L).fundDto(FundDtoMother.aFundDto().build()).build());
+
+        verify(userRequestRepository, never()).save(any(UserRequest.class));
+    }
+
+    @Test
+    void onClaimRequested() {
+        final RequestClaim requestClaim = mock(RequestClaim.class);
+        when(requestClaim.getCreatedBy()).thenReturn("davy");
+        when(requestClaim.getRequestId()).thenReturn(1L);
+
+        userRequestService.onClaimRequested(new ClaimRequestedEvent(requestClaim));
+
+        final UserRequest userRequest = savedUserRequest();
+        assertThat(userRequest.getUserId()).isEqualTo("davy");
+        assertThat(userRequest.getRelation()).isEqualTo(CLAIMED);
+    }
+
+    @Test
+    void onRefunded() {
+        userRequestService.onRefunded(new RefundProcessedEvent(Refund.builder().requestId(1L).requestedBy("davy").build()));
+
+        final UserRequest userRequest = savedUserRequest();
+        assertThat(userRequest.getUserId()).isEqualTo("davy");
+        assertThat(userRequest.getRelation()).isEqualTo(FUNDED);
+    }
+
+    private UserRequest savedUserRequest() {
+        final ArgumentCaptor<UserRequest> captor = ArgumentCaptor.forClass(UserRequest.class);
+        verify(userRequestRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
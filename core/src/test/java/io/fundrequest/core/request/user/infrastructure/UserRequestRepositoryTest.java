@@ -0,0 +1,48 @@
+package io.fundrequest.core.request.user.infrastructure;
+
+import io.fundrequest.core.infrastructure.AbstractRepositoryTest;
+import io.fundrequest.core.request.domain.Request;
+import io.fundrequest.core.request.domain.RequestMother;
+import io.fundrequest.core.request.infrastructure.RequestRepository;
+import io.fundrequest.core.request.user.domain.UserRequest;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.FUNDED;
+import static io.fundrequest.core.request.user.domain.UserRequestRelation.WATCHING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserRequestRepositoryTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRequestRepository userRequestRepository;
+
+    @Test
+    public void findRequestIds() {
+        final Request watched = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().build());
+        final Request funded = requestRepository.saveAndFlush(RequestMother.fundRequestArea51().build());
+        userRequestRepository.saveAndFlush(new UserRequest("davy", watched.getId(), WATCHING));
+        userRequestRepository.saveAndFlush(new UserRequest("davy", watched.getId(), FUNDED));
+        userRequestRepository.saveAndFlush(new UserRequest("davy", funded.getId(), FUNDED));
+        userRequestRepository.saveAndFlush(new UserRequest("kristof", funded.getId(), WATCHING));
+
+        assertThat(userRequestRepository.findRequestIds("davy")).containsExactlyInAnyOrder(watched.getId(), funded.getId());
+        assertThat(userRequestRepository.existsByUserIdAndRequestIdAndRelation("davy", funded.getId(), FUNDED)).isTrue();
+        assertThat(userRequestRepository.existsByUserIdAndRequestIdAndRelation("davy", funded.getId(), WATCHING)).isFalse();
+    }
+
+    @Test
+    public void delete() {
+        final Request request = requestRepository.saveAndFlush(RequestMother.freeCodeCampNoUserStories().build());
+        userRequestRepository.saveAndFlush(new UserRequest("davy", request.getId(), WATCHING));
+        userRequestRepository.saveAndFlush(new UserRequest("davy", request.getId(), FUNDED));
+
+        userRequestRepository.delete("davy", request.getId(), WATCHING);
+
+        assertThat(userRequestRepository.existsByUserIdAndRequestIdAndRelation("davy", request.getId(), WATCHING)).isFalse();
+        assertThat(userRequestRepository.findRequestIds("davy")).containsExactly(request.getId());
+    }
+}
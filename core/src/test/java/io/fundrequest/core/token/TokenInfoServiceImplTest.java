@@ -0,0 +1,76 @@
+package io.fundrequest.core.token;
+
+import io.fundrequest.core.contract.domain.TokenWhitelistPreconditionContract;
+import io.fundrequest.core.erc20.service.ERC20Service;
+import io.fundrequest.core.token.domain.TokenInfo;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.token.dto.TokenInfoDtoMother;
+import io.fundrequest.core.token.infrastructure.TokenInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenInfoServiceImplTest {
+
+    private TokenInfoServiceImpl tokenInfoService;
+    private ERC20Service erc20Service;
+    private TokenInfoRepository tokenInfoRepository;
+
+    @BeforeEach
+    void setUp() {
+        erc20Service = mock(ERC20Service.class);
+        tokenInfoRepository = mock(TokenInfoRepository.class);
+        tokenInfoService = new TokenInfoServiceImpl(erc20Service, tokenInfoRepository, mock(TokenWhitelistPreconditionContract.class));
+    }
+
+    @Test
+    void getTokenInfo_fromDatabase() {
+        final TokenInfoDto fnd = TokenInfoDtoMother.fnd();
+        when(tokenInfoRepository.findByAddress(fnd.getAddress())).thenReturn(Optional.of(new TokenInfo(fnd.getAddress(), fnd.getSymbol(), fnd.getName(), fnd.getDecimals())));
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo(fnd.getAddress());
+        tokenInfoService.getTokenInfo(fnd.getAddress());
+
+        assertThat(result).isEqualTo(fnd);
+        verify(tokenInfoRepository, times(1)).findByAddress(fnd.getAddress());
+        verify(erc20Service, never()).getTokenInfoAsync(any());
+    }
+
+    @Test
+    void getTokenInfo_unknownTokenIsResolvedAndStored() {
+        final TokenInfoDto zrx = TokenInfoDtoMother.zrx();
+        when(tokenInfoRepository.findByAddress(zrx.getAddress())).thenReturn(Optional.empty());
+        when(erc20Service.getTokenInfoAsync(zrx.getAddress())).thenReturn(CompletableFuture.completedFuture(zrx));
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo(zrx.getAddress().toUpperCase().replace("0X", "0x"));
+        tokenInfoService.getTokenInfo(zrx.getAddress());
+
+        assertThat(result.getSymbol()).isEqualTo("ZRX");
+        verify(tokenInfoRepository).save(any(TokenInfo.class));
+        verify(erc20Service, times(1)).getTokenInfoAsync(zrx.getAddress());
+    }
+
+    @Test
+    void getTokenInfo_unreadableTokenIsNotStored() {
+        final CompletableFuture<TokenInfoDto> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new RuntimeException("node unavailable"));
+        when(tokenInfoRepository.findByAddress("0xabc")).thenReturn(Optional.empty());
+        when(erc20Service.getTokenInfoAsync("0xabc")).thenReturn(failure);
+
+        final TokenInfoDto result = tokenInfoService.getTokenInfo("0xabc");
+
+        assertThat(result.getSymbol()).isEqualTo("ERC20");
+        assertThat(result.getDecimals()).isEqualTo(18);
+        verify(tokenInfoRepository, never()).save(any(TokenInfo.class));
+    }
+}
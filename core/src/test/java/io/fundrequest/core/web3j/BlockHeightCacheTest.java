@@ -0,0 +1,53 @@
+package io.fundrequest.core.web3j;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BlockHeightCacheTest {
+
+    private BlockHeightCache cache;
+    private Web3jGateway web3jGateway;
+
+    @BeforeEach
+    void setUp() {
+        web3jGateway = mock(Web3jGateway.class);
+        cache = new BlockHeightCache(new ConcurrentMapCache("funded_amounts"), web3jGateway);
+    }
+
+    @Test
+    void servesValueWithinSameBlock() {
+        when(web3jGateway.currentBlockNumber()).thenReturn(Optional.of(BigInteger.TEN));
+
+        cache.put("key", "value");
+
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void expiresValueOnNewBlock() {
+        when(web3jGateway.currentBlockNumber()).thenReturn(Optional.of(BigInteger.TEN));
+        cache.put("key", "value");
+
+        when(web3jGateway.currentBlockNumber()).thenReturn(Optional.of(BigInteger.valueOf(11)));
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void loadsValueOnMiss() {
+        when(web3jGateway.currentBlockNumber()).thenReturn(Optional.of(BigInteger.TEN));
+
+        final String result = cache.get("key", () -> "loaded");
+
+        assertThat(result).isEqualTo("loaded");
+        assertThat(cache.get("key").get()).isEqualTo("loaded");
+    }
+}
@@ -0,0 +1,84 @@
+package io.fundrequest.core.web3j;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Web3jProviderPoolTest {
+
+    private Web3jService first;
+    private Web3jService second;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(Web3jService.class);
+        second = mock(Web3jService.class);
+        request = mock(Request.class);
+        when(request.getMethod()).thenReturn("eth_call");
+    }
+
+    @Test
+    void send_failsOverToNextEndpoint() throws IOException {
+        final EthCall response = new EthCall();
+        when(first.send(request, EthCall.class)).thenThrow(new IOException("node down"));
+        when(second.send(request, EthCall.class)).thenReturn(response);
+        final Web3jProviderPool pool = pool(0);
+
+        assertThat(pool.send(request, EthCall.class)).isSameAs(response);
+        assertThat(pool.getEndpoints().get(0).getErrorRate()).isGreaterThan(0);
+    }
+
+    @Test
+    void send_prefersHealthiestEndpoint() throws IOException {
+        final EthCall response = new EthCall();
+        when(second.send(request, EthCall.class)).thenReturn(response);
+        final Web3jProviderPool pool = pool(0);
+        pool.getEndpoints().get(0).recordFailure();
+
+        pool.send(request, EthCall.class);
+
+        verify(first, never()).send(any(Request.class), any());
+    }
+
+    @Test
+    void sendAsync_hedgesSlowCall() {
+        final EthCall response = new EthCall();
+        when(first.sendAsync(request, EthCall.class)).thenReturn(new CompletableFuture<>());
+        when(second.sendAsync(request, EthCall.class)).thenReturn(CompletableFuture.completedFuture(response));
+        final Web3jProviderPool pool = pool(10);
+
+        assertThat(pool.sendAsync(request, EthCall.class).join()).isSameAs(response);
+        verify(second, timeout(1000)).sendAsync(request, EthCall.class);
+    }
+
+    @Test
+    void sendAsync_doesNotHedgeWrites() {
+        when(request.getMethod()).thenReturn("eth_sendRawTransaction");
+        when(first.sendAsync(request, EthCall.class)).thenReturn(new CompletableFuture<>());
+        final Web3jProviderPool pool = pool(10);
+
+        final CompletableFuture<EthCall> result = pool.sendAsync(request, EthCall.class);
+
+        assertThat(result).isNotDone();
+        verify(second, never()).sendAsync(any(Request.class), any());
+    }
+
+    private Web3jProviderPool pool(final long hedgeAfterMs) {
+        return new Web3jProviderPool(Arrays.asList(new Web3jEndpoint("first", first), new Web3jEndpoint("second", second)), hedgeAfterMs);
+    }
+}
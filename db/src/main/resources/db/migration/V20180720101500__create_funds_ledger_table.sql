@@ -0,0 +1,34 @@
+CREATE TABLE funds_ledger
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  request_id         BIGINT      NOT NULL,
+  token_hash         VARCHAR(50) NOT NULL,
+  balance_in_wei     DECIMAL(50) NOT NULL,
+  claimed_in_wei     DECIMAL(50) NOT NULL,
+  version            BIGINT      DEFAULT 0 NOT NULL,
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000),
+  CONSTRAINT funds_ledger_request_fk FOREIGN KEY (request_id) REFERENCES request (id)
+);
+
+CREATE UNIQUE INDEX idx_funds_ledger_01 ON funds_ledger (request_id, token_hash);
+
+INSERT INTO funds_ledger (request_id, token_hash, balance_in_wei, claimed_in_wei, creation_date)
+  SELECT
+    l.request_id,
+    LOWER(l.token_hash),
+    SUM(l.balance_in_wei),
+    SUM(l.claimed_in_wei),
+    CURRENT_TIMESTAMP
+  FROM (SELECT f.request_id, f.token_hash, f.amount_in_wei AS balance_in_wei, 0 AS claimed_in_wei
+        FROM fund f
+        UNION ALL
+        SELECT r.request_id, r.token_hash, -r.amount_in_wei AS balance_in_wei, 0 AS claimed_in_wei
+        FROM refund r
+        UNION ALL
+        SELECT c.request_id, c.token_hash, -c.amount_in_wei AS balance_in_wei, c.amount_in_wei AS claimed_in_wei
+        FROM claim c) l
+  WHERE l.token_hash IS NOT NULL
+  GROUP BY l.request_id, LOWER(l.token_hash);
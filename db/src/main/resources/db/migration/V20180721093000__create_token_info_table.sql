@@ -0,0 +1,14 @@
+CREATE TABLE token_info
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  address            VARCHAR(50)  NOT NULL,
+  symbol             VARCHAR(100) NOT NULL,
+  name               VARCHAR(255) NOT NULL,
+  decimals           INT          NOT NULL,
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000)
+);
+
+CREATE UNIQUE INDEX idx_token_info_01 ON token_info (address);
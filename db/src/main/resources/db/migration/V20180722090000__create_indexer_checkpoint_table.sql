@@ -0,0 +1,9 @@
+CREATE TABLE indexer_checkpoint
+(
+  name               VARCHAR(100) PRIMARY KEY,
+  last_block         BIGINT NOT NULL,
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000)
+);
@@ -0,0 +1,6 @@
+UPDATE request
+SET last_modified_date = COALESCE(creation_date, CURRENT_TIMESTAMP)
+WHERE last_modified_date IS NULL;
+
+CREATE INDEX idx_request_03
+  ON request (last_modified_date, id);
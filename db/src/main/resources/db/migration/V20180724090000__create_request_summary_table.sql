@@ -0,0 +1,32 @@
+CREATE TABLE request_summary
+(
+  request_id         BIGINT       NOT NULL,
+  platform           VARCHAR(50),
+  platform_id        TEXT,
+  owner              VARCHAR(250),
+  repo               VARCHAR(250),
+  issue_number       VARCHAR(100),
+  title              VARCHAR(2000),
+  status             VARCHAR(50),
+  phase              VARCHAR(50),
+  technologies       VARCHAR(2000),
+  funds              VARCHAR(4000),
+  usd_value          DECIMAL(20, 2) NOT NULL,
+  last_funded_date   TIMESTAMP NULL,
+  creation_date      TIMESTAMP NULL,
+  last_modified_date TIMESTAMP NULL,
+  PRIMARY KEY (request_id),
+  CONSTRAINT request_summary_request_fk FOREIGN KEY (request_id) REFERENCES request (id)
+);
+
+CREATE INDEX idx_request_summary_01
+  ON request_summary (phase, last_modified_date, request_id);
+
+CREATE INDEX idx_request_summary_02
+  ON request_summary (phase, usd_value, request_id);
+
+CREATE INDEX idx_request_summary_03
+  ON request_summary (last_modified_date, request_id);
+
+CREATE INDEX idx_request_summary_04
+  ON request_summary (usd_value, request_id);
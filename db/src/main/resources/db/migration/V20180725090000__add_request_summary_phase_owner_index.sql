@@ -0,0 +1,2 @@
+CREATE INDEX idx_request_summary_05
+  ON request_summary (phase, owner);
@@ -0,0 +1,30 @@
+CREATE TABLE user_request
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  user_id            VARCHAR(150) NOT NULL,
+  request_id         BIGINT       NOT NULL,
+  relation           VARCHAR(50)  NOT NULL,
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000),
+  CONSTRAINT user_request_request_fk FOREIGN KEY (request_id) REFERENCES request (id),
+  CONSTRAINT user_request_uk UNIQUE (user_id, request_id, relation)
+);
+
+CREATE INDEX idx_user_request_01
+  ON user_request (request_id);
+
+INSERT INTO user_request (user_id, request_id, relation, creation_date)
+  SELECT email, request_id, 'WATCHING', CURRENT_TIMESTAMP
+  FROM request_watcher;
+
+INSERT INTO user_request (user_id, request_id, relation, creation_date)
+  SELECT DISTINCT funder_user_id, request_id, 'FUNDED', CURRENT_TIMESTAMP
+  FROM fund
+  WHERE funder_user_id IS NOT NULL;
+
+INSERT INTO user_request (user_id, request_id, relation, creation_date)
+  SELECT DISTINCT created_by, request_id, 'CLAIMED', CURRENT_TIMESTAMP
+  FROM request_claim
+  WHERE created_by IS NOT NULL;
@@ -0,0 +1,15 @@
+CREATE TABLE github_response
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  url_hash           CHAR(32)     NOT NULL,
+  url                TEXT         NOT NULL,
+  etag               VARCHAR(255),
+  last_modified      VARCHAR(100),
+  content_type       VARCHAR(255),
+  body               MEDIUMTEXT   NOT NULL,
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000),
+  CONSTRAINT github_response_uk UNIQUE (url_hash)
+);
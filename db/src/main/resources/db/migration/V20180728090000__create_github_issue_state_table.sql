@@ -0,0 +1,14 @@
+CREATE TABLE github_issue_state
+(
+  id                 BIGINT PRIMARY KEY AUTO_INCREMENT,
+  owner              VARCHAR(100) NOT NULL,
+  repo               VARCHAR(100) NOT NULL,
+  number             VARCHAR(20)  NOT NULL,
+  status             VARCHAR(20)  NOT NULL,
+  solver             VARCHAR(100),
+  creation_date      TIMESTAMP,
+  last_modified_date TIMESTAMP,
+  created_by         VARCHAR(1000),
+  last_modified_by   VARCHAR(1000),
+  CONSTRAINT github_issue_state_uk UNIQUE (owner, repo, number)
+);
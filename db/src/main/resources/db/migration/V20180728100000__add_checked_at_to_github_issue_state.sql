@@ -0,0 +1,2 @@
+ALTER TABLE github_issue_state
+  ADD COLUMN checked_at TIMESTAMP;
@@ -0,0 +1,2 @@
+CREATE INDEX github_issue_state_checked_at_idx
+  ON github_issue_state (checked_at);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_github_response_01
+  ON github_response (last_modified_date);
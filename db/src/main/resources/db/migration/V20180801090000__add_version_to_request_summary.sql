@@ -0,0 +1,2 @@
+ALTER TABLE request_summary
+  ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
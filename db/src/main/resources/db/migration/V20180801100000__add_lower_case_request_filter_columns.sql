@@ -0,0 +1,17 @@
+ALTER TABLE request_technology
+  ADD COLUMN technology_lc VARCHAR(150);
+
+UPDATE request_technology
+SET technology_lc = LOWER(technology);
+
+CREATE INDEX idx_request_technology_02
+  ON request_technology (technology_lc, request_id);
+
+ALTER TABLE request_summary
+  ADD COLUMN owner_lc VARCHAR(250);
+
+UPDATE request_summary
+SET owner_lc = LOWER(owner);
+
+CREATE INDEX idx_request_summary_06
+  ON request_summary (owner_lc);
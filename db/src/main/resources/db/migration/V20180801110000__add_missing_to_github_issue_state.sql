@@ -0,0 +1,5 @@
+ALTER TABLE github_issue_state
+  ADD COLUMN missing BOOLEAN DEFAULT FALSE NOT NULL;
+
+ALTER TABLE github_issue_state
+  MODIFY status VARCHAR(20) NULL;
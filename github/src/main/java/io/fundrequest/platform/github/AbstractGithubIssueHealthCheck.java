@@ -1,6 +1,5 @@
 package io.fundrequest.platform.github;
 
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.boot.actuate.health.Health;
@@ -12,7 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public abstract class AbstractGithubScraperHealthCheck implements HealthIndicator {
+public abstract class AbstractGithubIssueHealthCheck implements HealthIndicator {
 
     private static final String DOWN_PROBLEM_KEY = "problem";
 
@@ -20,9 +19,9 @@ public abstract class AbstractGithubScraperHealthCheck implements HealthIndicato
 
     protected abstract String getRepo();
 
-    protected abstract Map<String, GithubScraperHealthCheckProperties> getIssues();
+    protected abstract Map<String, GithubIssueHealthCheckProperties> getIssues();
 
-    protected abstract GithubScraper getGithubScraper();
+    protected abstract GithubIssueFetcher getGithubIssueFetcher();
 
     protected abstract Health check(GithubIssue githubIssue);
 
@@ -31,7 +30,7 @@ public abstract class AbstractGithubScraperHealthCheck implements HealthIndicato
         try {
             final List<Health> healths = getIssues().keySet()
                                                     .stream()
-                                                    .map(number -> getGithubScraper().fetchGithubIssue(getOwner(), getRepo(), number))
+                                                    .map(number -> getGithubIssueFetcher().fetchGithubIssue(getOwner(), getRepo(), number))
                                                     .map(this::check)
                                                     .collect(Collectors.toList());
             return Health.status(calculateOverallStatus(healths)).withDetail("healths", healths).build();
@@ -1,18 +1,23 @@
 package io.fundrequest.platform.github;
 
 import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.bind.PropertySourcesPropertyValues;
+import org.springframework.boot.bind.RelaxedDataBinder;
+import org.springframework.boot.bind.RelaxedPropertyResolver;
 import org.springframework.boot.context.TypeExcludeFilter;
-import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.netflix.feign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.env.ConfigurableEnvironment;
 
+@Slf4j
 @SpringBootConfiguration
 @EnableAutoConfiguration
-@EnableConfigurationProperties(GithubScraperHealthChecksProperties.class)
 @EnableFeignClients("io.fundrequest.platform.github")
 @ComponentScan(
         basePackageClasses = {FundRequestGithub.class, },
@@ -21,4 +26,23 @@ import org.springframework.context.annotation.FilterType;
                 @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
                 @ComponentScan.Filter(IgnoreDuringComponentScan.class)})
 public class FundRequestGithub {
+
+    static final String ISSUE_HEALTH_CHECKS_PREFIX = "io.fundrequest.health.github.issue";
+    static final String LEGACY_ISSUE_HEALTH_CHECKS_PREFIX = "io.fundrequest.health.github.scraper";
+
+    /**
+     * Binds the issue health checks from {@value #ISSUE_HEALTH_CHECKS_PREFIX}. Keys that are only set under
+     * {@value #LEGACY_ISSUE_HEALTH_CHECKS_PREFIX}, the prefix of the former scraper health checks, are still honoured.
+     */
+    @Bean
+    public GithubIssueHealthChecksProperties githubIssueHealthChecksProperties(final ConfigurableEnvironment environment) {
+        final GithubIssueHealthChecksProperties properties = new GithubIssueHealthChecksProperties();
+        final PropertySourcesPropertyValues propertyValues = new PropertySourcesPropertyValues(environment.getPropertySources());
+        if (!new RelaxedPropertyResolver(environment, LEGACY_ISSUE_HEALTH_CHECKS_PREFIX + ".").getSubProperties("").isEmpty()) {
+            log.warn("{}.* is deprecated, configure the GitHub issue health checks with {}.* instead", LEGACY_ISSUE_HEALTH_CHECKS_PREFIX, ISSUE_HEALTH_CHECKS_PREFIX);
+            new RelaxedDataBinder(properties, LEGACY_ISSUE_HEALTH_CHECKS_PREFIX).bind(propertyValues);
+        }
+        new RelaxedDataBinder(properties, ISSUE_HEALTH_CHECKS_PREFIX).bind(propertyValues);
+        return properties;
+    }
 }
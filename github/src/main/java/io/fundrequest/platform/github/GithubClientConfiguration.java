@@ -0,0 +1,24 @@
+package io.fundrequest.platform.github;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.fundrequest.common.infrastructure.IgnoreDuringComponentScan;
+import io.fundrequest.platform.github.etag.ConditionalRequestClient;
+import io.fundrequest.platform.github.etag.GithubResponseStore;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.ratelimit.RateLimitRecordingClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@IgnoreDuringComponentScan
+public class GithubClientConfiguration {
+
+    @Bean
+    public Client feignClient(final GithubRateLimiter rateLimiter, final ObjectProvider<GithubResponseStore> responseStore) {
+        final Client client = new RateLimitRecordingClient(new ApacheHttpClient(), rateLimiter);
+        final GithubResponseStore store = responseStore.getIfAvailable();
+        return store == null ? client : new ConditionalRequestClient(client, store);
+    }
+}
@@ -4,6 +4,7 @@ import io.fundrequest.platform.github.parser.GithubIssueCommentsResult;
 import io.fundrequest.platform.github.parser.GithubRateLimits;
 import io.fundrequest.platform.github.parser.GithubResult;
 import io.fundrequest.platform.github.parser.GithubUser;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
@@ -11,21 +12,30 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Map;
 
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BACKGROUND;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BULK;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.INTERACTIVE;
+
+/**
+ * Entry point for all GitHub API calls. Every call passes the {@link GithubRateLimiter} with a priority: lookups users
+ * wait for are interactive, comment posting and pull request lookups are background work and FAQ content is bulk.
+ */
 @Component
 public class GithubGateway {
 
     private final GithubApiClient githubApiClient;
     private final GithubRawClient githubRawClient;
+    private final GithubRateLimiter rateLimiter;
 
-
-    public GithubGateway(final GithubApiClient githubApiClient, final GithubRawClient githubRawClient) {
+    public GithubGateway(final GithubApiClient githubApiClient, final GithubRawClient githubRawClient, final GithubRateLimiter rateLimiter) {
         this.githubApiClient = githubApiClient;
         this.githubRawClient = githubRawClient;
+        this.rateLimiter = rateLimiter;
     }
 
     @Cacheable(value = "github_issue")
     public GithubResult getIssue(String owner, String repo, String number) {
-        return githubApiClient.getIssue(owner, repo, number);
+        return rateLimiter.execute(INTERACTIVE, () -> githubApiClient.getIssue(owner, repo, number));
     }
 
     @CacheEvict(value = "github_issue")
@@ -34,12 +44,12 @@ public class GithubGateway {
     }
 
     public GithubResult getPullrequest(String owner, String repo, String number) {
-        return githubApiClient.getPullrequest(owner, repo, number);
+        return rateLimiter.execute(BACKGROUND, () -> githubApiClient.getPullrequest(owner, repo, number));
     }
 
     @Cacheable(value = "github_comments")
     public List<GithubIssueCommentsResult> getCommentsForIssue(String owner, String repo, String number) {
-        return githubApiClient.getCommentsForIssue(owner, repo, number);
+        return rateLimiter.execute(INTERACTIVE, () -> githubApiClient.getCommentsForIssue(owner, repo, number));
     }
 
     @CacheEvict(value = "github_comments")
@@ -48,22 +58,25 @@ public class GithubGateway {
     }
 
     public void createCommentOnIssue(String owner, String repo, String number, CreateGithubComment comment) {
-        githubApiClient.createCommentOnIssue(owner, repo, number, comment);
+        rateLimiter.run(BACKGROUND, () -> githubApiClient.createCommentOnIssue(owner, repo, number, comment));
     }
 
     public void editCommentOnIssue(String owner, String repo, Long commentId, CreateGithubComment comment) {
-        githubApiClient.editCommentOnIssue(owner, repo, commentId, comment);
+        rateLimiter.run(BACKGROUND, () -> githubApiClient.editCommentOnIssue(owner, repo, commentId, comment));
     }
 
     @Cacheable(value = "github_repo_languages")
     public Map<String, Long> getLanguages(String owner, String repo) {
-        return githubApiClient.getLanguages(owner, repo);
+        return rateLimiter.execute(INTERACTIVE, () -> githubApiClient.getLanguages(owner, repo));
     }
 
     public GithubUser getUser(String username) {
-        return githubApiClient.getUser(username);
+        return rateLimiter.execute(INTERACTIVE, () -> githubApiClient.getUser(username));
     }
 
+    /**
+     * Not rate limited itself, GitHub does not count requests to /rate_limit.
+     */
     public GithubRateLimits getRateLimit() {
         return githubApiClient.getRateLimit();
     }
@@ -73,6 +86,6 @@ public class GithubGateway {
     }
 
     public String getContentsAsHtml(final String owner, final String repo, final String branch, final String filePath) {
-        return githubApiClient.getContentsAsHtml(owner, repo, branch, filePath);
+        return rateLimiter.execute(BULK, () -> githubApiClient.getContentsAsHtml(owner, repo, branch, filePath));
     }
 }
@@ -0,0 +1,21 @@
+package io.fundrequest.platform.github;
+
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Fetches the state of GitHub issues and the user that solved them, being the author of the merged pull request that
+ * closed the issue.
+ */
+public interface GithubIssueFetcher {
+
+    GithubIssue fetchGithubIssue(String owner, String repo, String number);
+
+    /**
+     * Issues that could not be found are left out of the result.
+     */
+    Map<GithubId, GithubIssue> fetchGithubIssues(Collection<GithubId> githubIds);
+}
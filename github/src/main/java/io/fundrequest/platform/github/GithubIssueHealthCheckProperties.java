@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class GithubScraperHealthCheckProperties {
+public class GithubIssueHealthCheckProperties {
 
     private String expectedSolver;
     private String expectedStatus;
@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.Map;
 
@@ -12,10 +11,9 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@ConfigurationProperties("io.fundrequest.health.github.scraper")
-public class GithubScraperHealthChecksProperties {
+public class GithubIssueHealthChecksProperties {
 
     private String owner;
     private String repo;
-    private Map<String, GithubScraperHealthCheckProperties> issues;
+    private Map<String, GithubIssueHealthCheckProperties> issues;
 }
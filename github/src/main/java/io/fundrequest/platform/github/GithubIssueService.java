@@ -1,6 +1,5 @@
 package io.fundrequest.platform.github;
 
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubId;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.springframework.stereotype.Component;
@@ -10,14 +9,14 @@ import java.util.Optional;
 @Component
 public class GithubIssueService {
 
-    private final GithubScraper githubScraper;
+    private final GithubIssueFetcher githubIssueFetcher;
 
-    public GithubIssueService(final GithubScraper githubScraper) {
-        this.githubScraper = githubScraper;
+    public GithubIssueService(final GithubIssueFetcher githubIssueFetcher) {
+        this.githubIssueFetcher = githubIssueFetcher;
     }
 
     public Optional<GithubIssue> findBy(final String platformId) {
         return GithubId.fromPlatformId(platformId)
-                       .map(githubId -> githubScraper.fetchGithubIssue(githubId.getOwner(), githubId.getRepo(), githubId.getNumber()));
+                       .map(githubId -> githubIssueFetcher.fetchGithubIssue(githubId.getOwner(), githubId.getRepo(), githubId.getNumber()));
     }
 }
@@ -0,0 +1,47 @@
+package io.fundrequest.platform.github;
+
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class GithubIssueStatusHealthCheck extends AbstractGithubIssueHealthCheck {
+
+    private final GithubIssueFetcher githubIssueFetcher;
+    private final String owner;
+    private final String repo;
+    private final Map<String, GithubIssueHealthCheckProperties> issues;
+
+    public GithubIssueStatusHealthCheck(final GithubIssueFetcher githubIssueFetcher, final GithubIssueHealthChecksProperties githubIssueHealthChecksProperties) {
+        this.githubIssueFetcher = githubIssueFetcher;
+        this.owner = githubIssueHealthChecksProperties.getOwner();
+        this.repo = githubIssueHealthChecksProperties.getRepo();
+        this.issues = githubIssueHealthChecksProperties.getIssues();
+    }
+
+    protected Health check(final GithubIssue githubIssue) {
+        return checkProperty(mapToGithubURL(githubIssue.getNumber()), "status", githubIssue.getStatus(), issues.get(githubIssue.getNumber()).getExpectedStatus());
+    }
+
+    @Override
+    protected String getOwner() {
+        return owner;
+    }
+
+    @Override
+    protected String getRepo() {
+        return repo;
+    }
+
+    @Override
+    protected Map<String, GithubIssueHealthCheckProperties> getIssues() {
+        return issues;
+    }
+
+    @Override
+    protected GithubIssueFetcher getGithubIssueFetcher() {
+        return githubIssueFetcher;
+    }
+}
@@ -8,7 +8,8 @@ import static org.springframework.web.bind.annotation.RequestMethod.GET;
 
 @FeignClient(
         name = "github-raw-client",
-        url = "https://raw.githubusercontent.com/"
+        url = "https://raw.githubusercontent.com/",
+        configuration = GithubClientConfiguration.class
 )
 public interface GithubRawClient {
 
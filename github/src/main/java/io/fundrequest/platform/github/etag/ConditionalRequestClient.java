@@ -0,0 +1,112 @@
+package io.fundrequest.platform.github.etag;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sends GET requests with the validators of the stored response for the same URL and replays the stored body when
+ * GitHub answers 304 Not Modified. GitHub does not count 304 responses against the rate limit.
+ */
+@Slf4j
+public class ConditionalRequestClient implements Client {
+
+    static final String ETAG = "ETag";
+    static final String LAST_MODIFIED = "Last-Modified";
+    static final String CONTENT_TYPE = "Content-Type";
+    static final String IF_NONE_MATCH = "If-None-Match";
+    static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private final Client delegate;
+    private final GithubResponseStore responseStore;
+
+    public ConditionalRequestClient(final Client delegate, final GithubResponseStore responseStore) {
+        this.delegate = delegate;
+        this.responseStore = responseStore;
+    }
+
+    @Override
+    public Response execute(final Request request, final Request.Options options) throws IOException {
+        if (!"GET".equalsIgnoreCase(request.method())) {
+            return delegate.execute(request, options);
+        }
+        final Optional<StoredGithubResponse> stored = find(request.url());
+        final Response response = delegate.execute(stored.map(storedResponse -> conditional(request, storedResponse)).orElse(request), options);
+        if (response.status() == 304 && stored.isPresent()) {
+            response.close();
+            return replay(stored.get());
+        }
+        final String eTag = header(response, ETAG);
+        final String lastModified = header(response, LAST_MODIFIED);
+        if (response.status() == 200 && response.body() != null && (eTag != null || lastModified != null)) {
+            final byte[] body = Util.toByteArray(response.body().asInputStream());
+            response.close();
+            save(request.url(), StoredGithubResponse.builder()
+                                                    .eTag(eTag)
+                                                    .lastModified(lastModified)
+                                                    .contentType(header(response, CONTENT_TYPE))
+                                                    .body(new String(body, StandardCharsets.UTF_8))
+                                                    .build());
+            return Response.create(response.status(), response.reason(), response.headers(), body);
+        }
+        return response;
+    }
+
+    private Request conditional(final Request request, final StoredGithubResponse stored) {
+        final Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        if (stored.getETag() != null) {
+            headers.put(IF_NONE_MATCH, Collections.singletonList(stored.getETag()));
+        } else if (stored.getLastModified() != null) {
+            headers.put(IF_MODIFIED_SINCE, Collections.singletonList(stored.getLastModified()));
+        }
+        return Request.create(request.method(), request.url(), headers, request.body(), request.charset());
+    }
+
+    private Response replay(final StoredGithubResponse stored) {
+        final Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        if (stored.getContentType() != null) {
+            headers.put(CONTENT_TYPE, Collections.singletonList(stored.getContentType()));
+        }
+        if (stored.getETag() != null) {
+            headers.put(ETAG, Collections.singletonList(stored.getETag()));
+        }
+        return Response.create(200, "OK", headers, stored.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Optional<StoredGithubResponse> find(final String url) {
+        try {
+            return responseStore.find(url);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read stored GitHub response for {}", url, e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(final String url, final StoredGithubResponse response) {
+        try {
+            responseStore.save(url, response);
+        } catch (RuntimeException e) {
+            log.warn("Unable to store GitHub response for {}", url, e);
+        }
+    }
+
+    private static String header(final Response response, final String name) {
+        return response.headers()
+                       .entrySet()
+                       .stream()
+                       .filter(header -> name.equalsIgnoreCase(header.getKey()))
+                       .flatMap(header -> header.getValue().stream())
+                       .findFirst()
+                       .orElse(null);
+    }
+}
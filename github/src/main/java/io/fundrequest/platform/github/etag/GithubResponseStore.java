@@ -0,0 +1,14 @@
+package io.fundrequest.platform.github.etag;
+
+import java.util.Optional;
+
+/**
+ * Keeps the last successful response of a GitHub GET request together with its validators, so the request can be
+ * repeated conditionally and a 304 can be answered with the stored body.
+ */
+public interface GithubResponseStore {
+
+    Optional<StoredGithubResponse> find(String url);
+
+    void save(String url, StoredGithubResponse response);
+}
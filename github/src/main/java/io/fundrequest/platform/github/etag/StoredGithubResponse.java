@@ -0,0 +1,13 @@
+package io.fundrequest.platform.github.etag;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class StoredGithubResponse {
+    private final String eTag;
+    private final String lastModified;
+    private final String contentType;
+    private final String body;
+}
@@ -0,0 +1,20 @@
+package io.fundrequest.platform.github.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fundrequest.platform.github.GithubClientConfiguration;
+import io.fundrequest.platform.github.GithubFeignConfiguration;
+import org.springframework.cloud.netflix.feign.FeignClient;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+@FeignClient(
+        name = "github-graphql-client",
+        url = "https://api.github.com/",
+        configuration = {GithubFeignConfiguration.class, GithubClientConfiguration.class}
+)
+interface GithubGraphQLClient {
+
+    @RequestMapping(value = "/graphql", method = POST, consumes = "application/json")
+    JsonNode query(GithubGraphQLRequest request);
+}
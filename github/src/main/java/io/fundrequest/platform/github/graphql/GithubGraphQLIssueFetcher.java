@@ -0,0 +1,129 @@
+package io.fundrequest.platform.github.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fundrequest.platform.github.GithubIssueFetcher;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.ratelimit.GithubRequestPriority;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Resolves issue states and solvers through the GitHub GraphQL API. Up to {@link #BATCH_SIZE} issues are fetched in
+ * a single query by aliasing one repository lookup per issue, instead of downloading and parsing the issue page and
+ * looking up every referenced pull request separately. Issues without a numeric number are left out of the result.
+ * A single issue is fetched as an interactive request on the GraphQL rate limit, callers of the bulk fetch pass the
+ * {@link GithubRateLimiter} themselves with the priority of their work.
+ */
+@Slf4j
+@Component
+public class GithubGraphQLIssueFetcher implements GithubIssueFetcher {
+
+    static final int BATCH_SIZE = 50;
+
+    private static final String ISSUE_FIELDS = "fragment issueFields on Issue { "
+                                               + "state "
+                                               + "closedByPullRequestsReferences(first: 10, includeClosedPrs: true) { nodes { merged author { login } } } "
+                                               + "timelineItems(itemTypes: [CLOSED_EVENT], last: 1) { nodes { ... on ClosedEvent { closer { ... on PullRequest { merged author { login } } } } } } "
+                                               + "}";
+
+    private final GithubGraphQLClient githubGraphQLClient;
+    private final GithubRateLimiter rateLimiter;
+
+    public GithubGraphQLIssueFetcher(final GithubGraphQLClient githubGraphQLClient, final GithubRateLimiter rateLimiter) {
+        this.githubGraphQLClient = githubGraphQLClient;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    @Cacheable("github_issues")
+    public GithubIssue fetchGithubIssue(final String owner, final String repo, final String number) {
+        final GithubId githubId = GithubId.builder().owner(owner).repo(repo).number(number).build();
+        return rateLimiter.execute(GithubRateLimitResource.GRAPHQL,
+                                   GithubRequestPriority.INTERACTIVE,
+                                   () -> Optional.ofNullable(fetchGithubIssues(Collections.singletonList(githubId)).get(githubId)))
+                          .orElseThrow(() -> new RuntimeException("GitHub issue " + owner + "/" + repo + "#" + number + " not found"));
+    }
+
+    @Override
+    public Map<GithubId, GithubIssue> fetchGithubIssues(final Collection<GithubId> githubIds) {
+        final List<GithubId> ids = githubIds.stream().filter(GithubGraphQLIssueFetcher::hasIssueNumber).collect(Collectors.toList());
+        final Map<GithubId, GithubIssue> result = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            result.putAll(fetchBatch(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()))));
+        }
+        return result;
+    }
+
+    private static boolean hasIssueNumber(final GithubId githubId) {
+        try {
+            Integer.valueOf(githubId.getNumber());
+            return true;
+        } catch (final NumberFormatException e) {
+            log.warn("Skipping GitHub issue {}/{}#{}, its number is not numeric", githubId.getOwner(), githubId.getRepo(), githubId.getNumber());
+            return false;
+        }
+    }
+
+    private Map<GithubId, GithubIssue> fetchBatch(final List<GithubId> githubIds) {
+        final StringBuilder declarations = new StringBuilder();
+        final StringBuilder selections = new StringBuilder();
+        final Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < githubIds.size(); i++) {
+            final GithubId githubId = githubIds.get(i);
+            declarations.append(i == 0 ? "" : ", ").append(String.format("$owner%1$d: String!, $repo%1$d: String!, $number%1$d: Int!", i));
+            selections.append(String.format("issue%1$d: repository(owner: $owner%1$d, name: $repo%1$d) { issue(number: $number%1$d) { ...issueFields } } ", i));
+            variables.put("owner" + i, githubId.getOwner());
+            variables.put("repo" + i, githubId.getRepo());
+            variables.put("number" + i, Integer.valueOf(githubId.getNumber()));
+        }
+        final String query = "query(" + declarations + ") { " + selections + "} " + ISSUE_FIELDS;
+
+        final JsonNode response = githubGraphQLClient.query(new GithubGraphQLRequest(query, variables));
+        if (response.hasNonNull("errors")) {
+            log.warn("GitHub GraphQL query returned errors: {}", response.get("errors"));
+        }
+
+        final Map<GithubId, GithubIssue> result = new LinkedHashMap<>();
+        for (int i = 0; i < githubIds.size(); i++) {
+            final JsonNode issue = response.path("data").path("issue" + i).path("issue");
+            if (issue.hasNonNull("state")) {
+                final GithubId githubId = githubIds.get(i);
+                result.put(githubId, GithubIssue.builder()
+                                                .owner(githubId.getOwner())
+                                                .repo(githubId.getRepo())
+                                                .number(githubId.getNumber())
+                                                .status(StringUtils.capitalize(issue.get("state").asText().toLowerCase()))
+                                                .solver(resolveSolver(issue).orElse(null))
+                                                .build());
+            }
+        }
+        return result;
+    }
+
+    private Optional<String> resolveSolver(final JsonNode issue) {
+        final Stream<JsonNode> closingPullRequests = StreamSupport.stream(issue.path("closedByPullRequestsReferences").path("nodes").spliterator(), false);
+        final Stream<JsonNode> closers = StreamSupport.stream(issue.path("timelineItems").path("nodes").spliterator(), false)
+                                                      .map(closedEvent -> closedEvent.path("closer"));
+        return Stream.concat(closingPullRequests, closers)
+                     .filter(pullRequest -> pullRequest.path("merged").asBoolean())
+                     .map(pullRequest -> pullRequest.path("author").path("login").asText(null))
+                     .filter(StringUtils::isNotBlank)
+                     .findFirst();
+    }
+}
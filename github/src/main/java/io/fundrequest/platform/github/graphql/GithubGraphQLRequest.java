@@ -0,0 +1,11 @@
+package io.fundrequest.platform.github.graphql;
+
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+class GithubGraphQLRequest {
+    private final String query;
+    private final Map<String, Object> variables;
+}
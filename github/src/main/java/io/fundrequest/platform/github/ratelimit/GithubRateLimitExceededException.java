@@ -0,0 +1,8 @@
+package io.fundrequest.platform.github.ratelimit;
+
+public class GithubRateLimitExceededException extends RuntimeException {
+
+    public GithubRateLimitExceededException(final GithubRequestPriority priority, final int remaining) {
+        super(String.format("GitHub rate limit too low for %s request, %d requests remaining", priority, remaining));
+    }
+}
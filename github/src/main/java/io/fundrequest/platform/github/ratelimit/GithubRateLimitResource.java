@@ -0,0 +1,9 @@
+package io.fundrequest.platform.github.ratelimit;
+
+/**
+ * The GitHub rate limits, the REST API and the GraphQL API are counted separately.
+ */
+public enum GithubRateLimitResource {
+    CORE,
+    GRAPHQL
+}
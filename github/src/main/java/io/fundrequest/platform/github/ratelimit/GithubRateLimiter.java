@@ -0,0 +1,181 @@
+package io.fundrequest.platform.github.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.CORE;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BACKGROUND;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BULK;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.INTERACTIVE;
+
+/**
+ * Token buckets for the GitHub rate limits, one per {@link GithubRateLimitResource} as GitHub counts REST and GraphQL
+ * requests separately. A bucket is seeded with the X-RateLimit headers of every GitHub response for its resource and
+ * refilled once the reset time passes. Each priority keeps a reserve of the limit it may not use:
+ * interactive requests can use the whole quota, background requests wait for the quota to recover when below their
+ * reserve and bulk requests are shed right away.
+ */
+@Slf4j
+@Component
+public class GithubRateLimiter implements PublicMetrics {
+
+    private final Map<GithubRequestPriority, Integer> reservePercentages = new EnumMap<>(GithubRequestPriority.class);
+    private final Map<GithubRequestPriority, Counters> counters = new EnumMap<>(GithubRequestPriority.class);
+    private final Map<GithubRateLimitResource, Bucket> buckets = new EnumMap<>(GithubRateLimitResource.class);
+    private final long backgroundMaxWaitMs;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition quotaRecorded = lock.newCondition();
+
+    public GithubRateLimiter(@Value("${io.fundrequest.github.rate-limit.background-reserve-percentage:20}") final int backgroundReservePercentage,
+                             @Value("${io.fundrequest.github.rate-limit.bulk-reserve-percentage:50}") final int bulkReservePercentage,
+                             @Value("${io.fundrequest.github.rate-limit.background-max-wait-ms:10000}") final long backgroundMaxWaitMs) {
+        this.reservePercentages.put(INTERACTIVE, 0);
+        this.reservePercentages.put(BACKGROUND, backgroundReservePercentage);
+        this.reservePercentages.put(BULK, bulkReservePercentage);
+        this.backgroundMaxWaitMs = backgroundMaxWaitMs;
+        for (final GithubRequestPriority priority : GithubRequestPriority.values()) {
+            counters.put(priority, new Counters());
+        }
+        for (final GithubRateLimitResource resource : GithubRateLimitResource.values()) {
+            buckets.put(resource, new Bucket());
+        }
+    }
+
+    public <T> T execute(final GithubRequestPriority priority, final Supplier<T> call) {
+        return execute(CORE, priority, call);
+    }
+
+    public <T> T execute(final GithubRateLimitResource resource, final GithubRequestPriority priority, final Supplier<T> call) {
+        acquire(buckets.get(resource), priority);
+        return call.get();
+    }
+
+    public void run(final GithubRequestPriority priority, final Runnable call) {
+        acquire(buckets.get(CORE), priority);
+        call.run();
+    }
+
+    public void record(final int limit, final int remaining, final long resetEpochSecond) {
+        record(CORE, limit, remaining, resetEpochSecond);
+    }
+
+    public void record(final GithubRateLimitResource resource, final int limit, final int remaining, final long resetEpochSecond) {
+        final Bucket bucket = buckets.get(resource);
+        lock.lock();
+        try {
+            bucket.limit = limit;
+            bucket.remaining = remaining;
+            bucket.resetEpochSecond = resetEpochSecond;
+            quotaRecorded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        final List<Metric<?>> metrics = new ArrayList<>();
+        lock.lock();
+        try {
+            buckets.forEach((resource, bucket) -> {
+                final String prefix = resource == CORE ? "github.rate-limit." : "github.rate-limit." + resource.name().toLowerCase() + ".";
+                metrics.add(new Metric<>(prefix + "limit", bucket.limit));
+                metrics.add(new Metric<>(prefix + "remaining", bucket.remaining));
+            });
+        } finally {
+            lock.unlock();
+        }
+        counters.forEach((priority, counter) -> {
+            final String prefix = "github.requests." + priority.name().toLowerCase() + ".";
+            metrics.add(new Metric<>(prefix + "queued", counter.queued.get()));
+            metrics.add(new Metric<>(prefix + "executed", counter.executed.get()));
+            metrics.add(new Metric<>(prefix + "shed", counter.shed.get()));
+        });
+        return metrics;
+    }
+
+    private void acquire(final Bucket bucket, final GithubRequestPriority priority) {
+        final Counters counter = counters.get(priority);
+        lock.lock();
+        try {
+            bucket.refillWhenReset();
+            if (!hasQuota(bucket, priority)) {
+                if (priority != BACKGROUND) {
+                    throw shed(bucket, priority, counter);
+                }
+                awaitQuota(bucket, priority, counter);
+            }
+            if (bucket.limit >= 0) {
+                bucket.remaining--;
+            }
+            counter.executed.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitQuota(final Bucket bucket, final GithubRequestPriority priority, final Counters counter) {
+        counter.queued.incrementAndGet();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(backgroundMaxWaitMs);
+            while (!hasQuota(bucket, priority)) {
+                if (nanos <= 0) {
+                    throw shed(bucket, priority, counter);
+                }
+                nanos = quotaRecorded.awaitNanos(nanos);
+                bucket.refillWhenReset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw shed(bucket, priority, counter);
+        } finally {
+            counter.queued.decrementAndGet();
+        }
+    }
+
+    private GithubRateLimitExceededException shed(final Bucket bucket, final GithubRequestPriority priority, final Counters counter) {
+        counter.shed.incrementAndGet();
+        log.warn("Shedding {} GitHub request, {} of {} requests remaining", priority, bucket.remaining, bucket.limit);
+        return new GithubRateLimitExceededException(priority, bucket.remaining);
+    }
+
+    private boolean hasQuota(final Bucket bucket, final GithubRequestPriority priority) {
+        return bucket.limit < 0 || bucket.remaining > (long) bucket.limit * reservePercentages.get(priority) / 100;
+    }
+
+    /**
+     * Only accessed while holding the lock.
+     */
+    private static final class Bucket {
+        private int limit = -1;
+        private int remaining;
+        private long resetEpochSecond;
+
+        private void refillWhenReset() {
+            if (limit >= 0 && System.currentTimeMillis() / 1000 >= resetEpochSecond) {
+                remaining = limit;
+            }
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong executed = new AtomicLong();
+        private final AtomicLong shed = new AtomicLong();
+    }
+}
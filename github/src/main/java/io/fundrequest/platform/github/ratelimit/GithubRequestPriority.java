@@ -0,0 +1,16 @@
+package io.fundrequest.platform.github.ratelimit;
+
+public enum GithubRequestPriority {
+    /**
+     * Lookups a user is waiting for, allowed to use the whole remaining quota.
+     */
+    INTERACTIVE,
+    /**
+     * Work triggered by events, like posting comments. Queued for a while once the quota drops below its reserve.
+     */
+    BACKGROUND,
+    /**
+     * Refreshes of content that is cached anyway. Shed as soon as the quota drops below its reserve.
+     */
+    BULK
+}
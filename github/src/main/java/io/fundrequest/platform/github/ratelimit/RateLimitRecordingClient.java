@@ -0,0 +1,61 @@
+package io.fundrequest.platform.github.ratelimit;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.CORE;
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.GRAPHQL;
+
+/**
+ * Feeds the X-RateLimit headers of every GitHub response to the {@link GithubRateLimiter}, into the bucket named by the
+ * X-RateLimit-Resource header. Responses without that header are recorded as GraphQL when they answer the GraphQL
+ * endpoint and as core otherwise.
+ */
+public class RateLimitRecordingClient implements Client {
+
+    private final Client delegate;
+    private final GithubRateLimiter rateLimiter;
+
+    public RateLimitRecordingClient(final Client delegate, final GithubRateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Response execute(final Request request, final Request.Options options) throws IOException {
+        final Response response = delegate.execute(request, options);
+        final String limit = header(response.headers(), "X-RateLimit-Limit");
+        final String remaining = header(response.headers(), "X-RateLimit-Remaining");
+        final String reset = header(response.headers(), "X-RateLimit-Reset");
+        if (limit != null && remaining != null && reset != null) {
+            try {
+                rateLimiter.record(resource(request, response), Integer.parseInt(limit), Integer.parseInt(remaining), Long.parseLong(reset));
+            } catch (NumberFormatException e) {
+                // Ignore malformed headers, the next response will seed the limiter
+            }
+        }
+        return response;
+    }
+
+    private static GithubRateLimitResource resource(final Request request, final Response response) {
+        final String resource = header(response.headers(), "X-RateLimit-Resource");
+        if (resource != null) {
+            return "graphql".equalsIgnoreCase(resource) ? GRAPHQL : CORE;
+        }
+        return request.url().contains("/graphql") ? GRAPHQL : CORE;
+    }
+
+    private static String header(final Map<String, Collection<String>> headers, final String name) {
+        return headers.entrySet()
+                      .stream()
+                      .filter(header -> name.equalsIgnoreCase(header.getKey()))
+                      .flatMap(header -> header.getValue().stream())
+                      .findFirst()
+                      .orElse(null);
+    }
+}
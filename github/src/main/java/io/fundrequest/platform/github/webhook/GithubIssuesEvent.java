@@ -0,0 +1,22 @@
+package io.fundrequest.platform.github.webhook;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.fundrequest.platform.github.parser.GithubResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of the GitHub "issues" webhook event.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubIssuesEvent {
+    private String action;
+    private GithubResult issue;
+    private GithubWebhookRepository repository;
+}
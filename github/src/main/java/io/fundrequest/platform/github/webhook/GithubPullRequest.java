@@ -0,0 +1,22 @@
+package io.fundrequest.platform.github.webhook;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.fundrequest.platform.github.parser.GithubUser;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubPullRequest {
+    private String number;
+    private String title;
+    private String body;
+    private boolean merged;
+    private GithubUser user;
+    private GithubPullRequestBase base;
+}
@@ -0,0 +1,23 @@
+package io.fundrequest.platform.github.webhook;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of the GitHub "pull_request" webhook event.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubPullRequestEvent {
+    private String action;
+    @JsonProperty("pull_request")
+    private GithubPullRequest pullRequest;
+    private GithubWebhookRepository repository;
+}
@@ -0,0 +1,21 @@
+package io.fundrequest.platform.github.webhook;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fundrequest.platform.github.parser.GithubUser;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubWebhookRepository {
+    private String name;
+    private GithubUser owner;
+    @JsonProperty("default_branch")
+    private String defaultBranch;
+}
@@ -0,0 +1,47 @@
+package io.fundrequest.platform.github.webhook;
+
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.bind.DatatypeConverter;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * Verifies the X-Hub-Signature header GitHub sends with every webhook delivery, an HMAC-SHA1 of the payload keyed
+ * with the webhook secret. Without a configured secret every delivery is rejected.
+ */
+@Component
+public class GithubWebhookSignatureVerifier {
+
+    private static final String ALGORITHM = "HmacSHA1";
+    private static final String PREFIX = "sha1=";
+
+    private final String secret;
+
+    public GithubWebhookSignatureVerifier(@Value("${io.fundrequest.github.webhook.secret:}") final String secret) {
+        this.secret = secret;
+    }
+
+    public boolean isValid(final byte[] payload, final String signature) {
+        if (StringUtils.isBlank(secret) || signature == null || !signature.startsWith(PREFIX)) {
+            return false;
+        }
+        final String expected = PREFIX + sign(payload);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), signature.toLowerCase().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sign(final byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return DatatypeConverter.printHexBinary(mac.doFinal(payload)).toLowerCase();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute GitHub webhook signature", e);
+        }
+    }
+}
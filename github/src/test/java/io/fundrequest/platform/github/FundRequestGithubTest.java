@@ -0,0 +1,49 @@
+package io.fundrequest.platform.github;
+
+import org.junit.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FundRequestGithubTest {
+
+    @Test
+    public void githubIssueHealthChecksProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("io.fundrequest.health.github.issue.owner", "FundRequest");
+        properties.put("io.fundrequest.health.github.issue.repo", "area51");
+        properties.put("io.fundrequest.health.github.issue.issues.38.expectedSolver", "davyvanroy");
+
+        final GithubIssueHealthChecksProperties result = new FundRequestGithub().githubIssueHealthChecksProperties(environment(properties));
+
+        assertThat(result.getOwner()).isEqualTo("FundRequest");
+        assertThat(result.getRepo()).isEqualTo("area51");
+        assertThat(result.getIssues()).containsOnlyKeys("38");
+        assertThat(result.getIssues().get("38").getExpectedSolver()).isEqualTo("davyvanroy");
+    }
+
+    @Test
+    public void githubIssueHealthChecksProperties_fallsBackOnScraperPrefix() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("io.fundrequest.health.github.scraper.owner", "FundRequest");
+        properties.put("io.fundrequest.health.github.scraper.repo", "platform");
+        properties.put("io.fundrequest.health.github.scraper.issues.105.expectedStatus", "Closed");
+        properties.put("io.fundrequest.health.github.issue.repo", "area51");
+
+        final GithubIssueHealthChecksProperties result = new FundRequestGithub().githubIssueHealthChecksProperties(environment(properties));
+
+        assertThat(result.getOwner()).isEqualTo("FundRequest");
+        assertThat(result.getRepo()).isEqualTo("area51");
+        assertThat(result.getIssues().get("105").getExpectedStatus()).isEqualTo("Closed");
+    }
+
+    private StandardEnvironment environment(final Map<String, Object> properties) {
+        final StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return environment;
+    }
+}
@@ -1,6 +1,5 @@
 package io.fundrequest.platform.github;
 
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +13,12 @@ import static org.mockito.Mockito.when;
 class GithubIssueServiceTest {
 
     private GithubIssueService githubIssueService;
-    private GithubScraper githubScraper;
+    private GithubIssueFetcher githubIssueFetcher;
 
     @BeforeEach
     void setUp() {
-        githubScraper = mock(GithubScraper.class);
-        githubIssueService = new GithubIssueService(githubScraper);
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        githubIssueService = new GithubIssueService(githubIssueFetcher);
     }
 
     @Test
@@ -29,7 +28,7 @@ class GithubIssueServiceTest {
         final String number = "43";
         final GithubIssue githubIssue = GithubIssue.builder().build();
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(githubIssue);
+        when(githubIssueFetcher.fetchGithubIssue(owner, repo, number)).thenReturn(githubIssue);
 
         final Optional<GithubIssue> result = githubIssueService.findBy(owner + "|FR|" + repo + "|FR|" + number);
 
@@ -52,7 +51,7 @@ class GithubIssueServiceTest {
         final String repo = "fafsa";
         final String number = "43";
 
-        when(githubScraper.fetchGithubIssue(owner, repo, number)).thenReturn(null);
+        when(githubIssueFetcher.fetchGithubIssue(owner, repo, number)).thenReturn(null);
 
         final Optional<GithubIssue> result = githubIssueService.findBy(owner + "|FR|" + repo + "|FR|" + number);
 
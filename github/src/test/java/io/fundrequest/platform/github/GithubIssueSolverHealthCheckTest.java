@@ -1,6 +1,5 @@
 package io.fundrequest.platform.github;
 
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.junit.Before;
 import org.junit.Test;
@@ -17,7 +16,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-public class GithubScraperSolverHealthCheckTest {
+public class GithubIssueSolverHealthCheckTest {
 
     private static final String OWNER = "hgfcjgvhk";
     private static final String REPO = "fyjcgkjvhb";
@@ -29,27 +28,27 @@ public class GithubScraperSolverHealthCheckTest {
     private static final String URL_1 = URL_PREFIX + NUMBER_1;
     private static final String URL_2 = URL_PREFIX + NUMBER_2;
 
-    private GithubScraperSolverHealthCheck githubScraperSolverHealthCheck;
-    private GithubScraper githubScraper;
+    private GithubIssueSolverHealthCheck githubIssueSolverHealthCheck;
+    private GithubIssueFetcher githubIssueFetcher;
 
     @Before
     public void setUp() {
-        githubScraper = mock(GithubScraper.class);
-        final GithubScraperHealthChecksProperties githubScraperHealthChecksProperties = GithubScraperHealthChecksProperties.builder()
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        final GithubIssueHealthChecksProperties githubIssueHealthChecksProperties = GithubIssueHealthChecksProperties.builder()
                                                                                                                            .owner(OWNER)
                                                                                                                            .repo(REPO)
                                                                                                                            .issues(initChecksMap())
                                                                                                                            .build();
-        githubScraperSolverHealthCheck = new GithubScraperSolverHealthCheck(githubScraper, githubScraperHealthChecksProperties);
+        githubIssueSolverHealthCheck = new GithubIssueSolverHealthCheck(githubIssueFetcher, githubIssueHealthChecksProperties);
     }
 
-    private Map<String, GithubScraperHealthCheckProperties> initChecksMap() {
-        final Map<String, GithubScraperHealthCheckProperties> checksMap = new HashMap<>();
-        checksMap.put(NUMBER_1, GithubScraperHealthCheckProperties.builder()
+    private Map<String, GithubIssueHealthCheckProperties> initChecksMap() {
+        final Map<String, GithubIssueHealthCheckProperties> checksMap = new HashMap<>();
+        checksMap.put(NUMBER_1, GithubIssueHealthCheckProperties.builder()
                                                                   .expectedSolver(EXPECTED_SOLVER_1)
                                                                   .expectedStatus("closed")
                                                                   .build());
-        checksMap.put(NUMBER_2, GithubScraperHealthCheckProperties.builder()
+        checksMap.put(NUMBER_2, GithubIssueHealthCheckProperties.builder()
                                                                   .expectedSolver(EXPECTED_SOLVER_2)
                                                                   .expectedStatus("closed")
                                                                   .build());
@@ -61,10 +60,10 @@ public class GithubScraperSolverHealthCheckTest {
         final List<Health> expectedHealths = Arrays.asList(Health.up().withDetail("checkedURL", URL_1).build(),
                                                            Health.up().withDetail("checkedURL", URL_2).build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(EXPECTED_SOLVER_2).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(EXPECTED_SOLVER_2).build());
 
-        final Health result = githubScraperSolverHealthCheck.health();
+        final Health result = githubIssueSolverHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.UP);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -76,10 +75,10 @@ public class GithubScraperSolverHealthCheckTest {
         final List<Health> expectedHealths = Arrays.asList(Health.down().withDetail("problem", "No solver found").withDetail("checkedURL", URL_1).build(),
                                                            Health.up().withDetail("checkedURL", URL_2).build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(EXPECTED_SOLVER_2).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(EXPECTED_SOLVER_2).build());
 
-        final Health result = githubScraperSolverHealthCheck.health();
+        final Health result = githubIssueSolverHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -96,10 +95,10 @@ public class GithubScraperSolverHealthCheckTest {
                                                                  .withDetail("checkedURL", URL_2)
                                                                  .build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(fetchedSolver).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).solver(fetchedSolver).build());
 
-        final Health result = githubScraperSolverHealthCheck.health();
+        final Health result = githubIssueSolverHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -107,10 +106,10 @@ public class GithubScraperSolverHealthCheckTest {
 
     @Test
     public void health_down_when1ThrowsException() {
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
-        doThrow(new RuntimeException()).when(githubScraper).fetchGithubIssue(OWNER, REPO, NUMBER_2);
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).solver(EXPECTED_SOLVER_1).build());
+        doThrow(new RuntimeException()).when(githubIssueFetcher).fetchGithubIssue(OWNER, REPO, NUMBER_2);
 
-        final Health result = githubScraperSolverHealthCheck.health();
+        final Health result = githubIssueSolverHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
     }
@@ -1,6 +1,5 @@
 package io.fundrequest.platform.github;
 
-import io.fundrequest.platform.github.scraper.GithubScraper;
 import io.fundrequest.platform.github.scraper.model.GithubIssue;
 import org.junit.Before;
 import org.junit.Test;
@@ -17,7 +16,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-public class GithubScraperStatusHealthCheckTest {
+public class GithubIssueStatusHealthCheckTest {
 
     private static final String OWNER = "hgfcjgvhk";
     private static final String REPO = "fyjcgkjvhb";
@@ -29,27 +28,27 @@ public class GithubScraperStatusHealthCheckTest {
     private static final String URL_1 = URL_PREFIX + NUMBER_1;
     private static final String URL_2 = URL_PREFIX + NUMBER_2;
 
-    private GithubScraperStatusHealthCheck githubScraperStatusHealthCheck;
-    private GithubScraper githubScraper;
+    private GithubIssueStatusHealthCheck githubIssueStatusHealthCheck;
+    private GithubIssueFetcher githubIssueFetcher;
 
     @Before
     public void setUp() {
-        githubScraper = mock(GithubScraper.class);
-        final GithubScraperHealthChecksProperties githubScraperHealthChecksProperties = GithubScraperHealthChecksProperties.builder()
+        githubIssueFetcher = mock(GithubIssueFetcher.class);
+        final GithubIssueHealthChecksProperties githubIssueHealthChecksProperties = GithubIssueHealthChecksProperties.builder()
                                                                                                                            .owner(OWNER)
                                                                                                                            .repo(REPO)
                                                                                                                            .issues(initChecksMap())
                                                                                                                            .build();
-        githubScraperStatusHealthCheck = new GithubScraperStatusHealthCheck(githubScraper, githubScraperHealthChecksProperties);
+        githubIssueStatusHealthCheck = new GithubIssueStatusHealthCheck(githubIssueFetcher, githubIssueHealthChecksProperties);
     }
 
-    private Map<String, GithubScraperHealthCheckProperties> initChecksMap() {
-        final Map<String, GithubScraperHealthCheckProperties> checksMap = new HashMap<>();
-        checksMap.put(NUMBER_1, GithubScraperHealthCheckProperties.builder()
+    private Map<String, GithubIssueHealthCheckProperties> initChecksMap() {
+        final Map<String, GithubIssueHealthCheckProperties> checksMap = new HashMap<>();
+        checksMap.put(NUMBER_1, GithubIssueHealthCheckProperties.builder()
                                                                   .expectedSolver("hdfgjg")
                                                                   .expectedStatus(EXPECTED_STATUS_1)
                                                                   .build());
-        checksMap.put(NUMBER_2, GithubScraperHealthCheckProperties.builder()
+        checksMap.put(NUMBER_2, GithubIssueHealthCheckProperties.builder()
                                                                   .expectedSolver("jglkl")
                                                                   .expectedStatus(EXPECTED_STATUS_2)
                                                                   .build());
@@ -61,10 +60,10 @@ public class GithubScraperStatusHealthCheckTest {
         final List<Health> expectedHealths = Arrays.asList(Health.up().withDetail("checkedURL", URL_1).build(),
                                                            Health.up().withDetail("checkedURL", URL_2).build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(EXPECTED_STATUS_2).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(EXPECTED_STATUS_2).build());
 
-        final Health result = githubScraperStatusHealthCheck.health();
+        final Health result = githubIssueStatusHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.UP);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -76,10 +75,10 @@ public class GithubScraperStatusHealthCheckTest {
         final List<Health> expectedHealths = Arrays.asList(Health.down().withDetail("problem", "No status found").withDetail("checkedURL", URL_1).build(),
                                                            Health.up().withDetail("checkedURL", URL_2).build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(EXPECTED_STATUS_2).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(EXPECTED_STATUS_2).build());
 
-        final Health result = githubScraperStatusHealthCheck.health();
+        final Health result = githubIssueStatusHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -96,10 +95,10 @@ public class GithubScraperStatusHealthCheckTest {
                                                                  .withDetail("checkedURL", URL_2)
                                                                  .build());
 
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(fetchedStatus).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_2)).thenReturn(GithubIssue.builder().number(NUMBER_2).status(fetchedStatus).build());
 
-        final Health result = githubScraperStatusHealthCheck.health();
+        final Health result = githubIssueStatusHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
         assertThat(result.getDetails().get("healths")).isEqualTo(expectedHealths);
@@ -107,10 +106,10 @@ public class GithubScraperStatusHealthCheckTest {
 
     @Test
     public void health_down_when1ThrowsException() {
-        when(githubScraper.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
-        doThrow(new RuntimeException()).when(githubScraper).fetchGithubIssue(OWNER, REPO, NUMBER_2);
+        when(githubIssueFetcher.fetchGithubIssue(OWNER, REPO, NUMBER_1)).thenReturn(GithubIssue.builder().number(NUMBER_1).status(EXPECTED_STATUS_1).build());
+        doThrow(new RuntimeException()).when(githubIssueFetcher).fetchGithubIssue(OWNER, REPO, NUMBER_2);
 
-        final Health result = githubScraperStatusHealthCheck.health();
+        final Health result = githubIssueStatusHealthCheck.health();
 
         assertThat(result.getStatus()).isEqualTo(Status.DOWN);
     }
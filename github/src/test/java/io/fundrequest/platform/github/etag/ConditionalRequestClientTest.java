@@ -0,0 +1,138 @@
+package io.fundrequest.platform.github.etag;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class ConditionalRequestClientTest {
+
+    private static final String URL = "https://api.github.com/repos/FundRequest/platform/issues/1";
+    private static final String BODY = "{\"number\":1}";
+
+    private ConditionalRequestClient client;
+    private Client delegate;
+    private GithubResponseStore responseStore;
+    private Request.Options options;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(Client.class);
+        responseStore = mock(GithubResponseStore.class);
+        options = new Request.Options();
+        client = new ConditionalRequestClient(delegate, responseStore);
+        when(responseStore.find(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void execute_storesResponseWithETag() throws IOException {
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, headers("\"abc\"", "application/json"), BODY));
+
+        final Response result = client.execute(get(), options);
+
+        assertThat(result.status()).isEqualTo(200);
+        assertThat(bodyOf(result)).isEqualTo(BODY);
+        verify(responseStore).save(URL, StoredGithubResponse.builder().eTag("\"abc\"").contentType("application/json").body(BODY).build());
+    }
+
+    @Test
+    void execute_notModifiedServesStoredBody() throws IOException {
+        when(responseStore.find(URL)).thenReturn(Optional.of(StoredGithubResponse.builder().eTag("\"abc\"").contentType("application/json").body(BODY).build()));
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(304, Collections.emptyMap(), null));
+
+        final Response result = client.execute(get(), options);
+
+        final ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(delegate).execute(captor.capture(), any(Request.Options.class));
+        assertThat(captor.getValue().headers().get(ConditionalRequestClient.IF_NONE_MATCH)).containsExactly("\"abc\"");
+        assertThat(result.status()).isEqualTo(200);
+        assertThat(result.headers().get(ConditionalRequestClient.CONTENT_TYPE)).containsExactly("application/json");
+        assertThat(bodyOf(result)).isEqualTo(BODY);
+        verify(responseStore, never()).save(anyString(), any(StoredGithubResponse.class));
+    }
+
+    @Test
+    void execute_lastModifiedOnly() throws IOException {
+        when(responseStore.find(URL)).thenReturn(Optional.of(StoredGithubResponse.builder().lastModified("Tue, 24 Jul 2018 09:00:00 GMT").body(BODY).build()));
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(304, Collections.emptyMap(), null));
+
+        client.execute(get(), options);
+
+        final ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(delegate).execute(captor.capture(), any(Request.Options.class));
+        assertThat(captor.getValue().headers().get(ConditionalRequestClient.IF_MODIFIED_SINCE)).containsExactly("Tue, 24 Jul 2018 09:00:00 GMT");
+        assertThat(captor.getValue().headers()).doesNotContainKey(ConditionalRequestClient.IF_NONE_MATCH);
+    }
+
+    @Test
+    void execute_withoutValidatorsNotStored() throws IOException {
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, Collections.emptyMap(), BODY));
+
+        final Response result = client.execute(get(), options);
+
+        assertThat(bodyOf(result)).isEqualTo(BODY);
+        verify(responseStore, never()).save(anyString(), any(StoredGithubResponse.class));
+    }
+
+    @Test
+    void execute_storeFailureDoesNotFailRequest() throws IOException {
+        when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(response(200, headers("\"abc\"", "application/json"), BODY));
+        doThrow(new RuntimeException("db down")).when(responseStore).save(anyString(), any(StoredGithubResponse.class));
+
+        final Response result = client.execute(get(), options);
+
+        assertThat(bodyOf(result)).isEqualTo(BODY);
+    }
+
+    @Test
+    void execute_nonGetPassesThrough() throws IOException {
+        final Request patch = Request.create("PATCH", URL, Collections.emptyMap(), BODY.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        final Response response = response(200, headers("\"abc\"", "application/json"), BODY);
+        when(delegate.execute(patch, options)).thenReturn(response);
+
+        final Response result = client.execute(patch, options);
+
+        assertThat(result).isSameAs(response);
+        verifyZeroInteractions(responseStore);
+    }
+
+    private static Request get() {
+        return Request.create("GET", URL, Collections.emptyMap(), null, null);
+    }
+
+    private static Map<String, Collection<String>> headers(final String eTag, final String contentType) {
+        final Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("etag", Collections.singletonList(eTag));
+        headers.put("content-type", Collections.singletonList(contentType));
+        return headers;
+    }
+
+    private static Response response(final int status, final Map<String, Collection<String>> headers, final String body) {
+        return Response.create(status, "", headers, body == null ? null : body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String bodyOf(final Response response) throws IOException {
+        return new String(Util.toByteArray(response.body().asInputStream()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,138 @@
+package io.fundrequest.platform.github.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitExceededException;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimitResource;
+import io.fundrequest.platform.github.ratelimit.GithubRateLimiter;
+import io.fundrequest.platform.github.scraper.model.GithubId;
+import io.fundrequest.platform.github.scraper.model.GithubIssue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GithubGraphQLIssueFetcherTest {
+
+    private GithubGraphQLIssueFetcher fetcher;
+    private GithubGraphQLClient client;
+    private GithubRateLimiter rateLimiter;
+    private JsonNode response;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        client = mock(GithubGraphQLClient.class);
+        rateLimiter = new GithubRateLimiter(20, 50, 100);
+        fetcher = new GithubGraphQLIssueFetcher(client, rateLimiter);
+        response = new ObjectMapper().readTree(new ClassPathResource("/graphql/issues.json").getInputStream());
+    }
+
+    @Test
+    void fetchGithubIssues() {
+        final GithubId closedByPullRequest = githubId("FundRequest", "platform", "1");
+        final GithubId open = githubId("FundRequest", "platform", "2");
+        final GithubId closedByCloser = githubId("FundRequest", "area51", "3");
+        final GithubId unknown = githubId("FundRequest", "area51", "99999");
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(response);
+
+        final Map<GithubId, GithubIssue> result = fetcher.fetchGithubIssues(Arrays.asList(closedByPullRequest, open, closedByCloser, unknown));
+
+        assertThat(result).containsOnlyKeys(closedByPullRequest, open, closedByCloser);
+        assertThat(result.get(closedByPullRequest)).isEqualTo(GithubIssue.builder().owner("FundRequest").repo("platform").number("1").status("Closed").solver("nico-ptl").build());
+        assertThat(result.get(open)).isEqualTo(GithubIssue.builder().owner("FundRequest").repo("platform").number("2").status("Open").build());
+        assertThat(result.get(closedByCloser).getSolver()).isEqualTo("Qkyrie");
+
+        final ArgumentCaptor<GithubGraphQLRequest> captor = ArgumentCaptor.forClass(GithubGraphQLRequest.class);
+        verify(client).query(captor.capture());
+        assertThat(captor.getValue().getQuery()).contains("issue3: repository(owner: $owner3, name: $repo3) { issue(number: $number3) { ...issueFields } }");
+        assertThat(captor.getValue().getVariables()).containsEntry("owner2", "FundRequest")
+                                                     .containsEntry("repo2", "area51")
+                                                     .containsEntry("number2", 3);
+    }
+
+    @Test
+    void fetchGithubIssues_skipsNonNumericNumbers() {
+        final GithubId closedByPullRequest = githubId("FundRequest", "platform", "1");
+        final GithubId invalid = githubId("FundRequest", "platform", "FR|1");
+        final GithubId open = githubId("FundRequest", "platform", "2");
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(response);
+
+        final Map<GithubId, GithubIssue> result = fetcher.fetchGithubIssues(Arrays.asList(closedByPullRequest, invalid, open));
+
+        assertThat(result).containsOnlyKeys(closedByPullRequest, open);
+        final ArgumentCaptor<GithubGraphQLRequest> captor = ArgumentCaptor.forClass(GithubGraphQLRequest.class);
+        verify(client).query(captor.capture());
+        assertThat(captor.getValue().getVariables()).containsEntry("number0", 1)
+                                                     .containsEntry("number1", 2)
+                                                     .doesNotContainKey("number2");
+    }
+
+    @Test
+    void fetchGithubIssues_splitsInBatches() {
+        final List<GithubId> githubIds = IntStream.rangeClosed(1, GithubGraphQLIssueFetcher.BATCH_SIZE + 1)
+                                                  .mapToObj(number -> githubId("FundRequest", "platform", String.valueOf(number)))
+                                                  .collect(Collectors.toList());
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(response);
+
+        fetcher.fetchGithubIssues(githubIds);
+
+        verify(client, times(2)).query(any(GithubGraphQLRequest.class));
+    }
+
+    @Test
+    void fetchGithubIssues_empty() {
+        assertThat(fetcher.fetchGithubIssues(Collections.emptyList())).isEmpty();
+
+        verify(client, times(0)).query(any(GithubGraphQLRequest.class));
+    }
+
+    @Test
+    void fetchGithubIssue() {
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(response);
+
+        final GithubIssue result = fetcher.fetchGithubIssue("FundRequest", "platform", "1");
+
+        assertThat(result.getStatus()).isEqualTo("Closed");
+        assertThat(result.getSolver()).isEqualTo("nico-ptl");
+    }
+
+    @Test
+    void fetchGithubIssue_notFound() throws IOException {
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(new ObjectMapper().readTree("{\"data\": {\"issue0\": {\"issue\": null}}}"));
+
+        assertThatThrownBy(() -> fetcher.fetchGithubIssue("FundRequest", "platform", "99999")).isInstanceOf(RuntimeException.class)
+                                                                                                .hasMessageContaining("FundRequest/platform#99999");
+    }
+
+    @Test
+    void fetchGithubIssue_countsOnGraphQLRateLimit() {
+        rateLimiter.record(GithubRateLimitResource.GRAPHQL, 100, 1, Instant.now().plusSeconds(3600).getEpochSecond());
+        when(client.query(any(GithubGraphQLRequest.class))).thenReturn(response);
+
+        fetcher.fetchGithubIssue("FundRequest", "platform", "1");
+
+        assertThatThrownBy(() -> fetcher.fetchGithubIssue("FundRequest", "platform", "2")).isInstanceOf(GithubRateLimitExceededException.class);
+        verify(client, times(1)).query(any(GithubGraphQLRequest.class));
+    }
+
+    private GithubId githubId(final String owner, final String repo, final String number) {
+        return GithubId.builder().owner(owner).repo(repo).number(number).build();
+    }
+}
@@ -0,0 +1,136 @@
+package io.fundrequest.platform.github.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.Metric;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.CORE;
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.GRAPHQL;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BACKGROUND;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.BULK;
+import static io.fundrequest.platform.github.ratelimit.GithubRequestPriority.INTERACTIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GithubRateLimiterTest {
+
+    private static final long RESET_IN_AN_HOUR = Instant.now().plusSeconds(3600).getEpochSecond();
+
+    private GithubRateLimiter rateLimiter;
+    private Supplier<String> call;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        rateLimiter = new GithubRateLimiter(20, 50, 100);
+        call = mock(Supplier.class);
+        when(call.get()).thenReturn("result");
+    }
+
+    @Test
+    void execute_unseededAllowsAll() {
+        assertThat(rateLimiter.execute(BULK, call)).isEqualTo("result");
+    }
+
+    @Test
+    void execute_consumesTokens() {
+        rateLimiter.record(100, 2, RESET_IN_AN_HOUR);
+
+        rateLimiter.execute(INTERACTIVE, call);
+        rateLimiter.execute(INTERACTIVE, call);
+
+        assertThatThrownBy(() -> rateLimiter.execute(INTERACTIVE, call)).isInstanceOf(GithubRateLimitExceededException.class);
+        assertThat(metric("github.rate-limit.remaining")).isEqualTo(0);
+        assertThat(metric("github.requests.interactive.executed")).isEqualTo(2L);
+        assertThat(metric("github.requests.interactive.shed")).isEqualTo(1L);
+    }
+
+    @Test
+    void execute_bulkShedBelowReserve() {
+        rateLimiter.record(100, 50, RESET_IN_AN_HOUR);
+
+        assertThatThrownBy(() -> rateLimiter.execute(BULK, call)).isInstanceOf(GithubRateLimitExceededException.class);
+        verify(call, never()).get();
+        assertThat(rateLimiter.execute(BACKGROUND, call)).isEqualTo("result");
+        assertThat(rateLimiter.execute(INTERACTIVE, call)).isEqualTo("result");
+    }
+
+    @Test
+    void execute_backgroundShedAfterWaiting() {
+        rateLimiter.record(100, 20, RESET_IN_AN_HOUR);
+
+        assertThatThrownBy(() -> rateLimiter.execute(BACKGROUND, call)).isInstanceOf(GithubRateLimitExceededException.class);
+        verify(call, never()).get();
+        assertThat(metric("github.requests.background.shed")).isEqualTo(1L);
+        assertThat(metric("github.requests.background.queued")).isEqualTo(0);
+    }
+
+    @Test
+    void execute_backgroundQueuedUntilQuotaRecorded() throws Exception {
+        rateLimiter = new GithubRateLimiter(20, 50, 5000);
+        rateLimiter.record(100, 20, RESET_IN_AN_HOUR);
+
+        final CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> rateLimiter.execute(BACKGROUND, call));
+        while (metric("github.requests.background.queued").equals(0)) {
+            Thread.sleep(5);
+        }
+        rateLimiter.record(100, 90, RESET_IN_AN_HOUR);
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(metric("github.rate-limit.remaining")).isEqualTo(89);
+    }
+
+    @Test
+    void execute_refilledAfterReset() {
+        rateLimiter.record(100, 0, Instant.now().minusSeconds(1).getEpochSecond());
+
+        assertThat(rateLimiter.execute(BULK, call)).isEqualTo("result");
+        assertThat(metric("github.rate-limit.remaining")).isEqualTo(99);
+    }
+
+    @Test
+    void execute_graphqlCountedSeparately() {
+        rateLimiter.record(CORE, 100, 10, RESET_IN_AN_HOUR);
+        rateLimiter.record(GRAPHQL, 100, 90, RESET_IN_AN_HOUR);
+
+        assertThat(rateLimiter.execute(GRAPHQL, BULK, call)).isEqualTo("result");
+        assertThatThrownBy(() -> rateLimiter.execute(BULK, call)).isInstanceOf(GithubRateLimitExceededException.class);
+        assertThat(metric("github.rate-limit.remaining")).isEqualTo(10);
+        assertThat(metric("github.rate-limit.graphql.limit")).isEqualTo(100);
+        assertThat(metric("github.rate-limit.graphql.remaining")).isEqualTo(89);
+    }
+
+    @Test
+    void execute_graphqlShedBelowReserve() {
+        rateLimiter.record(CORE, 100, 90, RESET_IN_AN_HOUR);
+        rateLimiter.record(GRAPHQL, 100, 10, RESET_IN_AN_HOUR);
+
+        assertThatThrownBy(() -> rateLimiter.execute(GRAPHQL, BULK, call)).isInstanceOf(GithubRateLimitExceededException.class);
+        verify(call, never()).get();
+        assertThat(rateLimiter.execute(BULK, call)).isEqualTo("result");
+    }
+
+    @Test
+    void run() {
+        final Runnable runnable = mock(Runnable.class);
+        rateLimiter.record(100, 1, RESET_IN_AN_HOUR);
+
+        rateLimiter.run(INTERACTIVE, runnable);
+
+        verify(runnable).run();
+        assertThatThrownBy(() -> rateLimiter.run(INTERACTIVE, runnable)).isInstanceOf(GithubRateLimitExceededException.class);
+    }
+
+    private Object metric(final String name) {
+        return rateLimiter.metrics().stream().filter(metric -> metric.getName().equals(name)).findFirst().map(Metric::getValue).orElse(null);
+    }
+}
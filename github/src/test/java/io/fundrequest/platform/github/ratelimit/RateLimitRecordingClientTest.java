@@ -0,0 +1,90 @@
+package io.fundrequest.platform.github.ratelimit;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.CORE;
+import static io.fundrequest.platform.github.ratelimit.GithubRateLimitResource.GRAPHQL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitRecordingClientTest {
+
+    private RateLimitRecordingClient client;
+    private Client delegate;
+    private GithubRateLimiter rateLimiter;
+    private Request request;
+    private Request.Options options;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(Client.class);
+        rateLimiter = mock(GithubRateLimiter.class);
+        client = new RateLimitRecordingClient(delegate, rateLimiter);
+        request = Request.create("GET", "https://api.github.com/users/davyvanroy", Collections.emptyMap(), null, null);
+        options = new Request.Options();
+    }
+
+    @Test
+    void execute_recordsRateLimitHeaders() throws IOException {
+        final Response response = Response.create(200, "OK", rateLimitHeaders(), new byte[0]);
+        when(delegate.execute(request, options)).thenReturn(response);
+
+        assertThat(client.execute(request, options)).isSameAs(response);
+
+        verify(rateLimiter).record(CORE, 5000, 4321, 1532422800L);
+    }
+
+    @Test
+    void execute_recordsResourceHeader() throws IOException {
+        final Map<String, Collection<String>> headers = rateLimitHeaders();
+        headers.put("x-ratelimit-resource", Collections.singletonList("graphql"));
+        when(delegate.execute(request, options)).thenReturn(Response.create(200, "OK", headers, new byte[0]));
+
+        client.execute(request, options);
+
+        verify(rateLimiter).record(GRAPHQL, 5000, 4321, 1532422800L);
+    }
+
+    @Test
+    void execute_graphqlRequestWithoutResourceHeader() throws IOException {
+        final Request graphqlRequest = Request.create("POST", "https://api.github.com/graphql", Collections.emptyMap(), new byte[0], null);
+        when(delegate.execute(graphqlRequest, options)).thenReturn(Response.create(200, "OK", rateLimitHeaders(), new byte[0]));
+
+        client.execute(graphqlRequest, options);
+
+        verify(rateLimiter).record(GRAPHQL, 5000, 4321, 1532422800L);
+    }
+
+    @Test
+    void execute_withoutRateLimitHeaders() throws IOException {
+        when(delegate.execute(request, options)).thenReturn(Response.create(200, "OK", Collections.emptyMap(), new byte[0]));
+
+        client.execute(request, options);
+
+        verify(rateLimiter, never()).record(any(GithubRateLimitResource.class), anyInt(), anyInt(), anyLong());
+    }
+
+    private static Map<String, Collection<String>> rateLimitHeaders() {
+        final Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("x-ratelimit-limit", Collections.singletonList("5000"));
+        headers.put("x-ratelimit-remaining", Collections.singletonList("4321"));
+        headers.put("x-ratelimit-reset", Collections.singletonList("1532422800"));
+        return headers;
+    }
+}
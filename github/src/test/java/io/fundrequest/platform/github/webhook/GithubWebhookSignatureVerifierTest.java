@@ -0,0 +1,42 @@
+package io.fundrequest.platform.github.webhook;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubWebhookSignatureVerifierTest {
+
+    private static final String SECRET = "It's a Secret to Everybody";
+    private static final byte[] PAYLOAD = "{\"action\":\"closed\",\"issue\":{\"number\":38,\"state\":\"closed\"}}".getBytes(StandardCharsets.UTF_8);
+    private static final String SIGNATURE = "sha1=4f441bf1555dda08702c419addd282000705d085";
+
+    private final GithubWebhookSignatureVerifier verifier = new GithubWebhookSignatureVerifier(SECRET);
+
+    @Test
+    void isValid() {
+        assertThat(verifier.isValid(PAYLOAD, SIGNATURE)).isTrue();
+    }
+
+    @Test
+    void isValid_upperCaseHex() {
+        assertThat(verifier.isValid(PAYLOAD, SIGNATURE.toUpperCase().replace("SHA1=", "sha1="))).isTrue();
+    }
+
+    @Test
+    void isValid_tamperedPayload() {
+        assertThat(verifier.isValid("{\"action\":\"closed\",\"issue\":{\"number\":39,\"state\":\"closed\"}}".getBytes(StandardCharsets.UTF_8), SIGNATURE)).isFalse();
+    }
+
+    @Test
+    void isValid_missingSignature() {
+        assertThat(verifier.isValid(PAYLOAD, null)).isFalse();
+        assertThat(verifier.isValid(PAYLOAD, "4f441bf1555dda08702c419addd282000705d085")).isFalse();
+    }
+
+    @Test
+    void isValid_noSecretConfigured() {
+        assertThat(new GithubWebhookSignatureVerifier("").isValid(PAYLOAD, SIGNATURE)).isFalse();
+    }
+}
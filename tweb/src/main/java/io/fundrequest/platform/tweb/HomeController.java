@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.common.infrastructure.mav.AbstractController;
 import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.platform.profile.profile.ProfileService;
@@ -39,17 +41,20 @@ public class HomeController extends AbstractController {
     private ProfileService profileService;
     private ApplicationEventPublisher eventPublisher;
     private final RequestService requestService;
+    private final RequestSummaryService requestSummaryService;
     private final ObjectMapper objectMapper;
     private final Mappers mappers;
 
     public HomeController(ProfileService profileService,
                           ApplicationEventPublisher eventPublisher,
                           final RequestService requestService,
+                          final RequestSummaryService requestSummaryService,
                           final ObjectMapper objectMapper,
                           final Mappers mappers) {
         this.profileService = profileService;
         this.eventPublisher = eventPublisher;
         this.requestService = requestService;
+        this.requestSummaryService = requestSummaryService;
         this.objectMapper = objectMapper;
         this.mappers = mappers;
     }
@@ -78,10 +83,13 @@ public class HomeController extends AbstractController {
     @GetMapping(value = {"/requestsActiveCount"}, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
     @ResponseBody
     public String getRequestsActiveCount(Principal principal) {
-        final List<RequestView> requests = mappers.mapList(RequestDto.class, RequestView.class, requestService.findAll());
-        final Map<String, Long> requestsActiveCount = requests.stream()
-                .filter(request -> !request.getPhase().equals("Open"))
-                .collect(Collectors.groupingBy(RequestView::getOwner, Collectors.counting()));
+        final Map<String, Long> requestsActiveCount = requestSummaryService.countPerPhaseAndProject()
+                .entrySet()
+                .stream()
+                .filter(countsPerPhase -> countsPerPhase.getKey() != RequestPhase.OPEN)
+                .flatMap(countsPerPhase -> countsPerPhase.getValue().entrySet().stream())
+                .filter(countPerProject -> countPerProject.getKey() != null)
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingLong(Map.Entry::getValue)));
 
         return getAsJson(requestsActiveCount);
     }
@@ -2,6 +2,8 @@ package io.fundrequest.platform.tweb.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import io.fundrequest.core.web3j.BlockHeightCache;
+import io.fundrequest.core.web3j.Web3jGateway;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -24,16 +26,11 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public class CachingConfig {
 
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(final Web3jGateway web3jGateway) {
         SimpleCacheManager manager = new SimpleCacheManager();
         manager.setCaches(Arrays.asList(buildCache("possible_tokens", 1, HOURS),
-                                        buildCache("erc20.tokens.decimals", 30, DAYS),
-                                        buildCache("erc20.tokens.name", 30, DAYS),
-                                        buildCache("erc20.tokens.symbol", 30, DAYS),
-                                        buildCache("token_price", 15, MINUTES),
-                                        buildCache("cmc_token_price", 15, MINUTES),
                                         buildCache("cmc_listings", 1, DAYS),
-                                        buildCache("funds", 7, DAYS),
+                                        new BlockHeightCache(buildCache("funded_amounts", 1, HOURS), web3jGateway),
                                         buildCache("github_issue", 1, DAYS),
                                         buildCache("github_comments", 1, DAYS),
                                         buildCache("loginUserData", 1, DAYS),
@@ -43,6 +40,8 @@ public class CachingConfig {
                                         buildCache("projects", 7, DAYS),
                                         buildCache("technologies", 7, DAYS),
                                         buildCache("statistics", 7, DAYS),
+                                        buildCache("request_counts", 7, DAYS),
+                                        buildCache("request_badges", 1, MINUTES),
                                         new CaffeineCache("faqs", Caffeine.newBuilder().build()),
                                         buildCache("github_issues", 7, SECONDS),
                                         buildCache("gitter_fund_notification_rooms", 4, HOURS)));
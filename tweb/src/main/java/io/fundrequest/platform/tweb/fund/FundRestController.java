@@ -1,26 +1,46 @@
 package io.fundrequest.platform.tweb.fund;
 
 import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.contract.service.TokenWhitelistSnapshotService;
 import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.platform.tweb.infrastructure.ETags;
+import org.springframework.http.CacheControl;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/rest")
 public class FundRestController {
 
     private FundRequestContractsService fundRequestContractsService;
+    private TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
 
-    public FundRestController(final FundRequestContractsService fundRequestContractsService) {
+    public FundRestController(final FundRequestContractsService fundRequestContractsService, final TokenWhitelistSnapshotService tokenWhitelistSnapshotService) {
         this.fundRequestContractsService = fundRequestContractsService;
+        this.tokenWhitelistSnapshotService = tokenWhitelistSnapshotService;
     }
 
     @RequestMapping("/fund/allowed-tokens")
     public List<TokenInfoDto> getAllowedTokens(@RequestParam("platform") final String platform,
-                                               @RequestParam("platformId") final String platformId) {
+                                               @RequestParam("platformId") final String platformId,
+                                               final NativeWebRequest webRequest) {
+        if (ETags.isNotModified(webRequest, getAllowedTokensVersion(), CacheControl.noCache())) {
+            return null;
+        }
         return fundRequestContractsService.getAllPossibleTokens(platform, platformId);
     }
+
+    /**
+     * The possible tokens are cached per issue for an hour and evicted when the whitelist changes, the version follows
+     * both so a client keeps a list about as long as the server does.
+     */
+    private String getAllowedTokensVersion() {
+        final long whitelistVersion = tokenWhitelistSnapshotService.getVersion();
+        return whitelistVersion == 0 ? null : whitelistVersion + "|" + TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
 }
@@ -7,19 +7,35 @@ import io.fundrequest.core.request.fund.dto.RefundRequestDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.platform.profile.profile.dto.UserProfile;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
 
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
 import static java.math.BigDecimal.ZERO;
 
+/**
+ * Evaluated once per funder row on the request detail page, so everything it looks up is kept for the duration of the
+ * http request: the funders with a pending or approved refund request are queried once per request, the balances of a
+ * funder are read from the contract in one go for all its tokens.
+ */
 @Component
+@RequestScope
 public class RefundValidator {
 
     private final RefundService refundService;
     private final FundService fundService;
 
+    private final Map<Long, Set<String>> fundersWithRefundRequest = new HashMap<>();
+    private final Map<String, Boolean> positiveBalances = new HashMap<>();
+
     public RefundValidator(final RefundService refundService, final FundService fundService) {
         this.refundService = refundService;
         this.fundService = fundService;
@@ -37,22 +53,25 @@ public class RefundValidator {
     }
 
     private boolean refundRequestAlreadyExists(final long requestId, final String userAddress) {
-        return refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)
-                            .stream()
-                            .map(RefundRequestDto::getFunderAddress)
-                            .anyMatch(userAddress::equalsIgnoreCase);
-    }
-
-    private boolean hasPositiveBalance(long requestId, final UserFundsDto fund) {
-        return hasPositiveBalance(requestId, fund, fund.getFndFunds()) || hasPositiveBalance(requestId, fund, fund.getOtherFunds());
+        return fundersWithRefundRequest.computeIfAbsent(requestId, id -> refundService.findAllRefundRequestsFor(id, PENDING, APPROVED)
+                                                                                       .stream()
+                                                                                       .map(RefundRequestDto::getFunderAddress)
+                                                                                       .map(String::toLowerCase)
+                                                                                       .collect(Collectors.toSet()))
+                                       .contains(userAddress.toLowerCase());
     }
 
-    private boolean hasPositiveBalance(final long requestId, final UserFundsDto fund, final TokenValueDto tokenValue) {
-        if (tokenValue == null) {
+    private boolean hasPositiveBalance(final long requestId, final UserFundsDto fund) {
+        final List<String> tokenAddresses = Stream.of(fund.getFndFunds(), fund.getOtherFunds())
+                                                  .filter(Objects::nonNull)
+                                                  .map(TokenValueDto::getTokenAddress)
+                                                  .collect(Collectors.toList());
+        if (tokenAddresses.isEmpty()) {
             return false;
         }
-        final Optional<TokenValueDto> fundsInContract = fundService.getFundsFor(requestId, fund.getFunderAddress(), tokenValue.getTokenAddress());
-        return fundsInContract.map(tokenValue1 -> tokenValue1.getTotalAmount().compareTo(ZERO) > 0)
-                              .orElse(false);
+        return positiveBalances.computeIfAbsent(requestId + "-" + fund.getFunderAddress().toLowerCase() + "-" + tokenAddresses,
+                                                key -> fundService.getFundsFor(requestId, fund.getFunderAddress(), tokenAddresses)
+                                                                  .stream()
+                                                                  .anyMatch(fundsInContract -> fundsInContract.getTotalAmount().compareTo(ZERO) > 0));
     }
 }
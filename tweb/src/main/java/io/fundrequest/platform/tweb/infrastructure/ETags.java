@@ -0,0 +1,29 @@
+package io.fundrequest.platform.tweb.infrastructure;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Answers conditional GETs from the version of a resource, so a matching If-None-Match is handled before the resource
+ * itself is built. The ETag is a digest of the version and clients have to revalidate it on every use.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static boolean isNotModified(final NativeWebRequest webRequest, final String version, final CacheControl cacheControl) {
+        if (version == null) {
+            return false;
+        }
+        Optional.ofNullable(webRequest.getNativeResponse(HttpServletResponse.class))
+                .ifPresent(response -> response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue()));
+        return webRequest.checkNotModified("\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+}
@@ -0,0 +1,98 @@
+package io.fundrequest.platform.tweb.request;
+
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.claim.event.ClaimRequestedEvent;
+import io.fundrequest.core.request.claim.event.RequestClaimedEvent;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.RefundProcessedEvent;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.platform.tweb.request.dto.RequestBadge;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Renders the funding status badge of a request and keeps the rendered SVG in the request_badges cache, so embedded
+ * badges are served from memory. A badge is evicted once a fund, claim or refund for its request commits.
+ */
+@Component
+public class RequestBadgeRenderer {
+
+    static final String CACHE_NAME = "request_badges";
+    private static final String TEMPLATE = "requests/badge.svg";
+
+    private final RequestService requestService;
+    private final FiatService fiatService;
+    private final ITemplateEngine templateEngine;
+    private final CacheManager cacheManager;
+
+    public RequestBadgeRenderer(final RequestService requestService,
+                                final FiatService fiatService,
+                                @Qualifier("templateEngine") final ITemplateEngine templateEngine,
+                                final CacheManager cacheManager) {
+        this.requestService = requestService;
+        this.fiatService = fiatService;
+        this.templateEngine = templateEngine;
+        this.cacheManager = cacheManager;
+    }
+
+    public RequestBadge getBadge(final Long requestId) {
+        try {
+            return getCache().get(requestId, () -> render(requestId));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFunded(final RequestFundedEvent fundedEvent) {
+        evict(fundedEvent.getRequestId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClaimRequested(final ClaimRequestedEvent claimRequestedEvent) {
+        evict(claimRequestedEvent.getRequestClaim().getRequestId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClaimed(final RequestClaimedEvent claimedEvent) {
+        evict(claimedEvent.getRequestDto().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefunded(final RefundProcessedEvent refundProcessedEvent) {
+        evict(refundProcessedEvent.getRefund().getRequestId());
+    }
+
+    private RequestBadge render(final Long requestId) {
+        final RequestDto request = requestService.findRequest(requestId);
+        final double fndUsdPrice = fiatService.getUsdPrice(request.getFunds().getFndFunds());
+        final double otherFundsUsdPrice = fiatService.getUsdPrice(request.getFunds().getOtherFunds());
+
+        final Context context = new Context(Locale.ENGLISH);
+        context.setVariable("requestPhase", request.getStatus().getPhase());
+        context.setVariable("highestFunds", fndUsdPrice >= otherFundsUsdPrice ? request.getFunds().getFndFunds() : request.getFunds().getOtherFunds());
+        final byte[] svg = templateEngine.process(TEMPLATE, context).getBytes(StandardCharsets.UTF_8);
+        return new RequestBadge(svg, "\"" + DigestUtils.md5DigestAsHex(svg) + "\"");
+    }
+
+    private void evict(final Long requestId) {
+        getCache().evict(requestId);
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -10,7 +10,6 @@ import io.fundrequest.core.platform.PlatformIssueService;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.ClaimService;
 import io.fundrequest.core.request.claim.UserClaimRequest;
-import io.fundrequest.core.request.fiat.FiatService;
 import io.fundrequest.core.request.fund.FundService;
 import io.fundrequest.core.request.fund.PendingFundService;
 import io.fundrequest.core.request.fund.RefundService;
@@ -21,14 +20,16 @@ import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.platform.profile.profile.ProfileService;
+import io.fundrequest.platform.tweb.infrastructure.ETags;
 import io.fundrequest.platform.tweb.request.dto.ERC67FundDto;
+import io.fundrequest.platform.tweb.request.dto.RequestBadge;
 import io.fundrequest.platform.tweb.request.dto.RequestDetailsView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.CacheControl;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,14 +39,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
-import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.fundrequest.core.request.domain.Platform.GITHUB;
@@ -58,6 +62,9 @@ import static java.util.stream.Collectors.toList;
 @Slf4j
 public class RequestController extends AbstractController {
 
+    private static final MediaType SVG = MediaType.valueOf("image/svg+xml");
+    private static final CacheControl BADGE_CACHE_CONTROL = CacheControl.maxAge(0, TimeUnit.SECONDS).sMaxAge(30, TimeUnit.SECONDS).cachePublic();
+
 	private final SecurityContextService securityContextService;
     private final RequestService requestService;
     private final PendingFundService pendingFundService;
@@ -66,7 +73,7 @@ public class RequestController extends AbstractController {
     private final FundService fundService;
     private final RefundService refundService;
     private final ClaimService claimService;
-    private final FiatService fiatService;
+    private final RequestBadgeRenderer requestBadgeRenderer;
     private final PlatformIssueService platformIssueService;
     private final ObjectMapper objectMapper;
     private final Mappers mappers;
@@ -78,7 +85,7 @@ public class RequestController extends AbstractController {
                              final ProfileService profileService, FundService fundService,
                              final RefundService refundService,
                              final ClaimService claimService,
-                             final FiatService fiatService,
+                             final RequestBadgeRenderer requestBadgeRenderer,
                              final PlatformIssueService platformIssueService,
                              final ObjectMapper objectMapper,
                              final Mappers mappers) {
@@ -90,7 +97,7 @@ public class RequestController extends AbstractController {
         this.fundService = fundService;
         this.refundService = refundService;
         this.claimService = claimService;
-        this.fiatService = fiatService;
+        this.requestBadgeRenderer = requestBadgeRenderer;
         this.platformIssueService = platformIssueService;
         this.objectMapper = objectMapper;
         this.mappers = mappers;
@@ -125,8 +132,15 @@ public class RequestController extends AbstractController {
                 .build();
     }
 
+    /**
+     * A redirect carrying flash messages, e.g. after claiming, always gets the full page: a 304 would drop the messages.
+     */
     @GetMapping("/requests/{id}")
-    public ModelAndView details(@PathVariable Long id, Model model) {
+    public ModelAndView details(@PathVariable Long id, Model model, Principal principal, NativeWebRequest webRequest) {
+        if (!hasFlashAttributes(webRequest)
+            && ETags.isNotModified(webRequest, requestService.getVersion(id, principal).orElse(null), CacheControl.noCache().cachePrivate())) {
+            return null;
+        }
         final RequestDetailsView request = mappers.map(RequestDto.class, RequestDetailsView.class, requestService.findRequest(id));
         return getDetailsModelAndView(id, model, request);
     }
@@ -138,6 +152,11 @@ public class RequestController extends AbstractController {
         return getDetailsModelAndView(request.getId(), model, request);
     }
 
+    private boolean hasFlashAttributes(final NativeWebRequest webRequest) {
+        final Map<String, ?> flashAttributes = RequestContextUtils.getInputFlashMap(webRequest.getNativeRequest(HttpServletRequest.class));
+        return flashAttributes != null && !flashAttributes.isEmpty();
+    }
+
     private ModelAndView getDetailsModelAndView(final Long id, final Model model, final RequestDetailsView request) {
         return modelAndView(model)
                 .withObject("request", request)
@@ -154,18 +173,13 @@ public class RequestController extends AbstractController {
     }
 
     @GetMapping(value = "/requests/{id}/badge", produces = "image/svg+xml")
-    public ModelAndView detailsBadge(@PathVariable final Long id, final Model model, final HttpServletResponse response) {
-        final RequestDto request = requestService.findRequest(id);
-        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
-
-        final double fndUsdPrice = fiatService.getUsdPrice(request.getFunds().getFndFunds());
-        final double otherFundsUsdPrice = fiatService.getUsdPrice(request.getFunds().getOtherFunds());
-
-        return modelAndView(model)
-                .withObject("requestPhase", request.getStatus().getPhase())
-                .withObject("highestFunds", fndUsdPrice >= otherFundsUsdPrice ? request.getFunds().getFndFunds() : request.getFunds().getOtherFunds())
-                .withView("requests/badge.svg")
-                .build();
+    public ResponseEntity<byte[]> detailsBadge(@PathVariable final Long id) {
+        final RequestBadge badge = requestBadgeRenderer.getBadge(id);
+        return ResponseEntity.ok()
+                             .cacheControl(BADGE_CACHE_CONTROL)
+                             .eTag(badge.getETag())
+                             .contentType(SVG)
+                             .body(badge.getSvg());
     }
 
     @PostMapping("/requests/{id}/claim")
@@ -4,26 +4,98 @@ import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
 import io.fundrequest.core.request.domain.Platform;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageDto;
+import io.fundrequest.core.request.dto.RequestPageOrder;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.dto.RequestSearchDto;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.search.RequestSearchService;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.platform.tweb.infrastructure.ETags;
 import io.fundrequest.platform.tweb.request.dto.ClaimView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
+import io.fundrequest.platform.tweb.request.dto.RequestSearchView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
 
 @RestController
 @RequestMapping("/rest/requests")
 public class RequestRestController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RequestService requestService;
+    private final RequestSummaryService requestSummaryService;
+    private final RequestSearchService requestSearchService;
     private final Mappers mappers;
 
-    public RequestRestController(final RequestService requestService, final Mappers mappers) {
+    public RequestRestController(final RequestService requestService,
+                                 final RequestSummaryService requestSummaryService,
+                                 final RequestSearchService requestSearchService,
+                                 final Mappers mappers) {
         this.requestService = requestService;
+        this.requestSummaryService = requestSummaryService;
+        this.requestSearchService = requestSearchService;
         this.mappers = mappers;
     }
 
+    @GetMapping
+    public RequestPageView requests(@RequestParam(value = "phase", required = false) final String phase,
+                                    @RequestParam(value = "project", required = false) final List<String> projects,
+                                    @RequestParam(value = "technology", required = false) final List<String> technologies,
+                                    @RequestParam(value = "funded", defaultValue = "true") final boolean funded,
+                                    @RequestParam(value = "order", defaultValue = "recently_modified") final String order,
+                                    @RequestParam(value = "cursor", required = false) final String cursor,
+                                    @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) final int size) {
+        final RequestPageDto page = requestSummaryService.findPage(RequestPageQuery.builder()
+                                                                                   .phase(phase == null ? null : RequestPhase.valueOf(phase.toUpperCase()))
+                                                                                   .projects(projects == null ? Collections.emptyList() : projects)
+                                                                                   .technologies(technologies == null ? Collections.emptyList() : technologies)
+                                                                                   .funded(funded)
+                                                                                   .order(RequestPageOrder.valueOf(order.toUpperCase()))
+                                                                                   .cursor(cursor == null ? null : RequestCursor.decode(cursor))
+                                                                                   .size(Math.max(1, Math.min(size, MAX_PAGE_SIZE)))
+                                                                                   .build());
+        return new RequestPageView(mappers.mapList(RequestDto.class, RequestView.class, page.getRequests()),
+                                   page.getNext() == null ? null : page.getNext().encode());
+    }
+
+    @GetMapping("/search")
+    public RequestSearchView search(@RequestParam(value = "q", required = false) final String text,
+                                    @RequestParam(value = "phase", required = false) final String phase,
+                                    @RequestParam(value = "project", required = false) final List<String> projects,
+                                    @RequestParam(value = "technology", required = false) final List<String> technologies,
+                                    @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) final int size) {
+        final RequestSearchDto result = requestSearchService.search(RequestSearchQuery.builder()
+                                                                                      .text(text)
+                                                                                      .phase(phase == null ? null : RequestPhase.valueOf(phase.toUpperCase()))
+                                                                                      .projects(projects == null ? Collections.emptyList() : projects)
+                                                                                      .technologies(technologies == null ? Collections.emptyList() : technologies)
+                                                                                      .size(Math.max(1, Math.min(size, MAX_PAGE_SIZE)))
+                                                                                      .build());
+        return new RequestSearchView(mappers.mapList(RequestDto.class, RequestView.class, result.getRequests()),
+                                     result.getTotal(),
+                                     result.getProjects(),
+                                     result.getTechnologies());
+    }
+
     @GetMapping(value = "/github/{owner}/{repo}/{number}/claimable")
     public ClaimView claimDetails(@PathVariable("owner") final String repoOwner, @PathVariable("repo") final String repo, @PathVariable("number") final String issueNumber) {
         final RequestDto request = requestService.findRequest(Platform.GITHUB, String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber));
@@ -32,9 +104,21 @@ public class RequestRestController {
     }
 
     @GetMapping(value = "/github/{owner}/{repo}/{number}")
-    public RequestView requestDetails(@PathVariable("owner") final String repoOwner, @PathVariable("repo") final String repo, @PathVariable("number") final String issueNumber) {
-        final RequestDto request = requestService.findRequest(Platform.GITHUB, String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber));
+    public RequestView requestDetails(@PathVariable("owner") final String repoOwner,
+                                      @PathVariable("repo") final String repo,
+                                      @PathVariable("number") final String issueNumber,
+                                      final Principal principal,
+                                      final NativeWebRequest webRequest) {
+        final String platformId = String.format("%s|FR|%s|FR|%s", repoOwner, repo, issueNumber);
+        if (ETags.isNotModified(webRequest, requestService.getVersion(Platform.GITHUB, platformId, principal).orElse(null), CacheControl.noCache().cachePrivate())) {
+            return null;
+        }
+        final RequestDto request = requestService.findRequest(Platform.GITHUB, platformId);
         return mappers.map(RequestDto.class, RequestView.class, request);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public void invalidArgument() {
+    }
 }
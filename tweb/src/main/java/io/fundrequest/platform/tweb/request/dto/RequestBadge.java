@@ -0,0 +1,9 @@
+package io.fundrequest.platform.tweb.request.dto;
+
+import lombok.Value;
+
+@Value
+public class RequestBadge {
+    private final byte[] svg;
+    private final String eTag;
+}
@@ -0,0 +1,15 @@
+package io.fundrequest.platform.tweb.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestPageView {
+    private List<RequestView> requests;
+    private String next;
+}
@@ -0,0 +1,18 @@
+package io.fundrequest.platform.tweb.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestSearchView {
+    private List<RequestView> requests;
+    private int total;
+    private Map<String, Long> projects;
+    private Map<String, Long> technologies;
+}
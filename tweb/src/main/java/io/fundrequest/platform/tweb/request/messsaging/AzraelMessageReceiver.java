@@ -6,7 +6,6 @@ import io.fundrequest.core.request.claim.command.RequestClaimedCommand;
 import io.fundrequest.core.request.command.CreateRequestCommand;
 import io.fundrequest.core.request.domain.BlockchainEvent;
 import io.fundrequest.core.request.domain.Platform;
-import io.fundrequest.core.request.domain.Request;
 import io.fundrequest.core.request.fund.FundService;
 import io.fundrequest.core.request.fund.PendingFundService;
 import io.fundrequest.core.request.fund.RefundService;
@@ -59,12 +58,15 @@ public class AzraelMessageReceiver {
     @Transactional
     public void receiveFundedMessage(final String message) throws IOException {
         LOGGER.debug("Recieved new message from Azrael: %s", message);
-        final FundedEthDto incomingMessage = objectMapper.readValue(message, FundedEthDto.class);
+        processFunded(objectMapper.readValue(message, FundedEthDto.class));
+    }
+
+    @Transactional
+    public void processFunded(final FundedEthDto incomingMessage) {
         if (!isProcessed(incomingMessage.getTransactionHash(), incomingMessage.getLogIndex()) && StringUtils.isNotBlank(incomingMessage.getPlatformId())) {
             final BlockchainEvent blockchainEvent = blockchainEventRepository.saveAndFlush(new BlockchainEvent(incomingMessage.getTransactionHash(), incomingMessage.getLogIndex()));
             final Long newRequestId = requestService.createRequest(buildCreateRequestCommand(incomingMessage));
             fundRequest(incomingMessage, newRequestId, blockchainEvent.getId());
-            fundService.clearTotalFundsCache(newRequestId);
             pendingFundService.removePendingFund(incomingMessage.getTransactionHash());
         }
     }
@@ -97,24 +99,31 @@ public class AzraelMessageReceiver {
     @Transactional
     public void receiveClaimedMessage(final String message) throws IOException {
         LOGGER.debug("Recieved new message from Azrael: %s", message);
-        final ClaimedEthDto incommingMessage = objectMapper.readValue(message, ClaimedEthDto.class);
+        processClaimed(objectMapper.readValue(message, ClaimedEthDto.class));
+    }
+
+    @Transactional
+    public void processClaimed(final ClaimedEthDto incommingMessage) {
         if (!isProcessed(incommingMessage.getTransactionHash(), incommingMessage.getLogIndex())) {
             final BlockchainEvent blockchainEvent = blockchainEventRepository.saveAndFlush(new BlockchainEvent(incommingMessage.getTransactionHash(), incommingMessage.getLogIndex()));
-            final Request request = requestService.requestClaimed(new RequestClaimedCommand(getPlatform(incommingMessage.getPlatform()),
-                                                                                            incommingMessage.getPlatformId(),
-                                                                                            blockchainEvent.getId(),
-                                                                                            incommingMessage.getSolver(),
-                                                                                            getTimeStamp(incommingMessage.getTimestamp()),
-                                                                                            new BigDecimal(incommingMessage.getAmount()),
-                                                                                            incommingMessage.getToken()));
-            fundService.clearTotalFundsCache(request.getId());
+            requestService.requestClaimed(new RequestClaimedCommand(getPlatform(incommingMessage.getPlatform()),
+                                                                    incommingMessage.getPlatformId(),
+                                                                    blockchainEvent.getId(),
+                                                                    incommingMessage.getSolver(),
+                                                                    getTimeStamp(incommingMessage.getTimestamp()),
+                                                                    new BigDecimal(incommingMessage.getAmount()),
+                                                                    incommingMessage.getToken()));
         }
     }
 
     @Transactional
     public void receiveRefundedMessage(final String message) throws IOException {
         LOGGER.debug("Recieved new message from Azrael: %s", message);
-        final RefundedEthDto incomingMessage = objectMapper.readValue(message, RefundedEthDto.class);
+        processRefunded(objectMapper.readValue(message, RefundedEthDto.class));
+    }
+
+    @Transactional
+    public void processRefunded(final RefundedEthDto incomingMessage) {
         if (!isProcessed(incomingMessage.getTransactionHash(), incomingMessage.getLogIndex()) && StringUtils.isNotBlank(incomingMessage.getPlatformId())) {
             final BlockchainEvent blockchainEvent = blockchainEventRepository.saveAndFlush(new BlockchainEvent(incomingMessage.getTransactionHash(),
                                                                                                                incomingMessage.getLogIndex()));
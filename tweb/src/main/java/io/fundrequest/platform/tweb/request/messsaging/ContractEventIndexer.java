@@ -0,0 +1,185 @@
+package io.fundrequest.platform.tweb.request.messsaging;
+
+import io.fundrequest.core.contract.service.ContractCallExecutor;
+import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.indexer.domain.IndexerCheckpoint;
+import io.fundrequest.core.indexer.infrastructure.IndexerCheckpointRepository;
+import io.fundrequest.core.web3j.Web3jGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.RemoteCall;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.CLAIMED_TOPIC;
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.FUNDED_TOPIC;
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.REFUND_TOPIC;
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.decodeClaimed;
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.decodeFunded;
+import static io.fundrequest.core.contract.event.FundRequestEventDecoder.decodeRefund;
+
+/**
+ * Reads the Funded, Claimed and Refund logs of the FundRequest contracts straight from the node and processes them like
+ * the messages coming from Azrael. Every run scans the blocks after the checkpoint in parallel chunks, processes the logs
+ * in chain order and moves the checkpoint. When a log fails, the checkpoint only moves up to the block before it and the
+ * run stops, so the next run retries from that block. Logs that were already received through Azrael, or processed
+ * before a failure, are skipped by the blockchain event dedupe, so removing the checkpoint rebuilds the full history
+ * from the start block.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "io.fundrequest.indexer.enabled", havingValue = "true")
+public class ContractEventIndexer {
+
+    private static final String CHECKPOINT_NAME = "fundrequest-events";
+
+    private final Web3jGateway web3jGateway;
+    private final FundRequestContractsService fundRequestContractsService;
+    private final ContractCallExecutor contractCallExecutor;
+    private final IndexerCheckpointRepository indexerCheckpointRepository;
+    private final AzraelMessageReceiver azraelMessageReceiver;
+    private final String fundRequestContractAddress;
+    private final long startBlock;
+    private final long chunkSize;
+    private final int parallelism;
+    private final long confirmations;
+
+    public ContractEventIndexer(final Web3jGateway web3jGateway,
+                                final FundRequestContractsService fundRequestContractsService,
+                                final ContractCallExecutor contractCallExecutor,
+                                final IndexerCheckpointRepository indexerCheckpointRepository,
+                                final AzraelMessageReceiver azraelMessageReceiver,
+                                @Value("${io.fundrequest.contract.fund-request.address}") final String fundRequestContractAddress,
+                                @Value("${io.fundrequest.indexer.start-block:0}") final long startBlock,
+                                @Value("${io.fundrequest.indexer.chunk-size:5000}") final long chunkSize,
+                                @Value("${io.fundrequest.indexer.parallelism:4}") final int parallelism,
+                                @Value("${io.fundrequest.indexer.confirmations:12}") final long confirmations) {
+        this.web3jGateway = web3jGateway;
+        this.fundRequestContractsService = fundRequestContractsService;
+        this.contractCallExecutor = contractCallExecutor;
+        this.indexerCheckpointRepository = indexerCheckpointRepository;
+        this.azraelMessageReceiver = azraelMessageReceiver;
+        this.fundRequestContractAddress = fundRequestContractAddress;
+        this.startBlock = startBlock;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.confirmations = confirmations;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void index() {
+        final Optional<BigInteger> currentBlock = web3jGateway.currentBlockNumber();
+        if (!currentBlock.isPresent()) {
+            return;
+        }
+        final long toBlock = currentBlock.get().longValue() - confirmations;
+        IndexerCheckpoint checkpoint = indexerCheckpointRepository.findOne(CHECKPOINT_NAME)
+                                                                  .orElseGet(() -> new IndexerCheckpoint(CHECKPOINT_NAME, startBlock - 1));
+        try {
+            while (checkpoint.getLastBlock() < toBlock) {
+                final long from = checkpoint.getLastBlock() + 1;
+                final long to = Math.min(toBlock, from + chunkSize * parallelism - 1);
+                final List<Log> logs = readLogs(from, to);
+                final OptionalLong failedBlock = process(logs);
+                if (failedBlock.isPresent()) {
+                    if (failedBlock.getAsLong() > from) {
+                        checkpoint.advanceTo(failedBlock.getAsLong() - 1);
+                        indexerCheckpointRepository.save(checkpoint);
+                    }
+                    return;
+                }
+                checkpoint.advanceTo(to);
+                checkpoint = indexerCheckpointRepository.save(checkpoint);
+                log.debug("Indexed {} contract logs from block {} to {}", logs.size(), from, to);
+            }
+        } catch (final Exception ex) {
+            log.error("Unable to index contract logs after block {}", checkpoint.getLastBlock(), ex);
+        }
+    }
+
+    private List<Log> readLogs(final long from, final long to) {
+        final List<String> addresses = Arrays.asList(fundRequestContractAddress,
+                                                     fundRequestContractsService.fundRepository().getContractAddress(),
+                                                     fundRequestContractsService.claimRepository().getContractAddress());
+        final List<CompletableFuture<EthLog>> chunks = new ArrayList<>();
+        for (long chunkStart = from; chunkStart <= to; chunkStart += chunkSize) {
+            final EthFilter filter = new EthFilter(DefaultBlockParameter.valueOf(BigInteger.valueOf(chunkStart)),
+                                                   DefaultBlockParameter.valueOf(BigInteger.valueOf(Math.min(to, chunkStart + chunkSize - 1))),
+                                                   addresses.stream().distinct().collect(Collectors.toList()));
+            filter.addOptionalTopics(FUNDED_TOPIC, CLAIMED_TOPIC, REFUND_TOPIC);
+            chunks.add(web3jGateway.web3j().ethGetLogs(filter).sendAsync());
+        }
+        return chunks.stream()
+                     .map(CompletableFuture::join)
+                     .flatMap(ethLog -> {
+                         if (ethLog.hasError()) {
+                             throw new IllegalStateException("eth_getLogs failed: " + ethLog.getError().getMessage());
+                         }
+                         return ethLog.getLogs().stream();
+                     })
+                     .map(logResult -> (Log) logResult.get())
+                     .sorted(Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex))
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * Processes the logs in order and stops at the first one that fails.
+     *
+     * @return the block of the log that failed, empty when all logs were processed
+     */
+    private OptionalLong process(final List<Log> logs) {
+        final Map<BigInteger, Long> timestamps = readTimestamps(logs);
+        for (final Log contractLog : logs) {
+            final long timestamp = timestamps.get(contractLog.getBlockNumber());
+            final String topic = contractLog.getTopics().get(0);
+            try {
+                if (FUNDED_TOPIC.equalsIgnoreCase(topic)) {
+                    azraelMessageReceiver.processFunded(decodeFunded(contractLog, timestamp));
+                } else if (CLAIMED_TOPIC.equalsIgnoreCase(topic)) {
+                    azraelMessageReceiver.processClaimed(decodeClaimed(contractLog, timestamp));
+                } else if (REFUND_TOPIC.equalsIgnoreCase(topic)) {
+                    azraelMessageReceiver.processRefunded(decodeRefund(contractLog, timestamp));
+                }
+            } catch (final Exception ex) {
+                log.error("Unable to process contract log {} of transaction {}", contractLog.getLogIndex(), contractLog.getTransactionHash(), ex);
+                return OptionalLong.of(contractLog.getBlockNumber().longValue());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Reads the blocks of the logs through the {@link ContractCallExecutor}, so a range with many blocks does not send
+     * more calls to the node at once than the other chain reads.
+     */
+    private Map<BigInteger, Long> readTimestamps(final List<Log> logs) {
+        final Map<BigInteger, CompletableFuture<EthBlock>> blocks = logs.stream()
+                                                                        .map(Log::getBlockNumber)
+                                                                        .distinct()
+                                                                        .collect(Collectors.toMap(Function.identity(),
+                                                                                                  blockNumber -> contractCallExecutor.sendAsync(new RemoteCall<>(
+                                                                                                          web3jGateway.web3j()
+                                                                                                                      .ethGetBlockByNumber(DefaultBlockParameter.valueOf(blockNumber), false)::send))));
+        return blocks.entrySet()
+                     .stream()
+                     .collect(Collectors.toMap(Map.Entry::getKey, block -> block.getValue().join().getBlock().getTimestamp().longValue() * 1000));
+    }
+}
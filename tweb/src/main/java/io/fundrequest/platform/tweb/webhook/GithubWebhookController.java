@@ -0,0 +1,50 @@
+package io.fundrequest.platform.tweb.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.core.platform.github.GithubWebhookService;
+import io.fundrequest.platform.github.webhook.GithubIssuesEvent;
+import io.fundrequest.platform.github.webhook.GithubPullRequestEvent;
+import io.fundrequest.platform.github.webhook.GithubWebhookSignatureVerifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Receives the "issues" and "pull_request" webhook events of GitHub. The payload is read as bytes because the
+ * signature is computed over the raw body.
+ */
+@RestController
+public class GithubWebhookController {
+
+    private final GithubWebhookSignatureVerifier signatureVerifier;
+    private final GithubWebhookService githubWebhookService;
+    private final ObjectMapper objectMapper;
+
+    public GithubWebhookController(final GithubWebhookSignatureVerifier signatureVerifier,
+                                   final GithubWebhookService githubWebhookService,
+                                   final ObjectMapper objectMapper) {
+        this.signatureVerifier = signatureVerifier;
+        this.githubWebhookService = githubWebhookService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/webhooks/github")
+    public ResponseEntity<Void> receive(@RequestHeader("X-GitHub-Event") final String event,
+                                       @RequestHeader(value = "X-Hub-Signature", required = false) final String signature,
+                                       @RequestBody final byte[] payload) throws IOException {
+        if (!signatureVerifier.isValid(payload, signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if ("issues".equals(event)) {
+            githubWebhookService.onIssuesEvent(objectMapper.readValue(payload, GithubIssuesEvent.class));
+        } else if ("pull_request".equals(event)) {
+            githubWebhookService.onPullRequestEvent(objectMapper.readValue(payload, GithubPullRequestEvent.class));
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,7 @@
 package io.fundrequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.core.contract.event.FundRequestEventDecoder;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.command.RequestClaimedCommand;
 import io.fundrequest.core.request.command.CreateRequestCommand;
@@ -24,20 +25,32 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.fundrequest.core.request.domain.RequestMother.fundRequestArea51;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -87,7 +100,6 @@ public class AzraelMessageReceiverTest {
                                                       .transactionHash(dto.getTransactionHash())
                                                       .blockchainEventId(blockchainEvent.getId())
                                                       .build());
-        verify(fundService).clearTotalFundsCache(requestId);
         verify(pendingFundService).removePendingFund(dto.getTransactionHash());
     }
 
@@ -106,7 +118,6 @@ public class AzraelMessageReceiverTest {
 
         messageReceiver.receiveClaimedMessage(w.toString());
 
-        verify(fundService).clearTotalFundsCache(request.getId());
         verify(requestService).requestClaimed(new RequestClaimedCommand(Platform.getPlatform(dto.getPlatform()).get(),
                                                                         dto.getPlatformId(),
                                                                         blockchainEvent.getId(),
@@ -114,7 +125,6 @@ public class AzraelMessageReceiverTest {
                                                                         getTimeStamp(dto.getTimestamp()),
                                                                         new BigDecimal(dto.getAmount()),
                                                                         dto.getToken()));
-        verify(fundService).clearTotalFundsCache(request.getId());
     }
 
     @Test
@@ -223,6 +233,152 @@ public class AzraelMessageReceiverTest {
         verifyZeroInteractions(fundService);
     }
 
+    @Test
+    public void processFunded() {
+        final FundedEthDto dto = createDto();
+        final BlockchainEvent blockchainEvent = new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex());
+        blockchainEvent.setId(346L);
+        final Long requestId = RequestDtoMother.freeCodeCampNoUserStories().getId();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.empty());
+        when(blockchainEventRepository.saveAndFlush(new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex()))).thenReturn(blockchainEvent);
+        when(requestService.createRequest(any())).thenReturn(requestId);
+
+        messageReceiver.processFunded(dto);
+
+        verifyRequestCreated(dto);
+        verify(fundService).addFunds(FundsAddedCommand.builder()
+                                                      .requestId(requestId)
+                                                      .amountInWei(new BigDecimal(dto.getAmount()))
+                                                      .timestamp(getTimeStamp(dto.getTimestamp()))
+                                                      .token(dto.getToken())
+                                                      .funderAddress(dto.getFrom())
+                                                      .transactionHash(dto.getTransactionHash())
+                                                      .blockchainEventId(blockchainEvent.getId())
+                                                      .build());
+        verify(pendingFundService).removePendingFund(dto.getTransactionHash());
+    }
+
+    @Test
+    public void processFunded_noPlatformId() {
+        final FundedEthDto dto = FundedEthDto.builder().transactionHash("0xh").logIndex("0x1").platformId(" ").build();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.empty());
+
+        messageReceiver.processFunded(dto);
+
+        verifyZeroInteractions(requestService, fundService, pendingFundService);
+    }
+
+    @Test
+    public void processClaimed() {
+        final ClaimedEthDto dto = createClaimedEthDto();
+        final BlockchainEvent blockchainEvent = new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex());
+        blockchainEvent.setId(346L);
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.empty());
+        when(blockchainEventRepository.saveAndFlush(new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex()))).thenReturn(blockchainEvent);
+
+        messageReceiver.processClaimed(dto);
+
+        verify(requestService).requestClaimed(new RequestClaimedCommand(Platform.GITHUB,
+                                                                        dto.getPlatformId(),
+                                                                        blockchainEvent.getId(),
+                                                                        dto.getSolver(),
+                                                                        getTimeStamp(dto.getTimestamp()),
+                                                                        new BigDecimal(dto.getAmount()),
+                                                                        dto.getToken()));
+    }
+
+    @Test
+    public void processClaimed_alreadyProcessed() {
+        final ClaimedEthDto dto = createClaimedEthDto();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.of(mock(BlockchainEvent.class)));
+
+        messageReceiver.processClaimed(dto);
+
+        verifyZeroInteractions(requestService);
+    }
+
+    @Test
+    public void processRefunded() {
+        final RequestDto request = RequestDtoMother.fundRequestArea51();
+        final RefundedEthDto dto = RefundedEthDto.builder()
+                                                 .transactionHash("0xafdas")
+                                                 .logIndex("0x2")
+                                                 .platform(Platform.GITHUB.name())
+                                                 .platformId("FundRequest|FR|area51|FR|12")
+                                                 .amount("43000000000000000000")
+                                                 .token("0x563457")
+                                                 .owner("0xFDHD756xfc")
+                                                 .build();
+        final BlockchainEvent blockchainEvent = new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex());
+        blockchainEvent.setId(7564L);
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.empty());
+        when(blockchainEventRepository.saveAndFlush(new BlockchainEvent(dto.getTransactionHash(), dto.getLogIndex()))).thenReturn(blockchainEvent);
+        when(requestService.findRequest(Platform.GITHUB, dto.getPlatformId())).thenReturn(request);
+
+        messageReceiver.processRefunded(dto);
+
+        verify(refundService).refundProcessed(RefundProcessedCommand.builder()
+                                                                    .requestId(request.getId())
+                                                                    .funderAddress(dto.getOwner())
+                                                                    .blockchainEventId(blockchainEvent.getId())
+                                                                    .transactionHash(dto.getTransactionHash())
+                                                                    .tokenHash(dto.getToken())
+                                                                    .amount(dto.getAmount())
+                                                                    .build());
+    }
+
+    @Test
+    public void processRefunded_alreadyProcessed() {
+        final RefundedEthDto dto = RefundedEthDto.builder().transactionHash("0xafdas").logIndex("0x2").platformId("fadfv").build();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(dto.getTransactionHash(), dto.getLogIndex())).thenReturn(Optional.of(mock(BlockchainEvent.class)));
+
+        messageReceiver.processRefunded(dto);
+
+        verifyZeroInteractions(requestService, refundService);
+    }
+
+    @Test
+    public void sameFundedEventFromIndexerAndAzrael_appliedOnce() throws Exception {
+        final Set<BlockchainEvent> processed = new HashSet<>();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(any(), any()))
+                .thenAnswer(invocation -> processed.stream()
+                                                   .filter(event -> event.equals(new BlockchainEvent((String) invocation.getArguments()[0], (String) invocation.getArguments()[1])))
+                                                   .findFirst());
+        when(blockchainEventRepository.saveAndFlush(any(BlockchainEvent.class))).thenAnswer(invocation -> {
+            final BlockchainEvent event = (BlockchainEvent) invocation.getArguments()[0];
+            processed.add(event);
+            return event;
+        });
+        final FundedEthDto dto = createDto();
+        final Log contractLog = new Log();
+        contractLog.setTransactionHash(dto.getTransactionHash());
+        contractLog.setLogIndex("0x1b");
+        contractLog.setBlockNumber("0x5b8d80");
+        contractLog.setTopics(Arrays.asList(FundRequestEventDecoder.FUNDED_TOPIC, "0x" + TypeEncoder.encode(new Address(dto.getFrom()))));
+        contractLog.setData("0x" + FunctionEncoder.encodeConstructor(Arrays.asList(new Bytes32(Arrays.copyOf(dto.getPlatform().getBytes(), 32)),
+                                                                                   new Utf8String(dto.getPlatformId()),
+                                                                                   new Address(dto.getToken()),
+                                                                                   new Uint256(new BigInteger(dto.getAmount())))));
+        final FundedEthDto fromAzrael = FundedEthDto.builder()
+                                                    .platform(dto.getPlatform())
+                                                    .platformId(dto.getPlatformId())
+                                                    .amount(dto.getAmount())
+                                                    .token(dto.getToken())
+                                                    .from(dto.getFrom())
+                                                    .transactionHash(dto.getTransactionHash())
+                                                    .logIndex("0x1b")
+                                                    .build();
+        final StringWriter w = new StringWriter();
+        objectMapper.writeValue(w, fromAzrael);
+
+        messageReceiver.processFunded(FundRequestEventDecoder.decodeFunded(contractLog, 1234L));
+        messageReceiver.receiveFundedMessage(w.toString());
+
+        assertThat(processed).containsExactly(new BlockchainEvent(dto.getTransactionHash(), "0x1b"));
+        verify(requestService, times(1)).createRequest(any());
+        verify(fundService, times(1)).addFunds(any());
+    }
+
     private ClaimedEthDto createClaimedEthDto() {
         ClaimedEthDto dto = new ClaimedEthDto();
         dto.setAmount("5223000000000000000");
@@ -5,16 +5,25 @@ import io.fundrequest.common.infrastructure.AbstractControllerTest;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.core.PrincipalMother;
 import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.platform.profile.profile.ProfileService;
 import io.fundrequest.platform.profile.ref.RefSignupEvent;
 import org.junit.Test;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.security.Principal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -24,6 +33,7 @@ public class HomeControllerTest extends AbstractControllerTest<HomeController> {
     private ProfileService profileService;
     private ApplicationEventPublisher eventPublisher;
     private RequestService requestService;
+    private RequestSummaryService requestSummaryService;
     private ObjectMapper objectMapper;
     private Mappers mappers;
 
@@ -32,9 +42,10 @@ public class HomeControllerTest extends AbstractControllerTest<HomeController> {
         profileService = mock(ProfileService.class);
         eventPublisher = mock(ApplicationEventPublisher.class);
         requestService = mock(RequestService.class);
+        requestSummaryService = mock(RequestSummaryService.class);
         objectMapper = mock(ObjectMapper.class);
         mappers = mock(Mappers.class);
-        return new HomeController(profileService, eventPublisher, requestService, objectMapper, mappers);
+        return new HomeController(profileService, eventPublisher, requestService, requestSummaryService, objectMapper, mappers);
     }
 
     @Test
@@ -54,6 +65,28 @@ public class HomeControllerTest extends AbstractControllerTest<HomeController> {
         verify(eventPublisher).publishEvent(RefSignupEvent.builder().principal(principal).ref("123").build());
     }
 
+    @Test
+    public void requestsActiveCount() throws Exception {
+        final Map<RequestPhase, Map<String, Long>> counts = new EnumMap<>(RequestPhase.class);
+        counts.put(RequestPhase.OPEN, Collections.singletonMap("FundRequest", 5L));
+        counts.put(RequestPhase.RESOLVED, Collections.singletonMap("FundRequest", 2L));
+        final Map<String, Long> closed = new HashMap<>();
+        closed.put("FundRequest", 1L);
+        closed.put("Cindercloud", 3L);
+        counts.put(RequestPhase.CLOSED, closed);
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("FundRequest", 3L);
+        expected.put("Cindercloud", 3L);
+        when(requestSummaryService.countPerPhaseAndProject()).thenReturn(counts);
+        when(objectMapper.writeValueAsString(expected)).thenReturn("{\"FundRequest\":3,\"Cindercloud\":3}");
+
+        mockMvc.perform(get("/requestsActiveCount"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"FundRequest\":3,\"Cindercloud\":3}"));
+
+        verifyZeroInteractions(requestService, mappers);
+    }
+
     @Test
     public void login() throws Exception {
         mockMvc.perform(get("/user/login").header("referer", "localhost"))
@@ -0,0 +1,67 @@
+package io.fundrequest.platform.tweb.fund;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.common.infrastructure.AbstractControllerTest;
+import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.contract.service.TokenWhitelistSnapshotService;
+import io.fundrequest.core.token.dto.TokenInfoDto;
+import io.fundrequest.core.token.dto.TokenInfoDtoMother;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FundRestControllerTest extends AbstractControllerTest<FundRestController> {
+
+    private static final String PLATFORM_ID = "FundRequest|FR|area51|FR|12";
+
+    private FundRequestContractsService fundRequestContractsService;
+    private TokenWhitelistSnapshotService tokenWhitelistSnapshotService;
+
+    @Override
+    protected FundRestController setupController() {
+        fundRequestContractsService = mock(FundRequestContractsService.class);
+        tokenWhitelistSnapshotService = mock(TokenWhitelistSnapshotService.class);
+        return new FundRestController(fundRequestContractsService, tokenWhitelistSnapshotService);
+    }
+
+    @Test
+    void getAllowedTokens_notModified() throws Exception {
+        final List<TokenInfoDto> tokens = Collections.singletonList(TokenInfoDtoMother.fnd());
+        when(tokenWhitelistSnapshotService.getVersion()).thenReturn(3L);
+        when(fundRequestContractsService.getAllPossibleTokens("GITHUB", PLATFORM_ID)).thenReturn(tokens);
+
+        final MvcResult result = mockMvc.perform(get("/rest/fund/allowed-tokens").param("platform", "GITHUB").param("platformId", PLATFORM_ID))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                                        .andExpect(content().json(new ObjectMapper().writeValueAsString(tokens)))
+                                        .andReturn();
+
+        mockMvc.perform(get("/rest/fund/allowed-tokens").param("platform", "GITHUB").param("platformId", PLATFORM_ID)
+                                                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+               .andExpect(status().isNotModified());
+
+        verify(fundRequestContractsService, times(1)).getAllPossibleTokens("GITHUB", PLATFORM_ID);
+    }
+
+    @Test
+    void getAllowedTokens_noWhitelistSnapshotYet() throws Exception {
+        when(tokenWhitelistSnapshotService.getVersion()).thenReturn(0L);
+        when(fundRequestContractsService.getAllPossibleTokens("GITHUB", PLATFORM_ID)).thenReturn(Collections.singletonList(TokenInfoDtoMother.fnd()));
+
+        mockMvc.perform(get("/rest/fund/allowed-tokens").param("platform", "GITHUB").param("platformId", PLATFORM_ID))
+               .andExpect(status().isOk())
+               .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
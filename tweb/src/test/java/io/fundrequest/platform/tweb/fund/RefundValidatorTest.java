@@ -14,9 +14,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
 
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
@@ -24,6 +25,8 @@ import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RefundValidatorTest {
@@ -52,7 +55,7 @@ class RefundValidatorTest {
         final UserProfile userProfile = UserProfile.builder().etherAddressVerified(true).etherAddress(userEtherAddress).build();
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS))).thenReturn(Collections.singletonList(totalFndOnContract));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -68,7 +71,7 @@ class RefundValidatorTest {
         final String requestStatus = "Funded";
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS))).thenReturn(Collections.singletonList(totalFndOnContract));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(null, fund, requestId, requestStatus);
@@ -95,12 +98,17 @@ class RefundValidatorTest {
         final String requestStatus = "Funded";
         final UserProfile userProfile = UserProfile.builder().etherAddressVerified(true).etherAddress(userEtherAddress).build();
 
+        final List<String> tokenAddresses = new ArrayList<>();
+        final List<TokenValueDto> fundsInContract = new ArrayList<>();
         if (StringUtils.isNotBlank(fndFund)) {
-            when(fundService.getFundsFor(requestId, userEtherAddress, FND_TOKEN_ADDRESS)).thenReturn(Optional.of(TokenValueDtoMother.FND().totalAmount(new BigDecimal(fndFund)).build()));
+            tokenAddresses.add(FND_TOKEN_ADDRESS);
+            fundsInContract.add(TokenValueDtoMother.FND().totalAmount(new BigDecimal(fndFund)).build());
         }
         if (StringUtils.isNotBlank(zrxFund)) {
-            when(fundService.getFundsFor(requestId, userEtherAddress, ZRX_TOKEN_ADDRESS)).thenReturn(Optional.of(TokenValueDtoMother.ZRX().totalAmount(new BigDecimal(zrxFund)).build()));
+            tokenAddresses.add(ZRX_TOKEN_ADDRESS);
+            fundsInContract.add(TokenValueDtoMother.ZRX().totalAmount(new BigDecimal(zrxFund)).build());
         }
+        when(fundService.getFundsFor(requestId, userEtherAddress, tokenAddresses)).thenReturn(fundsInContract);
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -118,8 +126,7 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS))).thenReturn(Arrays.asList(totalFndOnContract, totalZrxOnContract));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -137,8 +144,7 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS))).thenReturn(Arrays.asList(totalFndOnContract, totalZrxOnContract));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.singletonList(RefundRequestDto.builder().funderAddress("0x4facde56").build()));
 
         final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, requestStatus);
@@ -156,8 +162,7 @@ class RefundValidatorTest {
         final TokenValueDto totalFndOnContract = TokenValueDtoMother.FND().totalAmount(TEN).build();
         final TokenValueDto totalZrxOnContract = TokenValueDtoMother.ZRX().totalAmount(ZERO).build();
 
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalFndOnContract.getTokenAddress())).thenReturn(Optional.of(totalFndOnContract));
-        when(fundService.getFundsFor(requestId, userEtherAddress, totalZrxOnContract.getTokenAddress())).thenReturn(Optional.of(totalZrxOnContract));
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS))).thenReturn(Arrays.asList(totalFndOnContract, totalZrxOnContract));
         when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Arrays.asList(RefundRequestDto.builder().funderAddress("0x4facde56").build(),
                                                                                                             RefundRequestDto.builder().funderAddress(userEtherAddress).build()));
 
@@ -166,6 +171,25 @@ class RefundValidatorTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void isRefundable_looksUpRefundRequestsAndBalancesOncePerHttpRequest() {
+        final String userEtherAddress = "0xeab4";
+        final UserFundsDto fund = buildUserFundsDto(userEtherAddress, "5", "", "", "");
+        final long requestId = 35L;
+        final UserProfile userProfile = UserProfile.builder().etherAddressVerified(true).etherAddress(userEtherAddress).build();
+
+        when(fundService.getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS)))
+                .thenReturn(Collections.singletonList(TokenValueDtoMother.FND().totalAmount(TEN).build()));
+        when(refundService.findAllRefundRequestsFor(requestId, PENDING, APPROVED)).thenReturn(Collections.emptyList());
+
+        refundValidator.isRefundable(userProfile, fund, requestId, "Funded");
+        final boolean result = refundValidator.isRefundable(userProfile, fund, requestId, "Funded");
+
+        assertThat(result).isTrue();
+        verify(refundService, times(1)).findAllRefundRequestsFor(requestId, PENDING, APPROVED);
+        verify(fundService, times(1)).getFundsFor(requestId, userEtherAddress, Collections.singletonList(FND_TOKEN_ADDRESS));
+    }
+
     private UserFundsDto buildUserFundsDto(final String userEtherAddress, final String fndFund, final String zrxFund, final String fndRefund, final String zrxRefund) {
         return UserFundsDto.builder()
                            .funderAddress(userEtherAddress)
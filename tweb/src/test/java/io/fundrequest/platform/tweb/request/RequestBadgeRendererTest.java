@@ -0,0 +1,114 @@
+package io.fundrequest.platform.tweb.request;
+
+import io.fundrequest.common.infrastructure.exception.ResourceNotFoundException;
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.fiat.FiatService;
+import io.fundrequest.core.request.fund.event.RequestFundedEvent;
+import io.fundrequest.core.request.view.RequestDto;
+import io.fundrequest.core.request.view.RequestDtoMother;
+import io.fundrequest.core.token.dto.TokenValueDto;
+import io.fundrequest.core.token.dto.TokenValueDtoMother;
+import io.fundrequest.platform.tweb.request.dto.RequestBadge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.DigestUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestBadgeRendererTest {
+
+    private static final long REQUEST_ID = 654L;
+
+    private RequestBadgeRenderer renderer;
+    private RequestService requestService;
+    private FiatService fiatService;
+    private ITemplateEngine templateEngine;
+    private RequestDto request;
+    private TokenValueDto fndFunds;
+    private TokenValueDto otherFunds;
+
+    @BeforeEach
+    void setUp() {
+        requestService = mock(RequestService.class);
+        fiatService = mock(FiatService.class);
+        templateEngine = mock(ITemplateEngine.class);
+        renderer = new RequestBadgeRenderer(requestService, fiatService, templateEngine, new ConcurrentMapCacheManager(RequestBadgeRenderer.CACHE_NAME));
+        request = RequestDtoMother.freeCodeCampNoUserStories();
+        fndFunds = TokenValueDtoMother.FND().totalAmount(new BigDecimal("1000")).build();
+        otherFunds = TokenValueDtoMother.ZRX().totalAmount(new BigDecimal("1100")).build();
+        request.getFunds().setFndFunds(fndFunds);
+        request.getFunds().setOtherFunds(otherFunds);
+        when(requestService.findRequest(REQUEST_ID)).thenReturn(request);
+        when(templateEngine.process(eq("requests/badge.svg"), any(Context.class))).thenReturn("<svg/>");
+    }
+
+    @Test
+    void getBadge_otherFundHighestFiat() {
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(100D);
+        when(fiatService.getUsdPrice(otherFunds)).thenReturn(110D);
+
+        final RequestBadge result = renderer.getBadge(REQUEST_ID);
+
+        final Context context = renderedContext();
+        assertThat(context.getVariable("requestPhase")).isEqualTo(request.getStatus().getPhase());
+        assertThat(context.getVariable("highestFunds")).isEqualTo(otherFunds);
+        assertThat(result.getSvg()).isEqualTo("<svg/>".getBytes(StandardCharsets.UTF_8));
+        assertThat(result.getETag()).isEqualTo("\"" + DigestUtils.md5DigestAsHex("<svg/>".getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+
+    @Test
+    void getBadge_fndHighestFiat() {
+        when(fiatService.getUsdPrice(fndFunds)).thenReturn(120D);
+        when(fiatService.getUsdPrice(otherFunds)).thenReturn(100D);
+
+        renderer.getBadge(REQUEST_ID);
+
+        assertThat(renderedContext().getVariable("highestFunds")).isEqualTo(fndFunds);
+    }
+
+    @Test
+    void getBadge_servedFromCache() {
+        final RequestBadge first = renderer.getBadge(REQUEST_ID);
+        final RequestBadge second = renderer.getBadge(REQUEST_ID);
+
+        assertThat(second).isSameAs(first);
+        verify(templateEngine, times(1)).process(eq("requests/badge.svg"), any(Context.class));
+    }
+
+    @Test
+    void onFunded_evictsBadge() {
+        renderer.getBadge(REQUEST_ID);
+
+        renderer.onFunded(RequestFundedEvent.builder().requestId(REQUEST_ID).build());
+        renderer.getBadge(REQUEST_ID);
+
+        verify(templateEngine, times(2)).process(eq("requests/badge.svg"), any(Context.class));
+    }
+
+    @Test
+    void getBadge_unknownRequest() {
+        when(requestService.findRequest(1L)).thenThrow(new ResourceNotFoundException());
+
+        assertThatThrownBy(() -> renderer.getBadge(1L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Context renderedContext() {
+        final ArgumentCaptor<Context> captor = ArgumentCaptor.forClass(Context.class);
+        verify(templateEngine).process(eq("requests/badge.svg"), captor.capture());
+        return captor.getValue();
+    }
+}
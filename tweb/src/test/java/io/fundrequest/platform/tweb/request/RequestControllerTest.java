@@ -4,6 +4,7 @@ package io.fundrequest.platform.tweb.request;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fundrequest.common.infrastructure.AbstractControllerTest;
 import io.fundrequest.common.infrastructure.mapping.Mappers;
+import io.fundrequest.common.infrastructure.mav.dto.AlertDto;
 import io.fundrequest.core.infrastructure.SecurityContextService;
 import io.fundrequest.core.platform.PlatformIssueDto;
 import io.fundrequest.core.platform.PlatformIssueService;
@@ -12,7 +13,6 @@ import io.fundrequest.core.request.claim.ClaimService;
 import io.fundrequest.core.request.claim.dto.ClaimsByTransactionAggregate;
 import io.fundrequest.core.request.claim.dto.UserClaimableDto;
 import io.fundrequest.core.request.domain.Platform;
-import io.fundrequest.core.request.fiat.FiatService;
 import io.fundrequest.core.request.fund.FundService;
 import io.fundrequest.core.request.fund.PendingFundService;
 import io.fundrequest.core.request.fund.RefundService;
@@ -26,18 +26,19 @@ import io.fundrequest.core.request.view.AllFundsDto;
 import io.fundrequest.core.request.view.IssueInformationDto;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
-import io.fundrequest.core.token.dto.TokenValueDto;
 import io.fundrequest.core.token.dto.TokenValueDtoMother;
 import io.fundrequest.platform.profile.profile.ProfileService;
+import io.fundrequest.platform.tweb.request.dto.RequestBadge;
 import io.fundrequest.platform.tweb.request.dto.RequestDetailsView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import org.assertj.core.util.Lists;
 import org.junit.Test;
-import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.util.DigestUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,12 +50,16 @@ import java.util.Set;
 import static io.fundrequest.core.request.domain.RequestPhase.OPEN;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.APPROVED;
 import static io.fundrequest.core.request.fund.domain.RefundRequestStatus.PENDING;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -71,7 +76,7 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
     private FundService fundService;
     private RefundService refundService;
     private ClaimService claimService;
-    private FiatService fiatService;
+    private RequestBadgeRenderer requestBadgeRenderer;
     private ObjectMapper objectMapper;
     private Mappers mappers;
     private PlatformIssueService platformIssueService;
@@ -88,7 +93,7 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
         fundService = mock(FundService.class);
         refundService = mock(RefundService.class);
         claimService = mock(ClaimService.class);
-        fiatService = mock(FiatService.class);
+        requestBadgeRenderer = mock(RequestBadgeRenderer.class);
         platformIssueService = mock(PlatformIssueService.class);
         objectMapper = spy(new ObjectMapper());
         mappers = mock(Mappers.class);
@@ -100,7 +105,7 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
                                      fundService,
                                      refundService,
                                      claimService,
-                                     fiatService,
+                                     requestBadgeRenderer,
                                      platformIssueService,
                                      objectMapper,
                                      mappers);
@@ -164,6 +169,7 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
         final ClaimsByTransactionAggregate claims = mock(ClaimsByTransactionAggregate.class);
         final List<CommentDto> commentDtos = new ArrayList<>();
 
+        when(requestService.getVersion(requestId, principal)).thenReturn(Optional.of("7458|FUNDED"));
         when(requestService.findRequest(requestId)).thenReturn(requestDto);
         when(mappers.map(RequestDto.class, RequestDetailsView.class, requestDto)).thenReturn(requestDetailsView);
         when(objectMapper.writeValueAsString(same(requestDetailsView))).thenReturn("requestDetailsView");
@@ -180,7 +186,38 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
                     .andExpect(MockMvcResultMatchers.model().attribute("pendingRefundAddresses", expectedPendingRefundAddresses))
                     .andExpect(MockMvcResultMatchers.model().attribute("claims", claims))
                     .andExpect(MockMvcResultMatchers.model().attribute("githubComments", sameInstance(commentDtos)))
+                    .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail"))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"" + DigestUtils.md5DigestAsHex("7458|FUNDED".getBytes(StandardCharsets.UTF_8)) + "\""))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    public void details_notModified() throws Exception {
+        final long requestId = 7458L;
+        final String eTag = "\"" + DigestUtils.md5DigestAsHex("7458|FUNDED".getBytes(StandardCharsets.UTF_8)) + "\"";
+        when(requestService.getVersion(requestId, principal)).thenReturn(Optional.of("7458|FUNDED"));
+
+        this.mockMvc.perform(get("/requests/{id}", requestId).principal(principal).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag));
+
+        verify(requestService, never()).findRequest(requestId);
+        verifyZeroInteractions(mappers, fundService, claimService, refundService);
+    }
+
+    @Test
+    public void details_flashAttributesSkipConditionalGet() throws Exception {
+        final long requestId = 7458L;
+        final String eTag = "\"" + DigestUtils.md5DigestAsHex("7458|FUNDED".getBytes(StandardCharsets.UTF_8)) + "\"";
+        when(requestService.getVersion(requestId, principal)).thenReturn(Optional.of("7458|FUNDED"));
+
+        this.mockMvc.perform(get("/requests/{id}", requestId).principal(principal)
+                                                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                                            .flashAttr("alerts", singletonList(new AlertDto("success", "Your claim has been requested"))))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.view().name("pages/requests/detail"));
+
+        verify(requestService, never()).getVersion(requestId, principal);
     }
 
     @Test
@@ -211,57 +248,25 @@ public class RequestControllerTest extends AbstractControllerTest<RequestControl
     }
 
     @Test
-    public void detailsBadge_otherFund_HighestFiat() throws Exception {
-        final long requestId = 654L;
-        final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
-        final TokenValueDto fndFunds = TokenValueDto.builder()
-                                                    .tokenSymbol("FND")
-                                                    .totalAmount(new BigDecimal("1000"))
-                                                    .build();
-        final TokenValueDto otherFunds = TokenValueDto.builder()
-                                                      .tokenSymbol("SDFGG")
-                                                      .totalAmount(new BigDecimal("1100"))
-                                                      .build();
-        request.getFunds().setFndFunds(fndFunds);
-        request.getFunds().setOtherFunds(otherFunds);
-
-        when(requestService.findRequest(requestId)).thenReturn(request);
-        when(fiatService.getUsdPrice(request.getFunds().getFndFunds())).thenReturn(100D);
-        when(fiatService.getUsdPrice(request.getFunds().getOtherFunds())).thenReturn(110D);
-
-        this.mockMvc.perform(get("/requests/{id}/badge", 654L).principal(principal))
-                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue()))
+    public void detailsBadge() throws Exception {
+        final RequestBadge badge = new RequestBadge("<svg/>".getBytes(StandardCharsets.UTF_8), "\"abc\"");
+        when(requestBadgeRenderer.getBadge(654L)).thenReturn(badge);
+
+        this.mockMvc.perform(get("/requests/{id}/badge", 654L))
                     .andExpect(MockMvcResultMatchers.status().isOk())
-                    .andExpect(MockMvcResultMatchers.model().attribute("requestPhase", request.getStatus().getPhase()))
-                    .andExpect(MockMvcResultMatchers.model().attribute("highestFunds", otherFunds))
-                    .andExpect(MockMvcResultMatchers.view().name("requests/badge.svg"));
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, public, s-maxage=30"))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"abc\""))
+                    .andExpect(MockMvcResultMatchers.content().contentType("image/svg+xml"))
+                    .andExpect(MockMvcResultMatchers.content().bytes(badge.getSvg()));
     }
 
     @Test
-    public void detailsBadge_FND_HighestFiat() throws Exception {
-        final long requestId = 654L;
-        final RequestDto request = RequestDtoMother.freeCodeCampNoUserStories();
-        final TokenValueDto fndFunds = TokenValueDto.builder()
-                                                    .tokenSymbol("FND")
-                                                    .totalAmount(new BigDecimal("1000"))
-                                                    .build();
-        final TokenValueDto otherFunds = TokenValueDto.builder()
-                                                      .tokenSymbol("SDFGG")
-                                                      .totalAmount(new BigDecimal("1100"))
-                                                      .build();
-        request.getFunds().setFndFunds(fndFunds);
-        request.getFunds().setOtherFunds(otherFunds);
-
-        when(requestService.findRequest(requestId)).thenReturn(request);
-        when(fiatService.getUsdPrice(request.getFunds().getFndFunds())).thenReturn(120D);
-        when(fiatService.getUsdPrice(request.getFunds().getOtherFunds())).thenReturn(100D);
-
-        this.mockMvc.perform(get("/requests/{id}/badge", 654L).principal(principal))
-                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue()))
-                    .andExpect(MockMvcResultMatchers.status().isOk())
-                    .andExpect(MockMvcResultMatchers.model().attribute("requestPhase", request.getStatus().getPhase()))
-                    .andExpect(MockMvcResultMatchers.model().attribute("highestFunds", fndFunds))
-                    .andExpect(MockMvcResultMatchers.view().name("requests/badge.svg"));
+    public void detailsBadge_notModified() throws Exception {
+        when(requestBadgeRenderer.getBadge(654L)).thenReturn(new RequestBadge("<svg/>".getBytes(StandardCharsets.UTF_8), "\"abc\""));
+
+        this.mockMvc.perform(get("/requests/{id}/badge", 654L).header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"abc\""));
     }
 
     @Test
@@ -6,17 +6,41 @@ import io.fundrequest.common.infrastructure.mapping.Mappers;
 import io.fundrequest.common.infrastructure.mav.EnumToCapitalizedStringMapper;
 import io.fundrequest.core.request.RequestService;
 import io.fundrequest.core.request.claim.dto.ClaimableResultDto;
+import io.fundrequest.core.request.domain.RequestPhase;
+import io.fundrequest.core.request.dto.RequestCursor;
+import io.fundrequest.core.request.dto.RequestPageDto;
+import io.fundrequest.core.request.dto.RequestPageOrder;
+import io.fundrequest.core.request.dto.RequestPageQuery;
+import io.fundrequest.core.request.dto.RequestSearchDto;
+import io.fundrequest.core.request.dto.RequestSearchQuery;
+import io.fundrequest.core.request.search.RequestSearchService;
+import io.fundrequest.core.request.summary.RequestSummaryService;
 import io.fundrequest.core.request.view.RequestDto;
 import io.fundrequest.core.request.view.RequestDtoMother;
 import io.fundrequest.platform.tweb.request.dto.ClaimView;
+import io.fundrequest.platform.tweb.request.dto.RequestPageView;
+import io.fundrequest.platform.tweb.request.dto.RequestSearchView;
 import io.fundrequest.platform.tweb.request.dto.RequestView;
 import io.fundrequest.platform.tweb.request.dto.RequestViewMapper;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static io.fundrequest.core.request.domain.Platform.GITHUB;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
@@ -27,15 +51,19 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
     private RequestViewMapper mapper;
     private EnumToCapitalizedStringMapper enumToCapitalizedStringMapper;
     private RequestService requestService;
+    private RequestSummaryService requestSummaryService;
+    private RequestSearchService requestSearchService;
 
     @Override
     protected RequestRestController setupController() {
         this.objectMapper = new ObjectMapper();
         this.mappers = mock(Mappers.class);
         this.requestService = mock(RequestService.class);
+        this.requestSummaryService = mock(RequestSummaryService.class);
+        this.requestSearchService = mock(RequestSearchService.class);
         this.enumToCapitalizedStringMapper = mock(EnumToCapitalizedStringMapper.class);
         this.mapper = new RequestViewMapper(enumToCapitalizedStringMapper);
-        return new RequestRestController(requestService, mappers);
+        return new RequestRestController(requestService, requestSummaryService, requestSearchService, mappers);
     }
 
     @Test
@@ -47,6 +75,7 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
         final RequestView requestView = mapper.map(requestDto);
 
         final String platformId = owner + "|FR|" + repo + "|FR|" + issueNumber;
+        when(requestService.getVersion(GITHUB, platformId, null)).thenReturn(Optional.empty());
         when(requestService.findRequest(GITHUB, platformId)).thenReturn(requestDto);
         when(mappers.map(RequestDto.class, RequestView.class, requestDto)).thenReturn(requestView);
 
@@ -55,6 +84,68 @@ class RequestRestControllerTest extends AbstractControllerTest<RequestRestContro
                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(requestView)));
     }
 
+    @Test
+    void requestDetails_notModified() throws Exception {
+        final String platformId = "fundrequest|FR|platform|FR|320";
+        final String eTag = "\"" + DigestUtils.md5DigestAsHex("320|FUNDED".getBytes(StandardCharsets.UTF_8)) + "\"";
+        when(requestService.getVersion(GITHUB, platformId, null)).thenReturn(Optional.of("320|FUNDED"));
+
+        mockMvc.perform(get("/rest/requests/github/{owner}/{repo}/{number}", "fundrequest", "platform", "320").header(HttpHeaders.IF_NONE_MATCH, eTag))
+               .andExpect(MockMvcResultMatchers.status().isNotModified())
+               .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag));
+
+        verify(requestService, never()).findRequest(GITHUB, platformId);
+        verifyZeroInteractions(mappers);
+    }
+
+    @Test
+    void requests() throws Exception {
+        final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
+        final List<RequestView> requestViews = Collections.singletonList(mapper.map(requestDto));
+        final RequestCursor next = new RequestCursor(LocalDateTime.of(2018, 7, 23, 9, 0), new BigDecimal("25.50"), 12L);
+        final RequestPageQuery expectedQuery = RequestPageQuery.builder()
+                                                               .phase(RequestPhase.OPEN)
+                                                               .project("FundRequest")
+                                                               .technology("java")
+                                                               .technology("kotlin")
+                                                               .funded(true)
+                                                               .order(RequestPageOrder.MOST_FUNDED)
+                                                               .size(1)
+                                                               .build();
+        when(requestSummaryService.findPage(expectedQuery)).thenReturn(new RequestPageDto(Collections.singletonList(requestDto), next));
+        when(mappers.mapList(RequestDto.class, RequestView.class, Collections.singletonList(requestDto))).thenReturn(requestViews);
+
+        mockMvc.perform(get("/rest/requests?phase=open&project=FundRequest&technology=java&technology=kotlin&order=most_funded&size=1").accept(MediaType.APPLICATION_JSON_UTF8))
+               .andExpect(MockMvcResultMatchers.status().isOk())
+               .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(new RequestPageView(requestViews, next.encode()))));
+    }
+
+    @Test
+    void requests_invalidCursor() throws Exception {
+        mockMvc.perform(get("/rest/requests?cursor=invalid").accept(MediaType.APPLICATION_JSON_UTF8))
+               .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void search() throws Exception {
+        final RequestDto requestDto = RequestDtoMother.fundRequestArea51();
+        final List<RequestView> requestViews = Collections.singletonList(mapper.map(requestDto));
+        final Map<String, Long> projects = Collections.singletonMap("FundRequest", 3L);
+        final Map<String, Long> technologies = Collections.singletonMap("java", 2L);
+        final RequestSearchQuery expectedQuery = RequestSearchQuery.builder()
+                                                                   .text("search endpoint")
+                                                                   .phase(RequestPhase.OPEN)
+                                                                   .technology("java")
+                                                                   .size(20)
+                                                                   .build();
+        when(requestSearchService.search(expectedQuery)).thenReturn(new RequestSearchDto(Collections.singletonList(requestDto), 3, projects, technologies));
+        when(mappers.mapList(RequestDto.class, RequestView.class, Collections.singletonList(requestDto))).thenReturn(requestViews);
+
+        mockMvc.perform(get("/rest/requests/search?q=search endpoint&phase=open&technology=java").accept(MediaType.APPLICATION_JSON_UTF8))
+               .andExpect(MockMvcResultMatchers.status().isOk())
+               .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(new RequestSearchView(requestViews, 3, projects, technologies))));
+    }
+
     @Test
     void claimDetails() throws Exception {
         final String owner = "fundrequest";
@@ -0,0 +1,309 @@
+package io.fundrequest.platform.tweb.request.messsaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.core.contract.domain.ClaimRepositoryContract;
+import io.fundrequest.core.contract.domain.FundRepositoryContract;
+import io.fundrequest.core.contract.event.FundRequestEventDecoder;
+import io.fundrequest.core.contract.service.ContractCallExecutor;
+import io.fundrequest.core.contract.service.FundRequestContractsService;
+import io.fundrequest.core.indexer.domain.IndexerCheckpoint;
+import io.fundrequest.core.indexer.infrastructure.IndexerCheckpointRepository;
+import io.fundrequest.core.request.RequestService;
+import io.fundrequest.core.request.domain.BlockchainEvent;
+import io.fundrequest.core.request.fund.FundService;
+import io.fundrequest.core.request.fund.PendingFundService;
+import io.fundrequest.core.request.fund.RefundService;
+import io.fundrequest.core.request.fund.messaging.dto.FundedEthDto;
+import io.fundrequest.core.request.infrastructure.BlockchainEventRepository;
+import io.fundrequest.core.web3j.Web3jGateway;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractEventIndexerTest {
+
+    private static final String FUND_REQUEST_ADDRESS = "0x0000000000000000000000000000000000000001";
+    private static final String FUNDER = "0x0000000000000000000000000000000000000abc";
+    private static final String TOKEN = "0x0000000000000000000000000000000000000def";
+
+    private ContractEventIndexer indexer;
+    private Web3jGateway web3jGateway;
+    private Web3j web3j;
+    private IndexerCheckpointRepository indexerCheckpointRepository;
+    private AzraelMessageReceiver azraelMessageReceiver;
+    private FundRequestContractsService fundRequestContractsService;
+    private ContractCallExecutor contractCallExecutor;
+
+    @BeforeEach
+    void setUp() {
+        web3jGateway = mock(Web3jGateway.class);
+        web3j = mock(Web3j.class);
+        indexerCheckpointRepository = mock(IndexerCheckpointRepository.class);
+        azraelMessageReceiver = mock(AzraelMessageReceiver.class);
+        fundRequestContractsService = mock(FundRequestContractsService.class);
+        contractCallExecutor = new ContractCallExecutor(2);
+        final FundRepositoryContract fundRepository = mock(FundRepositoryContract.class);
+        final ClaimRepositoryContract claimRepository = mock(ClaimRepositoryContract.class);
+        when(fundRepository.getContractAddress()).thenReturn("0x0000000000000000000000000000000000000002");
+        when(claimRepository.getContractAddress()).thenReturn("0x0000000000000000000000000000000000000003");
+        when(fundRequestContractsService.fundRepository()).thenReturn(fundRepository);
+        when(fundRequestContractsService.claimRepository()).thenReturn(claimRepository);
+        when(web3jGateway.web3j()).thenReturn(web3j);
+        when(web3jGateway.currentBlockNumber()).thenReturn(Optional.of(BigInteger.valueOf(31)));
+        when(indexerCheckpointRepository.findOne("fundrequest-events")).thenReturn(Optional.empty());
+        when(indexerCheckpointRepository.save(any(IndexerCheckpoint.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+        doReturn(request(block(1500))).when(web3j).ethGetBlockByNumber(any(DefaultBlockParameter.class), anyBoolean());
+        indexer = indexer(azraelMessageReceiver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contractCallExecutor.shutdown();
+    }
+
+    @Test
+    void index_advancesCheckpoint() {
+        givenLogs(10, 19, fundedLog("0xa", 12, 0));
+        givenLogs(20, 29, fundedLog("0xb", 25, 1));
+
+        indexer.index();
+
+        verify(azraelMessageReceiver, times(2)).processFunded(any(FundedEthDto.class));
+        assertThat(savedCheckpoint().getLastBlock()).isEqualTo(29L);
+    }
+
+    @Test
+    void index_readsBlockTimestampsOncePerBlock() {
+        givenLogs(10, 19, fundedLog("0xa", 12, 0), fundedLog("0xb", 12, 1));
+        givenLogs(20, 29);
+
+        indexer.index();
+
+        final ArgumentCaptor<FundedEthDto> captor = ArgumentCaptor.forClass(FundedEthDto.class);
+        verify(azraelMessageReceiver, times(2)).processFunded(captor.capture());
+        assertThat(captor.getAllValues()).extracting(FundedEthDto::getTimestamp).containsOnly(1_500_000L);
+        verify(web3j, times(1)).ethGetBlockByNumber(any(DefaultBlockParameter.class), anyBoolean());
+    }
+
+    @Test
+    void index_resumesAfterCheckpoint() {
+        when(indexerCheckpointRepository.findOne("fundrequest-events")).thenReturn(Optional.of(new IndexerCheckpoint("fundrequest-events", 19L)));
+        givenLogs(20, 29, fundedLog("0xb", 25, 1));
+
+        indexer.index();
+
+        verify(web3j, times(1)).ethGetLogs(any(EthFilter.class));
+        assertThat(savedCheckpoint().getLastBlock()).isEqualTo(29L);
+    }
+
+    @Test
+    void index_processesInBlockAndLogIndexOrder() {
+        givenLogs(10, 19, fundedLog("0xc", 15, 3), fundedLog("0xa", 12, 7), fundedLog("0xb", 15, 2));
+        givenLogs(20, 29, fundedLog("0xd", 20, 0));
+
+        indexer.index();
+
+        final ArgumentCaptor<FundedEthDto> captor = ArgumentCaptor.forClass(FundedEthDto.class);
+        verify(azraelMessageReceiver, times(4)).processFunded(captor.capture());
+        assertThat(captor.getAllValues()).extracting(FundedEthDto::getTransactionHash).containsExactly("0xa", "0xb", "0xc", "0xd");
+        assertThat(captor.getAllValues()).extracting(FundedEthDto::getLogIndex).containsExactly("0x7", "0x2", "0x3", "0x0");
+        assertThat(captor.getAllValues()).extracting(FundedEthDto::getTimestamp).containsOnly(1_500_000L);
+    }
+
+    @Test
+    void index_stopsBeforeFailedBlock() {
+        givenLogs(10, 19, fundedLog("0xa", 12, 0), fundedLog("0xb", 16, 0), fundedLog("0xc", 18, 0));
+        givenLogs(20, 29);
+        doThrow(new RuntimeException("database unavailable")).when(azraelMessageReceiver).processFunded(argThat(transactionHash("0xb")));
+
+        indexer.index();
+
+        final InOrder inOrder = inOrder(azraelMessageReceiver);
+        inOrder.verify(azraelMessageReceiver).processFunded(argThat(transactionHash("0xa")));
+        inOrder.verify(azraelMessageReceiver).processFunded(argThat(transactionHash("0xb")));
+        verify(azraelMessageReceiver, never()).processFunded(argThat(transactionHash("0xc")));
+        assertThat(savedCheckpoint().getLastBlock()).isEqualTo(15L);
+    }
+
+    @Test
+    void index_failureInFirstBlockKeepsCheckpoint() {
+        when(indexerCheckpointRepository.findOne("fundrequest-events")).thenReturn(Optional.of(new IndexerCheckpoint("fundrequest-events", 11L)));
+        givenLogs(12, 21, fundedLog("0xa", 12, 0));
+        givenLogs(22, 29);
+        doThrow(new RuntimeException("database unavailable")).when(azraelMessageReceiver).processFunded(any(FundedEthDto.class));
+
+        indexer.index();
+
+        verify(indexerCheckpointRepository, never()).save(any(IndexerCheckpoint.class));
+    }
+
+    @Test
+    void index_readFailureKeepsCheckpoint() {
+        final EthLog failed = new EthLog();
+        failed.setError(new Response.Error(-32000, "query timeout exceeded"));
+        doReturn(request(failed)).when(web3j).ethGetLogs(any(EthFilter.class));
+
+        indexer.index();
+
+        verify(azraelMessageReceiver, never()).processFunded(any(FundedEthDto.class));
+        verify(indexerCheckpointRepository, never()).save(any(IndexerCheckpoint.class));
+    }
+
+    @Test
+    void index_skipsLogsAlreadyReceivedFromAzrael() {
+        final RequestService requestService = mock(RequestService.class);
+        final FundService fundService = mock(FundService.class);
+        final BlockchainEventRepository blockchainEventRepository = mock(BlockchainEventRepository.class);
+        final Set<BlockchainEvent> processed = new HashSet<>();
+        when(blockchainEventRepository.findByTransactionHashAndLogIndex(anyString(), anyString()))
+                .thenAnswer(invocation -> processed.stream()
+                                                   .filter(event -> event.equals(new BlockchainEvent((String) invocation.getArguments()[0], (String) invocation.getArguments()[1])))
+                                                   .findFirst());
+        when(blockchainEventRepository.saveAndFlush(any(BlockchainEvent.class))).thenAnswer(invocation -> {
+            final BlockchainEvent event = (BlockchainEvent) invocation.getArguments()[0];
+            processed.add(event);
+            return event;
+        });
+        final AzraelMessageReceiver receiver = new AzraelMessageReceiver(requestService,
+                                                                         new ObjectMapper(),
+                                                                         blockchainEventRepository,
+                                                                         fundService,
+                                                                         mock(PendingFundService.class),
+                                                                         mock(RefundService.class));
+        final Log fromAzrael = fundedLog("0xa", 12, 26);
+        receiver.processFunded(FundedEthDto.builder()
+                                           .platform("GITHUB")
+                                           .platformId("FundRequest|FR|area51|FR|1")
+                                           .amount("10")
+                                           .token(TOKEN)
+                                           .from(FUNDER)
+                                           .transactionHash(fromAzrael.getTransactionHash())
+                                           .logIndex("0x1a")
+                                           .build());
+        givenLogs(10, 19, fromAzrael, fundedLog("0xb", 14, 0));
+        givenLogs(20, 29);
+
+        indexer(receiver).index();
+
+        verify(requestService, times(2)).createRequest(any());
+        verify(fundService, times(2)).addFunds(any());
+        assertThat(processed).containsExactlyInAnyOrder(new BlockchainEvent("0xa", "0x1a"), new BlockchainEvent("0xb", "0x0"));
+    }
+
+    private ContractEventIndexer indexer(final AzraelMessageReceiver receiver) {
+        return new ContractEventIndexer(web3jGateway, fundRequestContractsService, contractCallExecutor, indexerCheckpointRepository, receiver, FUND_REQUEST_ADDRESS, 10, 10, 2, 2);
+    }
+
+    private void givenLogs(final long from, final long to, final Log... logs) {
+        final EthLog ethLog = new EthLog();
+        ethLog.setResult(Arrays.stream(logs).map(contractLog -> (EthLog.LogResult) contractLog).collect(Collectors.toList()));
+        doReturn(request(ethLog)).when(web3j).ethGetLogs(argThat(filterFor(from, to)));
+    }
+
+    private IndexerCheckpoint savedCheckpoint() {
+        final ArgumentCaptor<IndexerCheckpoint> captor = ArgumentCaptor.forClass(IndexerCheckpoint.class);
+        verify(indexerCheckpointRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Matcher<EthFilter> filterFor(final long from, final long to) {
+        return new ArgumentMatcher<EthFilter>() {
+            @Override
+            public boolean matches(final Object argument) {
+                final EthFilter filter = (EthFilter) argument;
+                return filter != null
+                       && Numeric.encodeQuantity(BigInteger.valueOf(from)).equals(filter.getFromBlock().getValue())
+                       && Numeric.encodeQuantity(BigInteger.valueOf(to)).equals(filter.getToBlock().getValue());
+            }
+        };
+    }
+
+    private static Matcher<FundedEthDto> transactionHash(final String transactionHash) {
+        return new ArgumentMatcher<FundedEthDto>() {
+            @Override
+            public boolean matches(final Object argument) {
+                return argument != null && transactionHash.equals(((FundedEthDto) argument).getTransactionHash());
+            }
+        };
+    }
+
+    private static Log fundedLog(final String transactionHash, final long blockNumber, final long logIndex) {
+        final Log log = new Log();
+        log.setTransactionHash(transactionHash);
+        log.setBlockNumber(Numeric.encodeQuantity(BigInteger.valueOf(blockNumber)));
+        log.setLogIndex(Numeric.encodeQuantity(BigInteger.valueOf(logIndex)));
+        log.setTopics(Arrays.asList(FundRequestEventDecoder.FUNDED_TOPIC, "0x" + TypeEncoder.encode(new Address(FUNDER))));
+        final List<Type> values = Arrays.asList(new Bytes32(Arrays.copyOf("GITHUB".getBytes(), 32)),
+                                                                         new Utf8String("FundRequest|FR|area51|FR|1"),
+                                                                         new Address(TOKEN),
+                                                                         new Uint256(BigInteger.TEN));
+        log.setData("0x" + FunctionEncoder.encodeConstructor(values));
+        return log;
+    }
+
+    private static EthBlock block(final long timestampSeconds) {
+        final EthBlock.Block block = new EthBlock.Block();
+        block.setTimestamp(Numeric.encodeQuantity(BigInteger.valueOf(timestampSeconds)));
+        final EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Response> Request<?, T> request(final T response) {
+        final Request<?, T> request = mock(Request.class);
+        try {
+            when(request.send()).thenReturn(response);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package io.fundrequest.platform.tweb.webhook;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fundrequest.common.infrastructure.AbstractControllerTest;
+import io.fundrequest.core.platform.github.GithubWebhookService;
+import io.fundrequest.platform.github.webhook.GithubIssuesEvent;
+import io.fundrequest.platform.github.webhook.GithubPullRequestEvent;
+import io.fundrequest.platform.github.webhook.GithubWebhookSignatureVerifier;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GithubWebhookControllerTest extends AbstractControllerTest<GithubWebhookController> {
+
+    private static final String ISSUES_PAYLOAD = "{\"action\":\"closed\",\"issue\":{\"number\":38,\"state\":\"closed\",\"locked\":false},"
+                                                 + "\"repository\":{\"name\":\"area51\",\"owner\":{\"login\":\"FundRequest\",\"type\":\"Organization\"}}}";
+    private static final String PULL_REQUEST_PAYLOAD = "{\"action\":\"closed\",\"number\":41,\"pull_request\":{\"number\":41,\"title\":\"Show the badge\",\"body\":\"Fixes #38\","
+                                                       + "\"merged\":true,\"user\":{\"login\":\"nico-ptl\"}},"
+                                                       + "\"repository\":{\"name\":\"area51\",\"owner\":{\"login\":\"FundRequest\"}}}";
+    private static final String SIGNATURE = "sha1=dd3d2f3dc5e9f9bb3e2b2b8fa4f1d9a0a7a0c1e1";
+
+    private GithubWebhookSignatureVerifier signatureVerifier;
+    private GithubWebhookService githubWebhookService;
+
+    @Override
+    protected GithubWebhookController setupController() {
+        signatureVerifier = mock(GithubWebhookSignatureVerifier.class);
+        githubWebhookService = mock(GithubWebhookService.class);
+        return new GithubWebhookController(signatureVerifier, githubWebhookService, new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    @Test
+    void receive_issues() throws Exception {
+        final byte[] payload = ISSUES_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        when(signatureVerifier.isValid(payload, SIGNATURE)).thenReturn(true);
+
+        mockMvc.perform(post("/webhooks/github").header("X-GitHub-Event", "issues")
+                                                .header("X-Hub-Signature", SIGNATURE)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(payload))
+               .andExpect(status().isNoContent());
+
+        final ArgumentCaptor<GithubIssuesEvent> captor = ArgumentCaptor.forClass(GithubIssuesEvent.class);
+        verify(githubWebhookService).onIssuesEvent(captor.capture());
+        assertThat(captor.getValue().getAction()).isEqualTo("closed");
+        assertThat(captor.getValue().getIssue().getNumber()).isEqualTo("38");
+        assertThat(captor.getValue().getIssue().getState()).isEqualTo("closed");
+        assertThat(captor.getValue().getRepository().getOwner().getLogin()).isEqualTo("FundRequest");
+        assertThat(captor.getValue().getRepository().getName()).isEqualTo("area51");
+    }
+
+    @Test
+    void receive_pullRequest() throws Exception {
+        final byte[] payload = PULL_REQUEST_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        when(signatureVerifier.isValid(payload, SIGNATURE)).thenReturn(true);
+
+        mockMvc.perform(post("/webhooks/github").header("X-GitHub-Event", "pull_request")
+                                                .header("X-Hub-Signature", SIGNATURE)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(payload))
+               .andExpect(status().isNoContent());
+
+        final ArgumentCaptor<GithubPullRequestEvent> captor = ArgumentCaptor.forClass(GithubPullRequestEvent.class);
+        verify(githubWebhookService).onPullRequestEvent(captor.capture());
+        assertThat(captor.getValue().getPullRequest().isMerged()).isTrue();
+        assertThat(captor.getValue().getPullRequest().getBody()).isEqualTo("Fixes #38");
+        assertThat(captor.getValue().getPullRequest().getUser().getLogin()).isEqualTo("nico-ptl");
+    }
+
+    @Test
+    void receive_otherEventIgnored() throws Exception {
+        final byte[] payload = "{\"zen\":\"Keep it logically awesome.\"}".getBytes(StandardCharsets.UTF_8);
+        when(signatureVerifier.isValid(payload, SIGNATURE)).thenReturn(true);
+
+        mockMvc.perform(post("/webhooks/github").header("X-GitHub-Event", "ping")
+                                                .header("X-Hub-Signature", SIGNATURE)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(payload))
+               .andExpect(status().isNoContent());
+
+        verifyZeroInteractions(githubWebhookService);
+    }
+
+    @Test
+    void receive_invalidSignature() throws Exception {
+        final byte[] payload = ISSUES_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        when(signatureVerifier.isValid(payload, SIGNATURE)).thenReturn(false);
+
+        mockMvc.perform(post("/webhooks/github").header("X-GitHub-Event", "issues")
+                                                .header("X-Hub-Signature", SIGNATURE)
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(payload))
+               .andExpect(status().isUnauthorized());
+
+        verifyZeroInteractions(githubWebhookService);
+    }
+}